@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.amqp.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import javax.jms.ConnectionFactory;
 import javax.jms.ExceptionListener;
@@ -32,6 +34,7 @@ import org.apache.camel.component.jms.QueueBrowseStrategy;
 import org.apache.camel.component.jms.ReplyToType;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.jms.support.converter.MessageConverter;
@@ -48,7 +51,9 @@ import org.springframework.util.ErrorHandler;
 @ConfigurationProperties(prefix = "camel.component.amqp")
 public class AMQPComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the amqp component. This is
@@ -1620,4 +1625,310 @@ public class AMQPComponentConfiguration
     public void setTransactionTimeout(Integer transactionTimeout) {
         this.transactionTimeout = transactionTimeout;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.connectionFactory != null) {
+            answer.put("connectionFactory", this.connectionFactory);
+        }
+        if (this.disableReplyTo != null) {
+            answer.put("disableReplyTo", this.disableReplyTo);
+        }
+        if (this.durableSubscriptionName != null) {
+            answer.put("durableSubscriptionName", this.durableSubscriptionName);
+        }
+        if (this.includeAmqpAnnotations != null) {
+            answer.put("includeAmqpAnnotations", this.includeAmqpAnnotations);
+        }
+        if (this.jmsMessageType != null) {
+            answer.put("jmsMessageType", this.jmsMessageType);
+        }
+        if (this.replyTo != null) {
+            answer.put("replyTo", this.replyTo);
+        }
+        if (this.testConnectionOnStartup != null) {
+            answer.put("testConnectionOnStartup", this.testConnectionOnStartup);
+        }
+        if (this.acknowledgementModeName != null) {
+            answer.put("acknowledgementModeName", this.acknowledgementModeName);
+        }
+        if (this.artemisConsumerPriority != null) {
+            answer.put("artemisConsumerPriority", this.artemisConsumerPriority);
+        }
+        if (this.asyncConsumer != null) {
+            answer.put("asyncConsumer", this.asyncConsumer);
+        }
+        if (this.autoStartup != null) {
+            answer.put("autoStartup", this.autoStartup);
+        }
+        if (this.cacheLevel != null) {
+            answer.put("cacheLevel", this.cacheLevel);
+        }
+        if (this.cacheLevelName != null) {
+            answer.put("cacheLevelName", this.cacheLevelName);
+        }
+        if (this.concurrentConsumers != null) {
+            answer.put("concurrentConsumers", this.concurrentConsumers);
+        }
+        if (this.maxConcurrentConsumers != null) {
+            answer.put("maxConcurrentConsumers", this.maxConcurrentConsumers);
+        }
+        if (this.replyToDeliveryPersistent != null) {
+            answer.put("replyToDeliveryPersistent", this.replyToDeliveryPersistent);
+        }
+        if (this.selector != null) {
+            answer.put("selector", this.selector);
+        }
+        if (this.subscriptionDurable != null) {
+            answer.put("subscriptionDurable", this.subscriptionDurable);
+        }
+        if (this.subscriptionName != null) {
+            answer.put("subscriptionName", this.subscriptionName);
+        }
+        if (this.subscriptionShared != null) {
+            answer.put("subscriptionShared", this.subscriptionShared);
+        }
+        if (this.acceptMessagesWhileStopping != null) {
+            answer.put("acceptMessagesWhileStopping", this.acceptMessagesWhileStopping);
+        }
+        if (this.allowReplyManagerQuickStop != null) {
+            answer.put("allowReplyManagerQuickStop", this.allowReplyManagerQuickStop);
+        }
+        if (this.consumerType != null) {
+            answer.put("consumerType", this.consumerType);
+        }
+        if (this.defaultTaskExecutorType != null) {
+            answer.put("defaultTaskExecutorType", this.defaultTaskExecutorType);
+        }
+        if (this.eagerLoadingOfProperties != null) {
+            answer.put("eagerLoadingOfProperties", this.eagerLoadingOfProperties);
+        }
+        if (this.eagerPoisonBody != null) {
+            answer.put("eagerPoisonBody", this.eagerPoisonBody);
+        }
+        if (this.exposeListenerSession != null) {
+            answer.put("exposeListenerSession", this.exposeListenerSession);
+        }
+        if (this.replyToConsumerType != null) {
+            answer.put("replyToConsumerType", this.replyToConsumerType);
+        }
+        if (this.replyToSameDestinationAllowed != null) {
+            answer.put("replyToSameDestinationAllowed", this.replyToSameDestinationAllowed);
+        }
+        if (this.taskExecutor != null) {
+            answer.put("taskExecutor", this.taskExecutor);
+        }
+        if (this.deliveryDelay != null) {
+            answer.put("deliveryDelay", this.deliveryDelay);
+        }
+        if (this.deliveryMode != null) {
+            answer.put("deliveryMode", this.deliveryMode);
+        }
+        if (this.deliveryPersistent != null) {
+            answer.put("deliveryPersistent", this.deliveryPersistent);
+        }
+        if (this.explicitQosEnabled != null) {
+            answer.put("explicitQosEnabled", this.explicitQosEnabled);
+        }
+        if (this.formatDateHeadersToIso8601 != null) {
+            answer.put("formatDateHeadersToIso8601", this.formatDateHeadersToIso8601);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.preserveMessageQos != null) {
+            answer.put("preserveMessageQos", this.preserveMessageQos);
+        }
+        if (this.priority != null) {
+            answer.put("priority", this.priority);
+        }
+        if (this.replyToConcurrentConsumers != null) {
+            answer.put("replyToConcurrentConsumers", this.replyToConcurrentConsumers);
+        }
+        if (this.replyToMaxConcurrentConsumers != null) {
+            answer.put("replyToMaxConcurrentConsumers", this.replyToMaxConcurrentConsumers);
+        }
+        if (this.replyToOnTimeoutMaxConcurrentConsumers != null) {
+            answer.put("replyToOnTimeoutMaxConcurrentConsumers", this.replyToOnTimeoutMaxConcurrentConsumers);
+        }
+        if (this.replyToOverride != null) {
+            answer.put("replyToOverride", this.replyToOverride);
+        }
+        if (this.replyToType != null) {
+            answer.put("replyToType", this.replyToType);
+        }
+        if (this.requestTimeout != null) {
+            answer.put("requestTimeout", this.requestTimeout);
+        }
+        if (this.timeToLive != null) {
+            answer.put("timeToLive", this.timeToLive);
+        }
+        if (this.allowAdditionalHeaders != null) {
+            answer.put("allowAdditionalHeaders", this.allowAdditionalHeaders);
+        }
+        if (this.allowNullBody != null) {
+            answer.put("allowNullBody", this.allowNullBody);
+        }
+        if (this.alwaysCopyMessage != null) {
+            answer.put("alwaysCopyMessage", this.alwaysCopyMessage);
+        }
+        if (this.correlationProperty != null) {
+            answer.put("correlationProperty", this.correlationProperty);
+        }
+        if (this.disableTimeToLive != null) {
+            answer.put("disableTimeToLive", this.disableTimeToLive);
+        }
+        if (this.forceSendOriginalMessage != null) {
+            answer.put("forceSendOriginalMessage", this.forceSendOriginalMessage);
+        }
+        if (this.includeSentJmsMessageId != null) {
+            answer.put("includeSentJmsMessageId", this.includeSentJmsMessageId);
+        }
+        if (this.replyToCacheLevelName != null) {
+            answer.put("replyToCacheLevelName", this.replyToCacheLevelName);
+        }
+        if (this.replyToDestinationSelectorName != null) {
+            answer.put("replyToDestinationSelectorName", this.replyToDestinationSelectorName);
+        }
+        if (this.streamMessageTypeEnabled != null) {
+            answer.put("streamMessageTypeEnabled", this.streamMessageTypeEnabled);
+        }
+        if (this.allowAutoWiredConnectionFactory != null) {
+            answer.put("allowAutoWiredConnectionFactory", this.allowAutoWiredConnectionFactory);
+        }
+        if (this.allowAutoWiredDestinationResolver != null) {
+            answer.put("allowAutoWiredDestinationResolver", this.allowAutoWiredDestinationResolver);
+        }
+        if (this.allowSerializedHeaders != null) {
+            answer.put("allowSerializedHeaders", this.allowSerializedHeaders);
+        }
+        if (this.artemisStreamingEnabled != null) {
+            answer.put("artemisStreamingEnabled", this.artemisStreamingEnabled);
+        }
+        if (this.asyncStartListener != null) {
+            answer.put("asyncStartListener", this.asyncStartListener);
+        }
+        if (this.asyncStopListener != null) {
+            answer.put("asyncStopListener", this.asyncStopListener);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.destinationResolver != null) {
+            answer.put("destinationResolver", this.destinationResolver);
+        }
+        if (this.errorHandler != null) {
+            answer.put("errorHandler", this.errorHandler);
+        }
+        if (this.exceptionListener != null) {
+            answer.put("exceptionListener", this.exceptionListener);
+        }
+        if (this.idleConsumerLimit != null) {
+            answer.put("idleConsumerLimit", this.idleConsumerLimit);
+        }
+        if (this.idleTaskExecutionLimit != null) {
+            answer.put("idleTaskExecutionLimit", this.idleTaskExecutionLimit);
+        }
+        if (this.includeAllJmsxProperties != null) {
+            answer.put("includeAllJmsxProperties", this.includeAllJmsxProperties);
+        }
+        if (this.jmsKeyFormatStrategy != null) {
+            answer.put("jmsKeyFormatStrategy", this.jmsKeyFormatStrategy);
+        }
+        if (this.mapJmsMessage != null) {
+            answer.put("mapJmsMessage", this.mapJmsMessage);
+        }
+        if (this.maxMessagesPerTask != null) {
+            answer.put("maxMessagesPerTask", this.maxMessagesPerTask);
+        }
+        if (this.messageConverter != null) {
+            answer.put("messageConverter", this.messageConverter);
+        }
+        if (this.messageCreatedStrategy != null) {
+            answer.put("messageCreatedStrategy", this.messageCreatedStrategy);
+        }
+        if (this.messageIdEnabled != null) {
+            answer.put("messageIdEnabled", this.messageIdEnabled);
+        }
+        if (this.messageListenerContainerFactory != null) {
+            answer.put("messageListenerContainerFactory", this.messageListenerContainerFactory);
+        }
+        if (this.messageTimestampEnabled != null) {
+            answer.put("messageTimestampEnabled", this.messageTimestampEnabled);
+        }
+        if (this.pubSubNoLocal != null) {
+            answer.put("pubSubNoLocal", this.pubSubNoLocal);
+        }
+        if (this.queueBrowseStrategy != null) {
+            answer.put("queueBrowseStrategy", this.queueBrowseStrategy);
+        }
+        if (this.receiveTimeout != null) {
+            answer.put("receiveTimeout", this.receiveTimeout);
+        }
+        if (this.recoveryInterval != null) {
+            answer.put("recoveryInterval", this.recoveryInterval);
+        }
+        if (this.requestTimeoutCheckerInterval != null) {
+            answer.put("requestTimeoutCheckerInterval", this.requestTimeoutCheckerInterval);
+        }
+        if (this.synchronous != null) {
+            answer.put("synchronous", this.synchronous);
+        }
+        if (this.transferException != null) {
+            answer.put("transferException", this.transferException);
+        }
+        if (this.transferExchange != null) {
+            answer.put("transferExchange", this.transferExchange);
+        }
+        if (this.useMessageIdAsCorrelationId != null) {
+            answer.put("useMessageIdAsCorrelationId", this.useMessageIdAsCorrelationId);
+        }
+        if (this.waitForProvisionCorrelationToBeUpdatedCounter != null) {
+            answer.put("waitForProvisionCorrelationToBeUpdatedCounter", this.waitForProvisionCorrelationToBeUpdatedCounter);
+        }
+        if (this.waitForProvisionCorrelationToBeUpdatedThreadSleepingTime != null) {
+            answer.put("waitForProvisionCorrelationToBeUpdatedThreadSleepingTime", this.waitForProvisionCorrelationToBeUpdatedThreadSleepingTime);
+        }
+        if (this.headerFilterStrategy != null) {
+            answer.put("headerFilterStrategy", this.headerFilterStrategy);
+        }
+        if (this.errorHandlerLoggingLevel != null) {
+            answer.put("errorHandlerLoggingLevel", this.errorHandlerLoggingLevel);
+        }
+        if (this.errorHandlerLogStackTrace != null) {
+            answer.put("errorHandlerLogStackTrace", this.errorHandlerLogStackTrace);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.username != null) {
+            answer.put("username", this.username);
+        }
+        if (this.transacted != null) {
+            answer.put("transacted", this.transacted);
+        }
+        if (this.transactedInOut != null) {
+            answer.put("transactedInOut", this.transactedInOut);
+        }
+        if (this.lazyCreateTransactionManager != null) {
+            answer.put("lazyCreateTransactionManager", this.lazyCreateTransactionManager);
+        }
+        if (this.transactionManager != null) {
+            answer.put("transactionManager", this.transactionManager);
+        }
+        if (this.transactionName != null) {
+            answer.put("transactionName", this.transactionName);
+        }
+        if (this.transactionTimeout != null) {
+            answer.put("transactionTimeout", this.transactionTimeout);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,12 +16,15 @@
  */
 package org.apache.camel.dataformat.any23.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.dataformat.any23.Any23DataFormat;
 import org.apache.camel.dataformat.any23.Any23OutputFormat;
 import org.apache.camel.model.PropertyDefinition;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.any23")
 public class Any23DataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the any23 data format. This is
@@ -94,4 +99,22 @@ public class Any23DataFormatConfiguration
     public void setExtractors(List<String> extractors) {
         this.extractors = extractors;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.outputFormat != null) {
+            answer.put("outputFormat", this.outputFormat);
+        }
+        if (this.baseUri != null) {
+            answer.put("baseUri", this.baseUri);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.extractors != null) {
+            answer.put("extractors", this.extractors);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
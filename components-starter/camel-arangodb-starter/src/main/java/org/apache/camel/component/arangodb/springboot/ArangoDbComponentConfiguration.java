@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.arangodb.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.arangodb.ArangoDbConfiguration;
 import org.apache.camel.component.arangodb.ArangoDbOperation;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.arangodb")
 public class ArangoDbComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the arangodb component. This is
@@ -210,4 +215,46 @@ public class ArangoDbComponentConfiguration
     public void setUser(String user) {
         this.user = user;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.documentCollection != null) {
+            answer.put("documentCollection", this.documentCollection);
+        }
+        if (this.edgeCollection != null) {
+            answer.put("edgeCollection", this.edgeCollection);
+        }
+        if (this.graph != null) {
+            answer.put("graph", this.graph);
+        }
+        if (this.host != null) {
+            answer.put("host", this.host);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.port != null) {
+            answer.put("port", this.port);
+        }
+        if (this.vertexCollection != null) {
+            answer.put("vertexCollection", this.vertexCollection);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.user != null) {
+            answer.put("user", this.user);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
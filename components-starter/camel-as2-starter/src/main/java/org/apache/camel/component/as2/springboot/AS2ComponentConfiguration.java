@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.as2.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.as2.AS2Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.as2")
 public class AS2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the as2 component. This is
@@ -103,4 +108,22 @@ public class AS2ComponentConfiguration
     public void setConfiguration(AS2Configuration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
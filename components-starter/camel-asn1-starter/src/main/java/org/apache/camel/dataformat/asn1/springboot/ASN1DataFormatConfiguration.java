@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.asn1.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.asn1")
 public class ASN1DataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the asn1 data format. This is
@@ -62,4 +67,16 @@ public class ASN1DataFormatConfiguration
     public void setUsingIterator(Boolean usingIterator) {
         this.usingIterator = usingIterator;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.unmarshalType != null) {
+            answer.put("unmarshalType", this.unmarshalType);
+        }
+        if (this.usingIterator != null) {
+            answer.put("usingIterator", this.usingIterator);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
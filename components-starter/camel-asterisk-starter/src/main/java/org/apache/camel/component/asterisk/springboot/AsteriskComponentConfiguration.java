@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.asterisk.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.asterisk")
 public class AsteriskComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the asterisk component. This is
@@ -89,4 +94,19 @@ public class AsteriskComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
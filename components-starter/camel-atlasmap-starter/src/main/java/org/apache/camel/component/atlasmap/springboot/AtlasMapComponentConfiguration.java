@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.atlasmap.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import io.atlasmap.api.AtlasContextFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.atlasmap")
 public class AtlasMapComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the atlasmap component. This is
@@ -99,4 +104,22 @@ public class AtlasMapComponentConfiguration
     public void setPropertiesFile(String propertiesFile) {
         this.propertiesFile = propertiesFile;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.atlasContextFactory != null) {
+            answer.put("atlasContextFactory", this.atlasContextFactory);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.propertiesFile != null) {
+            answer.put("propertiesFile", this.propertiesFile);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
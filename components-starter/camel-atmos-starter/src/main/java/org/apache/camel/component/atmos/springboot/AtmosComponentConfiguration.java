@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.atmos.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.atmos")
 public class AtmosComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the atmos component. This is
@@ -137,4 +142,31 @@ public class AtmosComponentConfiguration
     public void setSslValidation(Boolean sslValidation) {
         this.sslValidation = sslValidation;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.uri != null) {
+            answer.put("uri", this.uri);
+        }
+        if (this.fullTokenId != null) {
+            answer.put("fullTokenId", this.fullTokenId);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        if (this.sslValidation != null) {
+            answer.put("sslValidation", this.sslValidation);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
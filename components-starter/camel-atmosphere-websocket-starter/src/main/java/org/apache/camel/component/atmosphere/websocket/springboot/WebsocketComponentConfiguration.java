@@ -16,12 +16,15 @@
  */
 package org.apache.camel.component.atmosphere.websocket.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.http.common.HttpBinding;
 import org.apache.camel.http.common.HttpConfiguration;
 import org.apache.camel.http.common.HttpRegistry;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.atmosphere-websocket")
 public class WebsocketComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the atmosphere-websocket
@@ -219,4 +224,46 @@ public class WebsocketComponentConfiguration
             HeaderFilterStrategy headerFilterStrategy) {
         this.headerFilterStrategy = headerFilterStrategy;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.muteException != null) {
+            answer.put("muteException", this.muteException);
+        }
+        if (this.servletName != null) {
+            answer.put("servletName", this.servletName);
+        }
+        if (this.attachmentMultipartBinding != null) {
+            answer.put("attachmentMultipartBinding", this.attachmentMultipartBinding);
+        }
+        if (this.fileNameExtWhitelist != null) {
+            answer.put("fileNameExtWhitelist", this.fileNameExtWhitelist);
+        }
+        if (this.httpRegistry != null) {
+            answer.put("httpRegistry", this.httpRegistry);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.allowJavaSerializedObject != null) {
+            answer.put("allowJavaSerializedObject", this.allowJavaSerializedObject);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.httpBinding != null) {
+            answer.put("httpBinding", this.httpBinding);
+        }
+        if (this.httpConfiguration != null) {
+            answer.put("httpConfiguration", this.httpConfiguration);
+        }
+        if (this.headerFilterStrategy != null) {
+            answer.put("headerFilterStrategy", this.headerFilterStrategy);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.avro.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.avro.Protocol;
 import org.apache.camel.component.avro.AvroConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.avro")
 public class AvroComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the avro component. This is
@@ -179,4 +184,40 @@ public class AvroComponentConfiguration
     public void setConfiguration(AvroConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.protocol != null) {
+            answer.put("protocol", this.protocol);
+        }
+        if (this.protocolClassName != null) {
+            answer.put("protocolClassName", this.protocolClassName);
+        }
+        if (this.protocolLocation != null) {
+            answer.put("protocolLocation", this.protocolLocation);
+        }
+        if (this.reflectionProtocol != null) {
+            answer.put("reflectionProtocol", this.reflectionProtocol);
+        }
+        if (this.singleParameter != null) {
+            answer.put("singleParameter", this.singleParameter);
+        }
+        if (this.uriAuthority != null) {
+            answer.put("uriAuthority", this.uriAuthority);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
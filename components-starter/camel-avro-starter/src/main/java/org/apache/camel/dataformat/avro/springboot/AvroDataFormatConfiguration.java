@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.avro.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.avro")
 public class AvroDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the avro data format. This is
@@ -48,4 +53,13 @@ public class AvroDataFormatConfiguration
     public void setInstanceClassName(String instanceClassName) {
         this.instanceClassName = instanceClassName;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.instanceClassName != null) {
+            answer.put("instanceClassName", this.instanceClassName);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.aws.cloudtrail.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws.cloudtrail.CloudtrailComponent;
 import org.apache.camel.component.aws.cloudtrail.CloudtrailConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.cloudtrail.CloudTrailClient;
@@ -33,7 +36,9 @@ import software.amazon.awssdk.services.cloudtrail.CloudTrailClient;
 @ConfigurationProperties(prefix = "camel.component.aws-cloudtrail")
 public class CloudtrailComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the aws-cloudtrail component.
@@ -252,4 +257,58 @@ public class CloudtrailComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.cloudTrailClient != null) {
+            answer.put("cloudTrailClient", this.cloudTrailClient);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.eventSource != null) {
+            answer.put("eventSource", this.eventSource);
+        }
+        if (this.maxResults != null) {
+            answer.put("maxResults", this.maxResults);
+        }
+        if (this.overrideEndpoint != null) {
+            answer.put("overrideEndpoint", this.overrideEndpoint);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.proxyProtocol != null) {
+            answer.put("proxyProtocol", this.proxyProtocol);
+        }
+        if (this.region != null) {
+            answer.put("region", this.region);
+        }
+        if (this.trustAllCertificates != null) {
+            answer.put("trustAllCertificates", this.trustAllCertificates);
+        }
+        if (this.uriEndpointOverride != null) {
+            answer.put("uriEndpointOverride", this.uriEndpointOverride);
+        }
+        if (this.useDefaultCredentialsProvider != null) {
+            answer.put("useDefaultCredentialsProvider", this.useDefaultCredentialsProvider);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.aws.secretsmanager.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws.secretsmanager.SecretsManagerComponent;
 import org.apache.camel.component.aws.secretsmanager.SecretsManagerConfiguration;
 import org.apache.camel.component.aws.secretsmanager.SecretsManagerOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
@@ -34,7 +37,9 @@ import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 @ConfigurationProperties(prefix = "camel.component.aws-secrets-manager")
 public class SecretsManagerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the aws-secrets-manager
@@ -269,4 +274,61 @@ public class SecretsManagerComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.binaryPayload != null) {
+            answer.put("binaryPayload", this.binaryPayload);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.overrideEndpoint != null) {
+            answer.put("overrideEndpoint", this.overrideEndpoint);
+        }
+        if (this.pojoRequest != null) {
+            answer.put("pojoRequest", this.pojoRequest);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.proxyProtocol != null) {
+            answer.put("proxyProtocol", this.proxyProtocol);
+        }
+        if (this.region != null) {
+            answer.put("region", this.region);
+        }
+        if (this.secretsManagerClient != null) {
+            answer.put("secretsManagerClient", this.secretsManagerClient);
+        }
+        if (this.trustAllCertificates != null) {
+            answer.put("trustAllCertificates", this.trustAllCertificates);
+        }
+        if (this.uriEndpointOverride != null) {
+            answer.put("uriEndpointOverride", this.uriEndpointOverride);
+        }
+        if (this.useDefaultCredentialsProvider != null) {
+            answer.put("useDefaultCredentialsProvider", this.useDefaultCredentialsProvider);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,12 +16,15 @@
  */
 package org.apache.camel.component.aws2.athena.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.athena.Athena2Component;
 import org.apache.camel.component.aws2.athena.Athena2Configuration;
 import org.apache.camel.component.aws2.athena.Athena2Operations;
 import org.apache.camel.component.aws2.athena.Athena2OutputType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.athena.AthenaClient;
@@ -36,7 +39,9 @@ import software.amazon.awssdk.services.athena.model.EncryptionOption;
 @ConfigurationProperties(prefix = "camel.component.aws2-athena")
 public class Athena2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the aws2-athena component. This
@@ -455,4 +460,100 @@ public class Athena2ComponentConfiguration
     public void setClientRequestToken(String clientRequestToken) {
         this.clientRequestToken = clientRequestToken;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.amazonAthenaClient != null) {
+            answer.put("amazonAthenaClient", this.amazonAthenaClient);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.database != null) {
+            answer.put("database", this.database);
+        }
+        if (this.delay != null) {
+            answer.put("delay", this.delay);
+        }
+        if (this.encryptionOption != null) {
+            answer.put("encryptionOption", this.encryptionOption);
+        }
+        if (this.includeTrace != null) {
+            answer.put("includeTrace", this.includeTrace);
+        }
+        if (this.initialDelay != null) {
+            answer.put("initialDelay", this.initialDelay);
+        }
+        if (this.kmsKey != null) {
+            answer.put("kmsKey", this.kmsKey);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.maxAttempts != null) {
+            answer.put("maxAttempts", this.maxAttempts);
+        }
+        if (this.maxResults != null) {
+            answer.put("maxResults", this.maxResults);
+        }
+        if (this.nextToken != null) {
+            answer.put("nextToken", this.nextToken);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.outputLocation != null) {
+            answer.put("outputLocation", this.outputLocation);
+        }
+        if (this.outputType != null) {
+            answer.put("outputType", this.outputType);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.proxyProtocol != null) {
+            answer.put("proxyProtocol", this.proxyProtocol);
+        }
+        if (this.queryExecutionId != null) {
+            answer.put("queryExecutionId", this.queryExecutionId);
+        }
+        if (this.queryString != null) {
+            answer.put("queryString", this.queryString);
+        }
+        if (this.region != null) {
+            answer.put("region", this.region);
+        }
+        if (this.resetWaitTimeoutOnRetry != null) {
+            answer.put("resetWaitTimeoutOnRetry", this.resetWaitTimeoutOnRetry);
+        }
+        if (this.retry != null) {
+            answer.put("retry", this.retry);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        if (this.useDefaultCredentialsProvider != null) {
+            answer.put("useDefaultCredentialsProvider", this.useDefaultCredentialsProvider);
+        }
+        if (this.waitTimeout != null) {
+            answer.put("waitTimeout", this.waitTimeout);
+        }
+        if (this.workGroup != null) {
+            answer.put("workGroup", this.workGroup);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.clientRequestToken != null) {
+            answer.put("clientRequestToken", this.clientRequestToken);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -17,10 +17,13 @@
 package org.apache.camel.component.aws2.cw.springboot;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.cw.Cw2Component;
 import org.apache.camel.component.aws2.cw.Cw2Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
@@ -34,7 +37,9 @@ import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
 @ConfigurationProperties(prefix = "camel.component.aws2-cw")
 public class Cw2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the aws2-cw component. This is
@@ -278,4 +283,64 @@ public class Cw2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.amazonCwClient != null) {
+            answer.put("amazonCwClient", this.amazonCwClient);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.name != null) {
+            answer.put("name", this.name);
+        }
+        if (this.overrideEndpoint != null) {
+            answer.put("overrideEndpoint", this.overrideEndpoint);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.proxyProtocol != null) {
+            answer.put("proxyProtocol", this.proxyProtocol);
+        }
+        if (this.region != null) {
+            answer.put("region", this.region);
+        }
+        if (this.timestamp != null) {
+            answer.put("timestamp", this.timestamp);
+        }
+        if (this.trustAllCertificates != null) {
+            answer.put("trustAllCertificates", this.trustAllCertificates);
+        }
+        if (this.unit != null) {
+            answer.put("unit", this.unit);
+        }
+        if (this.uriEndpointOverride != null) {
+            answer.put("uriEndpointOverride", this.uriEndpointOverride);
+        }
+        if (this.useDefaultCredentialsProvider != null) {
+            answer.put("useDefaultCredentialsProvider", this.useDefaultCredentialsProvider);
+        }
+        if (this.value != null) {
+            answer.put("value", this.value);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.aws2.ddb.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.ddb.Ddb2Component;
 import org.apache.camel.component.aws2.ddb.Ddb2Configuration;
 import org.apache.camel.component.aws2.ddb.Ddb2Operations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -34,7 +37,9 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 @ConfigurationProperties(prefix = "camel.component.aws2-ddb")
 public class Ddb2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the aws2-ddb component. This is
@@ -331,4 +336,76 @@ public class Ddb2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.amazonDDBClient != null) {
+            answer.put("amazonDDBClient", this.amazonDDBClient);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.consistentRead != null) {
+            answer.put("consistentRead", this.consistentRead);
+        }
+        if (this.enabledInitialDescribeTable != null) {
+            answer.put("enabledInitialDescribeTable", this.enabledInitialDescribeTable);
+        }
+        if (this.keyAttributeName != null) {
+            answer.put("keyAttributeName", this.keyAttributeName);
+        }
+        if (this.keyAttributeType != null) {
+            answer.put("keyAttributeType", this.keyAttributeType);
+        }
+        if (this.keyScalarType != null) {
+            answer.put("keyScalarType", this.keyScalarType);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.overrideEndpoint != null) {
+            answer.put("overrideEndpoint", this.overrideEndpoint);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.proxyProtocol != null) {
+            answer.put("proxyProtocol", this.proxyProtocol);
+        }
+        if (this.readCapacity != null) {
+            answer.put("readCapacity", this.readCapacity);
+        }
+        if (this.region != null) {
+            answer.put("region", this.region);
+        }
+        if (this.trustAllCertificates != null) {
+            answer.put("trustAllCertificates", this.trustAllCertificates);
+        }
+        if (this.uriEndpointOverride != null) {
+            answer.put("uriEndpointOverride", this.uriEndpointOverride);
+        }
+        if (this.useDefaultCredentialsProvider != null) {
+            answer.put("useDefaultCredentialsProvider", this.useDefaultCredentialsProvider);
+        }
+        if (this.writeCapacity != null) {
+            answer.put("writeCapacity", this.writeCapacity);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.aws2.ddbstream.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.ddbstream.Ddb2StreamComponent;
 import org.apache.camel.component.aws2.ddbstream.Ddb2StreamConfiguration;
 import org.apache.camel.component.aws2.ddbstream.Ddb2StreamConfiguration.StreamIteratorType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
@@ -34,7 +37,9 @@ import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
 @ConfigurationProperties(prefix = "camel.component.aws2-ddbstream")
 public class Ddb2StreamComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the aws2-ddbstream component.
@@ -255,4 +260,58 @@ public class Ddb2StreamComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.amazonDynamoDbStreamsClient != null) {
+            answer.put("amazonDynamoDbStreamsClient", this.amazonDynamoDbStreamsClient);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.maxResultsPerRequest != null) {
+            answer.put("maxResultsPerRequest", this.maxResultsPerRequest);
+        }
+        if (this.overrideEndpoint != null) {
+            answer.put("overrideEndpoint", this.overrideEndpoint);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.proxyProtocol != null) {
+            answer.put("proxyProtocol", this.proxyProtocol);
+        }
+        if (this.region != null) {
+            answer.put("region", this.region);
+        }
+        if (this.streamIteratorType != null) {
+            answer.put("streamIteratorType", this.streamIteratorType);
+        }
+        if (this.trustAllCertificates != null) {
+            answer.put("trustAllCertificates", this.trustAllCertificates);
+        }
+        if (this.uriEndpointOverride != null) {
+            answer.put("uriEndpointOverride", this.uriEndpointOverride);
+        }
+        if (this.useDefaultCredentialsProvider != null) {
+            answer.put("useDefaultCredentialsProvider", this.useDefaultCredentialsProvider);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
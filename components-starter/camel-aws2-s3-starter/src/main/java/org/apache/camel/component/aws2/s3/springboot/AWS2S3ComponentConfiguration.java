@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.aws2.s3.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.s3.AWS2S3Component;
 import org.apache.camel.component.aws2.s3.AWS2S3Configuration;
@@ -23,6 +25,7 @@ import org.apache.camel.component.aws2.s3.AWS2S3Operations;
 import org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum;
 import org.apache.camel.component.aws2.s3.stream.AWSS3RestartingPolicyEnum;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -38,7 +41,9 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 @ConfigurationProperties(prefix = "camel.component.aws2-s3")
 public class AWS2S3ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the aws2-s3 component. This is
@@ -725,4 +730,163 @@ public class AWS2S3ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.amazonS3Client != null) {
+            answer.put("amazonS3Client", this.amazonS3Client);
+        }
+        if (this.amazonS3Presigner != null) {
+            answer.put("amazonS3Presigner", this.amazonS3Presigner);
+        }
+        if (this.autoCreateBucket != null) {
+            answer.put("autoCreateBucket", this.autoCreateBucket);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.overrideEndpoint != null) {
+            answer.put("overrideEndpoint", this.overrideEndpoint);
+        }
+        if (this.pojoRequest != null) {
+            answer.put("pojoRequest", this.pojoRequest);
+        }
+        if (this.policy != null) {
+            answer.put("policy", this.policy);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.proxyProtocol != null) {
+            answer.put("proxyProtocol", this.proxyProtocol);
+        }
+        if (this.region != null) {
+            answer.put("region", this.region);
+        }
+        if (this.trustAllCertificates != null) {
+            answer.put("trustAllCertificates", this.trustAllCertificates);
+        }
+        if (this.uriEndpointOverride != null) {
+            answer.put("uriEndpointOverride", this.uriEndpointOverride);
+        }
+        if (this.useDefaultCredentialsProvider != null) {
+            answer.put("useDefaultCredentialsProvider", this.useDefaultCredentialsProvider);
+        }
+        if (this.customerAlgorithm != null) {
+            answer.put("customerAlgorithm", this.customerAlgorithm);
+        }
+        if (this.customerKeyId != null) {
+            answer.put("customerKeyId", this.customerKeyId);
+        }
+        if (this.customerKeyMD5 != null) {
+            answer.put("customerKeyMD5", this.customerKeyMD5);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.deleteAfterRead != null) {
+            answer.put("deleteAfterRead", this.deleteAfterRead);
+        }
+        if (this.delimiter != null) {
+            answer.put("delimiter", this.delimiter);
+        }
+        if (this.destinationBucket != null) {
+            answer.put("destinationBucket", this.destinationBucket);
+        }
+        if (this.destinationBucketPrefix != null) {
+            answer.put("destinationBucketPrefix", this.destinationBucketPrefix);
+        }
+        if (this.destinationBucketSuffix != null) {
+            answer.put("destinationBucketSuffix", this.destinationBucketSuffix);
+        }
+        if (this.doneFileName != null) {
+            answer.put("doneFileName", this.doneFileName);
+        }
+        if (this.fileName != null) {
+            answer.put("fileName", this.fileName);
+        }
+        if (this.ignoreBody != null) {
+            answer.put("ignoreBody", this.ignoreBody);
+        }
+        if (this.includeBody != null) {
+            answer.put("includeBody", this.includeBody);
+        }
+        if (this.includeFolders != null) {
+            answer.put("includeFolders", this.includeFolders);
+        }
+        if (this.moveAfterRead != null) {
+            answer.put("moveAfterRead", this.moveAfterRead);
+        }
+        if (this.prefix != null) {
+            answer.put("prefix", this.prefix);
+        }
+        if (this.autocloseBody != null) {
+            answer.put("autocloseBody", this.autocloseBody);
+        }
+        if (this.batchMessageNumber != null) {
+            answer.put("batchMessageNumber", this.batchMessageNumber);
+        }
+        if (this.batchSize != null) {
+            answer.put("batchSize", this.batchSize);
+        }
+        if (this.deleteAfterWrite != null) {
+            answer.put("deleteAfterWrite", this.deleteAfterWrite);
+        }
+        if (this.keyName != null) {
+            answer.put("keyName", this.keyName);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.multiPartUpload != null) {
+            answer.put("multiPartUpload", this.multiPartUpload);
+        }
+        if (this.namingStrategy != null) {
+            answer.put("namingStrategy", this.namingStrategy);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.partSize != null) {
+            answer.put("partSize", this.partSize);
+        }
+        if (this.restartingPolicy != null) {
+            answer.put("restartingPolicy", this.restartingPolicy);
+        }
+        if (this.storageClass != null) {
+            answer.put("storageClass", this.storageClass);
+        }
+        if (this.streamingUploadMode != null) {
+            answer.put("streamingUploadMode", this.streamingUploadMode);
+        }
+        if (this.streamingUploadTimeout != null) {
+            answer.put("streamingUploadTimeout", this.streamingUploadTimeout);
+        }
+        if (this.awsKMSKeyId != null) {
+            answer.put("awsKMSKeyId", this.awsKMSKeyId);
+        }
+        if (this.useAwsKMS != null) {
+            answer.put("useAwsKMS", this.useAwsKMS);
+        }
+        if (this.useCustomerKey != null) {
+            answer.put("useCustomerKey", this.useCustomerKey);
+        }
+        if (this.useSSES3 != null) {
+            answer.put("useSSES3", this.useSSES3);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
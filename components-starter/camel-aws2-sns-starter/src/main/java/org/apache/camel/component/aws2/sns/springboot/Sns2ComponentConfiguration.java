@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.aws2.sns.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.sns.Sns2Component;
 import org.apache.camel.component.aws2.sns.Sns2Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.sns.SnsClient;
@@ -33,7 +36,9 @@ import software.amazon.awssdk.services.sns.SnsClient;
 @ConfigurationProperties(prefix = "camel.component.aws2-sns")
 public class Sns2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the aws2-sns component. This is
@@ -360,4 +365,82 @@ public class Sns2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.amazonSNSClient != null) {
+            answer.put("amazonSNSClient", this.amazonSNSClient);
+        }
+        if (this.autoCreateTopic != null) {
+            answer.put("autoCreateTopic", this.autoCreateTopic);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.kmsMasterKeyId != null) {
+            answer.put("kmsMasterKeyId", this.kmsMasterKeyId);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.messageDeduplicationIdStrategy != null) {
+            answer.put("messageDeduplicationIdStrategy", this.messageDeduplicationIdStrategy);
+        }
+        if (this.messageGroupIdStrategy != null) {
+            answer.put("messageGroupIdStrategy", this.messageGroupIdStrategy);
+        }
+        if (this.messageStructure != null) {
+            answer.put("messageStructure", this.messageStructure);
+        }
+        if (this.overrideEndpoint != null) {
+            answer.put("overrideEndpoint", this.overrideEndpoint);
+        }
+        if (this.policy != null) {
+            answer.put("policy", this.policy);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.proxyProtocol != null) {
+            answer.put("proxyProtocol", this.proxyProtocol);
+        }
+        if (this.queueUrl != null) {
+            answer.put("queueUrl", this.queueUrl);
+        }
+        if (this.region != null) {
+            answer.put("region", this.region);
+        }
+        if (this.serverSideEncryptionEnabled != null) {
+            answer.put("serverSideEncryptionEnabled", this.serverSideEncryptionEnabled);
+        }
+        if (this.subject != null) {
+            answer.put("subject", this.subject);
+        }
+        if (this.subscribeSNStoSQS != null) {
+            answer.put("subscribeSNStoSQS", this.subscribeSNStoSQS);
+        }
+        if (this.trustAllCertificates != null) {
+            answer.put("trustAllCertificates", this.trustAllCertificates);
+        }
+        if (this.uriEndpointOverride != null) {
+            answer.put("uriEndpointOverride", this.uriEndpointOverride);
+        }
+        if (this.useDefaultCredentialsProvider != null) {
+            answer.put("useDefaultCredentialsProvider", this.useDefaultCredentialsProvider);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
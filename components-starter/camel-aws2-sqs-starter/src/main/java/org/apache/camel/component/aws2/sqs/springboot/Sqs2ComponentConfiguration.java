@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.aws2.sqs.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.sqs.Sqs2Component;
 import org.apache.camel.component.aws2.sqs.Sqs2Configuration;
 import org.apache.camel.component.aws2.sqs.Sqs2Operations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.sqs.SqsClient;
@@ -34,7 +37,9 @@ import software.amazon.awssdk.services.sqs.SqsClient;
 @ConfigurationProperties(prefix = "camel.component.aws2-sqs")
 public class Sqs2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the aws2-sqs component. This is
@@ -639,4 +644,142 @@ public class Sqs2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.amazonAWSHost != null) {
+            answer.put("amazonAWSHost", this.amazonAWSHost);
+        }
+        if (this.amazonSQSClient != null) {
+            answer.put("amazonSQSClient", this.amazonSQSClient);
+        }
+        if (this.autoCreateQueue != null) {
+            answer.put("autoCreateQueue", this.autoCreateQueue);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.overrideEndpoint != null) {
+            answer.put("overrideEndpoint", this.overrideEndpoint);
+        }
+        if (this.protocol != null) {
+            answer.put("protocol", this.protocol);
+        }
+        if (this.proxyProtocol != null) {
+            answer.put("proxyProtocol", this.proxyProtocol);
+        }
+        if (this.queueOwnerAWSAccountId != null) {
+            answer.put("queueOwnerAWSAccountId", this.queueOwnerAWSAccountId);
+        }
+        if (this.region != null) {
+            answer.put("region", this.region);
+        }
+        if (this.trustAllCertificates != null) {
+            answer.put("trustAllCertificates", this.trustAllCertificates);
+        }
+        if (this.uriEndpointOverride != null) {
+            answer.put("uriEndpointOverride", this.uriEndpointOverride);
+        }
+        if (this.useDefaultCredentialsProvider != null) {
+            answer.put("useDefaultCredentialsProvider", this.useDefaultCredentialsProvider);
+        }
+        if (this.attributeNames != null) {
+            answer.put("attributeNames", this.attributeNames);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.concurrentConsumers != null) {
+            answer.put("concurrentConsumers", this.concurrentConsumers);
+        }
+        if (this.defaultVisibilityTimeout != null) {
+            answer.put("defaultVisibilityTimeout", this.defaultVisibilityTimeout);
+        }
+        if (this.deleteAfterRead != null) {
+            answer.put("deleteAfterRead", this.deleteAfterRead);
+        }
+        if (this.deleteIfFiltered != null) {
+            answer.put("deleteIfFiltered", this.deleteIfFiltered);
+        }
+        if (this.extendMessageVisibility != null) {
+            answer.put("extendMessageVisibility", this.extendMessageVisibility);
+        }
+        if (this.kmsDataKeyReusePeriodSeconds != null) {
+            answer.put("kmsDataKeyReusePeriodSeconds", this.kmsDataKeyReusePeriodSeconds);
+        }
+        if (this.kmsMasterKeyId != null) {
+            answer.put("kmsMasterKeyId", this.kmsMasterKeyId);
+        }
+        if (this.messageAttributeNames != null) {
+            answer.put("messageAttributeNames", this.messageAttributeNames);
+        }
+        if (this.serverSideEncryptionEnabled != null) {
+            answer.put("serverSideEncryptionEnabled", this.serverSideEncryptionEnabled);
+        }
+        if (this.visibilityTimeout != null) {
+            answer.put("visibilityTimeout", this.visibilityTimeout);
+        }
+        if (this.waitTimeSeconds != null) {
+            answer.put("waitTimeSeconds", this.waitTimeSeconds);
+        }
+        if (this.batchSeparator != null) {
+            answer.put("batchSeparator", this.batchSeparator);
+        }
+        if (this.delaySeconds != null) {
+            answer.put("delaySeconds", this.delaySeconds);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.messageDeduplicationIdStrategy != null) {
+            answer.put("messageDeduplicationIdStrategy", this.messageDeduplicationIdStrategy);
+        }
+        if (this.messageGroupIdStrategy != null) {
+            answer.put("messageGroupIdStrategy", this.messageGroupIdStrategy);
+        }
+        if (this.messageHeaderExceededLimit != null) {
+            answer.put("messageHeaderExceededLimit", this.messageHeaderExceededLimit);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.delayQueue != null) {
+            answer.put("delayQueue", this.delayQueue);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.maximumMessageSize != null) {
+            answer.put("maximumMessageSize", this.maximumMessageSize);
+        }
+        if (this.messageRetentionPeriod != null) {
+            answer.put("messageRetentionPeriod", this.messageRetentionPeriod);
+        }
+        if (this.policy != null) {
+            answer.put("policy", this.policy);
+        }
+        if (this.queueUrl != null) {
+            answer.put("queueUrl", this.queueUrl);
+        }
+        if (this.receiveMessageWaitTimeSeconds != null) {
+            answer.put("receiveMessageWaitTimeSeconds", this.receiveMessageWaitTimeSeconds);
+        }
+        if (this.redrivePolicy != null) {
+            answer.put("redrivePolicy", this.redrivePolicy);
+        }
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
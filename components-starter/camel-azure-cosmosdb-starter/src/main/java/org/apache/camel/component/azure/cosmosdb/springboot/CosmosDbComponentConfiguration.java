@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.azure.cosmosdb.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.azure.cosmos.ConsistencyLevel;
 import com.azure.cosmos.CosmosAsyncClient;
@@ -27,6 +29,7 @@ import org.apache.camel.component.azure.cosmosdb.CosmosDbComponent;
 import org.apache.camel.component.azure.cosmosdb.CosmosDbConfiguration;
 import org.apache.camel.component.azure.cosmosdb.CosmosDbOperationsDefinition;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -38,7 +41,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-cosmosdb")
 public class CosmosDbComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the azure-cosmosdb component.
@@ -491,4 +496,97 @@ public class CosmosDbComponentConfiguration
     public void setAccountKey(String accountKey) {
         this.accountKey = accountKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.clientTelemetryEnabled != null) {
+            answer.put("clientTelemetryEnabled", this.clientTelemetryEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.connectionSharingAcrossClientsEnabled != null) {
+            answer.put("connectionSharingAcrossClientsEnabled", this.connectionSharingAcrossClientsEnabled);
+        }
+        if (this.consistencyLevel != null) {
+            answer.put("consistencyLevel", this.consistencyLevel);
+        }
+        if (this.containerPartitionKeyPath != null) {
+            answer.put("containerPartitionKeyPath", this.containerPartitionKeyPath);
+        }
+        if (this.contentResponseOnWriteEnabled != null) {
+            answer.put("contentResponseOnWriteEnabled", this.contentResponseOnWriteEnabled);
+        }
+        if (this.cosmosAsyncClient != null) {
+            answer.put("cosmosAsyncClient", this.cosmosAsyncClient);
+        }
+        if (this.createContainerIfNotExists != null) {
+            answer.put("createContainerIfNotExists", this.createContainerIfNotExists);
+        }
+        if (this.createDatabaseIfNotExists != null) {
+            answer.put("createDatabaseIfNotExists", this.createDatabaseIfNotExists);
+        }
+        if (this.databaseEndpoint != null) {
+            answer.put("databaseEndpoint", this.databaseEndpoint);
+        }
+        if (this.multipleWriteRegionsEnabled != null) {
+            answer.put("multipleWriteRegionsEnabled", this.multipleWriteRegionsEnabled);
+        }
+        if (this.preferredRegions != null) {
+            answer.put("preferredRegions", this.preferredRegions);
+        }
+        if (this.readRequestsFallbackEnabled != null) {
+            answer.put("readRequestsFallbackEnabled", this.readRequestsFallbackEnabled);
+        }
+        if (this.throughputProperties != null) {
+            answer.put("throughputProperties", this.throughputProperties);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.changeFeedProcessorOptions != null) {
+            answer.put("changeFeedProcessorOptions", this.changeFeedProcessorOptions);
+        }
+        if (this.createLeaseContainerIfNotExists != null) {
+            answer.put("createLeaseContainerIfNotExists", this.createLeaseContainerIfNotExists);
+        }
+        if (this.createLeaseDatabaseIfNotExists != null) {
+            answer.put("createLeaseDatabaseIfNotExists", this.createLeaseDatabaseIfNotExists);
+        }
+        if (this.hostName != null) {
+            answer.put("hostName", this.hostName);
+        }
+        if (this.leaseContainerName != null) {
+            answer.put("leaseContainerName", this.leaseContainerName);
+        }
+        if (this.leaseDatabaseName != null) {
+            answer.put("leaseDatabaseName", this.leaseDatabaseName);
+        }
+        if (this.itemId != null) {
+            answer.put("itemId", this.itemId);
+        }
+        if (this.itemPartitionKey != null) {
+            answer.put("itemPartitionKey", this.itemPartitionKey);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.query != null) {
+            answer.put("query", this.query);
+        }
+        if (this.queryRequestOptions != null) {
+            answer.put("queryRequestOptions", this.queryRequestOptions);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.accountKey != null) {
+            answer.put("accountKey", this.accountKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.azure.eventhubs.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import com.azure.core.amqp.AmqpRetryOptions;
@@ -28,6 +29,7 @@ import com.azure.storage.common.StorageSharedKeyCredential;
 import org.apache.camel.component.azure.eventhubs.EventHubsComponent;
 import org.apache.camel.component.azure.eventhubs.EventHubsConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -39,7 +41,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-eventhubs")
 public class EventHubsComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the azure-eventhubs component.
@@ -396,4 +400,79 @@ public class EventHubsComponentConfiguration
     public void setTokenCredential(TokenCredential tokenCredential) {
         this.tokenCredential = tokenCredential;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.amqpRetryOptions != null) {
+            answer.put("amqpRetryOptions", this.amqpRetryOptions);
+        }
+        if (this.amqpTransportType != null) {
+            answer.put("amqpTransportType", this.amqpTransportType);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.blobAccessKey != null) {
+            answer.put("blobAccessKey", this.blobAccessKey);
+        }
+        if (this.blobAccountName != null) {
+            answer.put("blobAccountName", this.blobAccountName);
+        }
+        if (this.blobContainerName != null) {
+            answer.put("blobContainerName", this.blobContainerName);
+        }
+        if (this.blobStorageSharedKeyCredential != null) {
+            answer.put("blobStorageSharedKeyCredential", this.blobStorageSharedKeyCredential);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.checkpointBatchSize != null) {
+            answer.put("checkpointBatchSize", this.checkpointBatchSize);
+        }
+        if (this.checkpointBatchTimeout != null) {
+            answer.put("checkpointBatchTimeout", this.checkpointBatchTimeout);
+        }
+        if (this.checkpointStore != null) {
+            answer.put("checkpointStore", this.checkpointStore);
+        }
+        if (this.consumerGroupName != null) {
+            answer.put("consumerGroupName", this.consumerGroupName);
+        }
+        if (this.eventPosition != null) {
+            answer.put("eventPosition", this.eventPosition);
+        }
+        if (this.prefetchCount != null) {
+            answer.put("prefetchCount", this.prefetchCount);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.partitionId != null) {
+            answer.put("partitionId", this.partitionId);
+        }
+        if (this.partitionKey != null) {
+            answer.put("partitionKey", this.partitionKey);
+        }
+        if (this.producerAsyncClient != null) {
+            answer.put("producerAsyncClient", this.producerAsyncClient);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.connectionString != null) {
+            answer.put("connectionString", this.connectionString);
+        }
+        if (this.sharedAccessKey != null) {
+            answer.put("sharedAccessKey", this.sharedAccessKey);
+        }
+        if (this.sharedAccessName != null) {
+            answer.put("sharedAccessName", this.sharedAccessName);
+        }
+        if (this.tokenCredential != null) {
+            answer.put("tokenCredential", this.tokenCredential);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
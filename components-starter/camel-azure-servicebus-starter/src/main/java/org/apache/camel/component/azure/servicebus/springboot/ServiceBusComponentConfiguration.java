@@ -18,6 +18,8 @@ package org.apache.camel.component.azure.servicebus.springboot;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.azure.core.amqp.AmqpRetryOptions;
 import com.azure.core.amqp.AmqpTransportType;
@@ -35,6 +37,7 @@ import org.apache.camel.component.azure.servicebus.ServiceBusConsumerOperationDe
 import org.apache.camel.component.azure.servicebus.ServiceBusProducerOperationDefinition;
 import org.apache.camel.component.azure.servicebus.ServiceBusType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -46,7 +49,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-servicebus")
 public class ServiceBusComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the azure-servicebus component.
@@ -415,4 +420,85 @@ public class ServiceBusComponentConfiguration
     public void setTokenCredential(TokenCredential tokenCredential) {
         this.tokenCredential = tokenCredential;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.amqpRetryOptions != null) {
+            answer.put("amqpRetryOptions", this.amqpRetryOptions);
+        }
+        if (this.amqpTransportType != null) {
+            answer.put("amqpTransportType", this.amqpTransportType);
+        }
+        if (this.clientOptions != null) {
+            answer.put("clientOptions", this.clientOptions);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.proxyOptions != null) {
+            answer.put("proxyOptions", this.proxyOptions);
+        }
+        if (this.serviceBusType != null) {
+            answer.put("serviceBusType", this.serviceBusType);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.consumerOperation != null) {
+            answer.put("consumerOperation", this.consumerOperation);
+        }
+        if (this.disableAutoComplete != null) {
+            answer.put("disableAutoComplete", this.disableAutoComplete);
+        }
+        if (this.maxAutoLockRenewDuration != null) {
+            answer.put("maxAutoLockRenewDuration", this.maxAutoLockRenewDuration);
+        }
+        if (this.peekNumMaxMessages != null) {
+            answer.put("peekNumMaxMessages", this.peekNumMaxMessages);
+        }
+        if (this.prefetchCount != null) {
+            answer.put("prefetchCount", this.prefetchCount);
+        }
+        if (this.receiverAsyncClient != null) {
+            answer.put("receiverAsyncClient", this.receiverAsyncClient);
+        }
+        if (this.serviceBusReceiveMode != null) {
+            answer.put("serviceBusReceiveMode", this.serviceBusReceiveMode);
+        }
+        if (this.subQueue != null) {
+            answer.put("subQueue", this.subQueue);
+        }
+        if (this.subscriptionName != null) {
+            answer.put("subscriptionName", this.subscriptionName);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.producerOperation != null) {
+            answer.put("producerOperation", this.producerOperation);
+        }
+        if (this.scheduledEnqueueTime != null) {
+            answer.put("scheduledEnqueueTime", this.scheduledEnqueueTime);
+        }
+        if (this.senderAsyncClient != null) {
+            answer.put("senderAsyncClient", this.senderAsyncClient);
+        }
+        if (this.serviceBusTransactionContext != null) {
+            answer.put("serviceBusTransactionContext", this.serviceBusTransactionContext);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.connectionString != null) {
+            answer.put("connectionString", this.connectionString);
+        }
+        if (this.fullyQualifiedNamespace != null) {
+            answer.put("fullyQualifiedNamespace", this.fullyQualifiedNamespace);
+        }
+        if (this.tokenCredential != null) {
+            answer.put("tokenCredential", this.tokenCredential);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ package org.apache.camel.component.azure.storage.blob.springboot;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobServiceClient;
@@ -29,6 +31,7 @@ import org.apache.camel.component.azure.storage.blob.BlobOperationsDefinition;
 import org.apache.camel.component.azure.storage.blob.BlobType;
 import org.apache.camel.component.azure.storage.blob.CredentialType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -40,7 +43,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-storage-blob")
 public class BlobComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the azure-storage-blob component.
@@ -490,4 +495,106 @@ public class BlobComponentConfiguration
     public void setSourceBlobAccessKey(String sourceBlobAccessKey) {
         this.sourceBlobAccessKey = sourceBlobAccessKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.blobName != null) {
+            answer.put("blobName", this.blobName);
+        }
+        if (this.blobOffset != null) {
+            answer.put("blobOffset", this.blobOffset);
+        }
+        if (this.blobType != null) {
+            answer.put("blobType", this.blobType);
+        }
+        if (this.closeStreamAfterRead != null) {
+            answer.put("closeStreamAfterRead", this.closeStreamAfterRead);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.credentials != null) {
+            answer.put("credentials", this.credentials);
+        }
+        if (this.credentialType != null) {
+            answer.put("credentialType", this.credentialType);
+        }
+        if (this.dataCount != null) {
+            answer.put("dataCount", this.dataCount);
+        }
+        if (this.fileDir != null) {
+            answer.put("fileDir", this.fileDir);
+        }
+        if (this.maxResultsPerPage != null) {
+            answer.put("maxResultsPerPage", this.maxResultsPerPage);
+        }
+        if (this.maxRetryRequests != null) {
+            answer.put("maxRetryRequests", this.maxRetryRequests);
+        }
+        if (this.prefix != null) {
+            answer.put("prefix", this.prefix);
+        }
+        if (this.regex != null) {
+            answer.put("regex", this.regex);
+        }
+        if (this.serviceClient != null) {
+            answer.put("serviceClient", this.serviceClient);
+        }
+        if (this.timeout != null) {
+            answer.put("timeout", this.timeout);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.blobSequenceNumber != null) {
+            answer.put("blobSequenceNumber", this.blobSequenceNumber);
+        }
+        if (this.blockListType != null) {
+            answer.put("blockListType", this.blockListType);
+        }
+        if (this.changeFeedContext != null) {
+            answer.put("changeFeedContext", this.changeFeedContext);
+        }
+        if (this.changeFeedEndTime != null) {
+            answer.put("changeFeedEndTime", this.changeFeedEndTime);
+        }
+        if (this.changeFeedStartTime != null) {
+            answer.put("changeFeedStartTime", this.changeFeedStartTime);
+        }
+        if (this.closeStreamAfterWrite != null) {
+            answer.put("closeStreamAfterWrite", this.closeStreamAfterWrite);
+        }
+        if (this.commitBlockListLater != null) {
+            answer.put("commitBlockListLater", this.commitBlockListLater);
+        }
+        if (this.createAppendBlob != null) {
+            answer.put("createAppendBlob", this.createAppendBlob);
+        }
+        if (this.createPageBlob != null) {
+            answer.put("createPageBlob", this.createPageBlob);
+        }
+        if (this.downloadLinkExpiration != null) {
+            answer.put("downloadLinkExpiration", this.downloadLinkExpiration);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.pageBlobSize != null) {
+            answer.put("pageBlobSize", this.pageBlobSize);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.sourceBlobAccessKey != null) {
+            answer.put("sourceBlobAccessKey", this.sourceBlobAccessKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
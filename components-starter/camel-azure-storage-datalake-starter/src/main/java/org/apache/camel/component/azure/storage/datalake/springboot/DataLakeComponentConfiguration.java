@@ -18,6 +18,8 @@ package org.apache.camel.component.azure.storage.datalake.springboot;
 
 import java.nio.file.OpenOption;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.Generated;
 import com.azure.identity.ClientSecretCredential;
@@ -27,6 +29,7 @@ import org.apache.camel.component.azure.storage.datalake.DataLakeComponent;
 import org.apache.camel.component.azure.storage.datalake.DataLakeConfiguration;
 import org.apache.camel.component.azure.storage.datalake.DataLakeOperationsDefinition;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -38,7 +41,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-storage-datalake")
 public class DataLakeComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the azure-storage-datalake
@@ -467,4 +472,109 @@ public class DataLakeComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.accountKey != null) {
+            answer.put("accountKey", this.accountKey);
+        }
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.clientSecret != null) {
+            answer.put("clientSecret", this.clientSecret);
+        }
+        if (this.clientSecretCredential != null) {
+            answer.put("clientSecretCredential", this.clientSecretCredential);
+        }
+        if (this.close != null) {
+            answer.put("close", this.close);
+        }
+        if (this.closeStreamAfterRead != null) {
+            answer.put("closeStreamAfterRead", this.closeStreamAfterRead);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.dataCount != null) {
+            answer.put("dataCount", this.dataCount);
+        }
+        if (this.directoryName != null) {
+            answer.put("directoryName", this.directoryName);
+        }
+        if (this.downloadLinkExpiration != null) {
+            answer.put("downloadLinkExpiration", this.downloadLinkExpiration);
+        }
+        if (this.expression != null) {
+            answer.put("expression", this.expression);
+        }
+        if (this.fileDir != null) {
+            answer.put("fileDir", this.fileDir);
+        }
+        if (this.fileName != null) {
+            answer.put("fileName", this.fileName);
+        }
+        if (this.fileOffset != null) {
+            answer.put("fileOffset", this.fileOffset);
+        }
+        if (this.maxResults != null) {
+            answer.put("maxResults", this.maxResults);
+        }
+        if (this.maxRetryRequests != null) {
+            answer.put("maxRetryRequests", this.maxRetryRequests);
+        }
+        if (this.openOptions != null) {
+            answer.put("openOptions", this.openOptions);
+        }
+        if (this.path != null) {
+            answer.put("path", this.path);
+        }
+        if (this.permission != null) {
+            answer.put("permission", this.permission);
+        }
+        if (this.position != null) {
+            answer.put("position", this.position);
+        }
+        if (this.recursive != null) {
+            answer.put("recursive", this.recursive);
+        }
+        if (this.regex != null) {
+            answer.put("regex", this.regex);
+        }
+        if (this.retainUncommitedData != null) {
+            answer.put("retainUncommitedData", this.retainUncommitedData);
+        }
+        if (this.serviceClient != null) {
+            answer.put("serviceClient", this.serviceClient);
+        }
+        if (this.sharedKeyCredential != null) {
+            answer.put("sharedKeyCredential", this.sharedKeyCredential);
+        }
+        if (this.tenantId != null) {
+            answer.put("tenantId", this.tenantId);
+        }
+        if (this.timeout != null) {
+            answer.put("timeout", this.timeout);
+        }
+        if (this.umask != null) {
+            answer.put("umask", this.umask);
+        }
+        if (this.userPrincipalNameReturned != null) {
+            answer.put("userPrincipalNameReturned", this.userPrincipalNameReturned);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -17,12 +17,15 @@
 package org.apache.camel.component.azure.storage.queue.springboot;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.azure.storage.common.StorageSharedKeyCredential;
 import com.azure.storage.queue.QueueServiceClient;
 import org.apache.camel.component.azure.storage.queue.QueueConfiguration;
 import org.apache.camel.component.azure.storage.queue.QueueOperationDefinition;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +37,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-storage-queue")
 public class QueueComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the azure-storage-queue
@@ -268,4 +273,55 @@ public class QueueComponentConfiguration
     public void setCredentials(StorageSharedKeyCredential credentials) {
         this.credentials = credentials;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.serviceClient != null) {
+            answer.put("serviceClient", this.serviceClient);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.createQueue != null) {
+            answer.put("createQueue", this.createQueue);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.maxMessages != null) {
+            answer.put("maxMessages", this.maxMessages);
+        }
+        if (this.messageId != null) {
+            answer.put("messageId", this.messageId);
+        }
+        if (this.popReceipt != null) {
+            answer.put("popReceipt", this.popReceipt);
+        }
+        if (this.timeout != null) {
+            answer.put("timeout", this.timeout);
+        }
+        if (this.timeToLive != null) {
+            answer.put("timeToLive", this.timeToLive);
+        }
+        if (this.visibilityTimeout != null) {
+            answer.put("visibilityTimeout", this.visibilityTimeout);
+        }
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.credentials != null) {
+            answer.put("credentials", this.credentials);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
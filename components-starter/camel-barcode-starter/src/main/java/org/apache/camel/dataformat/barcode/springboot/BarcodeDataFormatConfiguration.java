@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.barcode.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.barcode")
 public class BarcodeDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the barcode data format. This is
@@ -84,4 +89,22 @@ public class BarcodeDataFormatConfiguration
     public void setHeight(Integer height) {
         this.height = height;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.barcodeFormat != null) {
+            answer.put("barcodeFormat", this.barcodeFormat);
+        }
+        if (this.imageType != null) {
+            answer.put("imageType", this.imageType);
+        }
+        if (this.width != null) {
+            answer.put("width", this.width);
+        }
+        if (this.height != null) {
+            answer.put("height", this.height);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.base64.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.base64")
 public class Base64DataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the base64 data format. This is
@@ -75,4 +80,19 @@ public class Base64DataFormatConfiguration
     public void setUrlSafe(Boolean urlSafe) {
         this.urlSafe = urlSafe;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.lineLength != null) {
+            answer.put("lineLength", this.lineLength);
+        }
+        if (this.lineSeparator != null) {
+            answer.put("lineSeparator", this.lineSeparator);
+        }
+        if (this.urlSafe != null) {
+            answer.put("urlSafe", this.urlSafe);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.language.bean.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.LanguageConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.language.bean")
 public class BeanLanguageConfiguration
         extends
-            LanguageConfigurationPropertiesCommon {
+            LanguageConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the bean language. This is
@@ -74,4 +79,16 @@ public class BeanLanguageConfiguration
     public void setTrim(Boolean trim) {
         this.trim = trim;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.scope != null) {
+            answer.put("scope", this.scope);
+        }
+        if (this.trim != null) {
+            answer.put("trim", this.trim);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.bean.validator.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.MessageInterpolator;
@@ -23,6 +25,7 @@ import javax.validation.TraversableResolver;
 import javax.validation.ValidationProviderResolver;
 import javax.validation.ValidatorFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +37,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.bean-validator")
 public class BeanValidatorComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the bean-validator component.
@@ -156,4 +161,34 @@ public class BeanValidatorComponentConfiguration
     public void setValidatorFactory(ValidatorFactory validatorFactory) {
         this.validatorFactory = validatorFactory;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.ignoreXmlConfiguration != null) {
+            answer.put("ignoreXmlConfiguration", this.ignoreXmlConfiguration);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.constraintValidatorFactory != null) {
+            answer.put("constraintValidatorFactory", this.constraintValidatorFactory);
+        }
+        if (this.messageInterpolator != null) {
+            answer.put("messageInterpolator", this.messageInterpolator);
+        }
+        if (this.traversableResolver != null) {
+            answer.put("traversableResolver", this.traversableResolver);
+        }
+        if (this.validationProviderResolver != null) {
+            answer.put("validationProviderResolver", this.validationProviderResolver);
+        }
+        if (this.validatorFactory != null) {
+            answer.put("validatorFactory", this.validatorFactory);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.bindy.fixed.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.bindy-fixed")
 public class BindyFixedLengthDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the bindyFixed data format. This
@@ -100,4 +105,25 @@ public class BindyFixedLengthDataFormatConfiguration
     public void setLocale(String locale) {
         this.locale = locale;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.type != null) {
+            answer.put("type", this.type);
+        }
+        if (this.classType != null) {
+            answer.put("classType", this.classType);
+        }
+        if (this.allowEmptyStream != null) {
+            answer.put("allowEmptyStream", this.allowEmptyStream);
+        }
+        if (this.unwrapSingleInstance != null) {
+            answer.put("unwrapSingleInstance", this.unwrapSingleInstance);
+        }
+        if (this.locale != null) {
+            answer.put("locale", this.locale);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.box.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import com.box.sdk.EncryptionAlgorithm;
@@ -23,6 +24,7 @@ import com.box.sdk.IAccessTokenCache;
 import org.apache.camel.component.box.BoxComponent;
 import org.apache.camel.component.box.BoxConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -36,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.box")
 public class BoxComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the box component. This is
@@ -296,4 +300,67 @@ public class BoxComponentConfiguration
     public void setUserPassword(String userPassword) {
         this.userPassword = userPassword;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.enterpriseId != null) {
+            answer.put("enterpriseId", this.enterpriseId);
+        }
+        if (this.userId != null) {
+            answer.put("userId", this.userId);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.httpParams != null) {
+            answer.put("httpParams", this.httpParams);
+        }
+        if (this.authenticationType != null) {
+            answer.put("authenticationType", this.authenticationType);
+        }
+        if (this.accessTokenCache != null) {
+            answer.put("accessTokenCache", this.accessTokenCache);
+        }
+        if (this.clientSecret != null) {
+            answer.put("clientSecret", this.clientSecret);
+        }
+        if (this.encryptionAlgorithm != null) {
+            answer.put("encryptionAlgorithm", this.encryptionAlgorithm);
+        }
+        if (this.maxCacheEntries != null) {
+            answer.put("maxCacheEntries", this.maxCacheEntries);
+        }
+        if (this.privateKeyFile != null) {
+            answer.put("privateKeyFile", this.privateKeyFile);
+        }
+        if (this.privateKeyPassword != null) {
+            answer.put("privateKeyPassword", this.privateKeyPassword);
+        }
+        if (this.publicKeyId != null) {
+            answer.put("publicKeyId", this.publicKeyId);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.userName != null) {
+            answer.put("userName", this.userName);
+        }
+        if (this.userPassword != null) {
+            answer.put("userPassword", this.userPassword);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.caffeine.load.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.RemovalListener;
@@ -24,6 +26,7 @@ import org.apache.camel.component.caffeine.CaffeineConfiguration;
 import org.apache.camel.component.caffeine.EvictionType;
 import org.apache.camel.component.caffeine.load.CaffeineLoadCacheComponent;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -35,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.caffeine-loadcache")
 public class CaffeineLoadCacheComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the caffeine-loadcache component.
@@ -284,4 +289,61 @@ public class CaffeineLoadCacheComponentConfiguration
     public void setValueType(String valueType) {
         this.valueType = valueType;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.action != null) {
+            answer.put("action", this.action);
+        }
+        if (this.createCacheIfNotExist != null) {
+            answer.put("createCacheIfNotExist", this.createCacheIfNotExist);
+        }
+        if (this.evictionType != null) {
+            answer.put("evictionType", this.evictionType);
+        }
+        if (this.expireAfterAccessTime != null) {
+            answer.put("expireAfterAccessTime", this.expireAfterAccessTime);
+        }
+        if (this.expireAfterWriteTime != null) {
+            answer.put("expireAfterWriteTime", this.expireAfterWriteTime);
+        }
+        if (this.initialCapacity != null) {
+            answer.put("initialCapacity", this.initialCapacity);
+        }
+        if (this.key != null) {
+            answer.put("key", this.key);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.maximumSize != null) {
+            answer.put("maximumSize", this.maximumSize);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.cacheLoader != null) {
+            answer.put("cacheLoader", this.cacheLoader);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.keyType != null) {
+            answer.put("keyType", this.keyType);
+        }
+        if (this.removalListener != null) {
+            answer.put("removalListener", this.removalListener);
+        }
+        if (this.statsCounter != null) {
+            answer.put("statsCounter", this.statsCounter);
+        }
+        if (this.statsEnabled != null) {
+            answer.put("statsEnabled", this.statsEnabled);
+        }
+        if (this.valueType != null) {
+            answer.put("valueType", this.valueType);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.cbor.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.cbor")
 public class CBORDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the cbor data format. This is
@@ -175,4 +180,40 @@ public class CBORDataFormatConfiguration
     public void setDisableFeatures(String disableFeatures) {
         this.disableFeatures = disableFeatures;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.objectMapper != null) {
+            answer.put("objectMapper", this.objectMapper);
+        }
+        if (this.useDefaultObjectMapper != null) {
+            answer.put("useDefaultObjectMapper", this.useDefaultObjectMapper);
+        }
+        if (this.unmarshalType != null) {
+            answer.put("unmarshalType", this.unmarshalType);
+        }
+        if (this.collectionType != null) {
+            answer.put("collectionType", this.collectionType);
+        }
+        if (this.useList != null) {
+            answer.put("useList", this.useList);
+        }
+        if (this.allowUnmarshallType != null) {
+            answer.put("allowUnmarshallType", this.allowUnmarshallType);
+        }
+        if (this.prettyPrint != null) {
+            answer.put("prettyPrint", this.prettyPrint);
+        }
+        if (this.allowJmsType != null) {
+            answer.put("allowJmsType", this.allowJmsType);
+        }
+        if (this.enableFeatures != null) {
+            answer.put("enableFeatures", this.enableFeatures);
+        }
+        if (this.disableFeatures != null) {
+            answer.put("disableFeatures", this.disableFeatures);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.cometd.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.cometd.bayeux.server.BayeuxServer.Extension;
 import org.cometd.bayeux.server.SecurityPolicy;
@@ -34,7 +37,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.cometd")
 public class CometdComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the cometd component. This is
@@ -183,4 +188,40 @@ public class CometdComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.extensions != null) {
+            answer.put("extensions", this.extensions);
+        }
+        if (this.securityPolicy != null) {
+            answer.put("securityPolicy", this.securityPolicy);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.sslKeyPassword != null) {
+            answer.put("sslKeyPassword", this.sslKeyPassword);
+        }
+        if (this.sslKeystore != null) {
+            answer.put("sslKeystore", this.sslKeystore);
+        }
+        if (this.sslPassword != null) {
+            answer.put("sslPassword", this.sslPassword);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
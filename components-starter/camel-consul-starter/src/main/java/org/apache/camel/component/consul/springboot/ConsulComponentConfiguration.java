@@ -18,13 +18,16 @@ package org.apache.camel.component.consul.springboot;
 
 import java.math.BigInteger;
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.orbitz.consul.Consul;
 import com.orbitz.consul.option.ConsistencyMode;
 import org.apache.camel.component.consul.ConsulComponent;
 import org.apache.camel.component.consul.ConsulConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -37,7 +40,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.consul")
 public class ConsulComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the consul component. This is
@@ -383,4 +388,88 @@ public class ConsulComponentConfiguration
     public void setRecursive(Boolean recursive) {
         this.recursive = recursive;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.connectTimeout != null) {
+            answer.put("connectTimeout", this.connectTimeout);
+        }
+        if (this.consulClient != null) {
+            answer.put("consulClient", this.consulClient);
+        }
+        if (this.key != null) {
+            answer.put("key", this.key);
+        }
+        if (this.pingInstance != null) {
+            answer.put("pingInstance", this.pingInstance);
+        }
+        if (this.readTimeout != null) {
+            answer.put("readTimeout", this.readTimeout);
+        }
+        if (this.tags != null) {
+            answer.put("tags", this.tags);
+        }
+        if (this.url != null) {
+            answer.put("url", this.url);
+        }
+        if (this.writeTimeout != null) {
+            answer.put("writeTimeout", this.writeTimeout);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.action != null) {
+            answer.put("action", this.action);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.valueAsString != null) {
+            answer.put("valueAsString", this.valueAsString);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.consistencyMode != null) {
+            answer.put("consistencyMode", this.consistencyMode);
+        }
+        if (this.datacenter != null) {
+            answer.put("datacenter", this.datacenter);
+        }
+        if (this.nearNode != null) {
+            answer.put("nearNode", this.nearNode);
+        }
+        if (this.nodeMeta != null) {
+            answer.put("nodeMeta", this.nodeMeta);
+        }
+        if (this.aclToken != null) {
+            answer.put("aclToken", this.aclToken);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        if (this.userName != null) {
+            answer.put("userName", this.userName);
+        }
+        if (this.blockSeconds != null) {
+            answer.put("blockSeconds", this.blockSeconds);
+        }
+        if (this.firstIndex != null) {
+            answer.put("firstIndex", this.firstIndex);
+        }
+        if (this.recursive != null) {
+            answer.put("recursive", this.recursive);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
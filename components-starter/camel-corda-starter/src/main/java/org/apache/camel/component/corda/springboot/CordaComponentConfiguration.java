@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.corda.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import net.corda.core.contracts.ContractState;
 import net.corda.core.flows.FlowLogic;
@@ -24,6 +26,7 @@ import net.corda.core.node.services.vault.QueryCriteria;
 import net.corda.core.node.services.vault.Sort;
 import org.apache.camel.component.corda.CordaConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -35,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.corda")
 public class CordaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the corda component. This is
@@ -251,4 +256,52 @@ public class CordaComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.pageSpecification != null) {
+            answer.put("pageSpecification", this.pageSpecification);
+        }
+        if (this.processSnapshot != null) {
+            answer.put("processSnapshot", this.processSnapshot);
+        }
+        if (this.sort != null) {
+            answer.put("sort", this.sort);
+        }
+        if (this.contractStateClass != null) {
+            answer.put("contractStateClass", this.contractStateClass);
+        }
+        if (this.flowLogicArguments != null) {
+            answer.put("flowLogicArguments", this.flowLogicArguments);
+        }
+        if (this.flowLogicClass != null) {
+            answer.put("flowLogicClass", this.flowLogicClass);
+        }
+        if (this.queryCriteria != null) {
+            answer.put("queryCriteria", this.queryCriteria);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.username != null) {
+            answer.put("username", this.username);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
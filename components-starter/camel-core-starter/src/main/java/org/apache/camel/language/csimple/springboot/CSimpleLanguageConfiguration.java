@@ -16,8 +16,11 @@
  */
 package org.apache.camel.language.csimple.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.LanguageConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.language.csimple")
 public class CSimpleLanguageConfiguration
         extends
-            LanguageConfigurationPropertiesCommon {
+            LanguageConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the csimple language. This is
@@ -49,4 +54,13 @@ public class CSimpleLanguageConfiguration
     public void setTrim(Boolean trim) {
         this.trim = trim;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.trim != null) {
+            answer.put("trim", this.trim);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -21,9 +21,12 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.cert.Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.crypto.DigitalSignatureConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.KeyStoreParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -37,7 +40,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.crypto")
 public class DigitalSignatureComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the crypto component. This is
@@ -338,4 +343,73 @@ public class DigitalSignatureComponentConfiguration
     public void setPassword(String password) {
         this.password = password;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.algorithm != null) {
+            answer.put("algorithm", this.algorithm);
+        }
+        if (this.alias != null) {
+            answer.put("alias", this.alias);
+        }
+        if (this.certificateName != null) {
+            answer.put("certificateName", this.certificateName);
+        }
+        if (this.keystore != null) {
+            answer.put("keystore", this.keystore);
+        }
+        if (this.keystoreName != null) {
+            answer.put("keystoreName", this.keystoreName);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.privateKey != null) {
+            answer.put("privateKey", this.privateKey);
+        }
+        if (this.privateKeyName != null) {
+            answer.put("privateKeyName", this.privateKeyName);
+        }
+        if (this.provider != null) {
+            answer.put("provider", this.provider);
+        }
+        if (this.publicKeyName != null) {
+            answer.put("publicKeyName", this.publicKeyName);
+        }
+        if (this.secureRandomName != null) {
+            answer.put("secureRandomName", this.secureRandomName);
+        }
+        if (this.signatureHeaderName != null) {
+            answer.put("signatureHeaderName", this.signatureHeaderName);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.bufferSize != null) {
+            answer.put("bufferSize", this.bufferSize);
+        }
+        if (this.certificate != null) {
+            answer.put("certificate", this.certificate);
+        }
+        if (this.clearHeaders != null) {
+            answer.put("clearHeaders", this.clearHeaders);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.keyStoreParameters != null) {
+            answer.put("keyStoreParameters", this.keyStoreParameters);
+        }
+        if (this.publicKey != null) {
+            answer.put("publicKey", this.publicKey);
+        }
+        if (this.secureRandom != null) {
+            answer.put("secureRandom", this.secureRandom);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.converter.crypto.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.crypto")
 public class CryptoDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the crypto data format. This is
@@ -150,4 +155,37 @@ public class CryptoDataFormatConfiguration
     public void setInline(Boolean inline) {
         this.inline = inline;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.algorithm != null) {
+            answer.put("algorithm", this.algorithm);
+        }
+        if (this.keyRef != null) {
+            answer.put("keyRef", this.keyRef);
+        }
+        if (this.cryptoProvider != null) {
+            answer.put("cryptoProvider", this.cryptoProvider);
+        }
+        if (this.initVectorRef != null) {
+            answer.put("initVectorRef", this.initVectorRef);
+        }
+        if (this.algorithmParameterRef != null) {
+            answer.put("algorithmParameterRef", this.algorithmParameterRef);
+        }
+        if (this.bufferSize != null) {
+            answer.put("bufferSize", this.bufferSize);
+        }
+        if (this.macAlgorithm != null) {
+            answer.put("macAlgorithm", this.macAlgorithm);
+        }
+        if (this.shouldAppendHMAC != null) {
+            answer.put("shouldAppendHMAC", this.shouldAppendHMAC);
+        }
+        if (this.inline != null) {
+            answer.put("inline", this.inline);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.converter.crypto.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.pgp")
 public class PGPDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the pgp data format. This is
@@ -244,4 +249,52 @@ public class PGPDataFormatConfiguration
             String signatureVerificationOption) {
         this.signatureVerificationOption = signatureVerificationOption;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.keyUserid != null) {
+            answer.put("keyUserid", this.keyUserid);
+        }
+        if (this.signatureKeyUserid != null) {
+            answer.put("signatureKeyUserid", this.signatureKeyUserid);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.signaturePassword != null) {
+            answer.put("signaturePassword", this.signaturePassword);
+        }
+        if (this.keyFileName != null) {
+            answer.put("keyFileName", this.keyFileName);
+        }
+        if (this.signatureKeyFileName != null) {
+            answer.put("signatureKeyFileName", this.signatureKeyFileName);
+        }
+        if (this.signatureKeyRing != null) {
+            answer.put("signatureKeyRing", this.signatureKeyRing);
+        }
+        if (this.armored != null) {
+            answer.put("armored", this.armored);
+        }
+        if (this.integrity != null) {
+            answer.put("integrity", this.integrity);
+        }
+        if (this.provider != null) {
+            answer.put("provider", this.provider);
+        }
+        if (this.algorithm != null) {
+            answer.put("algorithm", this.algorithm);
+        }
+        if (this.compressionAlgorithm != null) {
+            answer.put("compressionAlgorithm", this.compressionAlgorithm);
+        }
+        if (this.hashAlgorithm != null) {
+            answer.put("hashAlgorithm", this.hashAlgorithm);
+        }
+        if (this.signatureVerificationOption != null) {
+            answer.put("signatureVerificationOption", this.signatureVerificationOption);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.dataformat.csv.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.csv")
 public class CsvDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the csv data format. This is
@@ -395,4 +400,97 @@ public class CsvDataFormatConfiguration
     public void setCaptureHeaderRecord(Boolean captureHeaderRecord) {
         this.captureHeaderRecord = captureHeaderRecord;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.formatRef != null) {
+            answer.put("formatRef", this.formatRef);
+        }
+        if (this.formatName != null) {
+            answer.put("formatName", this.formatName);
+        }
+        if (this.commentMarkerDisabled != null) {
+            answer.put("commentMarkerDisabled", this.commentMarkerDisabled);
+        }
+        if (this.commentMarker != null) {
+            answer.put("commentMarker", this.commentMarker);
+        }
+        if (this.delimiter != null) {
+            answer.put("delimiter", this.delimiter);
+        }
+        if (this.escapeDisabled != null) {
+            answer.put("escapeDisabled", this.escapeDisabled);
+        }
+        if (this.escape != null) {
+            answer.put("escape", this.escape);
+        }
+        if (this.headerDisabled != null) {
+            answer.put("headerDisabled", this.headerDisabled);
+        }
+        if (this.header != null) {
+            answer.put("header", this.header);
+        }
+        if (this.allowMissingColumnNames != null) {
+            answer.put("allowMissingColumnNames", this.allowMissingColumnNames);
+        }
+        if (this.ignoreEmptyLines != null) {
+            answer.put("ignoreEmptyLines", this.ignoreEmptyLines);
+        }
+        if (this.ignoreSurroundingSpaces != null) {
+            answer.put("ignoreSurroundingSpaces", this.ignoreSurroundingSpaces);
+        }
+        if (this.nullStringDisabled != null) {
+            answer.put("nullStringDisabled", this.nullStringDisabled);
+        }
+        if (this.nullString != null) {
+            answer.put("nullString", this.nullString);
+        }
+        if (this.quoteDisabled != null) {
+            answer.put("quoteDisabled", this.quoteDisabled);
+        }
+        if (this.quote != null) {
+            answer.put("quote", this.quote);
+        }
+        if (this.recordSeparatorDisabled != null) {
+            answer.put("recordSeparatorDisabled", this.recordSeparatorDisabled);
+        }
+        if (this.recordSeparator != null) {
+            answer.put("recordSeparator", this.recordSeparator);
+        }
+        if (this.skipHeaderRecord != null) {
+            answer.put("skipHeaderRecord", this.skipHeaderRecord);
+        }
+        if (this.quoteMode != null) {
+            answer.put("quoteMode", this.quoteMode);
+        }
+        if (this.ignoreHeaderCase != null) {
+            answer.put("ignoreHeaderCase", this.ignoreHeaderCase);
+        }
+        if (this.trim != null) {
+            answer.put("trim", this.trim);
+        }
+        if (this.trailingDelimiter != null) {
+            answer.put("trailingDelimiter", this.trailingDelimiter);
+        }
+        if (this.marshallerFactoryRef != null) {
+            answer.put("marshallerFactoryRef", this.marshallerFactoryRef);
+        }
+        if (this.lazyLoad != null) {
+            answer.put("lazyLoad", this.lazyLoad);
+        }
+        if (this.useMaps != null) {
+            answer.put("useMaps", this.useMaps);
+        }
+        if (this.useOrderedMaps != null) {
+            answer.put("useOrderedMaps", this.useOrderedMaps);
+        }
+        if (this.recordConverterRef != null) {
+            answer.put("recordConverterRef", this.recordConverterRef);
+        }
+        if (this.captureHeaderRecord != null) {
+            answer.put("captureHeaderRecord", this.captureHeaderRecord);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.debezium.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.Db2ConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.debezium-db2")
 public class DebeziumDb2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the debezium-db2 component. This
@@ -688,4 +692,148 @@ public class DebeziumDb2ComponentConfiguration
     public void setTimePrecisionMode(String timePrecisionMode) {
         this.timePrecisionMode = timePrecisionMode;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.additionalProperties != null) {
+            answer.put("additionalProperties", this.additionalProperties);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.internalKeyConverter != null) {
+            answer.put("internalKeyConverter", this.internalKeyConverter);
+        }
+        if (this.internalValueConverter != null) {
+            answer.put("internalValueConverter", this.internalValueConverter);
+        }
+        if (this.offsetCommitPolicy != null) {
+            answer.put("offsetCommitPolicy", this.offsetCommitPolicy);
+        }
+        if (this.offsetCommitTimeoutMs != null) {
+            answer.put("offsetCommitTimeoutMs", this.offsetCommitTimeoutMs);
+        }
+        if (this.offsetFlushIntervalMs != null) {
+            answer.put("offsetFlushIntervalMs", this.offsetFlushIntervalMs);
+        }
+        if (this.offsetStorage != null) {
+            answer.put("offsetStorage", this.offsetStorage);
+        }
+        if (this.offsetStorageFileName != null) {
+            answer.put("offsetStorageFileName", this.offsetStorageFileName);
+        }
+        if (this.offsetStoragePartitions != null) {
+            answer.put("offsetStoragePartitions", this.offsetStoragePartitions);
+        }
+        if (this.offsetStorageReplicationFactor != null) {
+            answer.put("offsetStorageReplicationFactor", this.offsetStorageReplicationFactor);
+        }
+        if (this.offsetStorageTopic != null) {
+            answer.put("offsetStorageTopic", this.offsetStorageTopic);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.columnBlacklist != null) {
+            answer.put("columnBlacklist", this.columnBlacklist);
+        }
+        if (this.columnExcludeList != null) {
+            answer.put("columnExcludeList", this.columnExcludeList);
+        }
+        if (this.databaseDbname != null) {
+            answer.put("databaseDbname", this.databaseDbname);
+        }
+        if (this.databaseHistory != null) {
+            answer.put("databaseHistory", this.databaseHistory);
+        }
+        if (this.databaseHistoryFileFilename != null) {
+            answer.put("databaseHistoryFileFilename", this.databaseHistoryFileFilename);
+        }
+        if (this.databaseHistoryKafkaBootstrapServers != null) {
+            answer.put("databaseHistoryKafkaBootstrapServers", this.databaseHistoryKafkaBootstrapServers);
+        }
+        if (this.databaseHistoryKafkaRecoveryAttempts != null) {
+            answer.put("databaseHistoryKafkaRecoveryAttempts", this.databaseHistoryKafkaRecoveryAttempts);
+        }
+        if (this.databaseHistoryKafkaRecoveryPollIntervalMs != null) {
+            answer.put("databaseHistoryKafkaRecoveryPollIntervalMs", this.databaseHistoryKafkaRecoveryPollIntervalMs);
+        }
+        if (this.databaseHistoryKafkaTopic != null) {
+            answer.put("databaseHistoryKafkaTopic", this.databaseHistoryKafkaTopic);
+        }
+        if (this.databaseHostname != null) {
+            answer.put("databaseHostname", this.databaseHostname);
+        }
+        if (this.databasePassword != null) {
+            answer.put("databasePassword", this.databasePassword);
+        }
+        if (this.databasePort != null) {
+            answer.put("databasePort", this.databasePort);
+        }
+        if (this.databaseServerName != null) {
+            answer.put("databaseServerName", this.databaseServerName);
+        }
+        if (this.databaseUser != null) {
+            answer.put("databaseUser", this.databaseUser);
+        }
+        if (this.decimalHandlingMode != null) {
+            answer.put("decimalHandlingMode", this.decimalHandlingMode);
+        }
+        if (this.eventProcessingFailureHandlingMode != null) {
+            answer.put("eventProcessingFailureHandlingMode", this.eventProcessingFailureHandlingMode);
+        }
+        if (this.heartbeatIntervalMs != null) {
+            answer.put("heartbeatIntervalMs", this.heartbeatIntervalMs);
+        }
+        if (this.heartbeatTopicsPrefix != null) {
+            answer.put("heartbeatTopicsPrefix", this.heartbeatTopicsPrefix);
+        }
+        if (this.maxBatchSize != null) {
+            answer.put("maxBatchSize", this.maxBatchSize);
+        }
+        if (this.maxQueueSize != null) {
+            answer.put("maxQueueSize", this.maxQueueSize);
+        }
+        if (this.pollIntervalMs != null) {
+            answer.put("pollIntervalMs", this.pollIntervalMs);
+        }
+        if (this.snapshotDelayMs != null) {
+            answer.put("snapshotDelayMs", this.snapshotDelayMs);
+        }
+        if (this.snapshotFetchSize != null) {
+            answer.put("snapshotFetchSize", this.snapshotFetchSize);
+        }
+        if (this.snapshotMode != null) {
+            answer.put("snapshotMode", this.snapshotMode);
+        }
+        if (this.snapshotSelectStatementOverrides != null) {
+            answer.put("snapshotSelectStatementOverrides", this.snapshotSelectStatementOverrides);
+        }
+        if (this.sourceStructVersion != null) {
+            answer.put("sourceStructVersion", this.sourceStructVersion);
+        }
+        if (this.tableBlacklist != null) {
+            answer.put("tableBlacklist", this.tableBlacklist);
+        }
+        if (this.tableExcludeList != null) {
+            answer.put("tableExcludeList", this.tableExcludeList);
+        }
+        if (this.tableIgnoreBuiltin != null) {
+            answer.put("tableIgnoreBuiltin", this.tableIgnoreBuiltin);
+        }
+        if (this.tableIncludeList != null) {
+            answer.put("tableIncludeList", this.tableIncludeList);
+        }
+        if (this.tableWhitelist != null) {
+            answer.put("tableWhitelist", this.tableWhitelist);
+        }
+        if (this.timePrecisionMode != null) {
+            answer.put("timePrecisionMode", this.timePrecisionMode);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.debezium.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.MongoDbConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.debezium-mongodb")
 public class DebeziumMongodbComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the debezium-mongodb component.
@@ -903,4 +907,196 @@ public class DebeziumMongodbComponentConfiguration
     public void setTransactionTopic(String transactionTopic) {
         this.transactionTopic = transactionTopic;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.additionalProperties != null) {
+            answer.put("additionalProperties", this.additionalProperties);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.internalKeyConverter != null) {
+            answer.put("internalKeyConverter", this.internalKeyConverter);
+        }
+        if (this.internalValueConverter != null) {
+            answer.put("internalValueConverter", this.internalValueConverter);
+        }
+        if (this.offsetCommitPolicy != null) {
+            answer.put("offsetCommitPolicy", this.offsetCommitPolicy);
+        }
+        if (this.offsetCommitTimeoutMs != null) {
+            answer.put("offsetCommitTimeoutMs", this.offsetCommitTimeoutMs);
+        }
+        if (this.offsetFlushIntervalMs != null) {
+            answer.put("offsetFlushIntervalMs", this.offsetFlushIntervalMs);
+        }
+        if (this.offsetStorage != null) {
+            answer.put("offsetStorage", this.offsetStorage);
+        }
+        if (this.offsetStorageFileName != null) {
+            answer.put("offsetStorageFileName", this.offsetStorageFileName);
+        }
+        if (this.offsetStoragePartitions != null) {
+            answer.put("offsetStoragePartitions", this.offsetStoragePartitions);
+        }
+        if (this.offsetStorageReplicationFactor != null) {
+            answer.put("offsetStorageReplicationFactor", this.offsetStorageReplicationFactor);
+        }
+        if (this.offsetStorageTopic != null) {
+            answer.put("offsetStorageTopic", this.offsetStorageTopic);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.captureMode != null) {
+            answer.put("captureMode", this.captureMode);
+        }
+        if (this.collectionExcludeList != null) {
+            answer.put("collectionExcludeList", this.collectionExcludeList);
+        }
+        if (this.collectionIncludeList != null) {
+            answer.put("collectionIncludeList", this.collectionIncludeList);
+        }
+        if (this.connectBackoffInitialDelayMs != null) {
+            answer.put("connectBackoffInitialDelayMs", this.connectBackoffInitialDelayMs);
+        }
+        if (this.connectBackoffMaxDelayMs != null) {
+            answer.put("connectBackoffMaxDelayMs", this.connectBackoffMaxDelayMs);
+        }
+        if (this.connectMaxAttempts != null) {
+            answer.put("connectMaxAttempts", this.connectMaxAttempts);
+        }
+        if (this.converters != null) {
+            answer.put("converters", this.converters);
+        }
+        if (this.cursorMaxAwaitTimeMs != null) {
+            answer.put("cursorMaxAwaitTimeMs", this.cursorMaxAwaitTimeMs);
+        }
+        if (this.databaseExcludeList != null) {
+            answer.put("databaseExcludeList", this.databaseExcludeList);
+        }
+        if (this.databaseHistoryFileFilename != null) {
+            answer.put("databaseHistoryFileFilename", this.databaseHistoryFileFilename);
+        }
+        if (this.databaseIncludeList != null) {
+            answer.put("databaseIncludeList", this.databaseIncludeList);
+        }
+        if (this.eventProcessingFailureHandlingMode != null) {
+            answer.put("eventProcessingFailureHandlingMode", this.eventProcessingFailureHandlingMode);
+        }
+        if (this.fieldExcludeList != null) {
+            answer.put("fieldExcludeList", this.fieldExcludeList);
+        }
+        if (this.fieldRenames != null) {
+            answer.put("fieldRenames", this.fieldRenames);
+        }
+        if (this.heartbeatIntervalMs != null) {
+            answer.put("heartbeatIntervalMs", this.heartbeatIntervalMs);
+        }
+        if (this.heartbeatTopicsPrefix != null) {
+            answer.put("heartbeatTopicsPrefix", this.heartbeatTopicsPrefix);
+        }
+        if (this.maxBatchSize != null) {
+            answer.put("maxBatchSize", this.maxBatchSize);
+        }
+        if (this.maxQueueSize != null) {
+            answer.put("maxQueueSize", this.maxQueueSize);
+        }
+        if (this.maxQueueSizeInBytes != null) {
+            answer.put("maxQueueSizeInBytes", this.maxQueueSizeInBytes);
+        }
+        if (this.mongodbAuthsource != null) {
+            answer.put("mongodbAuthsource", this.mongodbAuthsource);
+        }
+        if (this.mongodbConnectTimeoutMs != null) {
+            answer.put("mongodbConnectTimeoutMs", this.mongodbConnectTimeoutMs);
+        }
+        if (this.mongodbHosts != null) {
+            answer.put("mongodbHosts", this.mongodbHosts);
+        }
+        if (this.mongodbMembersAutoDiscover != null) {
+            answer.put("mongodbMembersAutoDiscover", this.mongodbMembersAutoDiscover);
+        }
+        if (this.mongodbName != null) {
+            answer.put("mongodbName", this.mongodbName);
+        }
+        if (this.mongodbPassword != null) {
+            answer.put("mongodbPassword", this.mongodbPassword);
+        }
+        if (this.mongodbPollIntervalMs != null) {
+            answer.put("mongodbPollIntervalMs", this.mongodbPollIntervalMs);
+        }
+        if (this.mongodbServerSelectionTimeoutMs != null) {
+            answer.put("mongodbServerSelectionTimeoutMs", this.mongodbServerSelectionTimeoutMs);
+        }
+        if (this.mongodbSocketTimeoutMs != null) {
+            answer.put("mongodbSocketTimeoutMs", this.mongodbSocketTimeoutMs);
+        }
+        if (this.mongodbSslEnabled != null) {
+            answer.put("mongodbSslEnabled", this.mongodbSslEnabled);
+        }
+        if (this.mongodbSslInvalidHostnameAllowed != null) {
+            answer.put("mongodbSslInvalidHostnameAllowed", this.mongodbSslInvalidHostnameAllowed);
+        }
+        if (this.mongodbUser != null) {
+            answer.put("mongodbUser", this.mongodbUser);
+        }
+        if (this.pollIntervalMs != null) {
+            answer.put("pollIntervalMs", this.pollIntervalMs);
+        }
+        if (this.provideTransactionMetadata != null) {
+            answer.put("provideTransactionMetadata", this.provideTransactionMetadata);
+        }
+        if (this.queryFetchSize != null) {
+            answer.put("queryFetchSize", this.queryFetchSize);
+        }
+        if (this.retriableRestartConnectorWaitMs != null) {
+            answer.put("retriableRestartConnectorWaitMs", this.retriableRestartConnectorWaitMs);
+        }
+        if (this.sanitizeFieldNames != null) {
+            answer.put("sanitizeFieldNames", this.sanitizeFieldNames);
+        }
+        if (this.schemaNameAdjustmentMode != null) {
+            answer.put("schemaNameAdjustmentMode", this.schemaNameAdjustmentMode);
+        }
+        if (this.signalDataCollection != null) {
+            answer.put("signalDataCollection", this.signalDataCollection);
+        }
+        if (this.skippedOperations != null) {
+            answer.put("skippedOperations", this.skippedOperations);
+        }
+        if (this.snapshotCollectionFilterOverrides != null) {
+            answer.put("snapshotCollectionFilterOverrides", this.snapshotCollectionFilterOverrides);
+        }
+        if (this.snapshotDelayMs != null) {
+            answer.put("snapshotDelayMs", this.snapshotDelayMs);
+        }
+        if (this.snapshotFetchSize != null) {
+            answer.put("snapshotFetchSize", this.snapshotFetchSize);
+        }
+        if (this.snapshotIncludeCollectionList != null) {
+            answer.put("snapshotIncludeCollectionList", this.snapshotIncludeCollectionList);
+        }
+        if (this.snapshotMaxThreads != null) {
+            answer.put("snapshotMaxThreads", this.snapshotMaxThreads);
+        }
+        if (this.snapshotMode != null) {
+            answer.put("snapshotMode", this.snapshotMode);
+        }
+        if (this.sourceStructVersion != null) {
+            answer.put("sourceStructVersion", this.sourceStructVersion);
+        }
+        if (this.tombstonesOnDelete != null) {
+            answer.put("tombstonesOnDelete", this.tombstonesOnDelete);
+        }
+        if (this.transactionTopic != null) {
+            answer.put("transactionTopic", this.transactionTopic);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.debezium.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.MySqlConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.debezium-mysql")
 public class DebeziumMySqlComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the debezium-mysql component.
@@ -1514,4 +1518,310 @@ public class DebeziumMySqlComponentConfiguration
     public void setTransactionTopic(String transactionTopic) {
         this.transactionTopic = transactionTopic;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.additionalProperties != null) {
+            answer.put("additionalProperties", this.additionalProperties);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.internalKeyConverter != null) {
+            answer.put("internalKeyConverter", this.internalKeyConverter);
+        }
+        if (this.internalValueConverter != null) {
+            answer.put("internalValueConverter", this.internalValueConverter);
+        }
+        if (this.offsetCommitPolicy != null) {
+            answer.put("offsetCommitPolicy", this.offsetCommitPolicy);
+        }
+        if (this.offsetCommitTimeoutMs != null) {
+            answer.put("offsetCommitTimeoutMs", this.offsetCommitTimeoutMs);
+        }
+        if (this.offsetFlushIntervalMs != null) {
+            answer.put("offsetFlushIntervalMs", this.offsetFlushIntervalMs);
+        }
+        if (this.offsetStorage != null) {
+            answer.put("offsetStorage", this.offsetStorage);
+        }
+        if (this.offsetStorageFileName != null) {
+            answer.put("offsetStorageFileName", this.offsetStorageFileName);
+        }
+        if (this.offsetStoragePartitions != null) {
+            answer.put("offsetStoragePartitions", this.offsetStoragePartitions);
+        }
+        if (this.offsetStorageReplicationFactor != null) {
+            answer.put("offsetStorageReplicationFactor", this.offsetStorageReplicationFactor);
+        }
+        if (this.offsetStorageTopic != null) {
+            answer.put("offsetStorageTopic", this.offsetStorageTopic);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.bigintUnsignedHandlingMode != null) {
+            answer.put("bigintUnsignedHandlingMode", this.bigintUnsignedHandlingMode);
+        }
+        if (this.binaryHandlingMode != null) {
+            answer.put("binaryHandlingMode", this.binaryHandlingMode);
+        }
+        if (this.binlogBufferSize != null) {
+            answer.put("binlogBufferSize", this.binlogBufferSize);
+        }
+        if (this.columnBlacklist != null) {
+            answer.put("columnBlacklist", this.columnBlacklist);
+        }
+        if (this.columnExcludeList != null) {
+            answer.put("columnExcludeList", this.columnExcludeList);
+        }
+        if (this.columnIncludeList != null) {
+            answer.put("columnIncludeList", this.columnIncludeList);
+        }
+        if (this.columnPropagateSourceType != null) {
+            answer.put("columnPropagateSourceType", this.columnPropagateSourceType);
+        }
+        if (this.columnWhitelist != null) {
+            answer.put("columnWhitelist", this.columnWhitelist);
+        }
+        if (this.connectKeepAlive != null) {
+            answer.put("connectKeepAlive", this.connectKeepAlive);
+        }
+        if (this.connectKeepAliveIntervalMs != null) {
+            answer.put("connectKeepAliveIntervalMs", this.connectKeepAliveIntervalMs);
+        }
+        if (this.connectTimeoutMs != null) {
+            answer.put("connectTimeoutMs", this.connectTimeoutMs);
+        }
+        if (this.converters != null) {
+            answer.put("converters", this.converters);
+        }
+        if (this.databaseExcludeList != null) {
+            answer.put("databaseExcludeList", this.databaseExcludeList);
+        }
+        if (this.databaseHistory != null) {
+            answer.put("databaseHistory", this.databaseHistory);
+        }
+        if (this.databaseHistoryFileFilename != null) {
+            answer.put("databaseHistoryFileFilename", this.databaseHistoryFileFilename);
+        }
+        if (this.databaseHistoryKafkaBootstrapServers != null) {
+            answer.put("databaseHistoryKafkaBootstrapServers", this.databaseHistoryKafkaBootstrapServers);
+        }
+        if (this.databaseHistoryKafkaQueryTimeoutMs != null) {
+            answer.put("databaseHistoryKafkaQueryTimeoutMs", this.databaseHistoryKafkaQueryTimeoutMs);
+        }
+        if (this.databaseHistoryKafkaRecoveryAttempts != null) {
+            answer.put("databaseHistoryKafkaRecoveryAttempts", this.databaseHistoryKafkaRecoveryAttempts);
+        }
+        if (this.databaseHistoryKafkaRecoveryPollIntervalMs != null) {
+            answer.put("databaseHistoryKafkaRecoveryPollIntervalMs", this.databaseHistoryKafkaRecoveryPollIntervalMs);
+        }
+        if (this.databaseHistoryKafkaTopic != null) {
+            answer.put("databaseHistoryKafkaTopic", this.databaseHistoryKafkaTopic);
+        }
+        if (this.databaseHistorySkipUnparseableDdl != null) {
+            answer.put("databaseHistorySkipUnparseableDdl", this.databaseHistorySkipUnparseableDdl);
+        }
+        if (this.databaseHistoryStoreOnlyCapturedTablesDdl != null) {
+            answer.put("databaseHistoryStoreOnlyCapturedTablesDdl", this.databaseHistoryStoreOnlyCapturedTablesDdl);
+        }
+        if (this.databaseHistoryStoreOnlyMonitoredTablesDdl != null) {
+            answer.put("databaseHistoryStoreOnlyMonitoredTablesDdl", this.databaseHistoryStoreOnlyMonitoredTablesDdl);
+        }
+        if (this.databaseHostname != null) {
+            answer.put("databaseHostname", this.databaseHostname);
+        }
+        if (this.databaseIncludeList != null) {
+            answer.put("databaseIncludeList", this.databaseIncludeList);
+        }
+        if (this.databaseInitialStatements != null) {
+            answer.put("databaseInitialStatements", this.databaseInitialStatements);
+        }
+        if (this.databaseJdbcDriver != null) {
+            answer.put("databaseJdbcDriver", this.databaseJdbcDriver);
+        }
+        if (this.databasePassword != null) {
+            answer.put("databasePassword", this.databasePassword);
+        }
+        if (this.databasePort != null) {
+            answer.put("databasePort", this.databasePort);
+        }
+        if (this.databaseServerId != null) {
+            answer.put("databaseServerId", this.databaseServerId);
+        }
+        if (this.databaseServerIdOffset != null) {
+            answer.put("databaseServerIdOffset", this.databaseServerIdOffset);
+        }
+        if (this.databaseServerName != null) {
+            answer.put("databaseServerName", this.databaseServerName);
+        }
+        if (this.databaseSslKeystore != null) {
+            answer.put("databaseSslKeystore", this.databaseSslKeystore);
+        }
+        if (this.databaseSslKeystorePassword != null) {
+            answer.put("databaseSslKeystorePassword", this.databaseSslKeystorePassword);
+        }
+        if (this.databaseSslMode != null) {
+            answer.put("databaseSslMode", this.databaseSslMode);
+        }
+        if (this.databaseSslTruststore != null) {
+            answer.put("databaseSslTruststore", this.databaseSslTruststore);
+        }
+        if (this.databaseSslTruststorePassword != null) {
+            answer.put("databaseSslTruststorePassword", this.databaseSslTruststorePassword);
+        }
+        if (this.databaseUser != null) {
+            answer.put("databaseUser", this.databaseUser);
+        }
+        if (this.datatypePropagateSourceType != null) {
+            answer.put("datatypePropagateSourceType", this.datatypePropagateSourceType);
+        }
+        if (this.decimalHandlingMode != null) {
+            answer.put("decimalHandlingMode", this.decimalHandlingMode);
+        }
+        if (this.enableTimeAdjuster != null) {
+            answer.put("enableTimeAdjuster", this.enableTimeAdjuster);
+        }
+        if (this.eventDeserializationFailureHandlingMode != null) {
+            answer.put("eventDeserializationFailureHandlingMode", this.eventDeserializationFailureHandlingMode);
+        }
+        if (this.eventProcessingFailureHandlingMode != null) {
+            answer.put("eventProcessingFailureHandlingMode", this.eventProcessingFailureHandlingMode);
+        }
+        if (this.gtidSourceExcludes != null) {
+            answer.put("gtidSourceExcludes", this.gtidSourceExcludes);
+        }
+        if (this.gtidSourceFilterDmlEvents != null) {
+            answer.put("gtidSourceFilterDmlEvents", this.gtidSourceFilterDmlEvents);
+        }
+        if (this.gtidSourceIncludes != null) {
+            answer.put("gtidSourceIncludes", this.gtidSourceIncludes);
+        }
+        if (this.heartbeatActionQuery != null) {
+            answer.put("heartbeatActionQuery", this.heartbeatActionQuery);
+        }
+        if (this.heartbeatIntervalMs != null) {
+            answer.put("heartbeatIntervalMs", this.heartbeatIntervalMs);
+        }
+        if (this.heartbeatTopicsPrefix != null) {
+            answer.put("heartbeatTopicsPrefix", this.heartbeatTopicsPrefix);
+        }
+        if (this.includeQuery != null) {
+            answer.put("includeQuery", this.includeQuery);
+        }
+        if (this.includeSchemaChanges != null) {
+            answer.put("includeSchemaChanges", this.includeSchemaChanges);
+        }
+        if (this.includeSchemaComments != null) {
+            answer.put("includeSchemaComments", this.includeSchemaComments);
+        }
+        if (this.inconsistentSchemaHandlingMode != null) {
+            answer.put("inconsistentSchemaHandlingMode", this.inconsistentSchemaHandlingMode);
+        }
+        if (this.incrementalSnapshotAllowSchemaChanges != null) {
+            answer.put("incrementalSnapshotAllowSchemaChanges", this.incrementalSnapshotAllowSchemaChanges);
+        }
+        if (this.incrementalSnapshotChunkSize != null) {
+            answer.put("incrementalSnapshotChunkSize", this.incrementalSnapshotChunkSize);
+        }
+        if (this.maxBatchSize != null) {
+            answer.put("maxBatchSize", this.maxBatchSize);
+        }
+        if (this.maxQueueSize != null) {
+            answer.put("maxQueueSize", this.maxQueueSize);
+        }
+        if (this.maxQueueSizeInBytes != null) {
+            answer.put("maxQueueSizeInBytes", this.maxQueueSizeInBytes);
+        }
+        if (this.messageKeyColumns != null) {
+            answer.put("messageKeyColumns", this.messageKeyColumns);
+        }
+        if (this.minRowCountToStreamResults != null) {
+            answer.put("minRowCountToStreamResults", this.minRowCountToStreamResults);
+        }
+        if (this.pollIntervalMs != null) {
+            answer.put("pollIntervalMs", this.pollIntervalMs);
+        }
+        if (this.provideTransactionMetadata != null) {
+            answer.put("provideTransactionMetadata", this.provideTransactionMetadata);
+        }
+        if (this.queryFetchSize != null) {
+            answer.put("queryFetchSize", this.queryFetchSize);
+        }
+        if (this.retriableRestartConnectorWaitMs != null) {
+            answer.put("retriableRestartConnectorWaitMs", this.retriableRestartConnectorWaitMs);
+        }
+        if (this.sanitizeFieldNames != null) {
+            answer.put("sanitizeFieldNames", this.sanitizeFieldNames);
+        }
+        if (this.schemaNameAdjustmentMode != null) {
+            answer.put("schemaNameAdjustmentMode", this.schemaNameAdjustmentMode);
+        }
+        if (this.signalDataCollection != null) {
+            answer.put("signalDataCollection", this.signalDataCollection);
+        }
+        if (this.skippedOperations != null) {
+            answer.put("skippedOperations", this.skippedOperations);
+        }
+        if (this.snapshotDelayMs != null) {
+            answer.put("snapshotDelayMs", this.snapshotDelayMs);
+        }
+        if (this.snapshotFetchSize != null) {
+            answer.put("snapshotFetchSize", this.snapshotFetchSize);
+        }
+        if (this.snapshotIncludeCollectionList != null) {
+            answer.put("snapshotIncludeCollectionList", this.snapshotIncludeCollectionList);
+        }
+        if (this.snapshotLockingMode != null) {
+            answer.put("snapshotLockingMode", this.snapshotLockingMode);
+        }
+        if (this.snapshotLockTimeoutMs != null) {
+            answer.put("snapshotLockTimeoutMs", this.snapshotLockTimeoutMs);
+        }
+        if (this.snapshotMaxThreads != null) {
+            answer.put("snapshotMaxThreads", this.snapshotMaxThreads);
+        }
+        if (this.snapshotMode != null) {
+            answer.put("snapshotMode", this.snapshotMode);
+        }
+        if (this.snapshotNewTables != null) {
+            answer.put("snapshotNewTables", this.snapshotNewTables);
+        }
+        if (this.snapshotSelectStatementOverrides != null) {
+            answer.put("snapshotSelectStatementOverrides", this.snapshotSelectStatementOverrides);
+        }
+        if (this.sourceStructVersion != null) {
+            answer.put("sourceStructVersion", this.sourceStructVersion);
+        }
+        if (this.tableBlacklist != null) {
+            answer.put("tableBlacklist", this.tableBlacklist);
+        }
+        if (this.tableExcludeList != null) {
+            answer.put("tableExcludeList", this.tableExcludeList);
+        }
+        if (this.tableIgnoreBuiltin != null) {
+            answer.put("tableIgnoreBuiltin", this.tableIgnoreBuiltin);
+        }
+        if (this.tableIncludeList != null) {
+            answer.put("tableIncludeList", this.tableIncludeList);
+        }
+        if (this.tableWhitelist != null) {
+            answer.put("tableWhitelist", this.tableWhitelist);
+        }
+        if (this.timePrecisionMode != null) {
+            answer.put("timePrecisionMode", this.timePrecisionMode);
+        }
+        if (this.tombstonesOnDelete != null) {
+            answer.put("tombstonesOnDelete", this.tombstonesOnDelete);
+        }
+        if (this.transactionTopic != null) {
+            answer.put("transactionTopic", this.transactionTopic);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.debezium.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.PostgresConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.debezium-postgres")
 public class DebeziumPostgresComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the debezium-postgres component.
@@ -1389,4 +1393,292 @@ public class DebeziumPostgresComponentConfiguration
     public void setXminFetchIntervalMs(Long xminFetchIntervalMs) {
         this.xminFetchIntervalMs = xminFetchIntervalMs;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.additionalProperties != null) {
+            answer.put("additionalProperties", this.additionalProperties);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.internalKeyConverter != null) {
+            answer.put("internalKeyConverter", this.internalKeyConverter);
+        }
+        if (this.internalValueConverter != null) {
+            answer.put("internalValueConverter", this.internalValueConverter);
+        }
+        if (this.offsetCommitPolicy != null) {
+            answer.put("offsetCommitPolicy", this.offsetCommitPolicy);
+        }
+        if (this.offsetCommitTimeoutMs != null) {
+            answer.put("offsetCommitTimeoutMs", this.offsetCommitTimeoutMs);
+        }
+        if (this.offsetFlushIntervalMs != null) {
+            answer.put("offsetFlushIntervalMs", this.offsetFlushIntervalMs);
+        }
+        if (this.offsetStorage != null) {
+            answer.put("offsetStorage", this.offsetStorage);
+        }
+        if (this.offsetStorageFileName != null) {
+            answer.put("offsetStorageFileName", this.offsetStorageFileName);
+        }
+        if (this.offsetStoragePartitions != null) {
+            answer.put("offsetStoragePartitions", this.offsetStoragePartitions);
+        }
+        if (this.offsetStorageReplicationFactor != null) {
+            answer.put("offsetStorageReplicationFactor", this.offsetStorageReplicationFactor);
+        }
+        if (this.offsetStorageTopic != null) {
+            answer.put("offsetStorageTopic", this.offsetStorageTopic);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.binaryHandlingMode != null) {
+            answer.put("binaryHandlingMode", this.binaryHandlingMode);
+        }
+        if (this.columnBlacklist != null) {
+            answer.put("columnBlacklist", this.columnBlacklist);
+        }
+        if (this.columnExcludeList != null) {
+            answer.put("columnExcludeList", this.columnExcludeList);
+        }
+        if (this.columnIncludeList != null) {
+            answer.put("columnIncludeList", this.columnIncludeList);
+        }
+        if (this.columnPropagateSourceType != null) {
+            answer.put("columnPropagateSourceType", this.columnPropagateSourceType);
+        }
+        if (this.columnWhitelist != null) {
+            answer.put("columnWhitelist", this.columnWhitelist);
+        }
+        if (this.converters != null) {
+            answer.put("converters", this.converters);
+        }
+        if (this.databaseDbname != null) {
+            answer.put("databaseDbname", this.databaseDbname);
+        }
+        if (this.databaseHistoryFileFilename != null) {
+            answer.put("databaseHistoryFileFilename", this.databaseHistoryFileFilename);
+        }
+        if (this.databaseHostname != null) {
+            answer.put("databaseHostname", this.databaseHostname);
+        }
+        if (this.databaseInitialStatements != null) {
+            answer.put("databaseInitialStatements", this.databaseInitialStatements);
+        }
+        if (this.databasePassword != null) {
+            answer.put("databasePassword", this.databasePassword);
+        }
+        if (this.databasePort != null) {
+            answer.put("databasePort", this.databasePort);
+        }
+        if (this.databaseServerName != null) {
+            answer.put("databaseServerName", this.databaseServerName);
+        }
+        if (this.databaseSslcert != null) {
+            answer.put("databaseSslcert", this.databaseSslcert);
+        }
+        if (this.databaseSslfactory != null) {
+            answer.put("databaseSslfactory", this.databaseSslfactory);
+        }
+        if (this.databaseSslkey != null) {
+            answer.put("databaseSslkey", this.databaseSslkey);
+        }
+        if (this.databaseSslmode != null) {
+            answer.put("databaseSslmode", this.databaseSslmode);
+        }
+        if (this.databaseSslpassword != null) {
+            answer.put("databaseSslpassword", this.databaseSslpassword);
+        }
+        if (this.databaseSslrootcert != null) {
+            answer.put("databaseSslrootcert", this.databaseSslrootcert);
+        }
+        if (this.databaseTcpkeepalive != null) {
+            answer.put("databaseTcpkeepalive", this.databaseTcpkeepalive);
+        }
+        if (this.databaseUser != null) {
+            answer.put("databaseUser", this.databaseUser);
+        }
+        if (this.datatypePropagateSourceType != null) {
+            answer.put("datatypePropagateSourceType", this.datatypePropagateSourceType);
+        }
+        if (this.decimalHandlingMode != null) {
+            answer.put("decimalHandlingMode", this.decimalHandlingMode);
+        }
+        if (this.eventProcessingFailureHandlingMode != null) {
+            answer.put("eventProcessingFailureHandlingMode", this.eventProcessingFailureHandlingMode);
+        }
+        if (this.heartbeatActionQuery != null) {
+            answer.put("heartbeatActionQuery", this.heartbeatActionQuery);
+        }
+        if (this.heartbeatIntervalMs != null) {
+            answer.put("heartbeatIntervalMs", this.heartbeatIntervalMs);
+        }
+        if (this.heartbeatTopicsPrefix != null) {
+            answer.put("heartbeatTopicsPrefix", this.heartbeatTopicsPrefix);
+        }
+        if (this.hstoreHandlingMode != null) {
+            answer.put("hstoreHandlingMode", this.hstoreHandlingMode);
+        }
+        if (this.includeSchemaComments != null) {
+            answer.put("includeSchemaComments", this.includeSchemaComments);
+        }
+        if (this.includeUnknownDatatypes != null) {
+            answer.put("includeUnknownDatatypes", this.includeUnknownDatatypes);
+        }
+        if (this.incrementalSnapshotChunkSize != null) {
+            answer.put("incrementalSnapshotChunkSize", this.incrementalSnapshotChunkSize);
+        }
+        if (this.intervalHandlingMode != null) {
+            answer.put("intervalHandlingMode", this.intervalHandlingMode);
+        }
+        if (this.maxBatchSize != null) {
+            answer.put("maxBatchSize", this.maxBatchSize);
+        }
+        if (this.maxQueueSize != null) {
+            answer.put("maxQueueSize", this.maxQueueSize);
+        }
+        if (this.maxQueueSizeInBytes != null) {
+            answer.put("maxQueueSizeInBytes", this.maxQueueSizeInBytes);
+        }
+        if (this.messageKeyColumns != null) {
+            answer.put("messageKeyColumns", this.messageKeyColumns);
+        }
+        if (this.messagePrefixExcludeList != null) {
+            answer.put("messagePrefixExcludeList", this.messagePrefixExcludeList);
+        }
+        if (this.messagePrefixIncludeList != null) {
+            answer.put("messagePrefixIncludeList", this.messagePrefixIncludeList);
+        }
+        if (this.pluginName != null) {
+            answer.put("pluginName", this.pluginName);
+        }
+        if (this.pollIntervalMs != null) {
+            answer.put("pollIntervalMs", this.pollIntervalMs);
+        }
+        if (this.provideTransactionMetadata != null) {
+            answer.put("provideTransactionMetadata", this.provideTransactionMetadata);
+        }
+        if (this.publicationAutocreateMode != null) {
+            answer.put("publicationAutocreateMode", this.publicationAutocreateMode);
+        }
+        if (this.publicationName != null) {
+            answer.put("publicationName", this.publicationName);
+        }
+        if (this.queryFetchSize != null) {
+            answer.put("queryFetchSize", this.queryFetchSize);
+        }
+        if (this.retriableRestartConnectorWaitMs != null) {
+            answer.put("retriableRestartConnectorWaitMs", this.retriableRestartConnectorWaitMs);
+        }
+        if (this.sanitizeFieldNames != null) {
+            answer.put("sanitizeFieldNames", this.sanitizeFieldNames);
+        }
+        if (this.schemaBlacklist != null) {
+            answer.put("schemaBlacklist", this.schemaBlacklist);
+        }
+        if (this.schemaExcludeList != null) {
+            answer.put("schemaExcludeList", this.schemaExcludeList);
+        }
+        if (this.schemaIncludeList != null) {
+            answer.put("schemaIncludeList", this.schemaIncludeList);
+        }
+        if (this.schemaNameAdjustmentMode != null) {
+            answer.put("schemaNameAdjustmentMode", this.schemaNameAdjustmentMode);
+        }
+        if (this.schemaRefreshMode != null) {
+            answer.put("schemaRefreshMode", this.schemaRefreshMode);
+        }
+        if (this.schemaWhitelist != null) {
+            answer.put("schemaWhitelist", this.schemaWhitelist);
+        }
+        if (this.signalDataCollection != null) {
+            answer.put("signalDataCollection", this.signalDataCollection);
+        }
+        if (this.skippedOperations != null) {
+            answer.put("skippedOperations", this.skippedOperations);
+        }
+        if (this.slotDropOnStop != null) {
+            answer.put("slotDropOnStop", this.slotDropOnStop);
+        }
+        if (this.slotMaxRetries != null) {
+            answer.put("slotMaxRetries", this.slotMaxRetries);
+        }
+        if (this.slotName != null) {
+            answer.put("slotName", this.slotName);
+        }
+        if (this.slotRetryDelayMs != null) {
+            answer.put("slotRetryDelayMs", this.slotRetryDelayMs);
+        }
+        if (this.slotStreamParams != null) {
+            answer.put("slotStreamParams", this.slotStreamParams);
+        }
+        if (this.snapshotCustomClass != null) {
+            answer.put("snapshotCustomClass", this.snapshotCustomClass);
+        }
+        if (this.snapshotDelayMs != null) {
+            answer.put("snapshotDelayMs", this.snapshotDelayMs);
+        }
+        if (this.snapshotFetchSize != null) {
+            answer.put("snapshotFetchSize", this.snapshotFetchSize);
+        }
+        if (this.snapshotIncludeCollectionList != null) {
+            answer.put("snapshotIncludeCollectionList", this.snapshotIncludeCollectionList);
+        }
+        if (this.snapshotLockTimeoutMs != null) {
+            answer.put("snapshotLockTimeoutMs", this.snapshotLockTimeoutMs);
+        }
+        if (this.snapshotMaxThreads != null) {
+            answer.put("snapshotMaxThreads", this.snapshotMaxThreads);
+        }
+        if (this.snapshotMode != null) {
+            answer.put("snapshotMode", this.snapshotMode);
+        }
+        if (this.snapshotSelectStatementOverrides != null) {
+            answer.put("snapshotSelectStatementOverrides", this.snapshotSelectStatementOverrides);
+        }
+        if (this.sourceStructVersion != null) {
+            answer.put("sourceStructVersion", this.sourceStructVersion);
+        }
+        if (this.statusUpdateIntervalMs != null) {
+            answer.put("statusUpdateIntervalMs", this.statusUpdateIntervalMs);
+        }
+        if (this.tableBlacklist != null) {
+            answer.put("tableBlacklist", this.tableBlacklist);
+        }
+        if (this.tableExcludeList != null) {
+            answer.put("tableExcludeList", this.tableExcludeList);
+        }
+        if (this.tableIgnoreBuiltin != null) {
+            answer.put("tableIgnoreBuiltin", this.tableIgnoreBuiltin);
+        }
+        if (this.tableIncludeList != null) {
+            answer.put("tableIncludeList", this.tableIncludeList);
+        }
+        if (this.tableWhitelist != null) {
+            answer.put("tableWhitelist", this.tableWhitelist);
+        }
+        if (this.timePrecisionMode != null) {
+            answer.put("timePrecisionMode", this.timePrecisionMode);
+        }
+        if (this.tombstonesOnDelete != null) {
+            answer.put("tombstonesOnDelete", this.tombstonesOnDelete);
+        }
+        if (this.transactionTopic != null) {
+            answer.put("transactionTopic", this.transactionTopic);
+        }
+        if (this.unavailableValuePlaceholder != null) {
+            answer.put("unavailableValuePlaceholder", this.unavailableValuePlaceholder);
+        }
+        if (this.xminFetchIntervalMs != null) {
+            answer.put("xminFetchIntervalMs", this.xminFetchIntervalMs);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.disruptor.vm.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.disruptor.DisruptorProducerType;
 import org.apache.camel.component.disruptor.DisruptorWaitStrategy;
 import org.apache.camel.component.disruptor.vm.DisruptorVmComponent;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.disruptor-vm")
 public class DisruptorVmComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the disruptor-vm component. This
@@ -167,4 +172,37 @@ public class DisruptorVmComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bufferSize != null) {
+            answer.put("bufferSize", this.bufferSize);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.defaultConcurrentConsumers != null) {
+            answer.put("defaultConcurrentConsumers", this.defaultConcurrentConsumers);
+        }
+        if (this.defaultMultipleConsumers != null) {
+            answer.put("defaultMultipleConsumers", this.defaultMultipleConsumers);
+        }
+        if (this.defaultWaitStrategy != null) {
+            answer.put("defaultWaitStrategy", this.defaultWaitStrategy);
+        }
+        if (this.defaultBlockWhenFull != null) {
+            answer.put("defaultBlockWhenFull", this.defaultBlockWhenFull);
+        }
+        if (this.defaultProducerType != null) {
+            answer.put("defaultProducerType", this.defaultProducerType);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
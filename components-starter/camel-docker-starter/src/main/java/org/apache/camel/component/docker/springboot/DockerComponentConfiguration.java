@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.docker.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.docker.DockerConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.docker")
 public class DockerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the docker component. This is
@@ -309,4 +313,73 @@ public class DockerComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.email != null) {
+            answer.put("email", this.email);
+        }
+        if (this.host != null) {
+            answer.put("host", this.host);
+        }
+        if (this.port != null) {
+            answer.put("port", this.port);
+        }
+        if (this.requestTimeout != null) {
+            answer.put("requestTimeout", this.requestTimeout);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.cmdExecFactory != null) {
+            answer.put("cmdExecFactory", this.cmdExecFactory);
+        }
+        if (this.followRedirectFilter != null) {
+            answer.put("followRedirectFilter", this.followRedirectFilter);
+        }
+        if (this.loggingFilter != null) {
+            answer.put("loggingFilter", this.loggingFilter);
+        }
+        if (this.maxPerRouteConnections != null) {
+            answer.put("maxPerRouteConnections", this.maxPerRouteConnections);
+        }
+        if (this.maxTotalConnections != null) {
+            answer.put("maxTotalConnections", this.maxTotalConnections);
+        }
+        if (this.parameters != null) {
+            answer.put("parameters", this.parameters);
+        }
+        if (this.serverAddress != null) {
+            answer.put("serverAddress", this.serverAddress);
+        }
+        if (this.socket != null) {
+            answer.put("socket", this.socket);
+        }
+        if (this.certPath != null) {
+            answer.put("certPath", this.certPath);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.secure != null) {
+            answer.put("secure", this.secure);
+        }
+        if (this.tlsVerify != null) {
+            answer.put("tlsVerify", this.tlsVerify);
+        }
+        if (this.username != null) {
+            answer.put("username", this.username);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
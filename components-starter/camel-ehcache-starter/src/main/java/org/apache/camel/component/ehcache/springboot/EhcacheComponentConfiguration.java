@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.ehcache.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.ehcache.EhcacheComponent;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.ehcache.CacheManager;
 import org.ehcache.config.CacheConfiguration;
 import org.ehcache.config.Configuration;
@@ -36,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.ehcache")
 public class EhcacheComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the ehcache component. This is
@@ -261,4 +265,58 @@ public class EhcacheComponentConfiguration
     public void setValueType(String valueType) {
         this.valueType = valueType;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.cacheManager != null) {
+            answer.put("cacheManager", this.cacheManager);
+        }
+        if (this.cacheManagerConfiguration != null) {
+            answer.put("cacheManagerConfiguration", this.cacheManagerConfiguration);
+        }
+        if (this.configurationUri != null) {
+            answer.put("configurationUri", this.configurationUri);
+        }
+        if (this.createCacheIfNotExist != null) {
+            answer.put("createCacheIfNotExist", this.createCacheIfNotExist);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.eventFiring != null) {
+            answer.put("eventFiring", this.eventFiring);
+        }
+        if (this.eventOrdering != null) {
+            answer.put("eventOrdering", this.eventOrdering);
+        }
+        if (this.eventTypes != null) {
+            answer.put("eventTypes", this.eventTypes);
+        }
+        if (this.action != null) {
+            answer.put("action", this.action);
+        }
+        if (this.key != null) {
+            answer.put("key", this.key);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.configurations != null) {
+            answer.put("configurations", this.configurations);
+        }
+        if (this.keyType != null) {
+            answer.put("keyType", this.keyType);
+        }
+        if (this.valueType != null) {
+            answer.put("valueType", this.valueType);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
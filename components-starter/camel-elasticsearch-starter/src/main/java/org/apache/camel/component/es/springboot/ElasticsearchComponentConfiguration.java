@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.es.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.elasticsearch.client.RestClient;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.elasticsearch")
 public class ElasticsearchComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the elasticsearch component. This
@@ -227,4 +232,52 @@ public class ElasticsearchComponentConfiguration
     public void setUser(String user) {
         this.user = user;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.connectionTimeout != null) {
+            answer.put("connectionTimeout", this.connectionTimeout);
+        }
+        if (this.hostAddresses != null) {
+            answer.put("hostAddresses", this.hostAddresses);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.maxRetryTimeout != null) {
+            answer.put("maxRetryTimeout", this.maxRetryTimeout);
+        }
+        if (this.socketTimeout != null) {
+            answer.put("socketTimeout", this.socketTimeout);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.client != null) {
+            answer.put("client", this.client);
+        }
+        if (this.enableSniffer != null) {
+            answer.put("enableSniffer", this.enableSniffer);
+        }
+        if (this.sniffAfterFailureDelay != null) {
+            answer.put("sniffAfterFailureDelay", this.sniffAfterFailureDelay);
+        }
+        if (this.snifferInterval != null) {
+            answer.put("snifferInterval", this.snifferInterval);
+        }
+        if (this.certificatePath != null) {
+            answer.put("certificatePath", this.certificatePath);
+        }
+        if (this.enableSSL != null) {
+            answer.put("enableSSL", this.enableSSL);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.user != null) {
+            answer.put("user", this.user);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
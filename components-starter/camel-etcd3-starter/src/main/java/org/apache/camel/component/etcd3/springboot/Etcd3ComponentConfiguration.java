@@ -17,11 +17,13 @@
 package org.apache.camel.component.etcd3.springboot;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import io.netty.handler.ssl.SslContext;
 import org.apache.camel.component.etcd3.Etcd3Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.etcd3")
 public class Etcd3ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the etcd3 component. This is
@@ -364,4 +368,85 @@ public class Etcd3ComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.endpoints != null) {
+            answer.put("endpoints", this.endpoints);
+        }
+        if (this.keyCharset != null) {
+            answer.put("keyCharset", this.keyCharset);
+        }
+        if (this.namespace != null) {
+            answer.put("namespace", this.namespace);
+        }
+        if (this.prefix != null) {
+            answer.put("prefix", this.prefix);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.fromIndex != null) {
+            answer.put("fromIndex", this.fromIndex);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.valueCharset != null) {
+            answer.put("valueCharset", this.valueCharset);
+        }
+        if (this.authHeaders != null) {
+            answer.put("authHeaders", this.authHeaders);
+        }
+        if (this.authority != null) {
+            answer.put("authority", this.authority);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.connectionTimeout != null) {
+            answer.put("connectionTimeout", this.connectionTimeout);
+        }
+        if (this.headers != null) {
+            answer.put("headers", this.headers);
+        }
+        if (this.keepAliveTime != null) {
+            answer.put("keepAliveTime", this.keepAliveTime);
+        }
+        if (this.keepAliveTimeout != null) {
+            answer.put("keepAliveTimeout", this.keepAliveTimeout);
+        }
+        if (this.loadBalancerPolicy != null) {
+            answer.put("loadBalancerPolicy", this.loadBalancerPolicy);
+        }
+        if (this.maxInboundMessageSize != null) {
+            answer.put("maxInboundMessageSize", this.maxInboundMessageSize);
+        }
+        if (this.retryDelay != null) {
+            answer.put("retryDelay", this.retryDelay);
+        }
+        if (this.retryMaxDelay != null) {
+            answer.put("retryMaxDelay", this.retryMaxDelay);
+        }
+        if (this.retryMaxDuration != null) {
+            answer.put("retryMaxDuration", this.retryMaxDuration);
+        }
+        if (this.servicePath != null) {
+            answer.put("servicePath", this.servicePath);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.sslContext != null) {
+            answer.put("sslContext", this.sslContext);
+        }
+        if (this.userName != null) {
+            answer.put("userName", this.userName);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
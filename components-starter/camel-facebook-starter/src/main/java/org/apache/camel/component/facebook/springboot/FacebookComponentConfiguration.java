@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.facebook.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.facebook.config.FacebookConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.facebook")
 public class FacebookComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the facebook component. This is
@@ -429,4 +434,103 @@ public class FacebookComponentConfiguration
     public void setOAuthPermissions(String oAuthPermissions) {
         this.oAuthPermissions = oAuthPermissions;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.clientURL != null) {
+            answer.put("clientURL", this.clientURL);
+        }
+        if (this.clientVersion != null) {
+            answer.put("clientVersion", this.clientVersion);
+        }
+        if (this.debugEnabled != null) {
+            answer.put("debugEnabled", this.debugEnabled);
+        }
+        if (this.gzipEnabled != null) {
+            answer.put("gzipEnabled", this.gzipEnabled);
+        }
+        if (this.httpConnectionTimeout != null) {
+            answer.put("httpConnectionTimeout", this.httpConnectionTimeout);
+        }
+        if (this.httpDefaultMaxPerRoute != null) {
+            answer.put("httpDefaultMaxPerRoute", this.httpDefaultMaxPerRoute);
+        }
+        if (this.httpMaxTotalConnections != null) {
+            answer.put("httpMaxTotalConnections", this.httpMaxTotalConnections);
+        }
+        if (this.httpReadTimeout != null) {
+            answer.put("httpReadTimeout", this.httpReadTimeout);
+        }
+        if (this.httpRetryCount != null) {
+            answer.put("httpRetryCount", this.httpRetryCount);
+        }
+        if (this.httpRetryIntervalSeconds != null) {
+            answer.put("httpRetryIntervalSeconds", this.httpRetryIntervalSeconds);
+        }
+        if (this.httpStreamingReadTimeout != null) {
+            answer.put("httpStreamingReadTimeout", this.httpStreamingReadTimeout);
+        }
+        if (this.jsonStoreEnabled != null) {
+            answer.put("jsonStoreEnabled", this.jsonStoreEnabled);
+        }
+        if (this.mbeanEnabled != null) {
+            answer.put("mbeanEnabled", this.mbeanEnabled);
+        }
+        if (this.prettyDebugEnabled != null) {
+            answer.put("prettyDebugEnabled", this.prettyDebugEnabled);
+        }
+        if (this.restBaseURL != null) {
+            answer.put("restBaseURL", this.restBaseURL);
+        }
+        if (this.useSSL != null) {
+            answer.put("useSSL", this.useSSL);
+        }
+        if (this.videoBaseURL != null) {
+            answer.put("videoBaseURL", this.videoBaseURL);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.httpProxyHost != null) {
+            answer.put("httpProxyHost", this.httpProxyHost);
+        }
+        if (this.httpProxyPassword != null) {
+            answer.put("httpProxyPassword", this.httpProxyPassword);
+        }
+        if (this.httpProxyPort != null) {
+            answer.put("httpProxyPort", this.httpProxyPort);
+        }
+        if (this.httpProxyUser != null) {
+            answer.put("httpProxyUser", this.httpProxyUser);
+        }
+        if (this.oAuthAccessToken != null) {
+            answer.put("oAuthAccessToken", this.oAuthAccessToken);
+        }
+        if (this.oAuthAccessTokenURL != null) {
+            answer.put("oAuthAccessTokenURL", this.oAuthAccessTokenURL);
+        }
+        if (this.oAuthAppId != null) {
+            answer.put("oAuthAppId", this.oAuthAppId);
+        }
+        if (this.oAuthAppSecret != null) {
+            answer.put("oAuthAppSecret", this.oAuthAppSecret);
+        }
+        if (this.oAuthAuthorizationURL != null) {
+            answer.put("oAuthAuthorizationURL", this.oAuthAuthorizationURL);
+        }
+        if (this.oAuthPermissions != null) {
+            answer.put("oAuthPermissions", this.oAuthPermissions);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.fastjson.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.fastjson")
 public class FastjsonDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the fastjson data format. This is
@@ -63,4 +68,16 @@ public class FastjsonDataFormatConfiguration
     public void setContentTypeHeader(Boolean contentTypeHeader) {
         this.contentTypeHeader = contentTypeHeader;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.unmarshalType != null) {
+            answer.put("unmarshalType", this.unmarshalType);
+        }
+        if (this.contentTypeHeader != null) {
+            answer.put("contentTypeHeader", this.contentTypeHeader);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
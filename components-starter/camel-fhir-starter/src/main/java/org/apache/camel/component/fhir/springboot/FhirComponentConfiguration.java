@@ -16,12 +16,15 @@
  */
 package org.apache.camel.component.fhir.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import ca.uhn.fhir.context.FhirContext;
 import ca.uhn.fhir.rest.client.api.IGenericClient;
 import ca.uhn.fhir.rest.client.api.IRestfulClientFactory;
 import org.apache.camel.component.fhir.FhirConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +37,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.fhir")
 public class FhirComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the fhir component. This is
@@ -388,4 +393,91 @@ public class FhirComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.encoding != null) {
+            answer.put("encoding", this.encoding);
+        }
+        if (this.fhirVersion != null) {
+            answer.put("fhirVersion", this.fhirVersion);
+        }
+        if (this.log != null) {
+            answer.put("log", this.log);
+        }
+        if (this.prettyPrint != null) {
+            answer.put("prettyPrint", this.prettyPrint);
+        }
+        if (this.serverUrl != null) {
+            answer.put("serverUrl", this.serverUrl);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.client != null) {
+            answer.put("client", this.client);
+        }
+        if (this.clientFactory != null) {
+            answer.put("clientFactory", this.clientFactory);
+        }
+        if (this.compress != null) {
+            answer.put("compress", this.compress);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.connectionTimeout != null) {
+            answer.put("connectionTimeout", this.connectionTimeout);
+        }
+        if (this.deferModelScanning != null) {
+            answer.put("deferModelScanning", this.deferModelScanning);
+        }
+        if (this.fhirContext != null) {
+            answer.put("fhirContext", this.fhirContext);
+        }
+        if (this.forceConformanceCheck != null) {
+            answer.put("forceConformanceCheck", this.forceConformanceCheck);
+        }
+        if (this.sessionCookie != null) {
+            answer.put("sessionCookie", this.sessionCookie);
+        }
+        if (this.socketTimeout != null) {
+            answer.put("socketTimeout", this.socketTimeout);
+        }
+        if (this.summary != null) {
+            answer.put("summary", this.summary);
+        }
+        if (this.validationMode != null) {
+            answer.put("validationMode", this.validationMode);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPassword != null) {
+            answer.put("proxyPassword", this.proxyPassword);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.proxyUser != null) {
+            answer.put("proxyUser", this.proxyUser);
+        }
+        if (this.accessToken != null) {
+            answer.put("accessToken", this.accessToken);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.username != null) {
+            answer.put("username", this.username);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.fhir.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.fhir-xml")
 public class FhirXmlDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the fhirXml data format. This is
@@ -249,4 +254,49 @@ public class FhirXmlDataFormatConfiguration
     public void setContentTypeHeader(Boolean contentTypeHeader) {
         this.contentTypeHeader = contentTypeHeader;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.fhirVersion != null) {
+            answer.put("fhirVersion", this.fhirVersion);
+        }
+        if (this.prettyPrint != null) {
+            answer.put("prettyPrint", this.prettyPrint);
+        }
+        if (this.serverBaseUrl != null) {
+            answer.put("serverBaseUrl", this.serverBaseUrl);
+        }
+        if (this.omitResourceId != null) {
+            answer.put("omitResourceId", this.omitResourceId);
+        }
+        if (this.encodeElementsAppliesToChildResourcesOnly != null) {
+            answer.put("encodeElementsAppliesToChildResourcesOnly", this.encodeElementsAppliesToChildResourcesOnly);
+        }
+        if (this.encodeElements != null) {
+            answer.put("encodeElements", this.encodeElements);
+        }
+        if (this.dontEncodeElements != null) {
+            answer.put("dontEncodeElements", this.dontEncodeElements);
+        }
+        if (this.stripVersionsFromReferences != null) {
+            answer.put("stripVersionsFromReferences", this.stripVersionsFromReferences);
+        }
+        if (this.overrideResourceIdWithBundleEntryFullUrl != null) {
+            answer.put("overrideResourceIdWithBundleEntryFullUrl", this.overrideResourceIdWithBundleEntryFullUrl);
+        }
+        if (this.summaryMode != null) {
+            answer.put("summaryMode", this.summaryMode);
+        }
+        if (this.suppressNarratives != null) {
+            answer.put("suppressNarratives", this.suppressNarratives);
+        }
+        if (this.dontStripVersionsFromReferencesAtPaths != null) {
+            answer.put("dontStripVersionsFromReferencesAtPaths", this.dontStripVersionsFromReferencesAtPaths);
+        }
+        if (this.contentTypeHeader != null) {
+            answer.put("contentTypeHeader", this.contentTypeHeader);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
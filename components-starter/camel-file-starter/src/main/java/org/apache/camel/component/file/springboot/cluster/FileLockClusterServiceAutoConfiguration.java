@@ -16,17 +16,21 @@
  */
 package org.apache.camel.component.file.springboot.cluster;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.component.file.cluster.FileLockClusterService;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.cluster.ClusterMembership;
 import org.apache.camel.spring.boot.cluster.ClusteredRouteControllerAutoConfiguration;
+import org.apache.camel.spring.boot.cluster.FileClusterMembership;
 import org.apache.camel.spring.boot.cluster.TimePatternConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -63,4 +67,23 @@ public class FileLockClusterServiceAutoConfiguration {
 
         return service;
     }
+
+    /*
+     * The views of the file lock cluster service do not expose the members, so they are published as heartbeat files
+     * next to the locks, for the sharded routes to be shared among the members.
+     */
+    @Bean(name = "file-cluster-membership")
+    @ConditionalOnMissingBean(ClusterMembership.class)
+    public ClusterMembership fileClusterMembership() {
+        FileClusterMembership membership = new FileClusterMembership();
+
+        Optional.ofNullable(configuration.getRoot())
+            .ifPresent(membership::setRoot);
+        Optional.ofNullable(configuration.getAcquireLockInterval())
+            .map(TimePatternConverter::toMilliSeconds)
+            .map(Duration::ofMillis)
+            .ifPresent(membership::setHeartbeatInterval);
+
+        return membership;
+    }
 }
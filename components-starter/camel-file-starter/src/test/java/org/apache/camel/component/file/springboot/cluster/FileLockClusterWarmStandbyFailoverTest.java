@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.springboot.cluster;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.cluster.WarmStandbyRoutePolicy;
+import org.apache.camel.spring.boot.cluster.WarmStandbyRoutePolicyFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Runs two members of a cluster sharing the lock directory, each in its own application context, and checks that the
+ * warm standby route of the second member takes over when the leader goes away.
+ */
+public class FileLockClusterWarmStandbyFailoverTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    public void testStandbyTakesOver() throws Exception {
+        try (ConfigurableApplicationContext leader = start("node-a")) {
+            CamelContext leaderContext = leader.getBean(CamelContext.class);
+            await().atMost(10, TimeUnit.SECONDS).untilAsserted(
+                () -> assertEquals(ServiceStatus.Started, leaderContext.getRouteController().getRouteStatus("warm-route")));
+
+            try (ConfigurableApplicationContext standby = start("node-b")) {
+                CamelContext standbyContext = standby.getBean(CamelContext.class);
+                WarmStandbyRoutePolicy policy = standbyContext.getRoute("warm-route").getRoutePolicyList().stream()
+                    .filter(WarmStandbyRoutePolicy.class::isInstance)
+                    .map(WarmStandbyRoutePolicy.class::cast)
+                    .findFirst()
+                    .orElseThrow();
+
+                CompletableFuture<Duration> failover = new CompletableFuture<>();
+                standby.getBean(WarmStandbyRoutePolicyFactory.class)
+                    .addFailoverListener((route, failoverTime) -> failover.complete(failoverTime));
+
+                // give the standby a few lock attempts: the route must stay on standby while the leader is alive
+                Thread.sleep(500);
+                assertFalse(policy.isLeader());
+                assertFalse(standbyContext.getRouteController().getRouteStatus("warm-route").isStarted());
+                assertFalse(failover.isDone());
+
+                long leaderClosedAt = System.nanoTime();
+                leader.close();
+
+                await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+                    assertTrue(policy.isLeader());
+                    assertEquals(ServiceStatus.Started, standbyContext.getRouteController().getRouteStatus("warm-route"));
+                });
+
+                Duration failoverTime = failover.get(10, TimeUnit.SECONDS);
+                Duration takeoverTime = Duration.ofNanos(System.nanoTime() - leaderClosedAt);
+
+                assertNotNull(policy.getFailoverTime());
+                assertEquals(failoverTime, policy.getFailoverTime());
+                assertTrue(failoverTime.compareTo(takeoverTime) <= 0);
+
+                System.out.printf("Warm standby failover: first exchange %d ms after the leadership acquisition, %d ms after the leader shut down%n",
+                    failoverTime.toMillis(), takeoverTime.toMillis());
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(String id) {
+        return new SpringApplicationBuilder(TestConfiguration.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "camel.springboot.name=" + id,
+                "camel.springboot.routes-include-pattern=false",
+                "camel.cluster.file.enabled=true",
+                "camel.cluster.file.id=" + id,
+                "camel.cluster.file.root=" + root,
+                "camel.cluster.file.acquire-lock-delay=10",
+                "camel.cluster.file.acquire-lock-interval=100",
+                "camel.clustered.controller.enabled=true",
+                "camel.clustered.controller.namespace=my-ns",
+                "camel.clustered.controller.routes.warm-route.warm-standby=true")
+            .run();
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    @EnableAutoConfiguration
+    public static class TestConfiguration {
+        @Bean
+        public RouteBuilder myRouteBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("timer:warm?delay=10&period=50").routeId("warm-route")
+                        .setBody(constant("warm"));
+                }
+            };
+        }
+    }
+}
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.file.watch.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import io.methvin.watcher.hashing.FileHasher;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.file-watch")
 public class FileWatchComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the file-watch component. This is
@@ -143,4 +148,31 @@ public class FileWatchComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.concurrentConsumers != null) {
+            answer.put("concurrentConsumers", this.concurrentConsumers);
+        }
+        if (this.fileHasher != null) {
+            answer.put("fileHasher", this.fileHasher);
+        }
+        if (this.pollThreads != null) {
+            answer.put("pollThreads", this.pollThreads);
+        }
+        if (this.queueSize != null) {
+            answer.put("queueSize", this.queueSize);
+        }
+        if (this.useFileHashing != null) {
+            answer.put("useFileHashing", this.useFileHashing);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
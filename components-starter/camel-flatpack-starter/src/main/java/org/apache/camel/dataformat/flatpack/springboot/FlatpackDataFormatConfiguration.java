@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.flatpack.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.flatpack")
 public class FlatpackDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the flatpack data format. This is
@@ -138,4 +143,34 @@ public class FlatpackDataFormatConfiguration
     public void setParserFactoryRef(String parserFactoryRef) {
         this.parserFactoryRef = parserFactoryRef;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.definition != null) {
+            answer.put("definition", this.definition);
+        }
+        if (this.fixed != null) {
+            answer.put("fixed", this.fixed);
+        }
+        if (this.delimiter != null) {
+            answer.put("delimiter", this.delimiter);
+        }
+        if (this.ignoreFirstRecord != null) {
+            answer.put("ignoreFirstRecord", this.ignoreFirstRecord);
+        }
+        if (this.allowShortLines != null) {
+            answer.put("allowShortLines", this.allowShortLines);
+        }
+        if (this.ignoreExtraColumns != null) {
+            answer.put("ignoreExtraColumns", this.ignoreExtraColumns);
+        }
+        if (this.textQualifier != null) {
+            answer.put("textQualifier", this.textQualifier);
+        }
+        if (this.parserFactoryRef != null) {
+            answer.put("parserFactoryRef", this.parserFactoryRef);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.freemarker.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import freemarker.template.Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.freemarker")
 public class FreemarkerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the freemarker component. This is
@@ -129,4 +134,28 @@ public class FreemarkerComponentConfiguration
     public void setConfiguration(Configuration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.allowContextMapAll != null) {
+            answer.put("allowContextMapAll", this.allowContextMapAll);
+        }
+        if (this.allowTemplateFromHeader != null) {
+            answer.put("allowTemplateFromHeader", this.allowTemplateFromHeader);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.localizedLookup != null) {
+            answer.put("localizedLookup", this.localizedLookup);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
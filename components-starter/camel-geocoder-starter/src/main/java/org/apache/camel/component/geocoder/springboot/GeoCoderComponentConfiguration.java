@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.geocoder.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.google.maps.GeoApiContext;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.geocoder")
 public class GeoCoderComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the geocoder component. This is
@@ -87,4 +92,19 @@ public class GeoCoderComponentConfiguration
     public void setGeoApiContext(GeoApiContext geoApiContext) {
         this.geoApiContext = geoApiContext;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.geoApiContext != null) {
+            answer.put("geoApiContext", this.geoApiContext);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
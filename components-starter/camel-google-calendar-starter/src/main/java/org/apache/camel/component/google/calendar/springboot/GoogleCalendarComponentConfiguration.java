@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.google.calendar.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.google.calendar.GoogleCalendarClientFactory;
 import org.apache.camel.component.google.calendar.GoogleCalendarConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.google-calendar")
 public class GoogleCalendarComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the google-calendar component.
@@ -263,4 +268,58 @@ public class GoogleCalendarComponentConfiguration
     public void setUser(String user) {
         this.user = user;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.applicationName != null) {
+            answer.put("applicationName", this.applicationName);
+        }
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.delegate != null) {
+            answer.put("delegate", this.delegate);
+        }
+        if (this.scopes != null) {
+            answer.put("scopes", this.scopes);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.clientFactory != null) {
+            answer.put("clientFactory", this.clientFactory);
+        }
+        if (this.accessToken != null) {
+            answer.put("accessToken", this.accessToken);
+        }
+        if (this.clientSecret != null) {
+            answer.put("clientSecret", this.clientSecret);
+        }
+        if (this.emailAddress != null) {
+            answer.put("emailAddress", this.emailAddress);
+        }
+        if (this.p12FileName != null) {
+            answer.put("p12FileName", this.p12FileName);
+        }
+        if (this.refreshToken != null) {
+            answer.put("refreshToken", this.refreshToken);
+        }
+        if (this.serviceAccountKey != null) {
+            answer.put("serviceAccountKey", this.serviceAccountKey);
+        }
+        if (this.user != null) {
+            answer.put("user", this.user);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
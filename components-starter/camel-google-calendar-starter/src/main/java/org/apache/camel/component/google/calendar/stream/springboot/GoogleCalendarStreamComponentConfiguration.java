@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.google.calendar.stream.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.google.calendar.GoogleCalendarClientFactory;
 import org.apache.camel.component.google.calendar.stream.GoogleCalendarStreamConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.google-calendar-stream")
 public class GoogleCalendarStreamComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the google-calendar-stream
@@ -315,4 +320,73 @@ public class GoogleCalendarStreamComponentConfiguration
     public void setUser(String user) {
         this.user = user;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.applicationName != null) {
+            answer.put("applicationName", this.applicationName);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.calendarId != null) {
+            answer.put("calendarId", this.calendarId);
+        }
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.considerLastUpdate != null) {
+            answer.put("considerLastUpdate", this.considerLastUpdate);
+        }
+        if (this.consumeFromNow != null) {
+            answer.put("consumeFromNow", this.consumeFromNow);
+        }
+        if (this.delegate != null) {
+            answer.put("delegate", this.delegate);
+        }
+        if (this.maxResults != null) {
+            answer.put("maxResults", this.maxResults);
+        }
+        if (this.query != null) {
+            answer.put("query", this.query);
+        }
+        if (this.scopes != null) {
+            answer.put("scopes", this.scopes);
+        }
+        if (this.syncFlow != null) {
+            answer.put("syncFlow", this.syncFlow);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.clientFactory != null) {
+            answer.put("clientFactory", this.clientFactory);
+        }
+        if (this.accessToken != null) {
+            answer.put("accessToken", this.accessToken);
+        }
+        if (this.clientSecret != null) {
+            answer.put("clientSecret", this.clientSecret);
+        }
+        if (this.emailAddress != null) {
+            answer.put("emailAddress", this.emailAddress);
+        }
+        if (this.p12FileName != null) {
+            answer.put("p12FileName", this.p12FileName);
+        }
+        if (this.refreshToken != null) {
+            answer.put("refreshToken", this.refreshToken);
+        }
+        if (this.serviceAccountKey != null) {
+            answer.put("serviceAccountKey", this.serviceAccountKey);
+        }
+        if (this.user != null) {
+            answer.put("user", this.user);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.google.drive.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.google.drive.GoogleDriveClientFactory;
 import org.apache.camel.component.google.drive.GoogleDriveConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.google-drive")
 public class GoogleDriveComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the google-drive component. This
@@ -221,4 +226,49 @@ public class GoogleDriveComponentConfiguration
     public void setServiceAccountKey(String serviceAccountKey) {
         this.serviceAccountKey = serviceAccountKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.applicationName != null) {
+            answer.put("applicationName", this.applicationName);
+        }
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.delegate != null) {
+            answer.put("delegate", this.delegate);
+        }
+        if (this.scopes != null) {
+            answer.put("scopes", this.scopes);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.clientFactory != null) {
+            answer.put("clientFactory", this.clientFactory);
+        }
+        if (this.accessToken != null) {
+            answer.put("accessToken", this.accessToken);
+        }
+        if (this.clientSecret != null) {
+            answer.put("clientSecret", this.clientSecret);
+        }
+        if (this.refreshToken != null) {
+            answer.put("refreshToken", this.refreshToken);
+        }
+        if (this.serviceAccountKey != null) {
+            answer.put("serviceAccountKey", this.serviceAccountKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.google.pubsub.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.google-pubsub")
 public class GooglePubsubComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the google-pubsub component. This
@@ -182,4 +187,40 @@ public class GooglePubsubComponentConfiguration
             Integer publisherTerminationTimeout) {
         this.publisherTerminationTimeout = publisherTerminationTimeout;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.authenticate != null) {
+            answer.put("authenticate", this.authenticate);
+        }
+        if (this.endpoint != null) {
+            answer.put("endpoint", this.endpoint);
+        }
+        if (this.serviceAccountKey != null) {
+            answer.put("serviceAccountKey", this.serviceAccountKey);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.synchronousPullRetryableCodes != null) {
+            answer.put("synchronousPullRetryableCodes", this.synchronousPullRetryableCodes);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.publisherCacheSize != null) {
+            answer.put("publisherCacheSize", this.publisherCacheSize);
+        }
+        if (this.publisherCacheTimeout != null) {
+            answer.put("publisherCacheTimeout", this.publisherCacheTimeout);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.publisherTerminationTimeout != null) {
+            answer.put("publisherTerminationTimeout", this.publisherTerminationTimeout);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
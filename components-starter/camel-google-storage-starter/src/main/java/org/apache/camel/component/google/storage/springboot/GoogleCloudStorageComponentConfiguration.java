@@ -16,12 +16,15 @@
  */
 package org.apache.camel.component.google.storage.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageClass;
 import org.apache.camel.component.google.storage.GoogleCloudStorageConfiguration;
 import org.apache.camel.component.google.storage.GoogleCloudStorageOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +37,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.google-storage")
 public class GoogleCloudStorageComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the google-storage component.
@@ -297,4 +302,64 @@ public class GoogleCloudStorageComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.autoCreateBucket != null) {
+            answer.put("autoCreateBucket", this.autoCreateBucket);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.serviceAccountKey != null) {
+            answer.put("serviceAccountKey", this.serviceAccountKey);
+        }
+        if (this.storageClass != null) {
+            answer.put("storageClass", this.storageClass);
+        }
+        if (this.storageClient != null) {
+            answer.put("storageClient", this.storageClient);
+        }
+        if (this.storageLocation != null) {
+            answer.put("storageLocation", this.storageLocation);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.deleteAfterRead != null) {
+            answer.put("deleteAfterRead", this.deleteAfterRead);
+        }
+        if (this.destinationBucket != null) {
+            answer.put("destinationBucket", this.destinationBucket);
+        }
+        if (this.downloadFileName != null) {
+            answer.put("downloadFileName", this.downloadFileName);
+        }
+        if (this.filter != null) {
+            answer.put("filter", this.filter);
+        }
+        if (this.includeBody != null) {
+            answer.put("includeBody", this.includeBody);
+        }
+        if (this.includeFolders != null) {
+            answer.put("includeFolders", this.includeFolders);
+        }
+        if (this.moveAfterRead != null) {
+            answer.put("moveAfterRead", this.moveAfterRead);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.objectName != null) {
+            answer.put("objectName", this.objectName);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
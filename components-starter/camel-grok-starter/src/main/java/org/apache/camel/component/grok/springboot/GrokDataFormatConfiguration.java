@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.grok.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.grok")
 public class GrokDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the grok data format. This is
@@ -88,4 +93,22 @@ public class GrokDataFormatConfiguration
     public void setNamedOnly(Boolean namedOnly) {
         this.namedOnly = namedOnly;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.pattern != null) {
+            answer.put("pattern", this.pattern);
+        }
+        if (this.flattened != null) {
+            answer.put("flattened", this.flattened);
+        }
+        if (this.allowMultipleMatchesPerLine != null) {
+            answer.put("allowMultipleMatchesPerLine", this.allowMultipleMatchesPerLine);
+        }
+        if (this.namedOnly != null) {
+            answer.put("namedOnly", this.namedOnly);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
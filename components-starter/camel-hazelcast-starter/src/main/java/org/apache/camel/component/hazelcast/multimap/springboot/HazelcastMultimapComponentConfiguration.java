@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.hazelcast.multimap.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.hazelcast.core.HazelcastInstance;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.hazelcast-multimap")
 public class HazelcastMultimapComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the hazelcast-multimap component.
@@ -118,4 +123,25 @@ public class HazelcastMultimapComponentConfiguration
     public void setHazelcastMode(String hazelcastMode) {
         this.hazelcastMode = hazelcastMode;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.hazelcastInstance != null) {
+            answer.put("hazelcastInstance", this.hazelcastInstance);
+        }
+        if (this.hazelcastMode != null) {
+            answer.put("hazelcastMode", this.hazelcastMode);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.hdfs.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import javax.security.auth.login.Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.hdfs")
 public class HdfsComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the hdfs component. This is
@@ -118,4 +123,25 @@ public class HdfsComponentConfiguration
     public void setKerberosConfigFile(String kerberosConfigFile) {
         this.kerberosConfigFile = kerberosConfigFile;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.jAASConfiguration != null) {
+            answer.put("jAASConfiguration", this.jAASConfiguration);
+        }
+        if (this.kerberosConfigFile != null) {
+            answer.put("kerberosConfigFile", this.kerberosConfigFile);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.http.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import javax.net.ssl.HostnameVerifier;
 import org.apache.camel.component.http.HttpClientConfigurer;
@@ -23,6 +25,7 @@ import org.apache.camel.http.common.HttpBinding;
 import org.apache.camel.http.common.HttpConfiguration;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.http.client.CookieStore;
 import org.apache.http.conn.HttpClientConnectionManager;
@@ -38,7 +41,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.http")
 public class HttpComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the http component. This is
@@ -568,4 +573,124 @@ public class HttpComponentConfiguration
     public void setSocketTimeout(Integer socketTimeout) {
         this.socketTimeout = socketTimeout;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.cookieStore != null) {
+            answer.put("cookieStore", this.cookieStore);
+        }
+        if (this.copyHeaders != null) {
+            answer.put("copyHeaders", this.copyHeaders);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.responsePayloadStreamingThreshold != null) {
+            answer.put("responsePayloadStreamingThreshold", this.responsePayloadStreamingThreshold);
+        }
+        if (this.followRedirects != null) {
+            answer.put("followRedirects", this.followRedirects);
+        }
+        if (this.skipRequestHeaders != null) {
+            answer.put("skipRequestHeaders", this.skipRequestHeaders);
+        }
+        if (this.skipResponseHeaders != null) {
+            answer.put("skipResponseHeaders", this.skipResponseHeaders);
+        }
+        if (this.allowJavaSerializedObject != null) {
+            answer.put("allowJavaSerializedObject", this.allowJavaSerializedObject);
+        }
+        if (this.authCachingDisabled != null) {
+            answer.put("authCachingDisabled", this.authCachingDisabled);
+        }
+        if (this.automaticRetriesDisabled != null) {
+            answer.put("automaticRetriesDisabled", this.automaticRetriesDisabled);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.clientConnectionManager != null) {
+            answer.put("clientConnectionManager", this.clientConnectionManager);
+        }
+        if (this.connectionsPerRoute != null) {
+            answer.put("connectionsPerRoute", this.connectionsPerRoute);
+        }
+        if (this.connectionStateDisabled != null) {
+            answer.put("connectionStateDisabled", this.connectionStateDisabled);
+        }
+        if (this.connectionTimeToLive != null) {
+            answer.put("connectionTimeToLive", this.connectionTimeToLive);
+        }
+        if (this.contentCompressionDisabled != null) {
+            answer.put("contentCompressionDisabled", this.contentCompressionDisabled);
+        }
+        if (this.cookieManagementDisabled != null) {
+            answer.put("cookieManagementDisabled", this.cookieManagementDisabled);
+        }
+        if (this.defaultUserAgentDisabled != null) {
+            answer.put("defaultUserAgentDisabled", this.defaultUserAgentDisabled);
+        }
+        if (this.httpBinding != null) {
+            answer.put("httpBinding", this.httpBinding);
+        }
+        if (this.httpClientConfigurer != null) {
+            answer.put("httpClientConfigurer", this.httpClientConfigurer);
+        }
+        if (this.httpConfiguration != null) {
+            answer.put("httpConfiguration", this.httpConfiguration);
+        }
+        if (this.httpContext != null) {
+            answer.put("httpContext", this.httpContext);
+        }
+        if (this.maxTotalConnections != null) {
+            answer.put("maxTotalConnections", this.maxTotalConnections);
+        }
+        if (this.redirectHandlingDisabled != null) {
+            answer.put("redirectHandlingDisabled", this.redirectHandlingDisabled);
+        }
+        if (this.headerFilterStrategy != null) {
+            answer.put("headerFilterStrategy", this.headerFilterStrategy);
+        }
+        if (this.proxyAuthDomain != null) {
+            answer.put("proxyAuthDomain", this.proxyAuthDomain);
+        }
+        if (this.proxyAuthHost != null) {
+            answer.put("proxyAuthHost", this.proxyAuthHost);
+        }
+        if (this.proxyAuthMethod != null) {
+            answer.put("proxyAuthMethod", this.proxyAuthMethod);
+        }
+        if (this.proxyAuthNtHost != null) {
+            answer.put("proxyAuthNtHost", this.proxyAuthNtHost);
+        }
+        if (this.proxyAuthPassword != null) {
+            answer.put("proxyAuthPassword", this.proxyAuthPassword);
+        }
+        if (this.proxyAuthPort != null) {
+            answer.put("proxyAuthPort", this.proxyAuthPort);
+        }
+        if (this.proxyAuthUsername != null) {
+            answer.put("proxyAuthUsername", this.proxyAuthUsername);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        if (this.x509HostnameVerifier != null) {
+            answer.put("x509HostnameVerifier", this.x509HostnameVerifier);
+        }
+        if (this.connectionRequestTimeout != null) {
+            answer.put("connectionRequestTimeout", this.connectionRequestTimeout);
+        }
+        if (this.connectTimeout != null) {
+            answer.put("connectTimeout", this.connectTimeout);
+        }
+        if (this.socketTimeout != null) {
+            answer.put("socketTimeout", this.socketTimeout);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.infinispan.embedded.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.BiFunction;
 import javax.annotation.Generated;
 import org.apache.camel.component.infinispan.InfinispanOperation;
@@ -24,6 +26,7 @@ import org.apache.camel.component.infinispan.embedded.InfinispanEmbeddedComponen
 import org.apache.camel.component.infinispan.embedded.InfinispanEmbeddedConfiguration;
 import org.apache.camel.component.infinispan.embedded.InfinispanEmbeddedCustomListener;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -37,7 +40,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.infinispan-embedded")
 public class InfinispanEmbeddedComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the infinispan-embedded
@@ -328,4 +333,70 @@ public class InfinispanEmbeddedComponentConfiguration
     public void setResultHeader(String resultHeader) {
         this.resultHeader = resultHeader;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.queryBuilder != null) {
+            answer.put("queryBuilder", this.queryBuilder);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.clusteredListener != null) {
+            answer.put("clusteredListener", this.clusteredListener);
+        }
+        if (this.customListener != null) {
+            answer.put("customListener", this.customListener);
+        }
+        if (this.eventTypes != null) {
+            answer.put("eventTypes", this.eventTypes);
+        }
+        if (this.sync != null) {
+            answer.put("sync", this.sync);
+        }
+        if (this.defaultValue != null) {
+            answer.put("defaultValue", this.defaultValue);
+        }
+        if (this.key != null) {
+            answer.put("key", this.key);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.oldValue != null) {
+            answer.put("oldValue", this.oldValue);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.value != null) {
+            answer.put("value", this.value);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.cacheContainer != null) {
+            answer.put("cacheContainer", this.cacheContainer);
+        }
+        if (this.cacheContainerConfiguration != null) {
+            answer.put("cacheContainerConfiguration", this.cacheContainerConfiguration);
+        }
+        if (this.configurationUri != null) {
+            answer.put("configurationUri", this.configurationUri);
+        }
+        if (this.flags != null) {
+            answer.put("flags", this.flags);
+        }
+        if (this.remappingFunction != null) {
+            answer.put("remappingFunction", this.remappingFunction);
+        }
+        if (this.resultHeader != null) {
+            answer.put("resultHeader", this.resultHeader);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.infinispan.remote.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.BiFunction;
 import javax.annotation.Generated;
@@ -25,6 +26,7 @@ import org.apache.camel.component.infinispan.remote.InfinispanRemoteComponent;
 import org.apache.camel.component.infinispan.remote.InfinispanRemoteConfiguration;
 import org.apache.camel.component.infinispan.remote.InfinispanRemoteCustomListener;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.infinispan.client.hotrod.RemoteCacheManager;
 import org.infinispan.client.hotrod.configuration.Configuration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -38,7 +40,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.infinispan")
 public class InfinispanRemoteComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the infinispan component. This is
@@ -398,4 +402,88 @@ public class InfinispanRemoteComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.hosts != null) {
+            answer.put("hosts", this.hosts);
+        }
+        if (this.queryBuilder != null) {
+            answer.put("queryBuilder", this.queryBuilder);
+        }
+        if (this.secure != null) {
+            answer.put("secure", this.secure);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.customListener != null) {
+            answer.put("customListener", this.customListener);
+        }
+        if (this.eventTypes != null) {
+            answer.put("eventTypes", this.eventTypes);
+        }
+        if (this.defaultValue != null) {
+            answer.put("defaultValue", this.defaultValue);
+        }
+        if (this.key != null) {
+            answer.put("key", this.key);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.oldValue != null) {
+            answer.put("oldValue", this.oldValue);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.value != null) {
+            answer.put("value", this.value);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.cacheContainer != null) {
+            answer.put("cacheContainer", this.cacheContainer);
+        }
+        if (this.cacheContainerConfiguration != null) {
+            answer.put("cacheContainerConfiguration", this.cacheContainerConfiguration);
+        }
+        if (this.configurationProperties != null) {
+            answer.put("configurationProperties", this.configurationProperties);
+        }
+        if (this.configurationUri != null) {
+            answer.put("configurationUri", this.configurationUri);
+        }
+        if (this.flags != null) {
+            answer.put("flags", this.flags);
+        }
+        if (this.remappingFunction != null) {
+            answer.put("remappingFunction", this.remappingFunction);
+        }
+        if (this.resultHeader != null) {
+            answer.put("resultHeader", this.resultHeader);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.saslMechanism != null) {
+            answer.put("saslMechanism", this.saslMechanism);
+        }
+        if (this.securityRealm != null) {
+            answer.put("securityRealm", this.securityRealm);
+        }
+        if (this.securityServerName != null) {
+            answer.put("securityServerName", this.securityServerName);
+        }
+        if (this.username != null) {
+            answer.put("username", this.username);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.jackson.protobuf.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.protobuf-jackson")
 public class JacksonProtobufDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the protobufJackson data format.
@@ -281,4 +286,64 @@ public class JacksonProtobufDataFormatConfiguration
     public void setContentTypeHeader(Boolean contentTypeHeader) {
         this.contentTypeHeader = contentTypeHeader;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.objectMapper != null) {
+            answer.put("objectMapper", this.objectMapper);
+        }
+        if (this.useDefaultObjectMapper != null) {
+            answer.put("useDefaultObjectMapper", this.useDefaultObjectMapper);
+        }
+        if (this.autoDiscoverObjectMapper != null) {
+            answer.put("autoDiscoverObjectMapper", this.autoDiscoverObjectMapper);
+        }
+        if (this.unmarshalType != null) {
+            answer.put("unmarshalType", this.unmarshalType);
+        }
+        if (this.jsonView != null) {
+            answer.put("jsonView", this.jsonView);
+        }
+        if (this.include != null) {
+            answer.put("include", this.include);
+        }
+        if (this.allowJmsType != null) {
+            answer.put("allowJmsType", this.allowJmsType);
+        }
+        if (this.collectionType != null) {
+            answer.put("collectionType", this.collectionType);
+        }
+        if (this.useList != null) {
+            answer.put("useList", this.useList);
+        }
+        if (this.moduleClassNames != null) {
+            answer.put("moduleClassNames", this.moduleClassNames);
+        }
+        if (this.moduleRefs != null) {
+            answer.put("moduleRefs", this.moduleRefs);
+        }
+        if (this.enableFeatures != null) {
+            answer.put("enableFeatures", this.enableFeatures);
+        }
+        if (this.disableFeatures != null) {
+            answer.put("disableFeatures", this.disableFeatures);
+        }
+        if (this.allowUnmarshallType != null) {
+            answer.put("allowUnmarshallType", this.allowUnmarshallType);
+        }
+        if (this.timezone != null) {
+            answer.put("timezone", this.timezone);
+        }
+        if (this.schemaResolver != null) {
+            answer.put("schemaResolver", this.schemaResolver);
+        }
+        if (this.autoDiscoverSchemaResolver != null) {
+            answer.put("autoDiscoverSchemaResolver", this.autoDiscoverSchemaResolver);
+        }
+        if (this.contentTypeHeader != null) {
+            answer.put("contentTypeHeader", this.contentTypeHeader);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
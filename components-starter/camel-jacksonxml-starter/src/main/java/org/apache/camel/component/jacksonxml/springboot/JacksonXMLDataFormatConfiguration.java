@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.jacksonxml.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.jackson-xml")
 public class JacksonXMLDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the jacksonXml data format. This
@@ -257,4 +262,58 @@ public class JacksonXMLDataFormatConfiguration
     public void setContentTypeHeader(Boolean contentTypeHeader) {
         this.contentTypeHeader = contentTypeHeader;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.xmlMapper != null) {
+            answer.put("xmlMapper", this.xmlMapper);
+        }
+        if (this.prettyPrint != null) {
+            answer.put("prettyPrint", this.prettyPrint);
+        }
+        if (this.unmarshalType != null) {
+            answer.put("unmarshalType", this.unmarshalType);
+        }
+        if (this.allowUnmarshallType != null) {
+            answer.put("allowUnmarshallType", this.allowUnmarshallType);
+        }
+        if (this.jsonView != null) {
+            answer.put("jsonView", this.jsonView);
+        }
+        if (this.include != null) {
+            answer.put("include", this.include);
+        }
+        if (this.allowJmsType != null) {
+            answer.put("allowJmsType", this.allowJmsType);
+        }
+        if (this.collectionType != null) {
+            answer.put("collectionType", this.collectionType);
+        }
+        if (this.useList != null) {
+            answer.put("useList", this.useList);
+        }
+        if (this.timezone != null) {
+            answer.put("timezone", this.timezone);
+        }
+        if (this.enableJaxbAnnotationModule != null) {
+            answer.put("enableJaxbAnnotationModule", this.enableJaxbAnnotationModule);
+        }
+        if (this.moduleClassNames != null) {
+            answer.put("moduleClassNames", this.moduleClassNames);
+        }
+        if (this.moduleRefs != null) {
+            answer.put("moduleRefs", this.moduleRefs);
+        }
+        if (this.enableFeatures != null) {
+            answer.put("enableFeatures", this.enableFeatures);
+        }
+        if (this.disableFeatures != null) {
+            answer.put("disableFeatures", this.disableFeatures);
+        }
+        if (this.contentTypeHeader != null) {
+            answer.put("contentTypeHeader", this.contentTypeHeader);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
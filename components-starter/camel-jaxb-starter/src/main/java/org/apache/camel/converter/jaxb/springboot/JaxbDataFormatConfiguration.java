@@ -16,8 +16,11 @@
  */
 package org.apache.camel.converter.jaxb.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.jaxb")
 public class JaxbDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the jaxb data format. This is
@@ -293,4 +298,67 @@ public class JaxbDataFormatConfiguration
     public void setContentTypeHeader(Boolean contentTypeHeader) {
         this.contentTypeHeader = contentTypeHeader;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.contextPath != null) {
+            answer.put("contextPath", this.contextPath);
+        }
+        if (this.contextPathIsClassName != null) {
+            answer.put("contextPathIsClassName", this.contextPathIsClassName);
+        }
+        if (this.schema != null) {
+            answer.put("schema", this.schema);
+        }
+        if (this.schemaSeverityLevel != null) {
+            answer.put("schemaSeverityLevel", this.schemaSeverityLevel);
+        }
+        if (this.prettyPrint != null) {
+            answer.put("prettyPrint", this.prettyPrint);
+        }
+        if (this.objectFactory != null) {
+            answer.put("objectFactory", this.objectFactory);
+        }
+        if (this.ignoreJAXBElement != null) {
+            answer.put("ignoreJAXBElement", this.ignoreJAXBElement);
+        }
+        if (this.mustBeJAXBElement != null) {
+            answer.put("mustBeJAXBElement", this.mustBeJAXBElement);
+        }
+        if (this.filterNonXmlChars != null) {
+            answer.put("filterNonXmlChars", this.filterNonXmlChars);
+        }
+        if (this.encoding != null) {
+            answer.put("encoding", this.encoding);
+        }
+        if (this.fragment != null) {
+            answer.put("fragment", this.fragment);
+        }
+        if (this.partClass != null) {
+            answer.put("partClass", this.partClass);
+        }
+        if (this.partNamespace != null) {
+            answer.put("partNamespace", this.partNamespace);
+        }
+        if (this.namespacePrefixRef != null) {
+            answer.put("namespacePrefixRef", this.namespacePrefixRef);
+        }
+        if (this.xmlStreamWriterWrapper != null) {
+            answer.put("xmlStreamWriterWrapper", this.xmlStreamWriterWrapper);
+        }
+        if (this.schemaLocation != null) {
+            answer.put("schemaLocation", this.schemaLocation);
+        }
+        if (this.noNamespaceSchemaLocation != null) {
+            answer.put("noNamespaceSchemaLocation", this.noNamespaceSchemaLocation);
+        }
+        if (this.jaxbProviderProperties != null) {
+            answer.put("jaxbProviderProperties", this.jaxbProviderProperties);
+        }
+        if (this.contentTypeHeader != null) {
+            answer.put("contentTypeHeader", this.contentTypeHeader);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
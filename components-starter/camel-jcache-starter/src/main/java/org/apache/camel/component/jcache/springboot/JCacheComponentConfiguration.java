@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.jcache.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import javax.cache.configuration.Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.jcache")
 public class JCacheComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the jcache component. This is
@@ -154,4 +158,34 @@ public class JCacheComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.cacheConfiguration != null) {
+            answer.put("cacheConfiguration", this.cacheConfiguration);
+        }
+        if (this.cacheConfigurationProperties != null) {
+            answer.put("cacheConfigurationProperties", this.cacheConfigurationProperties);
+        }
+        if (this.cacheConfigurationPropertiesRef != null) {
+            answer.put("cacheConfigurationPropertiesRef", this.cacheConfigurationPropertiesRef);
+        }
+        if (this.cachingProvider != null) {
+            answer.put("cachingProvider", this.cachingProvider);
+        }
+        if (this.configurationUri != null) {
+            answer.put("configurationUri", this.configurationUri);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
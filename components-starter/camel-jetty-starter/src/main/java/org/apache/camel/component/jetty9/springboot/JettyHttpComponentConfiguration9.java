@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.jetty9.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.jetty.JettyHttpBinding;
@@ -23,6 +24,7 @@ import org.apache.camel.http.common.HttpBinding;
 import org.apache.camel.http.common.HttpConfiguration;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.eclipse.jetty.jmx.MBeanContainer;
 import org.eclipse.jetty.server.Connector;
@@ -39,7 +41,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.jetty")
 public class JettyHttpComponentConfiguration9
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the jetty component. This is
@@ -496,4 +500,109 @@ public class JettyHttpComponentConfiguration9
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.continuationTimeout != null) {
+            answer.put("continuationTimeout", this.continuationTimeout);
+        }
+        if (this.enableJmx != null) {
+            answer.put("enableJmx", this.enableJmx);
+        }
+        if (this.maxThreads != null) {
+            answer.put("maxThreads", this.maxThreads);
+        }
+        if (this.minThreads != null) {
+            answer.put("minThreads", this.minThreads);
+        }
+        if (this.muteException != null) {
+            answer.put("muteException", this.muteException);
+        }
+        if (this.requestBufferSize != null) {
+            answer.put("requestBufferSize", this.requestBufferSize);
+        }
+        if (this.requestHeaderSize != null) {
+            answer.put("requestHeaderSize", this.requestHeaderSize);
+        }
+        if (this.responseBufferSize != null) {
+            answer.put("responseBufferSize", this.responseBufferSize);
+        }
+        if (this.responseHeaderSize != null) {
+            answer.put("responseHeaderSize", this.responseHeaderSize);
+        }
+        if (this.sendServerVersion != null) {
+            answer.put("sendServerVersion", this.sendServerVersion);
+        }
+        if (this.useContinuation != null) {
+            answer.put("useContinuation", this.useContinuation);
+        }
+        if (this.useXForwardedForHeader != null) {
+            answer.put("useXForwardedForHeader", this.useXForwardedForHeader);
+        }
+        if (this.threadPool != null) {
+            answer.put("threadPool", this.threadPool);
+        }
+        if (this.allowJavaSerializedObject != null) {
+            answer.put("allowJavaSerializedObject", this.allowJavaSerializedObject);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.errorHandler != null) {
+            answer.put("errorHandler", this.errorHandler);
+        }
+        if (this.httpBinding != null) {
+            answer.put("httpBinding", this.httpBinding);
+        }
+        if (this.httpConfiguration != null) {
+            answer.put("httpConfiguration", this.httpConfiguration);
+        }
+        if (this.jettyHttpBinding != null) {
+            answer.put("jettyHttpBinding", this.jettyHttpBinding);
+        }
+        if (this.mbContainer != null) {
+            answer.put("mbContainer", this.mbContainer);
+        }
+        if (this.headerFilterStrategy != null) {
+            answer.put("headerFilterStrategy", this.headerFilterStrategy);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.keystore != null) {
+            answer.put("keystore", this.keystore);
+        }
+        if (this.socketConnectorProperties != null) {
+            answer.put("socketConnectorProperties", this.socketConnectorProperties);
+        }
+        if (this.socketConnectors != null) {
+            answer.put("socketConnectors", this.socketConnectors);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.sslKeyPassword != null) {
+            answer.put("sslKeyPassword", this.sslKeyPassword);
+        }
+        if (this.sslPassword != null) {
+            answer.put("sslPassword", this.sslPassword);
+        }
+        if (this.sslSocketConnectorProperties != null) {
+            answer.put("sslSocketConnectorProperties", this.sslSocketConnectorProperties);
+        }
+        if (this.sslSocketConnectors != null) {
+            answer.put("sslSocketConnectors", this.sslSocketConnectors);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.jira.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.jira.JiraConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.jira")
 public class JiraComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the jira component. This is
@@ -206,4 +211,46 @@ public class JiraComponentConfiguration
     public void setVerificationCode(String verificationCode) {
         this.verificationCode = verificationCode;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.delay != null) {
+            answer.put("delay", this.delay);
+        }
+        if (this.jiraUrl != null) {
+            answer.put("jiraUrl", this.jiraUrl);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.accessToken != null) {
+            answer.put("accessToken", this.accessToken);
+        }
+        if (this.consumerKey != null) {
+            answer.put("consumerKey", this.consumerKey);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.privateKey != null) {
+            answer.put("privateKey", this.privateKey);
+        }
+        if (this.username != null) {
+            answer.put("username", this.username);
+        }
+        if (this.verificationCode != null) {
+            answer.put("verificationCode", this.verificationCode);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
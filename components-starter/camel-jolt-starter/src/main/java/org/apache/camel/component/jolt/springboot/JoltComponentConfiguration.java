@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.jolt.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.bazaarvoice.jolt.Transform;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.jolt")
 public class JoltComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the jolt component. This is
@@ -102,4 +107,22 @@ public class JoltComponentConfiguration
     public void setTransform(Transform transform) {
         this.transform = transform;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.allowTemplateFromHeader != null) {
+            answer.put("allowTemplateFromHeader", this.allowTemplateFromHeader);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.transform != null) {
+            answer.put("transform", this.transform);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.jpa.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import javax.persistence.EntityManagerFactory;
 import org.apache.camel.component.jpa.TransactionStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -34,7 +36,9 @@ import org.springframework.transaction.PlatformTransactionManager;
 @ConfigurationProperties(prefix = "camel.component.jpa")
 public class JpaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the jpa component. This is
@@ -180,4 +184,37 @@ public class JpaComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.aliases != null) {
+            answer.put("aliases", this.aliases);
+        }
+        if (this.entityManagerFactory != null) {
+            answer.put("entityManagerFactory", this.entityManagerFactory);
+        }
+        if (this.joinTransaction != null) {
+            answer.put("joinTransaction", this.joinTransaction);
+        }
+        if (this.sharedEntityManager != null) {
+            answer.put("sharedEntityManager", this.sharedEntityManager);
+        }
+        if (this.transactionManager != null) {
+            answer.put("transactionManager", this.transactionManager);
+        }
+        if (this.transactionStrategy != null) {
+            answer.put("transactionStrategy", this.transactionStrategy);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
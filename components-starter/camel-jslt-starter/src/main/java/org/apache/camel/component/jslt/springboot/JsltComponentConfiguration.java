@@ -17,10 +17,13 @@
 package org.apache.camel.component.jslt.springboot;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.schibsted.spt.data.jslt.Function;
 import com.schibsted.spt.data.jslt.filters.JsonFilter;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.jslt")
 public class JsltComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the jslt component. This is
@@ -115,4 +120,25 @@ public class JsltComponentConfiguration
     public void setObjectFilter(JsonFilter objectFilter) {
         this.objectFilter = objectFilter;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.allowTemplateFromHeader != null) {
+            answer.put("allowTemplateFromHeader", this.allowTemplateFromHeader);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.functions != null) {
+            answer.put("functions", this.functions);
+        }
+        if (this.objectFilter != null) {
+            answer.put("objectFilter", this.objectFilter);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.jsonapi.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.json-api")
 public class JsonApiDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the jsonApi data format. This is
@@ -60,4 +65,16 @@ public class JsonApiDataFormatConfiguration
     public void setMainFormatType(Class<Object> mainFormatType) {
         this.mainFormatType = mainFormatType;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.dataFormatTypes != null) {
+            answer.put("dataFormatTypes", this.dataFormatTypes);
+        }
+        if (this.mainFormatType != null) {
+            answer.put("mainFormatType", this.mainFormatType);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.jsonpath.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.LanguageConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.language.jsonpath")
 public class JsonPathLanguageConfiguration
         extends
-            LanguageConfigurationPropertiesCommon {
+            LanguageConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the jsonpath language. This is
@@ -123,4 +128,31 @@ public class JsonPathLanguageConfiguration
     public void setTrim(Boolean trim) {
         this.trim = trim;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.suppressExceptions != null) {
+            answer.put("suppressExceptions", this.suppressExceptions);
+        }
+        if (this.allowSimple != null) {
+            answer.put("allowSimple", this.allowSimple);
+        }
+        if (this.allowEasyPredicate != null) {
+            answer.put("allowEasyPredicate", this.allowEasyPredicate);
+        }
+        if (this.writeAsString != null) {
+            answer.put("writeAsString", this.writeAsString);
+        }
+        if (this.headerName != null) {
+            answer.put("headerName", this.headerName);
+        }
+        if (this.option != null) {
+            answer.put("option", this.option);
+        }
+        if (this.trim != null) {
+            answer.put("trim", this.trim);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
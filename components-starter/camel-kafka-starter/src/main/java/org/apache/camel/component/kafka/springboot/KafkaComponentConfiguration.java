@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.kafka.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import javax.annotation.Generated;
@@ -31,6 +32,7 @@ import org.apache.camel.component.kafka.serde.KafkaHeaderSerializer;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spi.StateRepository;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -43,7 +45,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.kafka")
 public class KafkaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the kafka component. This is
@@ -1696,4 +1700,334 @@ public class KafkaComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.additionalProperties != null) {
+            answer.put("additionalProperties", this.additionalProperties);
+        }
+        if (this.brokers != null) {
+            answer.put("brokers", this.brokers);
+        }
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.headerFilterStrategy != null) {
+            answer.put("headerFilterStrategy", this.headerFilterStrategy);
+        }
+        if (this.reconnectBackoffMaxMs != null) {
+            answer.put("reconnectBackoffMaxMs", this.reconnectBackoffMaxMs);
+        }
+        if (this.shutdownTimeout != null) {
+            answer.put("shutdownTimeout", this.shutdownTimeout);
+        }
+        if (this.allowManualCommit != null) {
+            answer.put("allowManualCommit", this.allowManualCommit);
+        }
+        if (this.autoCommitEnable != null) {
+            answer.put("autoCommitEnable", this.autoCommitEnable);
+        }
+        if (this.autoCommitIntervalMs != null) {
+            answer.put("autoCommitIntervalMs", this.autoCommitIntervalMs);
+        }
+        if (this.autoOffsetReset != null) {
+            answer.put("autoOffsetReset", this.autoOffsetReset);
+        }
+        if (this.breakOnFirstError != null) {
+            answer.put("breakOnFirstError", this.breakOnFirstError);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.checkCrcs != null) {
+            answer.put("checkCrcs", this.checkCrcs);
+        }
+        if (this.commitTimeoutMs != null) {
+            answer.put("commitTimeoutMs", this.commitTimeoutMs);
+        }
+        if (this.consumerRequestTimeoutMs != null) {
+            answer.put("consumerRequestTimeoutMs", this.consumerRequestTimeoutMs);
+        }
+        if (this.consumersCount != null) {
+            answer.put("consumersCount", this.consumersCount);
+        }
+        if (this.fetchMaxBytes != null) {
+            answer.put("fetchMaxBytes", this.fetchMaxBytes);
+        }
+        if (this.fetchMinBytes != null) {
+            answer.put("fetchMinBytes", this.fetchMinBytes);
+        }
+        if (this.fetchWaitMaxMs != null) {
+            answer.put("fetchWaitMaxMs", this.fetchWaitMaxMs);
+        }
+        if (this.groupId != null) {
+            answer.put("groupId", this.groupId);
+        }
+        if (this.groupInstanceId != null) {
+            answer.put("groupInstanceId", this.groupInstanceId);
+        }
+        if (this.headerDeserializer != null) {
+            answer.put("headerDeserializer", this.headerDeserializer);
+        }
+        if (this.heartbeatIntervalMs != null) {
+            answer.put("heartbeatIntervalMs", this.heartbeatIntervalMs);
+        }
+        if (this.keyDeserializer != null) {
+            answer.put("keyDeserializer", this.keyDeserializer);
+        }
+        if (this.maxPartitionFetchBytes != null) {
+            answer.put("maxPartitionFetchBytes", this.maxPartitionFetchBytes);
+        }
+        if (this.maxPollIntervalMs != null) {
+            answer.put("maxPollIntervalMs", this.maxPollIntervalMs);
+        }
+        if (this.maxPollRecords != null) {
+            answer.put("maxPollRecords", this.maxPollRecords);
+        }
+        if (this.offsetRepository != null) {
+            answer.put("offsetRepository", this.offsetRepository);
+        }
+        if (this.partitionAssignor != null) {
+            answer.put("partitionAssignor", this.partitionAssignor);
+        }
+        if (this.pollOnError != null) {
+            answer.put("pollOnError", this.pollOnError);
+        }
+        if (this.pollTimeoutMs != null) {
+            answer.put("pollTimeoutMs", this.pollTimeoutMs);
+        }
+        if (this.seekTo != null) {
+            answer.put("seekTo", this.seekTo);
+        }
+        if (this.sessionTimeoutMs != null) {
+            answer.put("sessionTimeoutMs", this.sessionTimeoutMs);
+        }
+        if (this.specificAvroReader != null) {
+            answer.put("specificAvroReader", this.specificAvroReader);
+        }
+        if (this.topicIsPattern != null) {
+            answer.put("topicIsPattern", this.topicIsPattern);
+        }
+        if (this.valueDeserializer != null) {
+            answer.put("valueDeserializer", this.valueDeserializer);
+        }
+        if (this.createConsumerBackoffInterval != null) {
+            answer.put("createConsumerBackoffInterval", this.createConsumerBackoffInterval);
+        }
+        if (this.createConsumerBackoffMaxAttempts != null) {
+            answer.put("createConsumerBackoffMaxAttempts", this.createConsumerBackoffMaxAttempts);
+        }
+        if (this.isolationLevel != null) {
+            answer.put("isolationLevel", this.isolationLevel);
+        }
+        if (this.kafkaManualCommitFactory != null) {
+            answer.put("kafkaManualCommitFactory", this.kafkaManualCommitFactory);
+        }
+        if (this.pollExceptionStrategy != null) {
+            answer.put("pollExceptionStrategy", this.pollExceptionStrategy);
+        }
+        if (this.subscribeConsumerBackoffInterval != null) {
+            answer.put("subscribeConsumerBackoffInterval", this.subscribeConsumerBackoffInterval);
+        }
+        if (this.subscribeConsumerBackoffMaxAttempts != null) {
+            answer.put("subscribeConsumerBackoffMaxAttempts", this.subscribeConsumerBackoffMaxAttempts);
+        }
+        if (this.batchWithIndividualHeaders != null) {
+            answer.put("batchWithIndividualHeaders", this.batchWithIndividualHeaders);
+        }
+        if (this.bufferMemorySize != null) {
+            answer.put("bufferMemorySize", this.bufferMemorySize);
+        }
+        if (this.compressionCodec != null) {
+            answer.put("compressionCodec", this.compressionCodec);
+        }
+        if (this.connectionMaxIdleMs != null) {
+            answer.put("connectionMaxIdleMs", this.connectionMaxIdleMs);
+        }
+        if (this.deliveryTimeoutMs != null) {
+            answer.put("deliveryTimeoutMs", this.deliveryTimeoutMs);
+        }
+        if (this.enableIdempotence != null) {
+            answer.put("enableIdempotence", this.enableIdempotence);
+        }
+        if (this.headerSerializer != null) {
+            answer.put("headerSerializer", this.headerSerializer);
+        }
+        if (this.key != null) {
+            answer.put("key", this.key);
+        }
+        if (this.keySerializer != null) {
+            answer.put("keySerializer", this.keySerializer);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.lingerMs != null) {
+            answer.put("lingerMs", this.lingerMs);
+        }
+        if (this.maxBlockMs != null) {
+            answer.put("maxBlockMs", this.maxBlockMs);
+        }
+        if (this.maxInFlightRequest != null) {
+            answer.put("maxInFlightRequest", this.maxInFlightRequest);
+        }
+        if (this.maxRequestSize != null) {
+            answer.put("maxRequestSize", this.maxRequestSize);
+        }
+        if (this.metadataMaxAgeMs != null) {
+            answer.put("metadataMaxAgeMs", this.metadataMaxAgeMs);
+        }
+        if (this.metricReporters != null) {
+            answer.put("metricReporters", this.metricReporters);
+        }
+        if (this.metricsSampleWindowMs != null) {
+            answer.put("metricsSampleWindowMs", this.metricsSampleWindowMs);
+        }
+        if (this.noOfMetricsSample != null) {
+            answer.put("noOfMetricsSample", this.noOfMetricsSample);
+        }
+        if (this.partitioner != null) {
+            answer.put("partitioner", this.partitioner);
+        }
+        if (this.partitionKey != null) {
+            answer.put("partitionKey", this.partitionKey);
+        }
+        if (this.producerBatchSize != null) {
+            answer.put("producerBatchSize", this.producerBatchSize);
+        }
+        if (this.queueBufferingMaxMessages != null) {
+            answer.put("queueBufferingMaxMessages", this.queueBufferingMaxMessages);
+        }
+        if (this.receiveBufferBytes != null) {
+            answer.put("receiveBufferBytes", this.receiveBufferBytes);
+        }
+        if (this.reconnectBackoffMs != null) {
+            answer.put("reconnectBackoffMs", this.reconnectBackoffMs);
+        }
+        if (this.recordMetadata != null) {
+            answer.put("recordMetadata", this.recordMetadata);
+        }
+        if (this.requestRequiredAcks != null) {
+            answer.put("requestRequiredAcks", this.requestRequiredAcks);
+        }
+        if (this.requestTimeoutMs != null) {
+            answer.put("requestTimeoutMs", this.requestTimeoutMs);
+        }
+        if (this.retries != null) {
+            answer.put("retries", this.retries);
+        }
+        if (this.retryBackoffMs != null) {
+            answer.put("retryBackoffMs", this.retryBackoffMs);
+        }
+        if (this.sendBufferBytes != null) {
+            answer.put("sendBufferBytes", this.sendBufferBytes);
+        }
+        if (this.valueSerializer != null) {
+            answer.put("valueSerializer", this.valueSerializer);
+        }
+        if (this.workerPool != null) {
+            answer.put("workerPool", this.workerPool);
+        }
+        if (this.workerPoolCoreSize != null) {
+            answer.put("workerPoolCoreSize", this.workerPoolCoreSize);
+        }
+        if (this.workerPoolMaxSize != null) {
+            answer.put("workerPoolMaxSize", this.workerPoolMaxSize);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.kafkaClientFactory != null) {
+            answer.put("kafkaClientFactory", this.kafkaClientFactory);
+        }
+        if (this.synchronous != null) {
+            answer.put("synchronous", this.synchronous);
+        }
+        if (this.schemaRegistryURL != null) {
+            answer.put("schemaRegistryURL", this.schemaRegistryURL);
+        }
+        if (this.interceptorClasses != null) {
+            answer.put("interceptorClasses", this.interceptorClasses);
+        }
+        if (this.kerberosBeforeReloginMinTime != null) {
+            answer.put("kerberosBeforeReloginMinTime", this.kerberosBeforeReloginMinTime);
+        }
+        if (this.kerberosInitCmd != null) {
+            answer.put("kerberosInitCmd", this.kerberosInitCmd);
+        }
+        if (this.kerberosPrincipalToLocalRules != null) {
+            answer.put("kerberosPrincipalToLocalRules", this.kerberosPrincipalToLocalRules);
+        }
+        if (this.kerberosRenewJitter != null) {
+            answer.put("kerberosRenewJitter", this.kerberosRenewJitter);
+        }
+        if (this.kerberosRenewWindowFactor != null) {
+            answer.put("kerberosRenewWindowFactor", this.kerberosRenewWindowFactor);
+        }
+        if (this.saslJaasConfig != null) {
+            answer.put("saslJaasConfig", this.saslJaasConfig);
+        }
+        if (this.saslKerberosServiceName != null) {
+            answer.put("saslKerberosServiceName", this.saslKerberosServiceName);
+        }
+        if (this.saslMechanism != null) {
+            answer.put("saslMechanism", this.saslMechanism);
+        }
+        if (this.securityProtocol != null) {
+            answer.put("securityProtocol", this.securityProtocol);
+        }
+        if (this.sslCipherSuites != null) {
+            answer.put("sslCipherSuites", this.sslCipherSuites);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.sslEnabledProtocols != null) {
+            answer.put("sslEnabledProtocols", this.sslEnabledProtocols);
+        }
+        if (this.sslEndpointAlgorithm != null) {
+            answer.put("sslEndpointAlgorithm", this.sslEndpointAlgorithm);
+        }
+        if (this.sslKeymanagerAlgorithm != null) {
+            answer.put("sslKeymanagerAlgorithm", this.sslKeymanagerAlgorithm);
+        }
+        if (this.sslKeyPassword != null) {
+            answer.put("sslKeyPassword", this.sslKeyPassword);
+        }
+        if (this.sslKeystoreLocation != null) {
+            answer.put("sslKeystoreLocation", this.sslKeystoreLocation);
+        }
+        if (this.sslKeystorePassword != null) {
+            answer.put("sslKeystorePassword", this.sslKeystorePassword);
+        }
+        if (this.sslKeystoreType != null) {
+            answer.put("sslKeystoreType", this.sslKeystoreType);
+        }
+        if (this.sslProtocol != null) {
+            answer.put("sslProtocol", this.sslProtocol);
+        }
+        if (this.sslProvider != null) {
+            answer.put("sslProvider", this.sslProvider);
+        }
+        if (this.sslTrustmanagerAlgorithm != null) {
+            answer.put("sslTrustmanagerAlgorithm", this.sslTrustmanagerAlgorithm);
+        }
+        if (this.sslTruststoreLocation != null) {
+            answer.put("sslTruststoreLocation", this.sslTruststoreLocation);
+        }
+        if (this.sslTruststorePassword != null) {
+            answer.put("sslTruststorePassword", this.sslTruststorePassword);
+        }
+        if (this.sslTruststoreType != null) {
+            answer.put("sslTruststoreType", this.sslTruststoreType);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
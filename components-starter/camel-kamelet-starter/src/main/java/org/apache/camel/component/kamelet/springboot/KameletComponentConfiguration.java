@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.kamelet.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 import javax.annotation.Generated;
 import org.apache.camel.spi.RouteTemplateLoaderListener;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.kamelet")
 public class KameletComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the kamelet component. This is
@@ -170,4 +174,37 @@ public class KameletComponentConfiguration
             RouteTemplateLoaderListener routeTemplateLoaderListener) {
         this.routeTemplateLoaderListener = routeTemplateLoaderListener;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.location != null) {
+            answer.put("location", this.location);
+        }
+        if (this.routeProperties != null) {
+            answer.put("routeProperties", this.routeProperties);
+        }
+        if (this.templateProperties != null) {
+            answer.put("templateProperties", this.templateProperties);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.block != null) {
+            answer.put("block", this.block);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.timeout != null) {
+            answer.put("timeout", this.timeout);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.routeTemplateLoaderListener != null) {
+            answer.put("routeTemplateLoaderListener", this.routeTemplateLoaderListener);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
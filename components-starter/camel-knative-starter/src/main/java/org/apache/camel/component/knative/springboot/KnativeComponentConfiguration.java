@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.knative.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.knative.KnativeConfiguration;
@@ -23,6 +24,7 @@ import org.apache.camel.component.knative.spi.KnativeConsumerFactory;
 import org.apache.camel.component.knative.spi.KnativeEnvironment;
 import org.apache.camel.component.knative.spi.KnativeProducerFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.knative")
 public class KnativeComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the knative component. This is
@@ -295,4 +299,67 @@ public class KnativeComponentConfiguration
     public void setName(String name) {
         this.name = name;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.ceOverride != null) {
+            answer.put("ceOverride", this.ceOverride);
+        }
+        if (this.cloudEventsSpecVersion != null) {
+            answer.put("cloudEventsSpecVersion", this.cloudEventsSpecVersion);
+        }
+        if (this.cloudEventsType != null) {
+            answer.put("cloudEventsType", this.cloudEventsType);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.consumerFactory != null) {
+            answer.put("consumerFactory", this.consumerFactory);
+        }
+        if (this.environment != null) {
+            answer.put("environment", this.environment);
+        }
+        if (this.environmentPath != null) {
+            answer.put("environmentPath", this.environmentPath);
+        }
+        if (this.filters != null) {
+            answer.put("filters", this.filters);
+        }
+        if (this.producerFactory != null) {
+            answer.put("producerFactory", this.producerFactory);
+        }
+        if (this.transportOptions != null) {
+            answer.put("transportOptions", this.transportOptions);
+        }
+        if (this.typeId != null) {
+            answer.put("typeId", this.typeId);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.replyWithCloudEvent != null) {
+            answer.put("replyWithCloudEvent", this.replyWithCloudEvent);
+        }
+        if (this.reply != null) {
+            answer.put("reply", this.reply);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.apiVersion != null) {
+            answer.put("apiVersion", this.apiVersion);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.kind != null) {
+            answer.put("kind", this.kind);
+        }
+        if (this.name != null) {
+            answer.put("name", this.name);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -17,9 +17,12 @@
 package org.apache.camel.component.lucene.springboot;
 
 import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.lucene.LuceneConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.lucene.analysis.Analyzer;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.lucene")
 public class LuceneComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the lucene component. This is
@@ -143,4 +148,31 @@ public class LuceneComponentConfiguration
     public void setConfig(LuceneConfiguration config) {
         this.config = config;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.analyzer != null) {
+            answer.put("analyzer", this.analyzer);
+        }
+        if (this.indexDir != null) {
+            answer.put("indexDir", this.indexDir);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.maxHits != null) {
+            answer.put("maxHits", this.maxHits);
+        }
+        if (this.srcDir != null) {
+            answer.put("srcDir", this.srcDir);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.config != null) {
+            answer.put("config", this.config);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
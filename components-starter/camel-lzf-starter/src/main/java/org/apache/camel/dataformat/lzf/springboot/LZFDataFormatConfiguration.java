@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.lzf.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.lzf")
 public class LZFDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the lzf data format. This is
@@ -48,4 +53,13 @@ public class LZFDataFormatConfiguration
     public void setUsingParallelCompression(Boolean usingParallelCompression) {
         this.usingParallelCompression = usingParallelCompression;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.usingParallelCompression != null) {
+            answer.put("usingParallelCompression", this.usingParallelCompression);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
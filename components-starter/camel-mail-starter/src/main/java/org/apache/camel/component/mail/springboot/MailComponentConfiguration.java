@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.mail.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
 import javax.annotation.Generated;
 import javax.mail.Session;
@@ -26,6 +28,7 @@ import org.apache.camel.component.mail.MailAuthenticator;
 import org.apache.camel.component.mail.MailConfiguration;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -38,7 +41,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.mail")
 public class MailComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the mail component. This is
@@ -704,4 +709,148 @@ public class MailComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.closeFolder != null) {
+            answer.put("closeFolder", this.closeFolder);
+        }
+        if (this.copyTo != null) {
+            answer.put("copyTo", this.copyTo);
+        }
+        if (this.decodeFilename != null) {
+            answer.put("decodeFilename", this.decodeFilename);
+        }
+        if (this.delete != null) {
+            answer.put("delete", this.delete);
+        }
+        if (this.disconnect != null) {
+            answer.put("disconnect", this.disconnect);
+        }
+        if (this.handleFailedMessage != null) {
+            answer.put("handleFailedMessage", this.handleFailedMessage);
+        }
+        if (this.mimeDecodeHeaders != null) {
+            answer.put("mimeDecodeHeaders", this.mimeDecodeHeaders);
+        }
+        if (this.moveTo != null) {
+            answer.put("moveTo", this.moveTo);
+        }
+        if (this.peek != null) {
+            answer.put("peek", this.peek);
+        }
+        if (this.skipFailedMessage != null) {
+            answer.put("skipFailedMessage", this.skipFailedMessage);
+        }
+        if (this.unseen != null) {
+            answer.put("unseen", this.unseen);
+        }
+        if (this.failOnDuplicateFileAttachment != null) {
+            answer.put("failOnDuplicateFileAttachment", this.failOnDuplicateFileAttachment);
+        }
+        if (this.fetchSize != null) {
+            answer.put("fetchSize", this.fetchSize);
+        }
+        if (this.folderName != null) {
+            answer.put("folderName", this.folderName);
+        }
+        if (this.generateMissingAttachmentNames != null) {
+            answer.put("generateMissingAttachmentNames", this.generateMissingAttachmentNames);
+        }
+        if (this.handleDuplicateAttachmentNames != null) {
+            answer.put("handleDuplicateAttachmentNames", this.handleDuplicateAttachmentNames);
+        }
+        if (this.mapMailMessage != null) {
+            answer.put("mapMailMessage", this.mapMailMessage);
+        }
+        if (this.bcc != null) {
+            answer.put("bcc", this.bcc);
+        }
+        if (this.cc != null) {
+            answer.put("cc", this.cc);
+        }
+        if (this.from != null) {
+            answer.put("from", this.from);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.replyTo != null) {
+            answer.put("replyTo", this.replyTo);
+        }
+        if (this.subject != null) {
+            answer.put("subject", this.subject);
+        }
+        if (this.to != null) {
+            answer.put("to", this.to);
+        }
+        if (this.javaMailSender != null) {
+            answer.put("javaMailSender", this.javaMailSender);
+        }
+        if (this.additionalJavaMailProperties != null) {
+            answer.put("additionalJavaMailProperties", this.additionalJavaMailProperties);
+        }
+        if (this.alternativeBodyHeader != null) {
+            answer.put("alternativeBodyHeader", this.alternativeBodyHeader);
+        }
+        if (this.attachmentsContentTransferEncodingResolver != null) {
+            answer.put("attachmentsContentTransferEncodingResolver", this.attachmentsContentTransferEncodingResolver);
+        }
+        if (this.authenticator != null) {
+            answer.put("authenticator", this.authenticator);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.connectionTimeout != null) {
+            answer.put("connectionTimeout", this.connectionTimeout);
+        }
+        if (this.contentType != null) {
+            answer.put("contentType", this.contentType);
+        }
+        if (this.contentTypeResolver != null) {
+            answer.put("contentTypeResolver", this.contentTypeResolver);
+        }
+        if (this.debugMode != null) {
+            answer.put("debugMode", this.debugMode);
+        }
+        if (this.ignoreUnsupportedCharset != null) {
+            answer.put("ignoreUnsupportedCharset", this.ignoreUnsupportedCharset);
+        }
+        if (this.ignoreUriScheme != null) {
+            answer.put("ignoreUriScheme", this.ignoreUriScheme);
+        }
+        if (this.javaMailProperties != null) {
+            answer.put("javaMailProperties", this.javaMailProperties);
+        }
+        if (this.session != null) {
+            answer.put("session", this.session);
+        }
+        if (this.useInlineAttachments != null) {
+            answer.put("useInlineAttachments", this.useInlineAttachments);
+        }
+        if (this.headerFilterStrategy != null) {
+            answer.put("headerFilterStrategy", this.headerFilterStrategy);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        if (this.username != null) {
+            answer.put("username", this.username);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
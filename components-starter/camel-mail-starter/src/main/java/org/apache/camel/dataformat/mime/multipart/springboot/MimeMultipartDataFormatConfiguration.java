@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.mime.multipart.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.mime-multipart")
 public class MimeMultipartDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the mimeMultipart data format.
@@ -102,4 +107,25 @@ public class MimeMultipartDataFormatConfiguration
     public void setBinaryContent(Boolean binaryContent) {
         this.binaryContent = binaryContent;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.multipartSubType != null) {
+            answer.put("multipartSubType", this.multipartSubType);
+        }
+        if (this.multipartWithoutAttachment != null) {
+            answer.put("multipartWithoutAttachment", this.multipartWithoutAttachment);
+        }
+        if (this.headersInline != null) {
+            answer.put("headersInline", this.headersInline);
+        }
+        if (this.includeHeaders != null) {
+            answer.put("includeHeaders", this.includeHeaders);
+        }
+        if (this.binaryContent != null) {
+            answer.put("binaryContent", this.binaryContent);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.mapstruct.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.mapstruct.MapStructMapperFinder;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.mapstruct")
 public class MapstructComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the mapstruct component. This is
@@ -100,4 +105,22 @@ public class MapstructComponentConfiguration
     public void setMapStructConverter(MapStructMapperFinder mapStructConverter) {
         this.mapStructConverter = mapStructConverter;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.mapperPackageName != null) {
+            answer.put("mapperPackageName", this.mapperPackageName);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.mapStructConverter != null) {
+            answer.put("mapStructConverter", this.mapStructConverter);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.milo.client.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.milo.client.MiloClientConfiguration;
 import org.apache.camel.component.milo.client.MiloClientConnectionManager;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.milo-client")
 public class MiloClientComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the milo-client component. This
@@ -362,4 +367,85 @@ public class MiloClientComponentConfiguration
     public void setSessionTimeout(Long sessionTimeout) {
         this.sessionTimeout = sessionTimeout;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.discoveryEndpointSuffix != null) {
+            answer.put("discoveryEndpointSuffix", this.discoveryEndpointSuffix);
+        }
+        if (this.discoveryEndpointUri != null) {
+            answer.put("discoveryEndpointUri", this.discoveryEndpointUri);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.allowedSecurityPolicies != null) {
+            answer.put("allowedSecurityPolicies", this.allowedSecurityPolicies);
+        }
+        if (this.applicationName != null) {
+            answer.put("applicationName", this.applicationName);
+        }
+        if (this.applicationUri != null) {
+            answer.put("applicationUri", this.applicationUri);
+        }
+        if (this.channelLifetime != null) {
+            answer.put("channelLifetime", this.channelLifetime);
+        }
+        if (this.keyAlias != null) {
+            answer.put("keyAlias", this.keyAlias);
+        }
+        if (this.keyPassword != null) {
+            answer.put("keyPassword", this.keyPassword);
+        }
+        if (this.keyStorePassword != null) {
+            answer.put("keyStorePassword", this.keyStorePassword);
+        }
+        if (this.keyStoreType != null) {
+            answer.put("keyStoreType", this.keyStoreType);
+        }
+        if (this.keyStoreUrl != null) {
+            answer.put("keyStoreUrl", this.keyStoreUrl);
+        }
+        if (this.maxPendingPublishRequests != null) {
+            answer.put("maxPendingPublishRequests", this.maxPendingPublishRequests);
+        }
+        if (this.maxResponseMessageSize != null) {
+            answer.put("maxResponseMessageSize", this.maxResponseMessageSize);
+        }
+        if (this.miloClientConnectionManager != null) {
+            answer.put("miloClientConnectionManager", this.miloClientConnectionManager);
+        }
+        if (this.overrideHost != null) {
+            answer.put("overrideHost", this.overrideHost);
+        }
+        if (this.productUri != null) {
+            answer.put("productUri", this.productUri);
+        }
+        if (this.requestedPublishingInterval != null) {
+            answer.put("requestedPublishingInterval", this.requestedPublishingInterval);
+        }
+        if (this.requestTimeout != null) {
+            answer.put("requestTimeout", this.requestTimeout);
+        }
+        if (this.sessionName != null) {
+            answer.put("sessionName", this.sessionName);
+        }
+        if (this.sessionTimeout != null) {
+            answer.put("sessionTimeout", this.sessionTimeout);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
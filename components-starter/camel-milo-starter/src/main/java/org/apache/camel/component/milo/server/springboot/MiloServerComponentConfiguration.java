@@ -17,9 +17,12 @@
 package org.apache.camel.component.milo.server.springboot;
 
 import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
 import org.eclipse.milo.opcua.stack.core.types.structured.BuildInfo;
@@ -35,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.milo-server")
 public class MiloServerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the milo-server component. This
@@ -312,4 +317,70 @@ public class MiloServerComponentConfiguration
             SecurityPolicy usernameSecurityPolicyUri) {
         this.usernameSecurityPolicyUri = usernameSecurityPolicyUri;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.applicationName != null) {
+            answer.put("applicationName", this.applicationName);
+        }
+        if (this.applicationUri != null) {
+            answer.put("applicationUri", this.applicationUri);
+        }
+        if (this.bindAddresses != null) {
+            answer.put("bindAddresses", this.bindAddresses);
+        }
+        if (this.buildInfo != null) {
+            answer.put("buildInfo", this.buildInfo);
+        }
+        if (this.namespaceUri != null) {
+            answer.put("namespaceUri", this.namespaceUri);
+        }
+        if (this.path != null) {
+            answer.put("path", this.path);
+        }
+        if (this.port != null) {
+            answer.put("port", this.port);
+        }
+        if (this.productUri != null) {
+            answer.put("productUri", this.productUri);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.certificate != null) {
+            answer.put("certificate", this.certificate);
+        }
+        if (this.certificateManager != null) {
+            answer.put("certificateManager", this.certificateManager);
+        }
+        if (this.certificateValidator != null) {
+            answer.put("certificateValidator", this.certificateValidator);
+        }
+        if (this.defaultCertificateValidator != null) {
+            answer.put("defaultCertificateValidator", this.defaultCertificateValidator);
+        }
+        if (this.enableAnonymousAuthentication != null) {
+            answer.put("enableAnonymousAuthentication", this.enableAnonymousAuthentication);
+        }
+        if (this.securityPolicies != null) {
+            answer.put("securityPolicies", this.securityPolicies);
+        }
+        if (this.securityPoliciesById != null) {
+            answer.put("securityPoliciesById", this.securityPoliciesById);
+        }
+        if (this.userAuthenticationCredentials != null) {
+            answer.put("userAuthenticationCredentials", this.userAuthenticationCredentials);
+        }
+        if (this.usernameSecurityPolicyUri != null) {
+            answer.put("usernameSecurityPolicyUri", this.usernameSecurityPolicyUri);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
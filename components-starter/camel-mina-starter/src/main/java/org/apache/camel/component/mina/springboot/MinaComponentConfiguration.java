@@ -16,13 +16,16 @@
  */
 package org.apache.camel.component.mina.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.component.mina.MinaComponent;
 import org.apache.camel.component.mina.MinaConfiguration;
 import org.apache.camel.component.mina.MinaTextLineDelimiter;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.mina.core.filterchain.IoFilter;
 import org.apache.mina.filter.codec.ProtocolCodecFactory;
@@ -37,7 +40,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.mina")
 public class MinaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the mina component. This is
@@ -429,4 +434,94 @@ public class MinaComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.disconnect != null) {
+            answer.put("disconnect", this.disconnect);
+        }
+        if (this.minaLogger != null) {
+            answer.put("minaLogger", this.minaLogger);
+        }
+        if (this.sync != null) {
+            answer.put("sync", this.sync);
+        }
+        if (this.timeout != null) {
+            answer.put("timeout", this.timeout);
+        }
+        if (this.writeTimeout != null) {
+            answer.put("writeTimeout", this.writeTimeout);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.clientMode != null) {
+            answer.put("clientMode", this.clientMode);
+        }
+        if (this.noReplyLogLevel != null) {
+            answer.put("noReplyLogLevel", this.noReplyLogLevel);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.cachedAddress != null) {
+            answer.put("cachedAddress", this.cachedAddress);
+        }
+        if (this.lazySessionCreation != null) {
+            answer.put("lazySessionCreation", this.lazySessionCreation);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.disconnectOnNoReply != null) {
+            answer.put("disconnectOnNoReply", this.disconnectOnNoReply);
+        }
+        if (this.maximumPoolSize != null) {
+            answer.put("maximumPoolSize", this.maximumPoolSize);
+        }
+        if (this.orderedThreadPoolExecutor != null) {
+            answer.put("orderedThreadPoolExecutor", this.orderedThreadPoolExecutor);
+        }
+        if (this.transferExchange != null) {
+            answer.put("transferExchange", this.transferExchange);
+        }
+        if (this.allowDefaultCodec != null) {
+            answer.put("allowDefaultCodec", this.allowDefaultCodec);
+        }
+        if (this.codec != null) {
+            answer.put("codec", this.codec);
+        }
+        if (this.decoderMaxLineLength != null) {
+            answer.put("decoderMaxLineLength", this.decoderMaxLineLength);
+        }
+        if (this.encoderMaxLineLength != null) {
+            answer.put("encoderMaxLineLength", this.encoderMaxLineLength);
+        }
+        if (this.encoding != null) {
+            answer.put("encoding", this.encoding);
+        }
+        if (this.filters != null) {
+            answer.put("filters", this.filters);
+        }
+        if (this.textline != null) {
+            answer.put("textline", this.textline);
+        }
+        if (this.textlineDelimiter != null) {
+            answer.put("textlineDelimiter", this.textlineDelimiter);
+        }
+        if (this.autoStartTls != null) {
+            answer.put("autoStartTls", this.autoStartTls);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
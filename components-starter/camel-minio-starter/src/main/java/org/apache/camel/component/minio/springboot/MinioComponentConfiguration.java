@@ -17,6 +17,8 @@
 package org.apache.camel.component.minio.springboot;
 
 import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import io.minio.MinioClient;
 import io.minio.ServerSideEncryption;
@@ -25,6 +27,7 @@ import okhttp3.OkHttpClient;
 import org.apache.camel.component.minio.MinioConfiguration;
 import org.apache.camel.component.minio.MinioOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -36,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.minio")
 public class MinioComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the minio component. This is
@@ -667,4 +672,151 @@ public class MinioComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.autoCreateBucket != null) {
+            answer.put("autoCreateBucket", this.autoCreateBucket);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.customHttpClient != null) {
+            answer.put("customHttpClient", this.customHttpClient);
+        }
+        if (this.endpoint != null) {
+            answer.put("endpoint", this.endpoint);
+        }
+        if (this.minioClient != null) {
+            answer.put("minioClient", this.minioClient);
+        }
+        if (this.objectLock != null) {
+            answer.put("objectLock", this.objectLock);
+        }
+        if (this.policy != null) {
+            answer.put("policy", this.policy);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.region != null) {
+            answer.put("region", this.region);
+        }
+        if (this.secure != null) {
+            answer.put("secure", this.secure);
+        }
+        if (this.serverSideEncryption != null) {
+            answer.put("serverSideEncryption", this.serverSideEncryption);
+        }
+        if (this.serverSideEncryptionCustomerKey != null) {
+            answer.put("serverSideEncryptionCustomerKey", this.serverSideEncryptionCustomerKey);
+        }
+        if (this.autoCloseBody != null) {
+            answer.put("autoCloseBody", this.autoCloseBody);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.bypassGovernanceMode != null) {
+            answer.put("bypassGovernanceMode", this.bypassGovernanceMode);
+        }
+        if (this.deleteAfterRead != null) {
+            answer.put("deleteAfterRead", this.deleteAfterRead);
+        }
+        if (this.delimiter != null) {
+            answer.put("delimiter", this.delimiter);
+        }
+        if (this.destinationBucketName != null) {
+            answer.put("destinationBucketName", this.destinationBucketName);
+        }
+        if (this.destinationObjectName != null) {
+            answer.put("destinationObjectName", this.destinationObjectName);
+        }
+        if (this.includeBody != null) {
+            answer.put("includeBody", this.includeBody);
+        }
+        if (this.includeFolders != null) {
+            answer.put("includeFolders", this.includeFolders);
+        }
+        if (this.includeUserMetadata != null) {
+            answer.put("includeUserMetadata", this.includeUserMetadata);
+        }
+        if (this.includeVersions != null) {
+            answer.put("includeVersions", this.includeVersions);
+        }
+        if (this.length != null) {
+            answer.put("length", this.length);
+        }
+        if (this.matchETag != null) {
+            answer.put("matchETag", this.matchETag);
+        }
+        if (this.maxConnections != null) {
+            answer.put("maxConnections", this.maxConnections);
+        }
+        if (this.maxMessagesPerPoll != null) {
+            answer.put("maxMessagesPerPoll", this.maxMessagesPerPoll);
+        }
+        if (this.modifiedSince != null) {
+            answer.put("modifiedSince", this.modifiedSince);
+        }
+        if (this.moveAfterRead != null) {
+            answer.put("moveAfterRead", this.moveAfterRead);
+        }
+        if (this.notMatchETag != null) {
+            answer.put("notMatchETag", this.notMatchETag);
+        }
+        if (this.objectName != null) {
+            answer.put("objectName", this.objectName);
+        }
+        if (this.offset != null) {
+            answer.put("offset", this.offset);
+        }
+        if (this.prefix != null) {
+            answer.put("prefix", this.prefix);
+        }
+        if (this.recursive != null) {
+            answer.put("recursive", this.recursive);
+        }
+        if (this.startAfter != null) {
+            answer.put("startAfter", this.startAfter);
+        }
+        if (this.unModifiedSince != null) {
+            answer.put("unModifiedSince", this.unModifiedSince);
+        }
+        if (this.useVersion1 != null) {
+            answer.put("useVersion1", this.useVersion1);
+        }
+        if (this.versionId != null) {
+            answer.put("versionId", this.versionId);
+        }
+        if (this.deleteAfterWrite != null) {
+            answer.put("deleteAfterWrite", this.deleteAfterWrite);
+        }
+        if (this.keyName != null) {
+            answer.put("keyName", this.keyName);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.pojoRequest != null) {
+            answer.put("pojoRequest", this.pojoRequest);
+        }
+        if (this.storageClass != null) {
+            answer.put("storageClass", this.storageClass);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.accessKey != null) {
+            answer.put("accessKey", this.accessKey);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,12 +16,15 @@
  */
 package org.apache.camel.component.mllp.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.component.mllp.MllpComponent;
 import org.apache.camel.component.mllp.MllpConfiguration;
 import org.apache.camel.component.mllp.MllpIdleTimeoutStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.mllp")
 public class MllpComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the mllp component. This is
@@ -476,4 +481,106 @@ public class MllpComponentConfiguration
     public void setIdleTimeout(Integer idleTimeout) {
         this.idleTimeout = idleTimeout;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.autoAck != null) {
+            answer.put("autoAck", this.autoAck);
+        }
+        if (this.charsetName != null) {
+            answer.put("charsetName", this.charsetName);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.hl7Headers != null) {
+            answer.put("hl7Headers", this.hl7Headers);
+        }
+        if (this.requireEndOfData != null) {
+            answer.put("requireEndOfData", this.requireEndOfData);
+        }
+        if (this.stringPayload != null) {
+            answer.put("stringPayload", this.stringPayload);
+        }
+        if (this.validatePayload != null) {
+            answer.put("validatePayload", this.validatePayload);
+        }
+        if (this.acceptTimeout != null) {
+            answer.put("acceptTimeout", this.acceptTimeout);
+        }
+        if (this.backlog != null) {
+            answer.put("backlog", this.backlog);
+        }
+        if (this.bindRetryInterval != null) {
+            answer.put("bindRetryInterval", this.bindRetryInterval);
+        }
+        if (this.bindTimeout != null) {
+            answer.put("bindTimeout", this.bindTimeout);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lenientBind != null) {
+            answer.put("lenientBind", this.lenientBind);
+        }
+        if (this.maxConcurrentConsumers != null) {
+            answer.put("maxConcurrentConsumers", this.maxConcurrentConsumers);
+        }
+        if (this.reuseAddress != null) {
+            answer.put("reuseAddress", this.reuseAddress);
+        }
+        if (this.exchangePattern != null) {
+            answer.put("exchangePattern", this.exchangePattern);
+        }
+        if (this.connectTimeout != null) {
+            answer.put("connectTimeout", this.connectTimeout);
+        }
+        if (this.idleTimeoutStrategy != null) {
+            answer.put("idleTimeoutStrategy", this.idleTimeoutStrategy);
+        }
+        if (this.keepAlive != null) {
+            answer.put("keepAlive", this.keepAlive);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.tcpNoDelay != null) {
+            answer.put("tcpNoDelay", this.tcpNoDelay);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.defaultCharset != null) {
+            answer.put("defaultCharset", this.defaultCharset);
+        }
+        if (this.logPhi != null) {
+            answer.put("logPhi", this.logPhi);
+        }
+        if (this.logPhiMaxBytes != null) {
+            answer.put("logPhiMaxBytes", this.logPhiMaxBytes);
+        }
+        if (this.maxBufferSize != null) {
+            answer.put("maxBufferSize", this.maxBufferSize);
+        }
+        if (this.minBufferSize != null) {
+            answer.put("minBufferSize", this.minBufferSize);
+        }
+        if (this.readTimeout != null) {
+            answer.put("readTimeout", this.readTimeout);
+        }
+        if (this.receiveBufferSize != null) {
+            answer.put("receiveBufferSize", this.receiveBufferSize);
+        }
+        if (this.receiveTimeout != null) {
+            answer.put("receiveTimeout", this.receiveTimeout);
+        }
+        if (this.sendBufferSize != null) {
+            answer.put("sendBufferSize", this.sendBufferSize);
+        }
+        if (this.idleTimeout != null) {
+            answer.put("idleTimeout", this.idleTimeout);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.mustache.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import com.github.mustachejava.MustacheFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.mustache")
 public class MustacheComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the mustache component. This is
@@ -117,4 +122,25 @@ public class MustacheComponentConfiguration
     public void setMustacheFactory(MustacheFactory mustacheFactory) {
         this.mustacheFactory = mustacheFactory;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.allowContextMapAll != null) {
+            answer.put("allowContextMapAll", this.allowContextMapAll);
+        }
+        if (this.allowTemplateFromHeader != null) {
+            answer.put("allowTemplateFromHeader", this.allowTemplateFromHeader);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.mustacheFactory != null) {
+            answer.put("mustacheFactory", this.mustacheFactory);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@
 package org.apache.camel.component.netty.springboot;
 
 import java.io.File;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import io.netty.channel.EventLoopGroup;
@@ -32,6 +33,7 @@ import org.apache.camel.component.netty.NettyServerBootstrapFactory;
 import org.apache.camel.component.netty.ServerInitializerFactory;
 import org.apache.camel.component.netty.TextLineDelimiter;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -44,7 +46,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.netty")
 public class NettyComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the netty component. This is
@@ -1077,4 +1081,229 @@ public class NettyComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.disconnect != null) {
+            answer.put("disconnect", this.disconnect);
+        }
+        if (this.keepAlive != null) {
+            answer.put("keepAlive", this.keepAlive);
+        }
+        if (this.reuseAddress != null) {
+            answer.put("reuseAddress", this.reuseAddress);
+        }
+        if (this.reuseChannel != null) {
+            answer.put("reuseChannel", this.reuseChannel);
+        }
+        if (this.sync != null) {
+            answer.put("sync", this.sync);
+        }
+        if (this.tcpNoDelay != null) {
+            answer.put("tcpNoDelay", this.tcpNoDelay);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.broadcast != null) {
+            answer.put("broadcast", this.broadcast);
+        }
+        if (this.clientMode != null) {
+            answer.put("clientMode", this.clientMode);
+        }
+        if (this.reconnect != null) {
+            answer.put("reconnect", this.reconnect);
+        }
+        if (this.reconnectInterval != null) {
+            answer.put("reconnectInterval", this.reconnectInterval);
+        }
+        if (this.backlog != null) {
+            answer.put("backlog", this.backlog);
+        }
+        if (this.bossCount != null) {
+            answer.put("bossCount", this.bossCount);
+        }
+        if (this.bossGroup != null) {
+            answer.put("bossGroup", this.bossGroup);
+        }
+        if (this.disconnectOnNoReply != null) {
+            answer.put("disconnectOnNoReply", this.disconnectOnNoReply);
+        }
+        if (this.executorService != null) {
+            answer.put("executorService", this.executorService);
+        }
+        if (this.maximumPoolSize != null) {
+            answer.put("maximumPoolSize", this.maximumPoolSize);
+        }
+        if (this.nettyServerBootstrapFactory != null) {
+            answer.put("nettyServerBootstrapFactory", this.nettyServerBootstrapFactory);
+        }
+        if (this.networkInterface != null) {
+            answer.put("networkInterface", this.networkInterface);
+        }
+        if (this.noReplyLogLevel != null) {
+            answer.put("noReplyLogLevel", this.noReplyLogLevel);
+        }
+        if (this.serverClosedChannelExceptionCaughtLogLevel != null) {
+            answer.put("serverClosedChannelExceptionCaughtLogLevel", this.serverClosedChannelExceptionCaughtLogLevel);
+        }
+        if (this.serverExceptionCaughtLogLevel != null) {
+            answer.put("serverExceptionCaughtLogLevel", this.serverExceptionCaughtLogLevel);
+        }
+        if (this.serverInitializerFactory != null) {
+            answer.put("serverInitializerFactory", this.serverInitializerFactory);
+        }
+        if (this.usingExecutorService != null) {
+            answer.put("usingExecutorService", this.usingExecutorService);
+        }
+        if (this.connectTimeout != null) {
+            answer.put("connectTimeout", this.connectTimeout);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.requestTimeout != null) {
+            answer.put("requestTimeout", this.requestTimeout);
+        }
+        if (this.clientInitializerFactory != null) {
+            answer.put("clientInitializerFactory", this.clientInitializerFactory);
+        }
+        if (this.correlationManager != null) {
+            answer.put("correlationManager", this.correlationManager);
+        }
+        if (this.lazyChannelCreation != null) {
+            answer.put("lazyChannelCreation", this.lazyChannelCreation);
+        }
+        if (this.producerPoolEnabled != null) {
+            answer.put("producerPoolEnabled", this.producerPoolEnabled);
+        }
+        if (this.producerPoolMaxIdle != null) {
+            answer.put("producerPoolMaxIdle", this.producerPoolMaxIdle);
+        }
+        if (this.producerPoolMaxTotal != null) {
+            answer.put("producerPoolMaxTotal", this.producerPoolMaxTotal);
+        }
+        if (this.producerPoolMinEvictableIdle != null) {
+            answer.put("producerPoolMinEvictableIdle", this.producerPoolMinEvictableIdle);
+        }
+        if (this.producerPoolMinIdle != null) {
+            answer.put("producerPoolMinIdle", this.producerPoolMinIdle);
+        }
+        if (this.udpConnectionlessSending != null) {
+            answer.put("udpConnectionlessSending", this.udpConnectionlessSending);
+        }
+        if (this.useByteBuf != null) {
+            answer.put("useByteBuf", this.useByteBuf);
+        }
+        if (this.hostnameVerification != null) {
+            answer.put("hostnameVerification", this.hostnameVerification);
+        }
+        if (this.allowSerializedHeaders != null) {
+            answer.put("allowSerializedHeaders", this.allowSerializedHeaders);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.channelGroup != null) {
+            answer.put("channelGroup", this.channelGroup);
+        }
+        if (this.nativeTransport != null) {
+            answer.put("nativeTransport", this.nativeTransport);
+        }
+        if (this.options != null) {
+            answer.put("options", this.options);
+        }
+        if (this.receiveBufferSize != null) {
+            answer.put("receiveBufferSize", this.receiveBufferSize);
+        }
+        if (this.receiveBufferSizePredictor != null) {
+            answer.put("receiveBufferSizePredictor", this.receiveBufferSizePredictor);
+        }
+        if (this.sendBufferSize != null) {
+            answer.put("sendBufferSize", this.sendBufferSize);
+        }
+        if (this.transferExchange != null) {
+            answer.put("transferExchange", this.transferExchange);
+        }
+        if (this.udpByteArrayCodec != null) {
+            answer.put("udpByteArrayCodec", this.udpByteArrayCodec);
+        }
+        if (this.workerCount != null) {
+            answer.put("workerCount", this.workerCount);
+        }
+        if (this.workerGroup != null) {
+            answer.put("workerGroup", this.workerGroup);
+        }
+        if (this.allowDefaultCodec != null) {
+            answer.put("allowDefaultCodec", this.allowDefaultCodec);
+        }
+        if (this.autoAppendDelimiter != null) {
+            answer.put("autoAppendDelimiter", this.autoAppendDelimiter);
+        }
+        if (this.decoderMaxLineLength != null) {
+            answer.put("decoderMaxLineLength", this.decoderMaxLineLength);
+        }
+        if (this.decoders != null) {
+            answer.put("decoders", this.decoders);
+        }
+        if (this.delimiter != null) {
+            answer.put("delimiter", this.delimiter);
+        }
+        if (this.encoders != null) {
+            answer.put("encoders", this.encoders);
+        }
+        if (this.encoding != null) {
+            answer.put("encoding", this.encoding);
+        }
+        if (this.textline != null) {
+            answer.put("textline", this.textline);
+        }
+        if (this.enabledProtocols != null) {
+            answer.put("enabledProtocols", this.enabledProtocols);
+        }
+        if (this.keyStoreFile != null) {
+            answer.put("keyStoreFile", this.keyStoreFile);
+        }
+        if (this.keyStoreFormat != null) {
+            answer.put("keyStoreFormat", this.keyStoreFormat);
+        }
+        if (this.keyStoreResource != null) {
+            answer.put("keyStoreResource", this.keyStoreResource);
+        }
+        if (this.needClientAuth != null) {
+            answer.put("needClientAuth", this.needClientAuth);
+        }
+        if (this.passphrase != null) {
+            answer.put("passphrase", this.passphrase);
+        }
+        if (this.securityProvider != null) {
+            answer.put("securityProvider", this.securityProvider);
+        }
+        if (this.ssl != null) {
+            answer.put("ssl", this.ssl);
+        }
+        if (this.sslClientCertHeaders != null) {
+            answer.put("sslClientCertHeaders", this.sslClientCertHeaders);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.sslHandler != null) {
+            answer.put("sslHandler", this.sslHandler);
+        }
+        if (this.trustStoreFile != null) {
+            answer.put("trustStoreFile", this.trustStoreFile);
+        }
+        if (this.trustStoreResource != null) {
+            answer.put("trustStoreResource", this.trustStoreResource);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
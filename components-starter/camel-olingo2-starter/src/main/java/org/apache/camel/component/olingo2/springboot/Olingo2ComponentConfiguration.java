@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.olingo2.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.olingo2.Olingo2Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.http.HttpHost;
 import org.apache.http.impl.client.HttpClientBuilder;
@@ -37,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.olingo2")
 public class Olingo2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the olingo2 component. This is
@@ -309,4 +313,64 @@ public class Olingo2ComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.connectTimeout != null) {
+            answer.put("connectTimeout", this.connectTimeout);
+        }
+        if (this.contentType != null) {
+            answer.put("contentType", this.contentType);
+        }
+        if (this.entityProviderReadProperties != null) {
+            answer.put("entityProviderReadProperties", this.entityProviderReadProperties);
+        }
+        if (this.entityProviderWriteProperties != null) {
+            answer.put("entityProviderWriteProperties", this.entityProviderWriteProperties);
+        }
+        if (this.filterAlreadySeen != null) {
+            answer.put("filterAlreadySeen", this.filterAlreadySeen);
+        }
+        if (this.httpHeaders != null) {
+            answer.put("httpHeaders", this.httpHeaders);
+        }
+        if (this.proxy != null) {
+            answer.put("proxy", this.proxy);
+        }
+        if (this.serviceUri != null) {
+            answer.put("serviceUri", this.serviceUri);
+        }
+        if (this.socketTimeout != null) {
+            answer.put("socketTimeout", this.socketTimeout);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.splitResult != null) {
+            answer.put("splitResult", this.splitResult);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.httpAsyncClientBuilder != null) {
+            answer.put("httpAsyncClientBuilder", this.httpAsyncClientBuilder);
+        }
+        if (this.httpClientBuilder != null) {
+            answer.put("httpClientBuilder", this.httpClientBuilder);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
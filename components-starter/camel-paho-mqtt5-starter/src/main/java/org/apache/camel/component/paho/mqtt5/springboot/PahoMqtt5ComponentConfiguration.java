@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.paho.mqtt5.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 import javax.annotation.Generated;
@@ -25,6 +26,7 @@ import org.apache.camel.component.paho.mqtt5.PahoMqtt5Component;
 import org.apache.camel.component.paho.mqtt5.PahoMqtt5Configuration;
 import org.apache.camel.component.paho.mqtt5.PahoMqtt5Persistence;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.eclipse.paho.mqttv5.client.MqttClient;
 import org.eclipse.paho.mqttv5.common.packet.MqttProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -38,7 +40,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.paho-mqtt5")
 public class PahoMqtt5ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the paho-mqtt5 component. This is
@@ -576,4 +580,106 @@ public class PahoMqtt5ComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.automaticReconnect != null) {
+            answer.put("automaticReconnect", this.automaticReconnect);
+        }
+        if (this.brokerUrl != null) {
+            answer.put("brokerUrl", this.brokerUrl);
+        }
+        if (this.cleanStart != null) {
+            answer.put("cleanStart", this.cleanStart);
+        }
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.connectionTimeout != null) {
+            answer.put("connectionTimeout", this.connectionTimeout);
+        }
+        if (this.filePersistenceDirectory != null) {
+            answer.put("filePersistenceDirectory", this.filePersistenceDirectory);
+        }
+        if (this.keepAliveInterval != null) {
+            answer.put("keepAliveInterval", this.keepAliveInterval);
+        }
+        if (this.maxReconnectDelay != null) {
+            answer.put("maxReconnectDelay", this.maxReconnectDelay);
+        }
+        if (this.persistence != null) {
+            answer.put("persistence", this.persistence);
+        }
+        if (this.qos != null) {
+            answer.put("qos", this.qos);
+        }
+        if (this.receiveMaximum != null) {
+            answer.put("receiveMaximum", this.receiveMaximum);
+        }
+        if (this.retained != null) {
+            answer.put("retained", this.retained);
+        }
+        if (this.serverURIs != null) {
+            answer.put("serverURIs", this.serverURIs);
+        }
+        if (this.sessionExpiryInterval != null) {
+            answer.put("sessionExpiryInterval", this.sessionExpiryInterval);
+        }
+        if (this.willMqttProperties != null) {
+            answer.put("willMqttProperties", this.willMqttProperties);
+        }
+        if (this.willPayload != null) {
+            answer.put("willPayload", this.willPayload);
+        }
+        if (this.willQos != null) {
+            answer.put("willQos", this.willQos);
+        }
+        if (this.willRetained != null) {
+            answer.put("willRetained", this.willRetained);
+        }
+        if (this.willTopic != null) {
+            answer.put("willTopic", this.willTopic);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.client != null) {
+            answer.put("client", this.client);
+        }
+        if (this.customWebSocketHeaders != null) {
+            answer.put("customWebSocketHeaders", this.customWebSocketHeaders);
+        }
+        if (this.executorServiceTimeout != null) {
+            answer.put("executorServiceTimeout", this.executorServiceTimeout);
+        }
+        if (this.httpsHostnameVerificationEnabled != null) {
+            answer.put("httpsHostnameVerificationEnabled", this.httpsHostnameVerificationEnabled);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.socketFactory != null) {
+            answer.put("socketFactory", this.socketFactory);
+        }
+        if (this.sslClientProps != null) {
+            answer.put("sslClientProps", this.sslClientProps);
+        }
+        if (this.sslHostnameVerifier != null) {
+            answer.put("sslHostnameVerifier", this.sslHostnameVerifier);
+        }
+        if (this.userName != null) {
+            answer.put("userName", this.userName);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
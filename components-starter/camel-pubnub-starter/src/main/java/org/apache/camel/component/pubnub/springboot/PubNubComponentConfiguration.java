@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.pubnub.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.pubnub.PubNubConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.pubnub")
 public class PubNubComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the pubnub component. This is
@@ -226,4 +231,49 @@ public class PubNubComponentConfiguration
     public void setSubscribeKey(String subscribeKey) {
         this.subscribeKey = subscribeKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.uuid != null) {
+            answer.put("uuid", this.uuid);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.withPresence != null) {
+            answer.put("withPresence", this.withPresence);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.authKey != null) {
+            answer.put("authKey", this.authKey);
+        }
+        if (this.cipherKey != null) {
+            answer.put("cipherKey", this.cipherKey);
+        }
+        if (this.publishKey != null) {
+            answer.put("publishKey", this.publishKey);
+        }
+        if (this.secretKey != null) {
+            answer.put("secretKey", this.secretKey);
+        }
+        if (this.secure != null) {
+            answer.put("secure", this.secure);
+        }
+        if (this.subscribeKey != null) {
+            answer.put("subscribeKey", this.subscribeKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.pulsar.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.pulsar.PulsarComponent;
 import org.apache.camel.component.pulsar.PulsarConfiguration;
@@ -24,6 +26,7 @@ import org.apache.camel.component.pulsar.utils.AutoConfiguration;
 import org.apache.camel.component.pulsar.utils.consumers.SubscriptionInitialPosition;
 import org.apache.camel.component.pulsar.utils.consumers.SubscriptionType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.pulsar.client.api.BatcherBuilder;
 import org.apache.pulsar.client.api.CompressionType;
 import org.apache.pulsar.client.api.MessageRouter;
@@ -43,7 +46,9 @@ import org.springframework.boot.context.properties.DeprecatedConfigurationProper
 @ConfigurationProperties(prefix = "camel.component.pulsar")
 public class PulsarComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the pulsar component. This is
@@ -632,4 +637,139 @@ public class PulsarComponentConfiguration
     public void setPulsarClient(PulsarClient pulsarClient) {
         this.pulsarClient = pulsarClient;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.authenticationClass != null) {
+            answer.put("authenticationClass", this.authenticationClass);
+        }
+        if (this.authenticationParams != null) {
+            answer.put("authenticationParams", this.authenticationParams);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.serviceUrl != null) {
+            answer.put("serviceUrl", this.serviceUrl);
+        }
+        if (this.ackGroupTimeMillis != null) {
+            answer.put("ackGroupTimeMillis", this.ackGroupTimeMillis);
+        }
+        if (this.ackTimeoutMillis != null) {
+            answer.put("ackTimeoutMillis", this.ackTimeoutMillis);
+        }
+        if (this.ackTimeoutRedeliveryBackoff != null) {
+            answer.put("ackTimeoutRedeliveryBackoff", this.ackTimeoutRedeliveryBackoff);
+        }
+        if (this.allowManualAcknowledgement != null) {
+            answer.put("allowManualAcknowledgement", this.allowManualAcknowledgement);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.consumerName != null) {
+            answer.put("consumerName", this.consumerName);
+        }
+        if (this.consumerNamePrefix != null) {
+            answer.put("consumerNamePrefix", this.consumerNamePrefix);
+        }
+        if (this.consumerQueueSize != null) {
+            answer.put("consumerQueueSize", this.consumerQueueSize);
+        }
+        if (this.deadLetterTopic != null) {
+            answer.put("deadLetterTopic", this.deadLetterTopic);
+        }
+        if (this.maxRedeliverCount != null) {
+            answer.put("maxRedeliverCount", this.maxRedeliverCount);
+        }
+        if (this.messageListener != null) {
+            answer.put("messageListener", this.messageListener);
+        }
+        if (this.negativeAckRedeliveryBackoff != null) {
+            answer.put("negativeAckRedeliveryBackoff", this.negativeAckRedeliveryBackoff);
+        }
+        if (this.negativeAckRedeliveryDelayMicros != null) {
+            answer.put("negativeAckRedeliveryDelayMicros", this.negativeAckRedeliveryDelayMicros);
+        }
+        if (this.numberOfConsumers != null) {
+            answer.put("numberOfConsumers", this.numberOfConsumers);
+        }
+        if (this.numberOfConsumerThreads != null) {
+            answer.put("numberOfConsumerThreads", this.numberOfConsumerThreads);
+        }
+        if (this.readCompacted != null) {
+            answer.put("readCompacted", this.readCompacted);
+        }
+        if (this.subscriptionInitialPosition != null) {
+            answer.put("subscriptionInitialPosition", this.subscriptionInitialPosition);
+        }
+        if (this.subscriptionName != null) {
+            answer.put("subscriptionName", this.subscriptionName);
+        }
+        if (this.subscriptionTopicsMode != null) {
+            answer.put("subscriptionTopicsMode", this.subscriptionTopicsMode);
+        }
+        if (this.subscriptionType != null) {
+            answer.put("subscriptionType", this.subscriptionType);
+        }
+        if (this.topicsPattern != null) {
+            answer.put("topicsPattern", this.topicsPattern);
+        }
+        if (this.pulsarMessageReceiptFactory != null) {
+            answer.put("pulsarMessageReceiptFactory", this.pulsarMessageReceiptFactory);
+        }
+        if (this.batcherBuilder != null) {
+            answer.put("batcherBuilder", this.batcherBuilder);
+        }
+        if (this.batchingEnabled != null) {
+            answer.put("batchingEnabled", this.batchingEnabled);
+        }
+        if (this.batchingMaxMessages != null) {
+            answer.put("batchingMaxMessages", this.batchingMaxMessages);
+        }
+        if (this.batchingMaxPublishDelayMicros != null) {
+            answer.put("batchingMaxPublishDelayMicros", this.batchingMaxPublishDelayMicros);
+        }
+        if (this.blockIfQueueFull != null) {
+            answer.put("blockIfQueueFull", this.blockIfQueueFull);
+        }
+        if (this.compressionType != null) {
+            answer.put("compressionType", this.compressionType);
+        }
+        if (this.initialSequenceId != null) {
+            answer.put("initialSequenceId", this.initialSequenceId);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.maxPendingMessages != null) {
+            answer.put("maxPendingMessages", this.maxPendingMessages);
+        }
+        if (this.maxPendingMessagesAcrossPartitions != null) {
+            answer.put("maxPendingMessagesAcrossPartitions", this.maxPendingMessagesAcrossPartitions);
+        }
+        if (this.messageRouter != null) {
+            answer.put("messageRouter", this.messageRouter);
+        }
+        if (this.messageRoutingMode != null) {
+            answer.put("messageRoutingMode", this.messageRoutingMode);
+        }
+        if (this.producerName != null) {
+            answer.put("producerName", this.producerName);
+        }
+        if (this.sendTimeoutMs != null) {
+            answer.put("sendTimeoutMs", this.sendTimeoutMs);
+        }
+        if (this.autoConfiguration != null) {
+            answer.put("autoConfiguration", this.autoConfiguration);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.pulsarClient != null) {
+            answer.put("pulsarClient", this.pulsarClient);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
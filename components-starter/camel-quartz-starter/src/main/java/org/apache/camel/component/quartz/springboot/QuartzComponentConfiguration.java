@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.quartz.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.quartz")
 public class QuartzComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the quartz component. This is
@@ -210,4 +214,46 @@ public class QuartzComponentConfiguration
     public void setInterruptJobsOnShutdown(Boolean interruptJobsOnShutdown) {
         this.interruptJobsOnShutdown = interruptJobsOnShutdown;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.enableJmx != null) {
+            answer.put("enableJmx", this.enableJmx);
+        }
+        if (this.prefixInstanceName != null) {
+            answer.put("prefixInstanceName", this.prefixInstanceName);
+        }
+        if (this.prefixJobNameWithEndpointId != null) {
+            answer.put("prefixJobNameWithEndpointId", this.prefixJobNameWithEndpointId);
+        }
+        if (this.properties != null) {
+            answer.put("properties", this.properties);
+        }
+        if (this.propertiesFile != null) {
+            answer.put("propertiesFile", this.propertiesFile);
+        }
+        if (this.propertiesRef != null) {
+            answer.put("propertiesRef", this.propertiesRef);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.scheduler != null) {
+            answer.put("scheduler", this.scheduler);
+        }
+        if (this.schedulerFactory != null) {
+            answer.put("schedulerFactory", this.schedulerFactory);
+        }
+        if (this.autoStartScheduler != null) {
+            answer.put("autoStartScheduler", this.autoStartScheduler);
+        }
+        if (this.interruptJobsOnShutdown != null) {
+            answer.put("interruptJobsOnShutdown", this.interruptJobsOnShutdown);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.quickfixj.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import quickfix.LogFactory;
 import quickfix.MessageFactory;
@@ -33,7 +36,9 @@ import quickfix.MessageStoreFactory;
 @ConfigurationProperties(prefix = "camel.component.quickfix")
 public class QuickfixjComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the quickfix component. This is
@@ -160,4 +165,34 @@ public class QuickfixjComponentConfiguration
     public void setMessageStoreFactory(MessageStoreFactory messageStoreFactory) {
         this.messageStoreFactory = messageStoreFactory;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.eagerStopEngines != null) {
+            answer.put("eagerStopEngines", this.eagerStopEngines);
+        }
+        if (this.lazyCreateEngines != null) {
+            answer.put("lazyCreateEngines", this.lazyCreateEngines);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.logFactory != null) {
+            answer.put("logFactory", this.logFactory);
+        }
+        if (this.messageFactory != null) {
+            answer.put("messageFactory", this.messageFactory);
+        }
+        if (this.messageStoreFactory != null) {
+            answer.put("messageStoreFactory", this.messageStoreFactory);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,12 +16,14 @@
  */
 package org.apache.camel.component.rabbitmq.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import javax.net.ssl.TrustManager;
 import com.rabbitmq.client.ConnectionFactory;
 import com.rabbitmq.client.ExceptionHandler;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.rabbitmq")
 public class RabbitMQComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the rabbitmq component. This is
@@ -796,4 +800,178 @@ public class RabbitMQComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.addresses != null) {
+            answer.put("addresses", this.addresses);
+        }
+        if (this.autoDelete != null) {
+            answer.put("autoDelete", this.autoDelete);
+        }
+        if (this.connectionFactory != null) {
+            answer.put("connectionFactory", this.connectionFactory);
+        }
+        if (this.deadLetterExchange != null) {
+            answer.put("deadLetterExchange", this.deadLetterExchange);
+        }
+        if (this.deadLetterExchangeType != null) {
+            answer.put("deadLetterExchangeType", this.deadLetterExchangeType);
+        }
+        if (this.deadLetterQueue != null) {
+            answer.put("deadLetterQueue", this.deadLetterQueue);
+        }
+        if (this.deadLetterRoutingKey != null) {
+            answer.put("deadLetterRoutingKey", this.deadLetterRoutingKey);
+        }
+        if (this.declare != null) {
+            answer.put("declare", this.declare);
+        }
+        if (this.durable != null) {
+            answer.put("durable", this.durable);
+        }
+        if (this.exclusive != null) {
+            answer.put("exclusive", this.exclusive);
+        }
+        if (this.hostname != null) {
+            answer.put("hostname", this.hostname);
+        }
+        if (this.passive != null) {
+            answer.put("passive", this.passive);
+        }
+        if (this.portNumber != null) {
+            answer.put("portNumber", this.portNumber);
+        }
+        if (this.skipExchangeDeclare != null) {
+            answer.put("skipExchangeDeclare", this.skipExchangeDeclare);
+        }
+        if (this.skipQueueBind != null) {
+            answer.put("skipQueueBind", this.skipQueueBind);
+        }
+        if (this.skipQueueDeclare != null) {
+            answer.put("skipQueueDeclare", this.skipQueueDeclare);
+        }
+        if (this.vhost != null) {
+            answer.put("vhost", this.vhost);
+        }
+        if (this.autoAck != null) {
+            answer.put("autoAck", this.autoAck);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.exclusiveConsumer != null) {
+            answer.put("exclusiveConsumer", this.exclusiveConsumer);
+        }
+        if (this.prefetchCount != null) {
+            answer.put("prefetchCount", this.prefetchCount);
+        }
+        if (this.prefetchEnabled != null) {
+            answer.put("prefetchEnabled", this.prefetchEnabled);
+        }
+        if (this.prefetchGlobal != null) {
+            answer.put("prefetchGlobal", this.prefetchGlobal);
+        }
+        if (this.prefetchSize != null) {
+            answer.put("prefetchSize", this.prefetchSize);
+        }
+        if (this.recoverFromDeclareException != null) {
+            answer.put("recoverFromDeclareException", this.recoverFromDeclareException);
+        }
+        if (this.threadPoolSize != null) {
+            answer.put("threadPoolSize", this.threadPoolSize);
+        }
+        if (this.additionalHeaders != null) {
+            answer.put("additionalHeaders", this.additionalHeaders);
+        }
+        if (this.additionalProperties != null) {
+            answer.put("additionalProperties", this.additionalProperties);
+        }
+        if (this.allowNullHeaders != null) {
+            answer.put("allowNullHeaders", this.allowNullHeaders);
+        }
+        if (this.channelPoolMaxSize != null) {
+            answer.put("channelPoolMaxSize", this.channelPoolMaxSize);
+        }
+        if (this.channelPoolMaxWait != null) {
+            answer.put("channelPoolMaxWait", this.channelPoolMaxWait);
+        }
+        if (this.guaranteedDeliveries != null) {
+            answer.put("guaranteedDeliveries", this.guaranteedDeliveries);
+        }
+        if (this.immediate != null) {
+            answer.put("immediate", this.immediate);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.mandatory != null) {
+            answer.put("mandatory", this.mandatory);
+        }
+        if (this.publisherAcknowledgements != null) {
+            answer.put("publisherAcknowledgements", this.publisherAcknowledgements);
+        }
+        if (this.publisherAcknowledgementsTimeout != null) {
+            answer.put("publisherAcknowledgementsTimeout", this.publisherAcknowledgementsTimeout);
+        }
+        if (this.args != null) {
+            answer.put("args", this.args);
+        }
+        if (this.autoDetectConnectionFactory != null) {
+            answer.put("autoDetectConnectionFactory", this.autoDetectConnectionFactory);
+        }
+        if (this.automaticRecoveryEnabled != null) {
+            answer.put("automaticRecoveryEnabled", this.automaticRecoveryEnabled);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.clientProperties != null) {
+            answer.put("clientProperties", this.clientProperties);
+        }
+        if (this.connectionFactoryExceptionHandler != null) {
+            answer.put("connectionFactoryExceptionHandler", this.connectionFactoryExceptionHandler);
+        }
+        if (this.connectionTimeout != null) {
+            answer.put("connectionTimeout", this.connectionTimeout);
+        }
+        if (this.networkRecoveryInterval != null) {
+            answer.put("networkRecoveryInterval", this.networkRecoveryInterval);
+        }
+        if (this.requestedChannelMax != null) {
+            answer.put("requestedChannelMax", this.requestedChannelMax);
+        }
+        if (this.requestedFrameMax != null) {
+            answer.put("requestedFrameMax", this.requestedFrameMax);
+        }
+        if (this.requestedHeartbeat != null) {
+            answer.put("requestedHeartbeat", this.requestedHeartbeat);
+        }
+        if (this.requestTimeout != null) {
+            answer.put("requestTimeout", this.requestTimeout);
+        }
+        if (this.requestTimeoutCheckerInterval != null) {
+            answer.put("requestTimeoutCheckerInterval", this.requestTimeoutCheckerInterval);
+        }
+        if (this.topologyRecoveryEnabled != null) {
+            answer.put("topologyRecoveryEnabled", this.topologyRecoveryEnabled);
+        }
+        if (this.transferException != null) {
+            answer.put("transferException", this.transferException);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.sslProtocol != null) {
+            answer.put("sslProtocol", this.sslProtocol);
+        }
+        if (this.trustManager != null) {
+            answer.put("trustManager", this.trustManager);
+        }
+        if (this.username != null) {
+            answer.put("username", this.username);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
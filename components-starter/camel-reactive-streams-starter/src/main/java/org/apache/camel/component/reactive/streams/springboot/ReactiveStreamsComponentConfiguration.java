@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.reactive.streams.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsBackpressureStrategy;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsComponent;
 import org.apache.camel.component.reactive.streams.engine.ReactiveStreamsEngineConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.reactive-streams")
 public class ReactiveStreamsComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the reactive-streams component.
@@ -174,4 +179,37 @@ public class ReactiveStreamsComponentConfiguration
     public void setServiceType(String serviceType) {
         this.serviceType = serviceType;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.threadPoolMaxSize != null) {
+            answer.put("threadPoolMaxSize", this.threadPoolMaxSize);
+        }
+        if (this.threadPoolMinSize != null) {
+            answer.put("threadPoolMinSize", this.threadPoolMinSize);
+        }
+        if (this.threadPoolName != null) {
+            answer.put("threadPoolName", this.threadPoolName);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.backpressureStrategy != null) {
+            answer.put("backpressureStrategy", this.backpressureStrategy);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.reactiveStreamsEngineConfiguration != null) {
+            answer.put("reactiveStreamsEngineConfiguration", this.reactiveStreamsEngineConfiguration);
+        }
+        if (this.serviceType != null) {
+            answer.put("serviceType", this.serviceType);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -17,8 +17,11 @@
 package org.apache.camel.component.rest.swagger.springboot;
 
 import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.rest-swagger")
 public class RestSwaggerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the rest-swagger component. This
@@ -212,4 +217,43 @@ public class RestSwaggerComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.basePath != null) {
+            answer.put("basePath", this.basePath);
+        }
+        if (this.componentName != null) {
+            answer.put("componentName", this.componentName);
+        }
+        if (this.consumes != null) {
+            answer.put("consumes", this.consumes);
+        }
+        if (this.host != null) {
+            answer.put("host", this.host);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.produces != null) {
+            answer.put("produces", this.produces);
+        }
+        if (this.resolveReferences != null) {
+            answer.put("resolveReferences", this.resolveReferences);
+        }
+        if (this.specificationUri != null) {
+            answer.put("specificationUri", this.specificationUri);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.resteasy.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.resteasy")
 public class ResteasyComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the resteasy component. This is
@@ -304,4 +309,67 @@ public class ResteasyComponentConfiguration
             HeaderFilterStrategy headerFilterStrategy) {
         this.headerFilterStrategy = headerFilterStrategy;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.muteException != null) {
+            answer.put("muteException", this.muteException);
+        }
+        if (this.proxyConsumersClasses != null) {
+            answer.put("proxyConsumersClasses", this.proxyConsumersClasses);
+        }
+        if (this.copyHeaders != null) {
+            answer.put("copyHeaders", this.copyHeaders);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.responsePayloadStreamingThreshold != null) {
+            answer.put("responsePayloadStreamingThreshold", this.responsePayloadStreamingThreshold);
+        }
+        if (this.followRedirects != null) {
+            answer.put("followRedirects", this.followRedirects);
+        }
+        if (this.skipRequestHeaders != null) {
+            answer.put("skipRequestHeaders", this.skipRequestHeaders);
+        }
+        if (this.skipResponseHeaders != null) {
+            answer.put("skipResponseHeaders", this.skipResponseHeaders);
+        }
+        if (this.allowJavaSerializedObject != null) {
+            answer.put("allowJavaSerializedObject", this.allowJavaSerializedObject);
+        }
+        if (this.authCachingDisabled != null) {
+            answer.put("authCachingDisabled", this.authCachingDisabled);
+        }
+        if (this.automaticRetriesDisabled != null) {
+            answer.put("automaticRetriesDisabled", this.automaticRetriesDisabled);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.connectionStateDisabled != null) {
+            answer.put("connectionStateDisabled", this.connectionStateDisabled);
+        }
+        if (this.contentCompressionDisabled != null) {
+            answer.put("contentCompressionDisabled", this.contentCompressionDisabled);
+        }
+        if (this.cookieManagementDisabled != null) {
+            answer.put("cookieManagementDisabled", this.cookieManagementDisabled);
+        }
+        if (this.defaultUserAgentDisabled != null) {
+            answer.put("defaultUserAgentDisabled", this.defaultUserAgentDisabled);
+        }
+        if (this.redirectHandlingDisabled != null) {
+            answer.put("redirectHandlingDisabled", this.redirectHandlingDisabled);
+        }
+        if (this.headerFilterStrategy != null) {
+            answer.put("headerFilterStrategy", this.headerFilterStrategy);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
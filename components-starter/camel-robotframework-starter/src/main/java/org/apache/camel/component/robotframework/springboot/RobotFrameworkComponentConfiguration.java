@@ -17,9 +17,12 @@
 package org.apache.camel.component.robotframework.springboot;
 
 import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.robotframework.RobotFrameworkCamelConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.robotframework")
 public class RobotFrameworkComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the robotframework component.
@@ -695,4 +700,163 @@ public class RobotFrameworkComponentConfiguration
     public void setConfiguration(RobotFrameworkCamelConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.allowContextMapAll != null) {
+            answer.put("allowContextMapAll", this.allowContextMapAll);
+        }
+        if (this.allowTemplateFromHeader != null) {
+            answer.put("allowTemplateFromHeader", this.allowTemplateFromHeader);
+        }
+        if (this.argumentFile != null) {
+            answer.put("argumentFile", this.argumentFile);
+        }
+        if (this.combinedTagStats != null) {
+            answer.put("combinedTagStats", this.combinedTagStats);
+        }
+        if (this.criticalTags != null) {
+            answer.put("criticalTags", this.criticalTags);
+        }
+        if (this.debugFile != null) {
+            answer.put("debugFile", this.debugFile);
+        }
+        if (this.document != null) {
+            answer.put("document", this.document);
+        }
+        if (this.dryrun != null) {
+            answer.put("dryrun", this.dryrun);
+        }
+        if (this.excludes != null) {
+            answer.put("excludes", this.excludes);
+        }
+        if (this.exitOnFailure != null) {
+            answer.put("exitOnFailure", this.exitOnFailure);
+        }
+        if (this.includes != null) {
+            answer.put("includes", this.includes);
+        }
+        if (this.listener != null) {
+            answer.put("listener", this.listener);
+        }
+        if (this.listeners != null) {
+            answer.put("listeners", this.listeners);
+        }
+        if (this.log != null) {
+            answer.put("log", this.log);
+        }
+        if (this.logLevel != null) {
+            answer.put("logLevel", this.logLevel);
+        }
+        if (this.logTitle != null) {
+            answer.put("logTitle", this.logTitle);
+        }
+        if (this.metadata != null) {
+            answer.put("metadata", this.metadata);
+        }
+        if (this.monitorColors != null) {
+            answer.put("monitorColors", this.monitorColors);
+        }
+        if (this.monitorWidth != null) {
+            answer.put("monitorWidth", this.monitorWidth);
+        }
+        if (this.name != null) {
+            answer.put("name", this.name);
+        }
+        if (this.nonCriticalTags != null) {
+            answer.put("nonCriticalTags", this.nonCriticalTags);
+        }
+        if (this.noStatusReturnCode != null) {
+            answer.put("noStatusReturnCode", this.noStatusReturnCode);
+        }
+        if (this.output != null) {
+            answer.put("output", this.output);
+        }
+        if (this.outputDirectory != null) {
+            answer.put("outputDirectory", this.outputDirectory);
+        }
+        if (this.randomize != null) {
+            answer.put("randomize", this.randomize);
+        }
+        if (this.report != null) {
+            answer.put("report", this.report);
+        }
+        if (this.reportBackground != null) {
+            answer.put("reportBackground", this.reportBackground);
+        }
+        if (this.reportTitle != null) {
+            answer.put("reportTitle", this.reportTitle);
+        }
+        if (this.runEmptySuite != null) {
+            answer.put("runEmptySuite", this.runEmptySuite);
+        }
+        if (this.runFailed != null) {
+            answer.put("runFailed", this.runFailed);
+        }
+        if (this.runMode != null) {
+            answer.put("runMode", this.runMode);
+        }
+        if (this.skipTeardownOnExit != null) {
+            answer.put("skipTeardownOnExit", this.skipTeardownOnExit);
+        }
+        if (this.splitOutputs != null) {
+            answer.put("splitOutputs", this.splitOutputs);
+        }
+        if (this.suites != null) {
+            answer.put("suites", this.suites);
+        }
+        if (this.suiteStatLevel != null) {
+            answer.put("suiteStatLevel", this.suiteStatLevel);
+        }
+        if (this.summaryTitle != null) {
+            answer.put("summaryTitle", this.summaryTitle);
+        }
+        if (this.tagDocs != null) {
+            answer.put("tagDocs", this.tagDocs);
+        }
+        if (this.tags != null) {
+            answer.put("tags", this.tags);
+        }
+        if (this.tagStatExcludes != null) {
+            answer.put("tagStatExcludes", this.tagStatExcludes);
+        }
+        if (this.tagStatIncludes != null) {
+            answer.put("tagStatIncludes", this.tagStatIncludes);
+        }
+        if (this.tagStatLinks != null) {
+            answer.put("tagStatLinks", this.tagStatLinks);
+        }
+        if (this.tests != null) {
+            answer.put("tests", this.tests);
+        }
+        if (this.timestampOutputs != null) {
+            answer.put("timestampOutputs", this.timestampOutputs);
+        }
+        if (this.variableFiles != null) {
+            answer.put("variableFiles", this.variableFiles);
+        }
+        if (this.variables != null) {
+            answer.put("variables", this.variables);
+        }
+        if (this.warnOnSkippedFiles != null) {
+            answer.put("warnOnSkippedFiles", this.warnOnSkippedFiles);
+        }
+        if (this.xunitFile != null) {
+            answer.put("xunitFile", this.xunitFile);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.salesforce.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Generated;
@@ -32,6 +33,7 @@ import org.apache.camel.component.salesforce.internal.PayloadFormat;
 import org.apache.camel.component.salesforce.internal.dto.NotifyForFieldsEnum;
 import org.apache.camel.component.salesforce.internal.dto.NotifyForOperationsEnum;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.KeyStoreParameters;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -45,7 +47,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.salesforce")
 public class SalesforceComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the salesforce component. This is
@@ -1269,4 +1273,286 @@ public class SalesforceComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.apexMethod != null) {
+            answer.put("apexMethod", this.apexMethod);
+        }
+        if (this.apexQueryParams != null) {
+            answer.put("apexQueryParams", this.apexQueryParams);
+        }
+        if (this.apiVersion != null) {
+            answer.put("apiVersion", this.apiVersion);
+        }
+        if (this.backoffIncrement != null) {
+            answer.put("backoffIncrement", this.backoffIncrement);
+        }
+        if (this.batchId != null) {
+            answer.put("batchId", this.batchId);
+        }
+        if (this.contentType != null) {
+            answer.put("contentType", this.contentType);
+        }
+        if (this.defaultReplayId != null) {
+            answer.put("defaultReplayId", this.defaultReplayId);
+        }
+        if (this.fallBackReplayId != null) {
+            answer.put("fallBackReplayId", this.fallBackReplayId);
+        }
+        if (this.format != null) {
+            answer.put("format", this.format);
+        }
+        if (this.httpClient != null) {
+            answer.put("httpClient", this.httpClient);
+        }
+        if (this.httpClientConnectionTimeout != null) {
+            answer.put("httpClientConnectionTimeout", this.httpClientConnectionTimeout);
+        }
+        if (this.httpClientIdleTimeout != null) {
+            answer.put("httpClientIdleTimeout", this.httpClientIdleTimeout);
+        }
+        if (this.httpMaxContentLength != null) {
+            answer.put("httpMaxContentLength", this.httpMaxContentLength);
+        }
+        if (this.httpRequestBufferSize != null) {
+            answer.put("httpRequestBufferSize", this.httpRequestBufferSize);
+        }
+        if (this.httpRequestTimeout != null) {
+            answer.put("httpRequestTimeout", this.httpRequestTimeout);
+        }
+        if (this.includeDetails != null) {
+            answer.put("includeDetails", this.includeDetails);
+        }
+        if (this.initialReplayIdMap != null) {
+            answer.put("initialReplayIdMap", this.initialReplayIdMap);
+        }
+        if (this.instanceId != null) {
+            answer.put("instanceId", this.instanceId);
+        }
+        if (this.jobId != null) {
+            answer.put("jobId", this.jobId);
+        }
+        if (this.limit != null) {
+            answer.put("limit", this.limit);
+        }
+        if (this.locator != null) {
+            answer.put("locator", this.locator);
+        }
+        if (this.maxBackoff != null) {
+            answer.put("maxBackoff", this.maxBackoff);
+        }
+        if (this.maxRecords != null) {
+            answer.put("maxRecords", this.maxRecords);
+        }
+        if (this.notFoundBehaviour != null) {
+            answer.put("notFoundBehaviour", this.notFoundBehaviour);
+        }
+        if (this.notifyForFields != null) {
+            answer.put("notifyForFields", this.notifyForFields);
+        }
+        if (this.notifyForOperationCreate != null) {
+            answer.put("notifyForOperationCreate", this.notifyForOperationCreate);
+        }
+        if (this.notifyForOperationDelete != null) {
+            answer.put("notifyForOperationDelete", this.notifyForOperationDelete);
+        }
+        if (this.notifyForOperations != null) {
+            answer.put("notifyForOperations", this.notifyForOperations);
+        }
+        if (this.notifyForOperationUndelete != null) {
+            answer.put("notifyForOperationUndelete", this.notifyForOperationUndelete);
+        }
+        if (this.notifyForOperationUpdate != null) {
+            answer.put("notifyForOperationUpdate", this.notifyForOperationUpdate);
+        }
+        if (this.objectMapper != null) {
+            answer.put("objectMapper", this.objectMapper);
+        }
+        if (this.packages != null) {
+            answer.put("packages", this.packages);
+        }
+        if (this.pkChunking != null) {
+            answer.put("pkChunking", this.pkChunking);
+        }
+        if (this.pkChunkingChunkSize != null) {
+            answer.put("pkChunkingChunkSize", this.pkChunkingChunkSize);
+        }
+        if (this.pkChunkingParent != null) {
+            answer.put("pkChunkingParent", this.pkChunkingParent);
+        }
+        if (this.pkChunkingStartRow != null) {
+            answer.put("pkChunkingStartRow", this.pkChunkingStartRow);
+        }
+        if (this.queryLocator != null) {
+            answer.put("queryLocator", this.queryLocator);
+        }
+        if (this.rawPayload != null) {
+            answer.put("rawPayload", this.rawPayload);
+        }
+        if (this.reportId != null) {
+            answer.put("reportId", this.reportId);
+        }
+        if (this.reportMetadata != null) {
+            answer.put("reportMetadata", this.reportMetadata);
+        }
+        if (this.resultId != null) {
+            answer.put("resultId", this.resultId);
+        }
+        if (this.sObjectBlobFieldName != null) {
+            answer.put("sObjectBlobFieldName", this.sObjectBlobFieldName);
+        }
+        if (this.sObjectClass != null) {
+            answer.put("sObjectClass", this.sObjectClass);
+        }
+        if (this.sObjectFields != null) {
+            answer.put("sObjectFields", this.sObjectFields);
+        }
+        if (this.sObjectId != null) {
+            answer.put("sObjectId", this.sObjectId);
+        }
+        if (this.sObjectIdName != null) {
+            answer.put("sObjectIdName", this.sObjectIdName);
+        }
+        if (this.sObjectIdValue != null) {
+            answer.put("sObjectIdValue", this.sObjectIdValue);
+        }
+        if (this.sObjectName != null) {
+            answer.put("sObjectName", this.sObjectName);
+        }
+        if (this.sObjectQuery != null) {
+            answer.put("sObjectQuery", this.sObjectQuery);
+        }
+        if (this.sObjectSearch != null) {
+            answer.put("sObjectSearch", this.sObjectSearch);
+        }
+        if (this.streamQueryResult != null) {
+            answer.put("streamQueryResult", this.streamQueryResult);
+        }
+        if (this.updateTopic != null) {
+            answer.put("updateTopic", this.updateTopic);
+        }
+        if (this.config != null) {
+            answer.put("config", this.config);
+        }
+        if (this.httpClientProperties != null) {
+            answer.put("httpClientProperties", this.httpClientProperties);
+        }
+        if (this.longPollingTransportProperties != null) {
+            answer.put("longPollingTransportProperties", this.longPollingTransportProperties);
+        }
+        if (this.workerPoolMaxSize != null) {
+            answer.put("workerPoolMaxSize", this.workerPoolMaxSize);
+        }
+        if (this.workerPoolSize != null) {
+            answer.put("workerPoolSize", this.workerPoolSize);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.allOrNone != null) {
+            answer.put("allOrNone", this.allOrNone);
+        }
+        if (this.apexUrl != null) {
+            answer.put("apexUrl", this.apexUrl);
+        }
+        if (this.compositeMethod != null) {
+            answer.put("compositeMethod", this.compositeMethod);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.rawHttpHeaders != null) {
+            answer.put("rawHttpHeaders", this.rawHttpHeaders);
+        }
+        if (this.rawMethod != null) {
+            answer.put("rawMethod", this.rawMethod);
+        }
+        if (this.rawPath != null) {
+            answer.put("rawPath", this.rawPath);
+        }
+        if (this.rawQueryParameters != null) {
+            answer.put("rawQueryParameters", this.rawQueryParameters);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.httpProxyExcludedAddresses != null) {
+            answer.put("httpProxyExcludedAddresses", this.httpProxyExcludedAddresses);
+        }
+        if (this.httpProxyHost != null) {
+            answer.put("httpProxyHost", this.httpProxyHost);
+        }
+        if (this.httpProxyIncludedAddresses != null) {
+            answer.put("httpProxyIncludedAddresses", this.httpProxyIncludedAddresses);
+        }
+        if (this.httpProxyPort != null) {
+            answer.put("httpProxyPort", this.httpProxyPort);
+        }
+        if (this.httpProxySocks4 != null) {
+            answer.put("httpProxySocks4", this.httpProxySocks4);
+        }
+        if (this.authenticationType != null) {
+            answer.put("authenticationType", this.authenticationType);
+        }
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.clientSecret != null) {
+            answer.put("clientSecret", this.clientSecret);
+        }
+        if (this.httpProxyAuthUri != null) {
+            answer.put("httpProxyAuthUri", this.httpProxyAuthUri);
+        }
+        if (this.httpProxyPassword != null) {
+            answer.put("httpProxyPassword", this.httpProxyPassword);
+        }
+        if (this.httpProxyRealm != null) {
+            answer.put("httpProxyRealm", this.httpProxyRealm);
+        }
+        if (this.httpProxySecure != null) {
+            answer.put("httpProxySecure", this.httpProxySecure);
+        }
+        if (this.httpProxyUseDigestAuth != null) {
+            answer.put("httpProxyUseDigestAuth", this.httpProxyUseDigestAuth);
+        }
+        if (this.httpProxyUsername != null) {
+            answer.put("httpProxyUsername", this.httpProxyUsername);
+        }
+        if (this.instanceUrl != null) {
+            answer.put("instanceUrl", this.instanceUrl);
+        }
+        if (this.jwtAudience != null) {
+            answer.put("jwtAudience", this.jwtAudience);
+        }
+        if (this.keystore != null) {
+            answer.put("keystore", this.keystore);
+        }
+        if (this.lazyLogin != null) {
+            answer.put("lazyLogin", this.lazyLogin);
+        }
+        if (this.loginConfig != null) {
+            answer.put("loginConfig", this.loginConfig);
+        }
+        if (this.loginUrl != null) {
+            answer.put("loginUrl", this.loginUrl);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.refreshToken != null) {
+            answer.put("refreshToken", this.refreshToken);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        if (this.userName != null) {
+            answer.put("userName", this.userName);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.seda.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.Exchange;
 import org.apache.camel.component.seda.BlockingQueueFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.seda")
 public class SedaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the seda component. This is
@@ -191,4 +196,40 @@ public class SedaComponentConfiguration
     public void setQueueSize(Integer queueSize) {
         this.queueSize = queueSize;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.concurrentConsumers != null) {
+            answer.put("concurrentConsumers", this.concurrentConsumers);
+        }
+        if (this.defaultPollTimeout != null) {
+            answer.put("defaultPollTimeout", this.defaultPollTimeout);
+        }
+        if (this.defaultBlockWhenFull != null) {
+            answer.put("defaultBlockWhenFull", this.defaultBlockWhenFull);
+        }
+        if (this.defaultDiscardWhenFull != null) {
+            answer.put("defaultDiscardWhenFull", this.defaultDiscardWhenFull);
+        }
+        if (this.defaultOfferTimeout != null) {
+            answer.put("defaultOfferTimeout", this.defaultOfferTimeout);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.defaultQueueFactory != null) {
+            answer.put("defaultQueueFactory", this.defaultQueueFactory);
+        }
+        if (this.queueSize != null) {
+            answer.put("queueSize", this.queueSize);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
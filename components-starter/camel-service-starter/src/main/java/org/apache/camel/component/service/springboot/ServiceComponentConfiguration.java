@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.service.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.cloud.ServiceRegistry;
 import org.apache.camel.cloud.ServiceRegistry.Selector;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.service")
 public class ServiceComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the service component. This is
@@ -99,4 +104,22 @@ public class ServiceComponentConfiguration
     public void setServiceSelector(Selector serviceSelector) {
         this.serviceSelector = serviceSelector;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.service != null) {
+            answer.put("service", this.service);
+        }
+        if (this.serviceSelector != null) {
+            answer.put("serviceSelector", this.serviceSelector);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
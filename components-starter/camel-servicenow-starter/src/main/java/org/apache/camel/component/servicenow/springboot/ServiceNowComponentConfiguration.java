@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.servicenow.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,6 +24,7 @@ import org.apache.camel.component.servicenow.ServiceNowComponent;
 import org.apache.camel.component.servicenow.ServiceNowConfiguration;
 import org.apache.camel.component.servicenow.ServiceNowRelease;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.cxf.configuration.security.ProxyAuthorizationPolicy;
 import org.apache.cxf.transports.http.configuration.HTTPClientPolicy;
@@ -37,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.servicenow")
 public class ServiceNowComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the servicenow component. This is
@@ -666,4 +670,154 @@ public class ServiceNowComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.display != null) {
+            answer.put("display", this.display);
+        }
+        if (this.displayValue != null) {
+            answer.put("displayValue", this.displayValue);
+        }
+        if (this.excludeReferenceLink != null) {
+            answer.put("excludeReferenceLink", this.excludeReferenceLink);
+        }
+        if (this.favorites != null) {
+            answer.put("favorites", this.favorites);
+        }
+        if (this.includeAggregates != null) {
+            answer.put("includeAggregates", this.includeAggregates);
+        }
+        if (this.includeAvailableAggregates != null) {
+            answer.put("includeAvailableAggregates", this.includeAvailableAggregates);
+        }
+        if (this.includeAvailableBreakdowns != null) {
+            answer.put("includeAvailableBreakdowns", this.includeAvailableBreakdowns);
+        }
+        if (this.includeScoreNotes != null) {
+            answer.put("includeScoreNotes", this.includeScoreNotes);
+        }
+        if (this.includeScores != null) {
+            answer.put("includeScores", this.includeScores);
+        }
+        if (this.inputDisplayValue != null) {
+            answer.put("inputDisplayValue", this.inputDisplayValue);
+        }
+        if (this.key != null) {
+            answer.put("key", this.key);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.models != null) {
+            answer.put("models", this.models);
+        }
+        if (this.perPage != null) {
+            answer.put("perPage", this.perPage);
+        }
+        if (this.release != null) {
+            answer.put("release", this.release);
+        }
+        if (this.requestModels != null) {
+            answer.put("requestModels", this.requestModels);
+        }
+        if (this.resource != null) {
+            answer.put("resource", this.resource);
+        }
+        if (this.responseModels != null) {
+            answer.put("responseModels", this.responseModels);
+        }
+        if (this.sortBy != null) {
+            answer.put("sortBy", this.sortBy);
+        }
+        if (this.sortDir != null) {
+            answer.put("sortDir", this.sortDir);
+        }
+        if (this.suppressAutoSysField != null) {
+            answer.put("suppressAutoSysField", this.suppressAutoSysField);
+        }
+        if (this.suppressPaginationHeader != null) {
+            answer.put("suppressPaginationHeader", this.suppressPaginationHeader);
+        }
+        if (this.table != null) {
+            answer.put("table", this.table);
+        }
+        if (this.target != null) {
+            answer.put("target", this.target);
+        }
+        if (this.topLevelOnly != null) {
+            answer.put("topLevelOnly", this.topLevelOnly);
+        }
+        if (this.apiVersion != null) {
+            answer.put("apiVersion", this.apiVersion);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.dateFormat != null) {
+            answer.put("dateFormat", this.dateFormat);
+        }
+        if (this.dateTimeFormat != null) {
+            answer.put("dateTimeFormat", this.dateTimeFormat);
+        }
+        if (this.httpClientPolicy != null) {
+            answer.put("httpClientPolicy", this.httpClientPolicy);
+        }
+        if (this.instanceName != null) {
+            answer.put("instanceName", this.instanceName);
+        }
+        if (this.mapper != null) {
+            answer.put("mapper", this.mapper);
+        }
+        if (this.proxyAuthorizationPolicy != null) {
+            answer.put("proxyAuthorizationPolicy", this.proxyAuthorizationPolicy);
+        }
+        if (this.retrieveTargetRecordOnImport != null) {
+            answer.put("retrieveTargetRecordOnImport", this.retrieveTargetRecordOnImport);
+        }
+        if (this.timeFormat != null) {
+            answer.put("timeFormat", this.timeFormat);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.apiUrl != null) {
+            answer.put("apiUrl", this.apiUrl);
+        }
+        if (this.oauthClientId != null) {
+            answer.put("oauthClientId", this.oauthClientId);
+        }
+        if (this.oauthClientSecret != null) {
+            answer.put("oauthClientSecret", this.oauthClientSecret);
+        }
+        if (this.oauthTokenUrl != null) {
+            answer.put("oauthTokenUrl", this.oauthTokenUrl);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.proxyPassword != null) {
+            answer.put("proxyPassword", this.proxyPassword);
+        }
+        if (this.proxyUserName != null) {
+            answer.put("proxyUserName", this.proxyUserName);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        if (this.userName != null) {
+            answer.put("userName", this.userName);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.sjms.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import javax.jms.ConnectionFactory;
 import javax.jms.ExceptionListener;
@@ -24,6 +26,7 @@ import org.apache.camel.component.sjms.jms.JmsKeyFormatStrategy;
 import org.apache.camel.component.sjms.jms.MessageCreatedStrategy;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -36,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.sjms")
 public class SjmsComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the sjms component. This is
@@ -235,4 +240,46 @@ public class SjmsComponentConfiguration
             HeaderFilterStrategy headerFilterStrategy) {
         this.headerFilterStrategy = headerFilterStrategy;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.connectionFactory != null) {
+            answer.put("connectionFactory", this.connectionFactory);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.destinationCreationStrategy != null) {
+            answer.put("destinationCreationStrategy", this.destinationCreationStrategy);
+        }
+        if (this.exceptionListener != null) {
+            answer.put("exceptionListener", this.exceptionListener);
+        }
+        if (this.jmsKeyFormatStrategy != null) {
+            answer.put("jmsKeyFormatStrategy", this.jmsKeyFormatStrategy);
+        }
+        if (this.messageCreatedStrategy != null) {
+            answer.put("messageCreatedStrategy", this.messageCreatedStrategy);
+        }
+        if (this.recoveryInterval != null) {
+            answer.put("recoveryInterval", this.recoveryInterval);
+        }
+        if (this.replyToOnTimeoutMaxConcurrentConsumers != null) {
+            answer.put("replyToOnTimeoutMaxConcurrentConsumers", this.replyToOnTimeoutMaxConcurrentConsumers);
+        }
+        if (this.requestTimeoutCheckerInterval != null) {
+            answer.put("requestTimeoutCheckerInterval", this.requestTimeoutCheckerInterval);
+        }
+        if (this.headerFilterStrategy != null) {
+            answer.put("headerFilterStrategy", this.headerFilterStrategy);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
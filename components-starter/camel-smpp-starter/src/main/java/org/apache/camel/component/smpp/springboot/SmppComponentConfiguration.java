@@ -16,12 +16,14 @@
  */
 package org.apache.camel.component.smpp.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.smpp.SmppComponent;
 import org.apache.camel.component.smpp.SmppConfiguration;
 import org.apache.camel.component.smpp.SmppSplittingPolicy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.jsmpp.session.SessionStateListener;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -34,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.smpp")
 public class SmppComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the smpp component. This is
@@ -629,4 +633,133 @@ public class SmppComponentConfiguration
     public void setUsingSSL(Boolean usingSSL) {
         this.usingSSL = usingSSL;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.initialReconnectDelay != null) {
+            answer.put("initialReconnectDelay", this.initialReconnectDelay);
+        }
+        if (this.maxReconnect != null) {
+            answer.put("maxReconnect", this.maxReconnect);
+        }
+        if (this.reconnectDelay != null) {
+            answer.put("reconnectDelay", this.reconnectDelay);
+        }
+        if (this.splittingPolicy != null) {
+            answer.put("splittingPolicy", this.splittingPolicy);
+        }
+        if (this.systemType != null) {
+            answer.put("systemType", this.systemType);
+        }
+        if (this.addressRange != null) {
+            answer.put("addressRange", this.addressRange);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.destAddr != null) {
+            answer.put("destAddr", this.destAddr);
+        }
+        if (this.destAddrNpi != null) {
+            answer.put("destAddrNpi", this.destAddrNpi);
+        }
+        if (this.destAddrTon != null) {
+            answer.put("destAddrTon", this.destAddrTon);
+        }
+        if (this.lazySessionCreation != null) {
+            answer.put("lazySessionCreation", this.lazySessionCreation);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.numberingPlanIndicator != null) {
+            answer.put("numberingPlanIndicator", this.numberingPlanIndicator);
+        }
+        if (this.priorityFlag != null) {
+            answer.put("priorityFlag", this.priorityFlag);
+        }
+        if (this.protocolId != null) {
+            answer.put("protocolId", this.protocolId);
+        }
+        if (this.registeredDelivery != null) {
+            answer.put("registeredDelivery", this.registeredDelivery);
+        }
+        if (this.replaceIfPresentFlag != null) {
+            answer.put("replaceIfPresentFlag", this.replaceIfPresentFlag);
+        }
+        if (this.serviceType != null) {
+            answer.put("serviceType", this.serviceType);
+        }
+        if (this.sourceAddr != null) {
+            answer.put("sourceAddr", this.sourceAddr);
+        }
+        if (this.sourceAddrNpi != null) {
+            answer.put("sourceAddrNpi", this.sourceAddrNpi);
+        }
+        if (this.sourceAddrTon != null) {
+            answer.put("sourceAddrTon", this.sourceAddrTon);
+        }
+        if (this.typeOfNumber != null) {
+            answer.put("typeOfNumber", this.typeOfNumber);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.enquireLinkTimer != null) {
+            answer.put("enquireLinkTimer", this.enquireLinkTimer);
+        }
+        if (this.pduProcessorDegree != null) {
+            answer.put("pduProcessorDegree", this.pduProcessorDegree);
+        }
+        if (this.pduProcessorQueueCapacity != null) {
+            answer.put("pduProcessorQueueCapacity", this.pduProcessorQueueCapacity);
+        }
+        if (this.sessionStateListener != null) {
+            answer.put("sessionStateListener", this.sessionStateListener);
+        }
+        if (this.singleDLR != null) {
+            answer.put("singleDLR", this.singleDLR);
+        }
+        if (this.transactionTimer != null) {
+            answer.put("transactionTimer", this.transactionTimer);
+        }
+        if (this.alphabet != null) {
+            answer.put("alphabet", this.alphabet);
+        }
+        if (this.dataCoding != null) {
+            answer.put("dataCoding", this.dataCoding);
+        }
+        if (this.encoding != null) {
+            answer.put("encoding", this.encoding);
+        }
+        if (this.httpProxyHost != null) {
+            answer.put("httpProxyHost", this.httpProxyHost);
+        }
+        if (this.httpProxyPassword != null) {
+            answer.put("httpProxyPassword", this.httpProxyPassword);
+        }
+        if (this.httpProxyPort != null) {
+            answer.put("httpProxyPort", this.httpProxyPort);
+        }
+        if (this.httpProxyUsername != null) {
+            answer.put("httpProxyUsername", this.httpProxyUsername);
+        }
+        if (this.proxyHeaders != null) {
+            answer.put("proxyHeaders", this.proxyHeaders);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.systemId != null) {
+            answer.put("systemId", this.systemId);
+        }
+        if (this.usingSSL != null) {
+            answer.put("usingSSL", this.usingSSL);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.snakeyaml.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.snake-yaml")
 public class SnakeYAMLDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the snakeYaml data format. This
@@ -158,4 +163,40 @@ public class SnakeYAMLDataFormatConfiguration
     public void setAllowRecursiveKeys(Boolean allowRecursiveKeys) {
         this.allowRecursiveKeys = allowRecursiveKeys;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.unmarshalType != null) {
+            answer.put("unmarshalType", this.unmarshalType);
+        }
+        if (this.constructor != null) {
+            answer.put("constructor", this.constructor);
+        }
+        if (this.representer != null) {
+            answer.put("representer", this.representer);
+        }
+        if (this.dumperOptions != null) {
+            answer.put("dumperOptions", this.dumperOptions);
+        }
+        if (this.resolver != null) {
+            answer.put("resolver", this.resolver);
+        }
+        if (this.useApplicationContextClassLoader != null) {
+            answer.put("useApplicationContextClassLoader", this.useApplicationContextClassLoader);
+        }
+        if (this.prettyFlow != null) {
+            answer.put("prettyFlow", this.prettyFlow);
+        }
+        if (this.allowAnyType != null) {
+            answer.put("allowAnyType", this.allowAnyType);
+        }
+        if (this.maxAliasesForCollections != null) {
+            answer.put("maxAliasesForCollections", this.maxAliasesForCollections);
+        }
+        if (this.allowRecursiveKeys != null) {
+            answer.put("allowRecursiveKeys", this.allowRecursiveKeys);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
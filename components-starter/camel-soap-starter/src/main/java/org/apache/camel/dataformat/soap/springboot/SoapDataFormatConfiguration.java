@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.soap.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.soap")
 public class SoapDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the soap data format. This is
@@ -130,4 +135,28 @@ public class SoapDataFormatConfiguration
     public void setSchema(String schema) {
         this.schema = schema;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.contextPath != null) {
+            answer.put("contextPath", this.contextPath);
+        }
+        if (this.encoding != null) {
+            answer.put("encoding", this.encoding);
+        }
+        if (this.elementNameStrategyRef != null) {
+            answer.put("elementNameStrategyRef", this.elementNameStrategyRef);
+        }
+        if (this.version != null) {
+            answer.put("version", this.version);
+        }
+        if (this.namespacePrefixRef != null) {
+            answer.put("namespacePrefixRef", this.namespacePrefixRef);
+        }
+        if (this.schema != null) {
+            answer.put("schema", this.schema);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.springrabbit.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.springrabbit.ListenerContainerFactory;
 import org.apache.camel.component.springrabbit.MessagePropertiesConverter;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.MessageConverter;
@@ -37,7 +40,9 @@ import org.springframework.util.ErrorHandler;
 @ConfigurationProperties(prefix = "camel.component.spring-rabbitmq")
 public class SpringRabbitMQComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the spring-rabbitmq component.
@@ -452,4 +457,97 @@ public class SpringRabbitMQComponentConfiguration
             HeaderFilterStrategy headerFilterStrategy) {
         this.headerFilterStrategy = headerFilterStrategy;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.amqpAdmin != null) {
+            answer.put("amqpAdmin", this.amqpAdmin);
+        }
+        if (this.connectionFactory != null) {
+            answer.put("connectionFactory", this.connectionFactory);
+        }
+        if (this.testConnectionOnStartup != null) {
+            answer.put("testConnectionOnStartup", this.testConnectionOnStartup);
+        }
+        if (this.autoDeclare != null) {
+            answer.put("autoDeclare", this.autoDeclare);
+        }
+        if (this.autoStartup != null) {
+            answer.put("autoStartup", this.autoStartup);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.deadLetterExchange != null) {
+            answer.put("deadLetterExchange", this.deadLetterExchange);
+        }
+        if (this.deadLetterExchangeType != null) {
+            answer.put("deadLetterExchangeType", this.deadLetterExchangeType);
+        }
+        if (this.deadLetterQueue != null) {
+            answer.put("deadLetterQueue", this.deadLetterQueue);
+        }
+        if (this.deadLetterRoutingKey != null) {
+            answer.put("deadLetterRoutingKey", this.deadLetterRoutingKey);
+        }
+        if (this.maximumRetryAttempts != null) {
+            answer.put("maximumRetryAttempts", this.maximumRetryAttempts);
+        }
+        if (this.rejectAndDontRequeue != null) {
+            answer.put("rejectAndDontRequeue", this.rejectAndDontRequeue);
+        }
+        if (this.retryDelay != null) {
+            answer.put("retryDelay", this.retryDelay);
+        }
+        if (this.concurrentConsumers != null) {
+            answer.put("concurrentConsumers", this.concurrentConsumers);
+        }
+        if (this.errorHandler != null) {
+            answer.put("errorHandler", this.errorHandler);
+        }
+        if (this.listenerContainerFactory != null) {
+            answer.put("listenerContainerFactory", this.listenerContainerFactory);
+        }
+        if (this.maxConcurrentConsumers != null) {
+            answer.put("maxConcurrentConsumers", this.maxConcurrentConsumers);
+        }
+        if (this.messageListenerContainerType != null) {
+            answer.put("messageListenerContainerType", this.messageListenerContainerType);
+        }
+        if (this.prefetchCount != null) {
+            answer.put("prefetchCount", this.prefetchCount);
+        }
+        if (this.retry != null) {
+            answer.put("retry", this.retry);
+        }
+        if (this.shutdownTimeout != null) {
+            answer.put("shutdownTimeout", this.shutdownTimeout);
+        }
+        if (this.allowNullBody != null) {
+            answer.put("allowNullBody", this.allowNullBody);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.replyTimeout != null) {
+            answer.put("replyTimeout", this.replyTimeout);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.ignoreDeclarationExceptions != null) {
+            answer.put("ignoreDeclarationExceptions", this.ignoreDeclarationExceptions);
+        }
+        if (this.messageConverter != null) {
+            answer.put("messageConverter", this.messageConverter);
+        }
+        if (this.messagePropertiesConverter != null) {
+            answer.put("messagePropertiesConverter", this.messagePropertiesConverter);
+        }
+        if (this.headerFilterStrategy != null) {
+            answer.put("headerFilterStrategy", this.headerFilterStrategy);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
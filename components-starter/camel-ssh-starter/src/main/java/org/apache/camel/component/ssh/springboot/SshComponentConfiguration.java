@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.ssh.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.ssh.SshConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.sshd.common.keyprovider.KeyPairProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.ssh")
 public class SshComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the ssh component. This is
@@ -278,4 +283,61 @@ public class SshComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.failOnUnknownHost != null) {
+            answer.put("failOnUnknownHost", this.failOnUnknownHost);
+        }
+        if (this.knownHostsResource != null) {
+            answer.put("knownHostsResource", this.knownHostsResource);
+        }
+        if (this.timeout != null) {
+            answer.put("timeout", this.timeout);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.pollCommand != null) {
+            answer.put("pollCommand", this.pollCommand);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.channelType != null) {
+            answer.put("channelType", this.channelType);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.shellPrompt != null) {
+            answer.put("shellPrompt", this.shellPrompt);
+        }
+        if (this.sleepForShellPrompt != null) {
+            answer.put("sleepForShellPrompt", this.sleepForShellPrompt);
+        }
+        if (this.certResource != null) {
+            answer.put("certResource", this.certResource);
+        }
+        if (this.certResourcePassword != null) {
+            answer.put("certResourcePassword", this.certResourcePassword);
+        }
+        if (this.keyPairProvider != null) {
+            answer.put("keyPairProvider", this.keyPairProvider);
+        }
+        if (this.keyType != null) {
+            answer.put("keyType", this.keyType);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.username != null) {
+            answer.put("username", this.username);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
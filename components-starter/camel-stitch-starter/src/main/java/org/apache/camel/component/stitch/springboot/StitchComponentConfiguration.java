@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.stitch.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.stitch.StitchComponent;
 import org.apache.camel.component.stitch.StitchConfiguration;
@@ -23,6 +25,7 @@ import org.apache.camel.component.stitch.client.StitchClient;
 import org.apache.camel.component.stitch.client.StitchRegion;
 import org.apache.camel.component.stitch.client.models.StitchSchema;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
@@ -37,7 +40,9 @@ import reactor.netty.resources.ConnectionProvider;
 @ConfigurationProperties(prefix = "camel.component.stitch")
 public class StitchComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the stitch component. This is
@@ -187,4 +192,40 @@ public class StitchComponentConfiguration
     public void setToken(String token) {
         this.token = token;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.keyNames != null) {
+            answer.put("keyNames", this.keyNames);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.region != null) {
+            answer.put("region", this.region);
+        }
+        if (this.stitchSchema != null) {
+            answer.put("stitchSchema", this.stitchSchema);
+        }
+        if (this.connectionProvider != null) {
+            answer.put("connectionProvider", this.connectionProvider);
+        }
+        if (this.httpClient != null) {
+            answer.put("httpClient", this.httpClient);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.stitchClient != null) {
+            answer.put("stitchClient", this.stitchClient);
+        }
+        if (this.token != null) {
+            answer.put("token", this.token);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.tarfile.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.tar-file")
 public class TarFileDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the tarFile data format. This is
@@ -91,4 +96,22 @@ public class TarFileDataFormatConfiguration
     public void setMaxDecompressedSize(Long maxDecompressedSize) {
         this.maxDecompressedSize = maxDecompressedSize;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.usingIterator != null) {
+            answer.put("usingIterator", this.usingIterator);
+        }
+        if (this.allowEmptyDirectory != null) {
+            answer.put("allowEmptyDirectory", this.allowEmptyDirectory);
+        }
+        if (this.preservePathElements != null) {
+            answer.put("preservePathElements", this.preservePathElements);
+        }
+        if (this.maxDecompressedSize != null) {
+            answer.put("maxDecompressedSize", this.maxDecompressedSize);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.twitter.directmessage.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.twitter-directmessage")
 public class TwitterDirectMessageComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the twitter-directmessage
@@ -185,4 +190,43 @@ public class TwitterDirectMessageComponentConfiguration
     public void setConsumerSecret(String consumerSecret) {
         this.consumerSecret = consumerSecret;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.httpProxyHost != null) {
+            answer.put("httpProxyHost", this.httpProxyHost);
+        }
+        if (this.httpProxyPassword != null) {
+            answer.put("httpProxyPassword", this.httpProxyPassword);
+        }
+        if (this.httpProxyPort != null) {
+            answer.put("httpProxyPort", this.httpProxyPort);
+        }
+        if (this.httpProxyUser != null) {
+            answer.put("httpProxyUser", this.httpProxyUser);
+        }
+        if (this.accessToken != null) {
+            answer.put("accessToken", this.accessToken);
+        }
+        if (this.accessTokenSecret != null) {
+            answer.put("accessTokenSecret", this.accessTokenSecret);
+        }
+        if (this.consumerKey != null) {
+            answer.put("consumerKey", this.consumerKey);
+        }
+        if (this.consumerSecret != null) {
+            answer.put("consumerSecret", this.consumerSecret);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.univocity.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.univocity-csv")
 public class UniVocityCsvDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the univocityCsv data format.
@@ -252,4 +257,61 @@ public class UniVocityCsvDataFormatConfiguration
     public void setAsMap(Boolean asMap) {
         this.asMap = asMap;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.delimiter != null) {
+            answer.put("delimiter", this.delimiter);
+        }
+        if (this.quoteAllFields != null) {
+            answer.put("quoteAllFields", this.quoteAllFields);
+        }
+        if (this.quote != null) {
+            answer.put("quote", this.quote);
+        }
+        if (this.quoteEscape != null) {
+            answer.put("quoteEscape", this.quoteEscape);
+        }
+        if (this.nullValue != null) {
+            answer.put("nullValue", this.nullValue);
+        }
+        if (this.skipEmptyLines != null) {
+            answer.put("skipEmptyLines", this.skipEmptyLines);
+        }
+        if (this.ignoreTrailingWhitespaces != null) {
+            answer.put("ignoreTrailingWhitespaces", this.ignoreTrailingWhitespaces);
+        }
+        if (this.ignoreLeadingWhitespaces != null) {
+            answer.put("ignoreLeadingWhitespaces", this.ignoreLeadingWhitespaces);
+        }
+        if (this.headersDisabled != null) {
+            answer.put("headersDisabled", this.headersDisabled);
+        }
+        if (this.headerExtractionEnabled != null) {
+            answer.put("headerExtractionEnabled", this.headerExtractionEnabled);
+        }
+        if (this.numberOfRecordsToRead != null) {
+            answer.put("numberOfRecordsToRead", this.numberOfRecordsToRead);
+        }
+        if (this.emptyValue != null) {
+            answer.put("emptyValue", this.emptyValue);
+        }
+        if (this.lineSeparator != null) {
+            answer.put("lineSeparator", this.lineSeparator);
+        }
+        if (this.normalizedLineSeparator != null) {
+            answer.put("normalizedLineSeparator", this.normalizedLineSeparator);
+        }
+        if (this.comment != null) {
+            answer.put("comment", this.comment);
+        }
+        if (this.lazyLoad != null) {
+            answer.put("lazyLoad", this.lazyLoad);
+        }
+        if (this.asMap != null) {
+            answer.put("asMap", this.asMap);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.univocity.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.univocity-fixed")
 public class UniVocityFixedDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the univocityFixed data format.
@@ -242,4 +247,58 @@ public class UniVocityFixedDataFormatConfiguration
     public void setAsMap(Boolean asMap) {
         this.asMap = asMap;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.padding != null) {
+            answer.put("padding", this.padding);
+        }
+        if (this.skipTrailingCharsUntilNewline != null) {
+            answer.put("skipTrailingCharsUntilNewline", this.skipTrailingCharsUntilNewline);
+        }
+        if (this.recordEndsOnNewline != null) {
+            answer.put("recordEndsOnNewline", this.recordEndsOnNewline);
+        }
+        if (this.nullValue != null) {
+            answer.put("nullValue", this.nullValue);
+        }
+        if (this.skipEmptyLines != null) {
+            answer.put("skipEmptyLines", this.skipEmptyLines);
+        }
+        if (this.ignoreTrailingWhitespaces != null) {
+            answer.put("ignoreTrailingWhitespaces", this.ignoreTrailingWhitespaces);
+        }
+        if (this.ignoreLeadingWhitespaces != null) {
+            answer.put("ignoreLeadingWhitespaces", this.ignoreLeadingWhitespaces);
+        }
+        if (this.headersDisabled != null) {
+            answer.put("headersDisabled", this.headersDisabled);
+        }
+        if (this.headerExtractionEnabled != null) {
+            answer.put("headerExtractionEnabled", this.headerExtractionEnabled);
+        }
+        if (this.numberOfRecordsToRead != null) {
+            answer.put("numberOfRecordsToRead", this.numberOfRecordsToRead);
+        }
+        if (this.emptyValue != null) {
+            answer.put("emptyValue", this.emptyValue);
+        }
+        if (this.lineSeparator != null) {
+            answer.put("lineSeparator", this.lineSeparator);
+        }
+        if (this.normalizedLineSeparator != null) {
+            answer.put("normalizedLineSeparator", this.normalizedLineSeparator);
+        }
+        if (this.comment != null) {
+            answer.put("comment", this.comment);
+        }
+        if (this.lazyLoad != null) {
+            answer.put("lazyLoad", this.lazyLoad);
+        }
+        if (this.asMap != null) {
+            answer.put("asMap", this.asMap);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.vertx.http.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
@@ -23,6 +25,7 @@ import io.vertx.core.net.ProxyType;
 import org.apache.camel.component.vertx.http.VertxHttpBinding;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -35,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.vertx-http")
 public class VertxHttpComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the vertx-http component. This is
@@ -284,4 +289,64 @@ public class VertxHttpComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.responsePayloadAsByteArray != null) {
+            answer.put("responsePayloadAsByteArray", this.responsePayloadAsByteArray);
+        }
+        if (this.allowJavaSerializedObject != null) {
+            answer.put("allowJavaSerializedObject", this.allowJavaSerializedObject);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.vertx != null) {
+            answer.put("vertx", this.vertx);
+        }
+        if (this.vertxHttpBinding != null) {
+            answer.put("vertxHttpBinding", this.vertxHttpBinding);
+        }
+        if (this.vertxOptions != null) {
+            answer.put("vertxOptions", this.vertxOptions);
+        }
+        if (this.headerFilterStrategy != null) {
+            answer.put("headerFilterStrategy", this.headerFilterStrategy);
+        }
+        if (this.proxyHost != null) {
+            answer.put("proxyHost", this.proxyHost);
+        }
+        if (this.proxyPassword != null) {
+            answer.put("proxyPassword", this.proxyPassword);
+        }
+        if (this.proxyPort != null) {
+            answer.put("proxyPort", this.proxyPort);
+        }
+        if (this.proxyType != null) {
+            answer.put("proxyType", this.proxyType);
+        }
+        if (this.proxyUsername != null) {
+            answer.put("proxyUsername", this.proxyUsername);
+        }
+        if (this.basicAuthPassword != null) {
+            answer.put("basicAuthPassword", this.basicAuthPassword);
+        }
+        if (this.basicAuthUsername != null) {
+            answer.put("basicAuthUsername", this.basicAuthUsername);
+        }
+        if (this.bearerToken != null) {
+            answer.put("bearerToken", this.bearerToken);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
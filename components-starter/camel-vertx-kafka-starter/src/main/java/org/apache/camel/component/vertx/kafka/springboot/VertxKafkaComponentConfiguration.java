@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.vertx.kafka.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import io.vertx.core.Vertx;
@@ -25,6 +26,7 @@ import org.apache.camel.component.vertx.kafka.configuration.VertxKafkaConfigurat
 import org.apache.camel.component.vertx.kafka.offset.VertxKafkaManualCommitFactory;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -37,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.vertx-kafka")
 public class VertxKafkaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the vertx-kafka component. This
@@ -1752,4 +1756,328 @@ public class VertxKafkaComponentConfiguration
     public void setSslTruststoreType(String sslTruststoreType) {
         this.sslTruststoreType = sslTruststoreType;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.additionalProperties != null) {
+            answer.put("additionalProperties", this.additionalProperties);
+        }
+        if (this.bootstrapServers != null) {
+            answer.put("bootstrapServers", this.bootstrapServers);
+        }
+        if (this.clientDnsLookup != null) {
+            answer.put("clientDnsLookup", this.clientDnsLookup);
+        }
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.connectionsMaxIdleMs != null) {
+            answer.put("connectionsMaxIdleMs", this.connectionsMaxIdleMs);
+        }
+        if (this.headerFilterStrategy != null) {
+            answer.put("headerFilterStrategy", this.headerFilterStrategy);
+        }
+        if (this.interceptorClasses != null) {
+            answer.put("interceptorClasses", this.interceptorClasses);
+        }
+        if (this.metadataMaxAgeMs != null) {
+            answer.put("metadataMaxAgeMs", this.metadataMaxAgeMs);
+        }
+        if (this.metricReporters != null) {
+            answer.put("metricReporters", this.metricReporters);
+        }
+        if (this.metricsNumSamples != null) {
+            answer.put("metricsNumSamples", this.metricsNumSamples);
+        }
+        if (this.metricsRecordingLevel != null) {
+            answer.put("metricsRecordingLevel", this.metricsRecordingLevel);
+        }
+        if (this.metricsSampleWindowMs != null) {
+            answer.put("metricsSampleWindowMs", this.metricsSampleWindowMs);
+        }
+        if (this.partitionId != null) {
+            answer.put("partitionId", this.partitionId);
+        }
+        if (this.receiveBufferBytes != null) {
+            answer.put("receiveBufferBytes", this.receiveBufferBytes);
+        }
+        if (this.reconnectBackoffMaxMs != null) {
+            answer.put("reconnectBackoffMaxMs", this.reconnectBackoffMaxMs);
+        }
+        if (this.reconnectBackoffMs != null) {
+            answer.put("reconnectBackoffMs", this.reconnectBackoffMs);
+        }
+        if (this.requestTimeoutMs != null) {
+            answer.put("requestTimeoutMs", this.requestTimeoutMs);
+        }
+        if (this.retryBackoffMs != null) {
+            answer.put("retryBackoffMs", this.retryBackoffMs);
+        }
+        if (this.sendBufferBytes != null) {
+            answer.put("sendBufferBytes", this.sendBufferBytes);
+        }
+        if (this.socketConnectionSetupTimeoutMaxMs != null) {
+            answer.put("socketConnectionSetupTimeoutMaxMs", this.socketConnectionSetupTimeoutMaxMs);
+        }
+        if (this.socketConnectionSetupTimeoutMs != null) {
+            answer.put("socketConnectionSetupTimeoutMs", this.socketConnectionSetupTimeoutMs);
+        }
+        if (this.allowAutoCreateTopics != null) {
+            answer.put("allowAutoCreateTopics", this.allowAutoCreateTopics);
+        }
+        if (this.allowManualCommit != null) {
+            answer.put("allowManualCommit", this.allowManualCommit);
+        }
+        if (this.autoCommitIntervalMs != null) {
+            answer.put("autoCommitIntervalMs", this.autoCommitIntervalMs);
+        }
+        if (this.autoOffsetReset != null) {
+            answer.put("autoOffsetReset", this.autoOffsetReset);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.checkCrcs != null) {
+            answer.put("checkCrcs", this.checkCrcs);
+        }
+        if (this.clientRack != null) {
+            answer.put("clientRack", this.clientRack);
+        }
+        if (this.defaultApiTimeoutMs != null) {
+            answer.put("defaultApiTimeoutMs", this.defaultApiTimeoutMs);
+        }
+        if (this.enableAutoCommit != null) {
+            answer.put("enableAutoCommit", this.enableAutoCommit);
+        }
+        if (this.excludeInternalTopics != null) {
+            answer.put("excludeInternalTopics", this.excludeInternalTopics);
+        }
+        if (this.fetchMaxBytes != null) {
+            answer.put("fetchMaxBytes", this.fetchMaxBytes);
+        }
+        if (this.fetchMaxWaitMs != null) {
+            answer.put("fetchMaxWaitMs", this.fetchMaxWaitMs);
+        }
+        if (this.fetchMinBytes != null) {
+            answer.put("fetchMinBytes", this.fetchMinBytes);
+        }
+        if (this.groupId != null) {
+            answer.put("groupId", this.groupId);
+        }
+        if (this.groupInstanceId != null) {
+            answer.put("groupInstanceId", this.groupInstanceId);
+        }
+        if (this.heartbeatIntervalMs != null) {
+            answer.put("heartbeatIntervalMs", this.heartbeatIntervalMs);
+        }
+        if (this.isolationLevel != null) {
+            answer.put("isolationLevel", this.isolationLevel);
+        }
+        if (this.keyDeserializer != null) {
+            answer.put("keyDeserializer", this.keyDeserializer);
+        }
+        if (this.maxPartitionFetchBytes != null) {
+            answer.put("maxPartitionFetchBytes", this.maxPartitionFetchBytes);
+        }
+        if (this.maxPollIntervalMs != null) {
+            answer.put("maxPollIntervalMs", this.maxPollIntervalMs);
+        }
+        if (this.maxPollRecords != null) {
+            answer.put("maxPollRecords", this.maxPollRecords);
+        }
+        if (this.partitionAssignmentStrategy != null) {
+            answer.put("partitionAssignmentStrategy", this.partitionAssignmentStrategy);
+        }
+        if (this.seekToOffset != null) {
+            answer.put("seekToOffset", this.seekToOffset);
+        }
+        if (this.seekToPosition != null) {
+            answer.put("seekToPosition", this.seekToPosition);
+        }
+        if (this.sessionTimeoutMs != null) {
+            answer.put("sessionTimeoutMs", this.sessionTimeoutMs);
+        }
+        if (this.valueDeserializer != null) {
+            answer.put("valueDeserializer", this.valueDeserializer);
+        }
+        if (this.kafkaManualCommitFactory != null) {
+            answer.put("kafkaManualCommitFactory", this.kafkaManualCommitFactory);
+        }
+        if (this.acks != null) {
+            answer.put("acks", this.acks);
+        }
+        if (this.batchSize != null) {
+            answer.put("batchSize", this.batchSize);
+        }
+        if (this.bufferMemory != null) {
+            answer.put("bufferMemory", this.bufferMemory);
+        }
+        if (this.compressionType != null) {
+            answer.put("compressionType", this.compressionType);
+        }
+        if (this.deliveryTimeoutMs != null) {
+            answer.put("deliveryTimeoutMs", this.deliveryTimeoutMs);
+        }
+        if (this.enableIdempotence != null) {
+            answer.put("enableIdempotence", this.enableIdempotence);
+        }
+        if (this.keySerializer != null) {
+            answer.put("keySerializer", this.keySerializer);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.lingerMs != null) {
+            answer.put("lingerMs", this.lingerMs);
+        }
+        if (this.maxBlockMs != null) {
+            answer.put("maxBlockMs", this.maxBlockMs);
+        }
+        if (this.maxInFlightRequestsPerConnection != null) {
+            answer.put("maxInFlightRequestsPerConnection", this.maxInFlightRequestsPerConnection);
+        }
+        if (this.maxRequestSize != null) {
+            answer.put("maxRequestSize", this.maxRequestSize);
+        }
+        if (this.metadataMaxIdleMs != null) {
+            answer.put("metadataMaxIdleMs", this.metadataMaxIdleMs);
+        }
+        if (this.partitionerClass != null) {
+            answer.put("partitionerClass", this.partitionerClass);
+        }
+        if (this.retries != null) {
+            answer.put("retries", this.retries);
+        }
+        if (this.transactionalId != null) {
+            answer.put("transactionalId", this.transactionalId);
+        }
+        if (this.transactionTimeoutMs != null) {
+            answer.put("transactionTimeoutMs", this.transactionTimeoutMs);
+        }
+        if (this.valueSerializer != null) {
+            answer.put("valueSerializer", this.valueSerializer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.vertx != null) {
+            answer.put("vertx", this.vertx);
+        }
+        if (this.vertxKafkaClientFactory != null) {
+            answer.put("vertxKafkaClientFactory", this.vertxKafkaClientFactory);
+        }
+        if (this.vertxOptions != null) {
+            answer.put("vertxOptions", this.vertxOptions);
+        }
+        if (this.saslClientCallbackHandlerClass != null) {
+            answer.put("saslClientCallbackHandlerClass", this.saslClientCallbackHandlerClass);
+        }
+        if (this.saslJaasConfig != null) {
+            answer.put("saslJaasConfig", this.saslJaasConfig);
+        }
+        if (this.saslKerberosKinitCmd != null) {
+            answer.put("saslKerberosKinitCmd", this.saslKerberosKinitCmd);
+        }
+        if (this.saslKerberosMinTimeBeforeRelogin != null) {
+            answer.put("saslKerberosMinTimeBeforeRelogin", this.saslKerberosMinTimeBeforeRelogin);
+        }
+        if (this.saslKerberosServiceName != null) {
+            answer.put("saslKerberosServiceName", this.saslKerberosServiceName);
+        }
+        if (this.saslKerberosTicketRenewJitter != null) {
+            answer.put("saslKerberosTicketRenewJitter", this.saslKerberosTicketRenewJitter);
+        }
+        if (this.saslKerberosTicketRenewWindowFactor != null) {
+            answer.put("saslKerberosTicketRenewWindowFactor", this.saslKerberosTicketRenewWindowFactor);
+        }
+        if (this.saslLoginCallbackHandlerClass != null) {
+            answer.put("saslLoginCallbackHandlerClass", this.saslLoginCallbackHandlerClass);
+        }
+        if (this.saslLoginClass != null) {
+            answer.put("saslLoginClass", this.saslLoginClass);
+        }
+        if (this.saslLoginRefreshBufferSeconds != null) {
+            answer.put("saslLoginRefreshBufferSeconds", this.saslLoginRefreshBufferSeconds);
+        }
+        if (this.saslLoginRefreshMinPeriodSeconds != null) {
+            answer.put("saslLoginRefreshMinPeriodSeconds", this.saslLoginRefreshMinPeriodSeconds);
+        }
+        if (this.saslLoginRefreshWindowFactor != null) {
+            answer.put("saslLoginRefreshWindowFactor", this.saslLoginRefreshWindowFactor);
+        }
+        if (this.saslLoginRefreshWindowJitter != null) {
+            answer.put("saslLoginRefreshWindowJitter", this.saslLoginRefreshWindowJitter);
+        }
+        if (this.saslMechanism != null) {
+            answer.put("saslMechanism", this.saslMechanism);
+        }
+        if (this.securityProtocol != null) {
+            answer.put("securityProtocol", this.securityProtocol);
+        }
+        if (this.securityProviders != null) {
+            answer.put("securityProviders", this.securityProviders);
+        }
+        if (this.sslCipherSuites != null) {
+            answer.put("sslCipherSuites", this.sslCipherSuites);
+        }
+        if (this.sslEnabledProtocols != null) {
+            answer.put("sslEnabledProtocols", this.sslEnabledProtocols);
+        }
+        if (this.sslEndpointIdentificationAlgorithm != null) {
+            answer.put("sslEndpointIdentificationAlgorithm", this.sslEndpointIdentificationAlgorithm);
+        }
+        if (this.sslEngineFactoryClass != null) {
+            answer.put("sslEngineFactoryClass", this.sslEngineFactoryClass);
+        }
+        if (this.sslKeymanagerAlgorithm != null) {
+            answer.put("sslKeymanagerAlgorithm", this.sslKeymanagerAlgorithm);
+        }
+        if (this.sslKeyPassword != null) {
+            answer.put("sslKeyPassword", this.sslKeyPassword);
+        }
+        if (this.sslKeystoreCertificateChain != null) {
+            answer.put("sslKeystoreCertificateChain", this.sslKeystoreCertificateChain);
+        }
+        if (this.sslKeystoreKey != null) {
+            answer.put("sslKeystoreKey", this.sslKeystoreKey);
+        }
+        if (this.sslKeystoreLocation != null) {
+            answer.put("sslKeystoreLocation", this.sslKeystoreLocation);
+        }
+        if (this.sslKeystorePassword != null) {
+            answer.put("sslKeystorePassword", this.sslKeystorePassword);
+        }
+        if (this.sslKeystoreType != null) {
+            answer.put("sslKeystoreType", this.sslKeystoreType);
+        }
+        if (this.sslProtocol != null) {
+            answer.put("sslProtocol", this.sslProtocol);
+        }
+        if (this.sslProvider != null) {
+            answer.put("sslProvider", this.sslProvider);
+        }
+        if (this.sslSecureRandomImplementation != null) {
+            answer.put("sslSecureRandomImplementation", this.sslSecureRandomImplementation);
+        }
+        if (this.sslTrustmanagerAlgorithm != null) {
+            answer.put("sslTrustmanagerAlgorithm", this.sslTrustmanagerAlgorithm);
+        }
+        if (this.sslTruststoreCertificates != null) {
+            answer.put("sslTruststoreCertificates", this.sslTruststoreCertificates);
+        }
+        if (this.sslTruststoreLocation != null) {
+            answer.put("sslTruststoreLocation", this.sslTruststoreLocation);
+        }
+        if (this.sslTruststorePassword != null) {
+            answer.put("sslTruststorePassword", this.sslTruststorePassword);
+        }
+        if (this.sslTruststoreType != null) {
+            answer.put("sslTruststoreType", this.sslTruststoreType);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
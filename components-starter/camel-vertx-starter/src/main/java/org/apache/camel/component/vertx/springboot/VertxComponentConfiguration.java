@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.vertx.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.impl.VertxBuilder;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.vertx")
 public class VertxComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the vertx component. This is
@@ -168,4 +173,37 @@ public class VertxComponentConfiguration
     public void setVertxFactory(VertxBuilder vertxFactory) {
         this.vertxFactory = vertxFactory;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.host != null) {
+            answer.put("host", this.host);
+        }
+        if (this.port != null) {
+            answer.put("port", this.port);
+        }
+        if (this.timeout != null) {
+            answer.put("timeout", this.timeout);
+        }
+        if (this.vertx != null) {
+            answer.put("vertx", this.vertx);
+        }
+        if (this.vertxOptions != null) {
+            answer.put("vertxOptions", this.vertxOptions);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.vertxFactory != null) {
+            answer.put("vertxFactory", this.vertxFactory);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
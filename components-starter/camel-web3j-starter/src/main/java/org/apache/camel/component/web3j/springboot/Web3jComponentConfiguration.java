@@ -17,10 +17,13 @@
 package org.apache.camel.component.web3j.springboot;
 
 import java.math.BigInteger;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.web3j.Web3jConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.web3j.protocol.Web3j;
 
@@ -33,7 +36,9 @@ import org.web3j.protocol.Web3j;
 @ConfigurationProperties(prefix = "camel.component.web3j")
 public class Web3jComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the web3j component. This is
@@ -530,4 +535,124 @@ public class Web3jComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.addresses != null) {
+            answer.put("addresses", this.addresses);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.fromAddress != null) {
+            answer.put("fromAddress", this.fromAddress);
+        }
+        if (this.fromBlock != null) {
+            answer.put("fromBlock", this.fromBlock);
+        }
+        if (this.fullTransactionObjects != null) {
+            answer.put("fullTransactionObjects", this.fullTransactionObjects);
+        }
+        if (this.gasLimit != null) {
+            answer.put("gasLimit", this.gasLimit);
+        }
+        if (this.privateFor != null) {
+            answer.put("privateFor", this.privateFor);
+        }
+        if (this.quorumAPI != null) {
+            answer.put("quorumAPI", this.quorumAPI);
+        }
+        if (this.toAddress != null) {
+            answer.put("toAddress", this.toAddress);
+        }
+        if (this.toBlock != null) {
+            answer.put("toBlock", this.toBlock);
+        }
+        if (this.topics != null) {
+            answer.put("topics", this.topics);
+        }
+        if (this.web3j != null) {
+            answer.put("web3j", this.web3j);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.address != null) {
+            answer.put("address", this.address);
+        }
+        if (this.atBlock != null) {
+            answer.put("atBlock", this.atBlock);
+        }
+        if (this.blockHash != null) {
+            answer.put("blockHash", this.blockHash);
+        }
+        if (this.clientId != null) {
+            answer.put("clientId", this.clientId);
+        }
+        if (this.data != null) {
+            answer.put("data", this.data);
+        }
+        if (this.databaseName != null) {
+            answer.put("databaseName", this.databaseName);
+        }
+        if (this.filterId != null) {
+            answer.put("filterId", this.filterId);
+        }
+        if (this.gasPrice != null) {
+            answer.put("gasPrice", this.gasPrice);
+        }
+        if (this.hashrate != null) {
+            answer.put("hashrate", this.hashrate);
+        }
+        if (this.headerPowHash != null) {
+            answer.put("headerPowHash", this.headerPowHash);
+        }
+        if (this.index != null) {
+            answer.put("index", this.index);
+        }
+        if (this.keyName != null) {
+            answer.put("keyName", this.keyName);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.mixDigest != null) {
+            answer.put("mixDigest", this.mixDigest);
+        }
+        if (this.nonce != null) {
+            answer.put("nonce", this.nonce);
+        }
+        if (this.operation != null) {
+            answer.put("operation", this.operation);
+        }
+        if (this.position != null) {
+            answer.put("position", this.position);
+        }
+        if (this.priority != null) {
+            answer.put("priority", this.priority);
+        }
+        if (this.sha3HashOfDataToSign != null) {
+            answer.put("sha3HashOfDataToSign", this.sha3HashOfDataToSign);
+        }
+        if (this.signedTransactionData != null) {
+            answer.put("signedTransactionData", this.signedTransactionData);
+        }
+        if (this.sourceCode != null) {
+            answer.put("sourceCode", this.sourceCode);
+        }
+        if (this.transactionHash != null) {
+            answer.put("transactionHash", this.transactionHash);
+        }
+        if (this.ttl != null) {
+            answer.put("ttl", this.ttl);
+        }
+        if (this.value != null) {
+            answer.put("value", this.value);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
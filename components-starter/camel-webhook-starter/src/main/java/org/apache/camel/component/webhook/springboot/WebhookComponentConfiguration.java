@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.webhook.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.webhook.WebhookConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.webhook")
 public class WebhookComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the webhook component. This is
@@ -150,4 +155,34 @@ public class WebhookComponentConfiguration
     public void setConfiguration(WebhookConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.webhookAutoRegister != null) {
+            answer.put("webhookAutoRegister", this.webhookAutoRegister);
+        }
+        if (this.webhookBasePath != null) {
+            answer.put("webhookBasePath", this.webhookBasePath);
+        }
+        if (this.webhookComponentName != null) {
+            answer.put("webhookComponentName", this.webhookComponentName);
+        }
+        if (this.webhookExternalUrl != null) {
+            answer.put("webhookExternalUrl", this.webhookExternalUrl);
+        }
+        if (this.webhookPath != null) {
+            answer.put("webhookPath", this.webhookPath);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
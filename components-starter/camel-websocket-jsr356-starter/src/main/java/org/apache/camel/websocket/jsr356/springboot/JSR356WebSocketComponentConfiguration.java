@@ -16,8 +16,11 @@
  */
 package org.apache.camel.websocket.jsr356.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.websocket.jsr356.ServerEndpointDeploymentStrategy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.websocket-jsr356")
 public class JSR356WebSocketComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the websocket-jsr356 component.
@@ -106,4 +111,22 @@ public class JSR356WebSocketComponentConfiguration
             ServerEndpointDeploymentStrategy serverEndpointDeploymentStrategy) {
         this.serverEndpointDeploymentStrategy = serverEndpointDeploymentStrategy;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.serverEndpointDeploymentStrategy != null) {
+            answer.put("serverEndpointDeploymentStrategy", this.serverEndpointDeploymentStrategy);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
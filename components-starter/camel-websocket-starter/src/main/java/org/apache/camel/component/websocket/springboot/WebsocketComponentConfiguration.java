@@ -16,8 +16,11 @@
  */
 package org.apache.camel.component.websocket.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.eclipse.jetty.util.thread.ThreadPool;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.websocket")
 public class WebsocketComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the websocket component. This is
@@ -269,4 +274,58 @@ public class WebsocketComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.host != null) {
+            answer.put("host", this.host);
+        }
+        if (this.port != null) {
+            answer.put("port", this.port);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.staticResources != null) {
+            answer.put("staticResources", this.staticResources);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.enableJmx != null) {
+            answer.put("enableJmx", this.enableJmx);
+        }
+        if (this.maxThreads != null) {
+            answer.put("maxThreads", this.maxThreads);
+        }
+        if (this.minThreads != null) {
+            answer.put("minThreads", this.minThreads);
+        }
+        if (this.subprotocol != null) {
+            answer.put("subprotocol", this.subprotocol);
+        }
+        if (this.threadPool != null) {
+            answer.put("threadPool", this.threadPool);
+        }
+        if (this.sslContextParameters != null) {
+            answer.put("sslContextParameters", this.sslContextParameters);
+        }
+        if (this.sslKeyPassword != null) {
+            answer.put("sslKeyPassword", this.sslKeyPassword);
+        }
+        if (this.sslKeystore != null) {
+            answer.put("sslKeystore", this.sslKeystore);
+        }
+        if (this.sslPassword != null) {
+            answer.put("sslPassword", this.sslPassword);
+        }
+        if (this.useGlobalSslContextParameters != null) {
+            answer.put("useGlobalSslContextParameters", this.useGlobalSslContextParameters);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
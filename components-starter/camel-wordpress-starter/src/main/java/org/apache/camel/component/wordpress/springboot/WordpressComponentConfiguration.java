@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.wordpress.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.wordpress.WordpressConfiguration;
 import org.apache.camel.component.wordpress.api.model.SearchCriteria;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.wordpress")
 public class WordpressComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the wordpress component. This is
@@ -203,4 +207,46 @@ public class WordpressComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.apiVersion != null) {
+            answer.put("apiVersion", this.apiVersion);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.criteria != null) {
+            answer.put("criteria", this.criteria);
+        }
+        if (this.force != null) {
+            answer.put("force", this.force);
+        }
+        if (this.id != null) {
+            answer.put("id", this.id);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.searchCriteria != null) {
+            answer.put("searchCriteria", this.searchCriteria);
+        }
+        if (this.url != null) {
+            answer.put("url", this.url);
+        }
+        if (this.user != null) {
+            answer.put("user", this.user);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
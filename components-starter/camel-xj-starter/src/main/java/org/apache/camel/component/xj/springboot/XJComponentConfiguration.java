@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.xj.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import javax.xml.transform.URIResolver;
@@ -23,6 +24,7 @@ import net.sf.saxon.Configuration;
 import org.apache.camel.component.xslt.TransformerFactoryConfigurationStrategy;
 import org.apache.camel.component.xslt.XsltUriResolverFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.xj")
 public class XJComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the xj component. This is enabled
@@ -205,4 +209,43 @@ public class XJComponentConfiguration
     public void setUriResolverFactory(XsltUriResolverFactory uriResolverFactory) {
         this.uriResolverFactory = uriResolverFactory;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.contentCache != null) {
+            answer.put("contentCache", this.contentCache);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.saxonConfiguration != null) {
+            answer.put("saxonConfiguration", this.saxonConfiguration);
+        }
+        if (this.saxonConfigurationProperties != null) {
+            answer.put("saxonConfigurationProperties", this.saxonConfigurationProperties);
+        }
+        if (this.saxonExtensionFunctions != null) {
+            answer.put("saxonExtensionFunctions", this.saxonExtensionFunctions);
+        }
+        if (this.secureProcessing != null) {
+            answer.put("secureProcessing", this.secureProcessing);
+        }
+        if (this.transformerFactoryClass != null) {
+            answer.put("transformerFactoryClass", this.transformerFactoryClass);
+        }
+        if (this.transformerFactoryConfigurationStrategy != null) {
+            answer.put("transformerFactoryConfigurationStrategy", this.transformerFactoryConfigurationStrategy);
+        }
+        if (this.uriResolver != null) {
+            answer.put("uriResolver", this.uriResolver);
+        }
+        if (this.uriResolverFactory != null) {
+            answer.put("uriResolverFactory", this.uriResolverFactory);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.xmlsecurity.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Generated;
@@ -26,6 +27,7 @@ import org.apache.camel.component.xmlsecurity.api.KeyAccessor;
 import org.apache.camel.component.xmlsecurity.api.XmlSignatureProperties;
 import org.apache.camel.component.xmlsecurity.processor.XmlSignerConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -37,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.xmlsecurity-sign")
 public class XmlSignerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the xmlsecurity-sign component.
@@ -503,4 +507,97 @@ public class XmlSignerComponentConfiguration
     public void setUriDereferencer(URIDereferencer uriDereferencer) {
         this.uriDereferencer = uriDereferencer;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.addKeyInfoReference != null) {
+            answer.put("addKeyInfoReference", this.addKeyInfoReference);
+        }
+        if (this.baseUri != null) {
+            answer.put("baseUri", this.baseUri);
+        }
+        if (this.canonicalizationMethod != null) {
+            answer.put("canonicalizationMethod", this.canonicalizationMethod);
+        }
+        if (this.clearHeaders != null) {
+            answer.put("clearHeaders", this.clearHeaders);
+        }
+        if (this.contentObjectId != null) {
+            answer.put("contentObjectId", this.contentObjectId);
+        }
+        if (this.contentReferenceType != null) {
+            answer.put("contentReferenceType", this.contentReferenceType);
+        }
+        if (this.contentReferenceUri != null) {
+            answer.put("contentReferenceUri", this.contentReferenceUri);
+        }
+        if (this.cryptoContextProperties != null) {
+            answer.put("cryptoContextProperties", this.cryptoContextProperties);
+        }
+        if (this.digestAlgorithm != null) {
+            answer.put("digestAlgorithm", this.digestAlgorithm);
+        }
+        if (this.disallowDoctypeDecl != null) {
+            answer.put("disallowDoctypeDecl", this.disallowDoctypeDecl);
+        }
+        if (this.keyAccessor != null) {
+            answer.put("keyAccessor", this.keyAccessor);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.omitXmlDeclaration != null) {
+            answer.put("omitXmlDeclaration", this.omitXmlDeclaration);
+        }
+        if (this.outputXmlEncoding != null) {
+            answer.put("outputXmlEncoding", this.outputXmlEncoding);
+        }
+        if (this.parentLocalName != null) {
+            answer.put("parentLocalName", this.parentLocalName);
+        }
+        if (this.parentNamespace != null) {
+            answer.put("parentNamespace", this.parentNamespace);
+        }
+        if (this.parentXpath != null) {
+            answer.put("parentXpath", this.parentXpath);
+        }
+        if (this.plainText != null) {
+            answer.put("plainText", this.plainText);
+        }
+        if (this.plainTextEncoding != null) {
+            answer.put("plainTextEncoding", this.plainTextEncoding);
+        }
+        if (this.prefixForXmlSignatureNamespace != null) {
+            answer.put("prefixForXmlSignatureNamespace", this.prefixForXmlSignatureNamespace);
+        }
+        if (this.properties != null) {
+            answer.put("properties", this.properties);
+        }
+        if (this.schemaResourceUri != null) {
+            answer.put("schemaResourceUri", this.schemaResourceUri);
+        }
+        if (this.signatureAlgorithm != null) {
+            answer.put("signatureAlgorithm", this.signatureAlgorithm);
+        }
+        if (this.signatureId != null) {
+            answer.put("signatureId", this.signatureId);
+        }
+        if (this.transformMethods != null) {
+            answer.put("transformMethods", this.transformMethods);
+        }
+        if (this.xpathsToIdAttributes != null) {
+            answer.put("xpathsToIdAttributes", this.xpathsToIdAttributes);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.signerConfiguration != null) {
+            answer.put("signerConfiguration", this.signerConfiguration);
+        }
+        if (this.uriDereferencer != null) {
+            answer.put("uriDereferencer", this.uriDereferencer);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
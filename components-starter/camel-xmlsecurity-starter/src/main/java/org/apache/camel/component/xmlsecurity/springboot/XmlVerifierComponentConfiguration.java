@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.xmlsecurity.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Generated;
 import javax.xml.crypto.KeySelector;
@@ -25,6 +26,7 @@ import org.apache.camel.component.xmlsecurity.api.XmlSignature2Message;
 import org.apache.camel.component.xmlsecurity.api.XmlSignatureChecker;
 import org.apache.camel.component.xmlsecurity.processor.XmlVerifierConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -36,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.xmlsecurity-verify")
 public class XmlVerifierComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the xmlsecurity-verify component.
@@ -356,4 +360,67 @@ public class XmlVerifierComponentConfiguration
             XmlVerifierConfiguration verifierConfiguration) {
         this.verifierConfiguration = verifierConfiguration;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.baseUri != null) {
+            answer.put("baseUri", this.baseUri);
+        }
+        if (this.clearHeaders != null) {
+            answer.put("clearHeaders", this.clearHeaders);
+        }
+        if (this.cryptoContextProperties != null) {
+            answer.put("cryptoContextProperties", this.cryptoContextProperties);
+        }
+        if (this.disallowDoctypeDecl != null) {
+            answer.put("disallowDoctypeDecl", this.disallowDoctypeDecl);
+        }
+        if (this.keySelector != null) {
+            answer.put("keySelector", this.keySelector);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.omitXmlDeclaration != null) {
+            answer.put("omitXmlDeclaration", this.omitXmlDeclaration);
+        }
+        if (this.outputNodeSearch != null) {
+            answer.put("outputNodeSearch", this.outputNodeSearch);
+        }
+        if (this.outputNodeSearchType != null) {
+            answer.put("outputNodeSearchType", this.outputNodeSearchType);
+        }
+        if (this.outputXmlEncoding != null) {
+            answer.put("outputXmlEncoding", this.outputXmlEncoding);
+        }
+        if (this.removeSignatureElements != null) {
+            answer.put("removeSignatureElements", this.removeSignatureElements);
+        }
+        if (this.schemaResourceUri != null) {
+            answer.put("schemaResourceUri", this.schemaResourceUri);
+        }
+        if (this.secureValidation != null) {
+            answer.put("secureValidation", this.secureValidation);
+        }
+        if (this.validationFailedHandler != null) {
+            answer.put("validationFailedHandler", this.validationFailedHandler);
+        }
+        if (this.xmlSignature2Message != null) {
+            answer.put("xmlSignature2Message", this.xmlSignature2Message);
+        }
+        if (this.xmlSignatureChecker != null) {
+            answer.put("xmlSignatureChecker", this.xmlSignatureChecker);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.uriDereferencer != null) {
+            answer.put("uriDereferencer", this.uriDereferencer);
+        }
+        if (this.verifierConfiguration != null) {
+            answer.put("verifierConfiguration", this.verifierConfiguration);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
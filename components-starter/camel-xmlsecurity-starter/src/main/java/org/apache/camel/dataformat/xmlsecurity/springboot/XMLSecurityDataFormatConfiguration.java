@@ -16,8 +16,11 @@
  */
 package org.apache.camel.dataformat.xmlsecurity.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.xml-security")
 public class XMLSecurityDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the xmlSecurity data format. This
@@ -210,4 +215,46 @@ public class XMLSecurityDataFormatConfiguration
     public void setAddKeyValueForEncryptedKey(Boolean addKeyValueForEncryptedKey) {
         this.addKeyValueForEncryptedKey = addKeyValueForEncryptedKey;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.xmlCipherAlgorithm != null) {
+            answer.put("xmlCipherAlgorithm", this.xmlCipherAlgorithm);
+        }
+        if (this.passPhrase != null) {
+            answer.put("passPhrase", this.passPhrase);
+        }
+        if (this.passPhraseByte != null) {
+            answer.put("passPhraseByte", this.passPhraseByte);
+        }
+        if (this.secureTag != null) {
+            answer.put("secureTag", this.secureTag);
+        }
+        if (this.secureTagContents != null) {
+            answer.put("secureTagContents", this.secureTagContents);
+        }
+        if (this.keyCipherAlgorithm != null) {
+            answer.put("keyCipherAlgorithm", this.keyCipherAlgorithm);
+        }
+        if (this.recipientKeyAlias != null) {
+            answer.put("recipientKeyAlias", this.recipientKeyAlias);
+        }
+        if (this.keyOrTrustStoreParametersRef != null) {
+            answer.put("keyOrTrustStoreParametersRef", this.keyOrTrustStoreParametersRef);
+        }
+        if (this.keyPassword != null) {
+            answer.put("keyPassword", this.keyPassword);
+        }
+        if (this.digestAlgorithm != null) {
+            answer.put("digestAlgorithm", this.digestAlgorithm);
+        }
+        if (this.mgfAlgorithm != null) {
+            answer.put("mgfAlgorithm", this.mgfAlgorithm);
+        }
+        if (this.addKeyValueForEncryptedKey != null) {
+            answer.put("addKeyValueForEncryptedKey", this.addKeyValueForEncryptedKey);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
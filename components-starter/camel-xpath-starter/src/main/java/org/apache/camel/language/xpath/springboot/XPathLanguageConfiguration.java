@@ -16,10 +16,13 @@
  */
 package org.apache.camel.language.xpath.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.model.PropertyDefinition;
 import org.apache.camel.spring.boot.LanguageConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.language.xpath")
 public class XPathLanguageConfiguration
         extends
-            LanguageConfigurationPropertiesCommon {
+            LanguageConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the xpath language. This is
@@ -160,4 +165,37 @@ public class XPathLanguageConfiguration
     public void setTrim(Boolean trim) {
         this.trim = trim;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.documentType != null) {
+            answer.put("documentType", this.documentType);
+        }
+        if (this.saxon != null) {
+            answer.put("saxon", this.saxon);
+        }
+        if (this.factoryRef != null) {
+            answer.put("factoryRef", this.factoryRef);
+        }
+        if (this.objectModel != null) {
+            answer.put("objectModel", this.objectModel);
+        }
+        if (this.logNamespaces != null) {
+            answer.put("logNamespaces", this.logNamespaces);
+        }
+        if (this.threadSafety != null) {
+            answer.put("threadSafety", this.threadSafety);
+        }
+        if (this.preCompile != null) {
+            answer.put("preCompile", this.preCompile);
+        }
+        if (this.namespace != null) {
+            answer.put("namespace", this.namespace);
+        }
+        if (this.trim != null) {
+            answer.put("trim", this.trim);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
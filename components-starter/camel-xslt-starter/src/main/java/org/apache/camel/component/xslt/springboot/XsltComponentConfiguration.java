@@ -16,11 +16,14 @@
  */
 package org.apache.camel.component.xslt.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import javax.xml.transform.URIResolver;
 import org.apache.camel.component.xslt.TransformerFactoryConfigurationStrategy;
 import org.apache.camel.component.xslt.XsltUriResolverFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.xslt")
 public class XsltComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the xslt component. This is
@@ -147,4 +152,31 @@ public class XsltComponentConfiguration
     public void setUriResolverFactory(XsltUriResolverFactory uriResolverFactory) {
         this.uriResolverFactory = uriResolverFactory;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.contentCache != null) {
+            answer.put("contentCache", this.contentCache);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.transformerFactoryClass != null) {
+            answer.put("transformerFactoryClass", this.transformerFactoryClass);
+        }
+        if (this.transformerFactoryConfigurationStrategy != null) {
+            answer.put("transformerFactoryConfigurationStrategy", this.transformerFactoryConfigurationStrategy);
+        }
+        if (this.uriResolver != null) {
+            answer.put("uriResolver", this.uriResolver);
+        }
+        if (this.uriResolverFactory != null) {
+            answer.put("uriResolverFactory", this.uriResolverFactory);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,10 +16,13 @@
  */
 package org.apache.camel.dataformat.xstream.springboot;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.model.PropertyDefinition;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.xstream")
 public class XStreamDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the xstream data format. This is
@@ -155,4 +160,34 @@ public class XStreamDataFormatConfiguration
             List<PropertyDefinition> implicitCollections) {
         this.implicitCollections = implicitCollections;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.permissions != null) {
+            answer.put("permissions", this.permissions);
+        }
+        if (this.encoding != null) {
+            answer.put("encoding", this.encoding);
+        }
+        if (this.mode != null) {
+            answer.put("mode", this.mode);
+        }
+        if (this.contentTypeHeader != null) {
+            answer.put("contentTypeHeader", this.contentTypeHeader);
+        }
+        if (this.converters != null) {
+            answer.put("converters", this.converters);
+        }
+        if (this.aliases != null) {
+            answer.put("aliases", this.aliases);
+        }
+        if (this.omitFields != null) {
+            answer.put("omitFields", this.omitFields);
+        }
+        if (this.implicitCollections != null) {
+            answer.put("implicitCollections", this.implicitCollections);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
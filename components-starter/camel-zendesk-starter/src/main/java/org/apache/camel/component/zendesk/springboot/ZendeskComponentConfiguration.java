@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.zendesk.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.zendesk.ZendeskConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.zendesk.client.v2.Zendesk;
 
@@ -31,7 +34,9 @@ import org.zendesk.client.v2.Zendesk;
 @ConfigurationProperties(prefix = "camel.component.zendesk")
 public class ZendeskComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the zendesk component. This is
@@ -177,4 +182,40 @@ public class ZendeskComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.serverUrl != null) {
+            answer.put("serverUrl", this.serverUrl);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        if (this.zendesk != null) {
+            answer.put("zendesk", this.zendesk);
+        }
+        if (this.oauthToken != null) {
+            answer.put("oauthToken", this.oauthToken);
+        }
+        if (this.password != null) {
+            answer.put("password", this.password);
+        }
+        if (this.token != null) {
+            answer.put("token", this.token);
+        }
+        if (this.username != null) {
+            answer.put("username", this.username);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
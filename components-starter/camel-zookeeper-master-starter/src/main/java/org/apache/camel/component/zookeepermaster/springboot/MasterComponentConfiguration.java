@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.zookeepermaster.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.zookeepermaster.ContainerIdFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.apache.curator.framework.CuratorFramework;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -32,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.zookeeper-master")
 public class MasterComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the zookeeper-master component.
@@ -150,4 +155,34 @@ public class MasterComponentConfiguration
     public void setZooKeeperPassword(String zooKeeperPassword) {
         this.zooKeeperPassword = zooKeeperPassword;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.maximumConnectionTimeout != null) {
+            answer.put("maximumConnectionTimeout", this.maximumConnectionTimeout);
+        }
+        if (this.zkRoot != null) {
+            answer.put("zkRoot", this.zkRoot);
+        }
+        if (this.zooKeeperUrl != null) {
+            answer.put("zooKeeperUrl", this.zooKeeperUrl);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.containerIdFactory != null) {
+            answer.put("containerIdFactory", this.containerIdFactory);
+        }
+        if (this.curator != null) {
+            answer.put("curator", this.curator);
+        }
+        if (this.zooKeeperPassword != null) {
+            answer.put("zooKeeperPassword", this.zooKeeperPassword);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.zookeeper.springboot;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.zookeeper.ZooKeeperConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.NonNullPropertiesProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.zookeeper")
 public class ZooKeeperComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            NonNullPropertiesProvider {
 
     /**
      * Whether to enable auto configuration of the zookeeper component. This is
@@ -188,4 +193,43 @@ public class ZooKeeperComponentConfiguration
     public void setConfiguration(ZooKeeperConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public Map<String, Object> nonNullProperties() {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        if (this.listChildren != null) {
+            answer.put("listChildren", this.listChildren);
+        }
+        if (this.timeout != null) {
+            answer.put("timeout", this.timeout);
+        }
+        if (this.backoff != null) {
+            answer.put("backoff", this.backoff);
+        }
+        if (this.bridgeErrorHandler != null) {
+            answer.put("bridgeErrorHandler", this.bridgeErrorHandler);
+        }
+        if (this.repeat != null) {
+            answer.put("repeat", this.repeat);
+        }
+        if (this.sendEmptyMessageOnDelete != null) {
+            answer.put("sendEmptyMessageOnDelete", this.sendEmptyMessageOnDelete);
+        }
+        if (this.create != null) {
+            answer.put("create", this.create);
+        }
+        if (this.createMode != null) {
+            answer.put("createMode", this.createMode);
+        }
+        if (this.lazyStartProducer != null) {
+            answer.put("lazyStartProducer", this.lazyStartProducer);
+        }
+        if (this.autowiredEnabled != null) {
+            answer.put("autowiredEnabled", this.autowiredEnabled);
+        }
+        if (this.configuration != null) {
+            answer.put("configuration", this.configuration);
+        }
+        return answer;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the classes declaring Camel injection annotations such as {@code @EndpointInject}, {@code @Produce},
+ * {@code @Consume}, {@code @PropertyInject} and {@code @BeanInject}, generated at build time by the
+ * {@link BeanInjectionIndexProcessor} annotation processor.
+ * <p>
+ * When enabled, the Camel bean post processor only introspects beans whose class, or one of its super classes, is
+ * listed in the index. All the modules declaring Camel injection annotations must therefore be compiled with the
+ * annotation processor.
+ */
+public final class BeanInjectionIndex {
+
+    /**
+     * The location of the index files on the classpath.
+     */
+    public static final String LOCATION = "META-INF/camel/bean-injection.idx";
+
+    private static final Logger LOG = LoggerFactory.getLogger(BeanInjectionIndex.class);
+
+    private final Set<String> classNames;
+    private final ClassValue<Boolean> indexed = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                if (classNames.contains(current.getName())) {
+                    return Boolean.TRUE;
+                }
+            }
+            return Boolean.FALSE;
+        }
+    };
+
+    BeanInjectionIndex(Set<String> classNames) {
+        this.classNames = classNames;
+    }
+
+    /**
+     * Loads and merges all the index files available on the classpath.
+     *
+     * @param  classLoader the class loader to use
+     * @return             the index, or <tt>null</tt> if there are no index files on the classpath
+     */
+    public static BeanInjectionIndex load(ClassLoader classLoader) {
+        Set<String> classNames = new HashSet<>();
+        boolean found = false;
+
+        try {
+            Enumeration<URL> urls = classLoader.getResources(LOCATION);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                LOG.debug("Loading bean injection index: {}", url);
+                found = true;
+
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (!line.isEmpty() && !line.startsWith("#")) {
+                            classNames.add(line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Cannot load bean injection index due to: {}. All beans will be introspected.", e.getMessage(), e);
+            return null;
+        }
+
+        return found ? new BeanInjectionIndex(classNames) : null;
+    }
+
+    /**
+     * Whether the given class or one of its super classes is listed in the index.
+     */
+    public boolean isIndexed(Class<?> type) {
+        return indexed.get(type);
+    }
+}
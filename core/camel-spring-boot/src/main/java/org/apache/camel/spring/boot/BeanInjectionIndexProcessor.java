@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor generating the {@link BeanInjectionIndex} of a module, listing its classes which declare Camel
+ * injection annotations.
+ * <p>
+ * The processor is not registered as a service so it does not run unless configured, for example with the
+ * {@code annotationProcessors} option of the maven-compiler-plugin.
+ * <p>
+ * With incremental compilation only the recompiled classes are processed, so the classes listed by the index of the
+ * previous compilation are kept. A class which no longer declares Camel injection annotations may therefore remain
+ * listed until the next full build, which only costs its introspection.
+ */
+@SupportedAnnotationTypes({
+    "org.apache.camel.BeanConfigInject",
+    "org.apache.camel.BeanInject",
+    "org.apache.camel.Consume",
+    "org.apache.camel.EndpointInject",
+    "org.apache.camel.Produce",
+    "org.apache.camel.PropertyInject"
+})
+public class BeanInjectionIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                // the annotations are declared on fields, methods or method parameters
+                Element type = element;
+                while (type != null && !(type instanceof TypeElement)) {
+                    type = type.getEnclosingElement();
+                }
+                if (type != null) {
+                    classNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement) type).toString());
+                }
+            }
+        }
+
+        if (roundEnv.processingOver() && !classNames.isEmpty()) {
+            writeIndex();
+        }
+
+        // do not claim the annotations so other processors can process them
+        return false;
+    }
+
+    private void writeIndex() {
+        // the classes which have not been recompiled are only listed by the previous index
+        readPreviousIndex();
+
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", BeanInjectionIndex.LOCATION);
+            try (Writer writer = resource.openWriter()) {
+                writer.write("# Generated by " + getClass().getName() + "\n");
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + BeanInjectionIndex.LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    private void readPreviousIndex() {
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", BeanInjectionIndex.LOCATION);
+            try (Reader reader = resource.openReader(true); BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        classNames.add(line);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // there is no previous index on a full build
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 import org.apache.camel.CamelContext;
 import org.apache.camel.ConsumerTemplate;
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ExtendedStartupListener;
 import org.apache.camel.FluentProducerTemplate;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.RuntimeCamelException;
@@ -59,6 +60,7 @@ import org.springframework.core.OrderComparator;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
 
 @Configuration(proxyBeanMethods = false)
 @EnableConfigurationProperties(CamelConfigurationProperties.class)
@@ -86,6 +88,9 @@ public class CamelAutoConfiguration {
         // bean post processor is created before CamelContext
         beanPostProcessor.setCamelContext(camelContext);
         camelContext.adapt(ExtendedCamelContext.class).setBeanPostProcessor(beanPostProcessor);
+        if (config.isBeanInjectionIndexEnabled() && beanPostProcessor instanceof CamelSpringBootBeanPostProcessor) {
+            configureBeanInjectionIndex(applicationContext, (CamelSpringBootBeanPostProcessor) beanPostProcessor);
+        }
         return doConfigureCamelContext(applicationContext, camelContext, config);
     }
 
@@ -128,20 +133,44 @@ public class CamelAutoConfiguration {
                 if (!sources.contains("camel-file-configuration")) {
                     sources.addFirst(new FilePropertySource("camel-file-configuration", applicationContext, config.getFileConfigurations()));
                 }
+                PropertySource<?> source = sources.get("camel-file-configuration");
+                if (config.isFileConfigurationsReloadEnabled() && source instanceof FilePropertySource) {
+                    camelContext.addService(new FilePropertySourceWatcher(applicationContext, (FilePropertySource) source));
+                }
             }
         }
 
         // setup cli connector eager
         configureCliConnector(applicationContext, camelContext);
 
-        camelContext.adapt(ExtendedCamelContext.class).setPackageScanClassResolver(new FatJarPackageScanClassResolver());
-        camelContext.adapt(ExtendedCamelContext.class).setPackageScanResourceResolver(new FatJarPackageScanResourceResolver());
+        FatJarScanIndex fatJarScanIndex = new FatJarScanIndex();
+        camelContext.adapt(ExtendedCamelContext.class).setPackageScanClassResolver(new FatJarPackageScanClassResolver(fatJarScanIndex));
+        camelContext.adapt(ExtendedCamelContext.class).setPackageScanResourceResolver(new FatJarPackageScanResourceResolver(fatJarScanIndex));
+        // the fat jar index is only needed while starting, so it is not kept for the life of the application
+        camelContext.addStartupListener(new ExtendedStartupListener() {
+            @Override
+            public void onCamelContextStarted(CamelContext context, boolean alreadyStarted) {
+                // noop
+            }
+
+            @Override
+            public void onCamelContextFullyStarted(CamelContext context, boolean alreadyStarted) {
+                fatJarScanIndex.clear();
+            }
+        });
 
         if (config.getRouteFilterIncludePattern() != null || config.getRouteFilterExcludePattern() != null) {
             LOG.info("Route filtering pattern: include={}, exclude={}", config.getRouteFilterIncludePattern(), config.getRouteFilterExcludePattern());
             camelContext.getExtension(Model.class).setRouteFilterPattern(config.getRouteFilterIncludePattern(), config.getRouteFilterExcludePattern());
         }
 
+        if (config.getLazyStartRoutesPattern() != null) {
+            LOG.info("Lazy start routes pattern: {}", config.getLazyStartRoutesPattern());
+            LazyStartRoutePolicyFactory factory = new LazyStartRoutePolicyFactory(config.getLazyStartRoutesPattern());
+            camelContext.addRoutePolicyFactory(factory);
+            camelContext.getManagementStrategy().addEventNotifier(factory.getEventNotifier());
+        }
+
         // configure the common/default options
         DefaultConfigurationConfigurer.configure(camelContext, config);
         // lookup and configure SPI beans
@@ -152,6 +181,18 @@ public class CamelAutoConfiguration {
         return camelContext;
     }
 
+    static void configureBeanInjectionIndex(ApplicationContext applicationContext,
+                                            CamelSpringBootBeanPostProcessor beanPostProcessor) {
+        BeanInjectionIndex index = BeanInjectionIndex.load(applicationContext.getClassLoader());
+        if (index != null) {
+            LOG.debug("Using bean injection index: {}", BeanInjectionIndex.LOCATION);
+            beanPostProcessor.setBeanInjectionIndex(index);
+        } else {
+            LOG.warn("Bean injection index is enabled but no {} found on the classpath. All beans will be introspected.",
+                    BeanInjectionIndex.LOCATION);
+        }
+    }
+
     static void configureCliConnector(ApplicationContext applicationContext,
                                       CamelContext camelContext) {
 
@@ -275,8 +316,10 @@ public class CamelAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(PropertiesParser.class)
-    PropertiesParser propertiesParser() {
-        return new SpringPropertiesParser();
+    PropertiesParser propertiesParser(CamelConfigurationProperties config) {
+        SpringPropertiesParser parser = new SpringPropertiesParser();
+        parser.setCacheEnabled(config.isPlaceholderCacheEnabled());
+        return parser;
     }
 
     // We explicitly declare the destroyMethod to be "" as the Spring @Bean
@@ -51,6 +51,52 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
      */
     private boolean warnOnEarlyShutdown = true;
 
+    /**
+     * Whether to use the bean injection index (META-INF/camel/bean-injection.idx) generated by the
+     * org.apache.camel.spring.boot.BeanInjectionIndexProcessor annotation processor, so only the beans of the indexed
+     * classes are introspected for Camel injection annotations such as @EndpointInject, @Produce and @PropertyInject.
+     * All the classes declaring these annotations must be compiled with the annotation processor as the beans of
+     * other classes are not introspected. This option is default false.
+     */
+    private boolean beanInjectionIndexEnabled;
+
+    /**
+     * Whether to configure the collected RoutesBuilder instances in parallel, so routes defined in Java, XML or YAML
+     * are parsed concurrently, before they are added to CamelContext in the same order as otherwise.
+     * This can speed up the startup of applications with many routes, but requires the configure method of the
+     * RoutesBuilder instances to be thread-safe with regard to each other. This option is default false.
+     */
+    private boolean parallelRouteConfiguration;
+
+    /**
+     * Used for deferring the start of routes until their first use. The routes matching the pattern are added with
+     * auto startup disabled, and started when the first exchange is sent to their input endpoint. This is only
+     * meaningful for routes consumed by sending to them, such as direct and seda routes.
+     *
+     * The pattern is matched against the route ids. Multiple patterns can be separated by comma, and wildcards and
+     * regular expressions are supported, for example: lazy*,audit-.*
+     */
+    private String lazyStartRoutesPattern;
+
+    /**
+     * Whether to watch the files loaded by fileConfigurations and reload the properties when the files change.
+     * When the properties have changed, a FilePropertySourceReloadedEvent is published, and if contextReloadEnabled
+     * is enabled then Camel is reloaded to take the changes into effect. Route reloading (routesReloadEnabled) only
+     * watches the route files, and is not triggered by the changes of the properties. Only files on the file system can
+     * be watched.
+     */
+    private boolean fileConfigurationsReloadEnabled;
+
+    /**
+     * Whether to cache the property placeholders resolved from the Spring environment. This avoids looking up all the
+     * property sources when placeholders are resolved per message, such as in toD or simple expressions.
+     * The cache is cleared when the environment is changed by Spring Cloud, when beans in refresh scope are refreshed,
+     * and when file configurations are reloaded. Until then the cached values are frozen: property sources changed by
+     * other means, such as system properties set at runtime, are not noticed. The random values (random.*) are never
+     * cached. This option is default false.
+     */
+    private boolean placeholderCacheEnabled;
+
     // Default Properties via camel-main
     // ---------------------------------
 
@@ -924,4 +970,44 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
         this.warnOnEarlyShutdown = warnOnEarlyShutdown;
     }
 
+    public boolean isBeanInjectionIndexEnabled() {
+        return beanInjectionIndexEnabled;
+    }
+
+    public void setBeanInjectionIndexEnabled(boolean beanInjectionIndexEnabled) {
+        this.beanInjectionIndexEnabled = beanInjectionIndexEnabled;
+    }
+
+    public boolean isParallelRouteConfiguration() {
+        return parallelRouteConfiguration;
+    }
+
+    public void setParallelRouteConfiguration(boolean parallelRouteConfiguration) {
+        this.parallelRouteConfiguration = parallelRouteConfiguration;
+    }
+
+    public String getLazyStartRoutesPattern() {
+        return lazyStartRoutesPattern;
+    }
+
+    public void setLazyStartRoutesPattern(String lazyStartRoutesPattern) {
+        this.lazyStartRoutesPattern = lazyStartRoutesPattern;
+    }
+
+    public boolean isFileConfigurationsReloadEnabled() {
+        return fileConfigurationsReloadEnabled;
+    }
+
+    public void setFileConfigurationsReloadEnabled(boolean fileConfigurationsReloadEnabled) {
+        this.fileConfigurationsReloadEnabled = fileConfigurationsReloadEnabled;
+    }
+
+    public boolean isPlaceholderCacheEnabled() {
+        return placeholderCacheEnabled;
+    }
+
+    public void setPlaceholderCacheEnabled(boolean placeholderCacheEnabled) {
+        this.placeholderCacheEnabled = placeholderCacheEnabled;
+    }
+
 }
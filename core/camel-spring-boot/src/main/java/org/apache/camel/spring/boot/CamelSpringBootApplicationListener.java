@@ -18,6 +18,8 @@ package org.apache.camel.spring.boot;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -27,18 +29,29 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RouteConfigurationsBuilder;
+import org.apache.camel.RoutesBuilder;
 import org.apache.camel.StartupListener;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
 import org.apache.camel.main.MainDurationEventNotifier;
 import org.apache.camel.main.MainShutdownStrategy;
 import org.apache.camel.main.RoutesCollector;
 import org.apache.camel.main.RoutesConfigurer;
 import org.apache.camel.main.SimpleMainShutdownStrategy;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelEvent;
 import org.apache.camel.spi.CamelEvent.Type;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.EventNotifierSupport;
 import org.apache.camel.support.LifecycleStrategySupport;
 import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
@@ -94,11 +107,17 @@ public class CamelSpringBootApplicationListener implements ApplicationListener<C
                 // we can use the default routes configurer
                 RoutesConfigurer configurer = new RoutesConfigurer();
 
-                if (configurationProperties.isRoutesCollectorEnabled()) {
-                    configurer.setRoutesCollector(springBootRoutesCollector);
+                if (configurationProperties.isRoutesCollectorEnabled() && configurationProperties.isParallelRouteConfiguration()) {
+                    // routes are collected, post processed and configured up front so the configurer only adds them
+                    configurer.setRoutesBuilders(collectAndConfigureRoutesInParallel(camelContext));
+                } else {
+                    if (configurationProperties.isRoutesCollectorEnabled()) {
+                        configurer.setRoutesCollector(springBootRoutesCollector);
+                    }
+
+                    configurer.setBeanPostProcessor(camelContext.adapt(ExtendedCamelContext.class).getBeanPostProcessor());
                 }
 
-                configurer.setBeanPostProcessor(camelContext.adapt(ExtendedCamelContext.class).getBeanPostProcessor());
                 configurer.setJavaRoutesExcludePattern(configurationProperties.getJavaRoutesExcludePattern());
                 configurer.setJavaRoutesIncludePattern(configurationProperties.getJavaRoutesIncludePattern());
                 configurer.setRoutesExcludePattern(configurationProperties.getRoutesExcludePattern());
@@ -234,6 +253,64 @@ public class CamelSpringBootApplicationListener implements ApplicationListener<C
 
     // Helpers
 
+    private List<RoutesBuilder> collectAndConfigureRoutesInParallel(CamelContext camelContext) throws Exception {
+        List<RoutesBuilder> routes = new ArrayList<>();
+        routes.addAll(springBootRoutesCollector.collectRoutesFromRegistry(camelContext,
+            configurationProperties.getJavaRoutesExcludePattern(), configurationProperties.getJavaRoutesIncludePattern()));
+        routes.addAll(springBootRoutesCollector.collectRoutesFromDirectory(camelContext,
+            configurationProperties.getRoutesExcludePattern(), configurationProperties.getRoutesIncludePattern()));
+
+        // the builders must be post processed before being configured
+        CamelBeanPostProcessor beanPostProcessor = camelContext.adapt(ExtendedCamelContext.class).getBeanPostProcessor();
+        for (RoutesBuilder builder : routes) {
+            beanPostProcessor.postProcessBeforeInitialization(builder, builder.getClass().getName());
+            beanPostProcessor.postProcessAfterInitialization(builder, builder.getClass().getName());
+        }
+
+        // route configurations are cheap and added before the routes, so only route builders are configured
+        List<RouteBuilder> builders = new ArrayList<>();
+        for (RoutesBuilder builder : routes) {
+            if (builder instanceof RouteBuilder && !(builder instanceof RouteConfigurationsBuilder)) {
+                builders.add((RouteBuilder) builder);
+            }
+        }
+        if (builders.size() < 2) {
+            return routes;
+        }
+
+        int poolSize = Math.min(builders.size(), Runtime.getRuntime().availableProcessors());
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("ParallelRouteConfiguration")
+            .poolSize(poolSize).maxPoolSize(poolSize).maxQueueSize(-1).build();
+
+        StartupStepRecorder recorder = camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(CamelSpringBootApplicationListener.class, "ParallelRouteConfiguration",
+            "Configure " + builders.size() + " RoutesBuilder");
+        StopWatch watch = new StopWatch();
+
+        ExecutorService executor = camelContext.getExecutorServiceManager().newThreadPool(this, "ParallelRouteConfiguration", profile);
+        try {
+            List<Callable<RoutesDefinition>> tasks = new ArrayList<>(builders.size());
+            for (RouteBuilder builder : builders) {
+                tasks.add(() -> builder.configureRoutes(camelContext));
+            }
+            for (Future<RoutesDefinition> future : executor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        } finally {
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+            recorder.endStep(step);
+        }
+
+        LOG.debug("Configured {} RoutesBuilder in parallel using {} threads (took {})",
+            builders.size(), poolSize, TimeUtils.printDuration(watch.taken(), true));
+
+        return routes;
+    }
+
     private void terminateMainControllerAfter(final CamelContext camelContext, int seconds,
                                               final MainShutdownStrategy shutdownStrategy, final Runnable mainCompletedTask) {
         ScheduledExecutorService executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "CamelSpringBootTerminateTask");
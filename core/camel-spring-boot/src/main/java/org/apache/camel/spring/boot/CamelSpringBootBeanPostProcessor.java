@@ -16,15 +16,62 @@
  */
 package org.apache.camel.spring.boot;
 
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.spring.spi.CamelBeanPostProcessor;
+import org.apache.camel.support.DefaultEndpoint;
+import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 
 public final class CamelSpringBootBeanPostProcessor extends CamelBeanPostProcessor {
 
+    private volatile BeanInjectionIndex beanInjectionIndex;
+
     public CamelSpringBootBeanPostProcessor(ApplicationContext applicationContext) {
         setApplicationContext(applicationContext);
         // do not support @BindToRegistry as spring boot has its own set of annotations for this
         setBindToRegistrySupported(false);
     }
 
+    public BeanInjectionIndex getBeanInjectionIndex() {
+        return beanInjectionIndex;
+    }
+
+    /**
+     * Sets the index of the classes declaring Camel injection annotations, so beans of other classes are not
+     * introspected.
+     */
+    public void setBeanInjectionIndex(BeanInjectionIndex beanInjectionIndex) {
+        this.beanInjectionIndex = beanInjectionIndex;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (isNotIndexed(bean, beanName)) {
+            // the bean declares no Camel injection annotations so only the CamelContext may need to be injected
+            if (bean instanceof CamelContextAware && ((CamelContextAware) bean).getCamelContext() == null) {
+                ((CamelContextAware) bean).setCamelContext(getCamelContext());
+            }
+            return bean;
+        }
+
+        return super.postProcessBeforeInitialization(bean, beanName);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        // endpoints get their uri from the bean name whether they are indexed or not
+        if (isNotIndexed(bean, beanName) && !(bean instanceof DefaultEndpoint)) {
+            return bean;
+        }
+
+        return super.postProcessAfterInitialization(bean, beanName);
+    }
+
+    private boolean isNotIndexed(Object bean, String beanName) {
+        BeanInjectionIndex index = beanInjectionIndex;
+        // the properties bean is never post processed
+        return index != null && getCamelContext() != null && bean != null && !"properties".equals(beanName)
+                && !index.isIndexed(bean.getClass());
+    }
+
 }
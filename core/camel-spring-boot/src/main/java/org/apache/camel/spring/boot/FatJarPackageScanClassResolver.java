@@ -29,17 +29,30 @@ import org.apache.camel.util.IOHelper;
 /**
  * An implementation of the {@code org.apache.camel.spi.PackageScanClassResolver} that is able to
  * scan spring-boot fat jars to find classes contained also in nested jars.
+ * <p>
+ * The entries of jar files on disk are indexed once and shared by all the package scans of a CamelContext.
  */
 public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResolver {
 
-    private static final String SPRING_BOOT_CLASSIC_LIB_ROOT = "lib/";
-    private static final String SPRING_BOOT_BOOT_INF_LIB_ROOT = "BOOT-INF/lib/";
-    private static final String SPRING_BOOT_BOOT_INF_CLASSES_ROOT = "BOOT-INF/classes/";
-    private static final String SPRING_BOOT_WEB_INF_LIB_ROOT = "WEB-INF/lib/";
-    private static final String SPRING_BOOT_WEB_INF_CLASSES_ROOT = "WEB-INF/classes/";
+    private final FatJarScanIndex index;
+
+    public FatJarPackageScanClassResolver() {
+        this(new FatJarScanIndex());
+    }
+
+    FatJarPackageScanClassResolver(FatJarScanIndex index) {
+        this.index = index;
+    }
 
     @Override
     protected List<String> doLoadJarClassEntries(InputStream stream, String urlPath) {
+        FatJarScanIndex.JarEntries entries = index.get(urlPath);
+        if (entries != null) {
+            // the entries are listed from the index so the stream is not needed
+            IOHelper.close(stream, urlPath, log);
+            return entries.getClassEntries();
+        }
+
         return doLoadJarClassEntries(stream, urlPath, true, true);
     }
 
@@ -56,8 +69,8 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
 
                 name = name.trim();
                 if (!entry.isDirectory() && name.endsWith(".class")) {
-                    entries.add(cleanupSpringBootClassName(name));
-                } else if (inspectNestedJars && !entry.isDirectory() && isSpringBootNestedJar(name)) {
+                    entries.add(FatJarScanIndex.cleanupSpringBootClassName(name));
+                } else if (inspectNestedJars && !entry.isDirectory() && FatJarScanIndex.isSpringBootNestedJar(name)) {
                     String nestedUrl = urlPath + "!/" + name;
                     log.trace("Inspecting nested jar: {}", nestedUrl);
 
@@ -77,20 +90,4 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
         return entries;
     }
 
-    private boolean isSpringBootNestedJar(String name) {
-        // Supporting both versions of the packaging model
-        return name.endsWith(".jar") && (name.startsWith(SPRING_BOOT_CLASSIC_LIB_ROOT) || name.startsWith(SPRING_BOOT_BOOT_INF_LIB_ROOT) || name.startsWith(SPRING_BOOT_WEB_INF_LIB_ROOT));
-    }
-
-    private String cleanupSpringBootClassName(String name) {
-        // Classes inside BOOT-INF/classes will be loaded by the new classloader as if they were in the root
-        if (name.startsWith(SPRING_BOOT_BOOT_INF_CLASSES_ROOT)) {
-            name = name.substring(SPRING_BOOT_BOOT_INF_CLASSES_ROOT.length());
-        }
-        if (name.startsWith(SPRING_BOOT_WEB_INF_CLASSES_ROOT)) {
-            name = name.substring(SPRING_BOOT_WEB_INF_CLASSES_ROOT.length());
-        }
-        return name;
-    }
-
 }
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarInputStream;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the class and resource entries of the jar files on disk, including the entries of the jars nested in a
+ * spring-boot fat jar.
+ * <p>
+ * The entries of a jar file are indexed once, keyed by its path, last modification time and size, and are shared by
+ * the package scan resolvers of a CamelContext, so a fat jar is only read once however many package scans are
+ * performed. The entries of the jar itself are listed from its central directory, and its nested jars are read in
+ * parallel. The entries are only needed while the routes and type converters are scanned, so the index is cleared
+ * once the CamelContext has started.
+ */
+final class FatJarScanIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FatJarScanIndex.class);
+
+    private static final String SPRING_BOOT_CLASSIC_LIB_ROOT = "lib/";
+    private static final String SPRING_BOOT_BOOT_INF_LIB_ROOT = "BOOT-INF/lib/";
+    private static final String SPRING_BOOT_BOOT_INF_CLASSES_ROOT = "BOOT-INF/classes/";
+    private static final String SPRING_BOOT_WEB_INF_LIB_ROOT = "WEB-INF/lib/";
+    private static final String SPRING_BOOT_WEB_INF_CLASSES_ROOT = "WEB-INF/classes/";
+
+    private final Map<String, JarEntries> jars = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the entries of the given jar file, indexing them if the jar has not been indexed yet or has changed since.
+     *
+     * @param  urlPath the path of the jar file
+     * @return         the entries, or <tt>null</tt> if the path is not a jar file on disk that can be indexed
+     */
+    JarEntries get(String urlPath) {
+        File file = new File(urlPath);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        long lastModified = file.lastModified();
+        long length = file.length();
+
+        JarEntries current = jars.get(urlPath);
+        if (current != null && current.isIndexOf(lastModified, length)) {
+            return current;
+        }
+
+        // the jar is read without holding any lock, so concurrent scans of the same jar may read it more than once,
+        // but they all end up with the same entries
+        JarEntries entries;
+        try {
+            entries = build(file, lastModified, length);
+        } catch (IOException | UncheckedIOException e) {
+            LOG.debug("Cannot index jar file: {} due to: {}. Falling back to reading the jar file.", urlPath, e.getMessage(), e);
+            return null;
+        }
+        if (current != null) {
+            jars.remove(urlPath, current);
+        }
+        JarEntries existing = jars.putIfAbsent(urlPath, entries);
+        return existing != null && existing.isIndexOf(lastModified, length) ? existing : entries;
+    }
+
+    /**
+     * Discards the entries of all the jar files.
+     */
+    void clear() {
+        jars.clear();
+    }
+
+    /**
+     * Whether the given jar entry is a jar nested in a spring-boot fat jar.
+     */
+    static boolean isSpringBootNestedJar(String name) {
+        // Supporting both versions of the packaging model
+        return name.endsWith(".jar") && (name.startsWith(SPRING_BOOT_CLASSIC_LIB_ROOT) || name.startsWith(SPRING_BOOT_BOOT_INF_LIB_ROOT) || name.startsWith(SPRING_BOOT_WEB_INF_LIB_ROOT));
+    }
+
+    /**
+     * The name of the given jar entry relative to the classpath root.
+     */
+    static String cleanupSpringBootClassName(String name) {
+        // Classes inside BOOT-INF/classes will be loaded by the new classloader as if they were in the root
+        if (name.startsWith(SPRING_BOOT_BOOT_INF_CLASSES_ROOT)) {
+            name = name.substring(SPRING_BOOT_BOOT_INF_CLASSES_ROOT.length());
+        }
+        if (name.startsWith(SPRING_BOOT_WEB_INF_CLASSES_ROOT)) {
+            name = name.substring(SPRING_BOOT_WEB_INF_CLASSES_ROOT.length());
+        }
+        return name;
+    }
+
+    private static JarEntries build(File file, long lastModified, long length) throws IOException {
+        LOG.trace("Indexing jar file: {}", file);
+
+        List<String> classEntries = new ArrayList<>();
+        List<String> resourceEntries = new ArrayList<>();
+        List<JarEntry> nestedJars = new ArrayList<>();
+
+        try (JarFile jarFile = new JarFile(file, false)) {
+            jarFile.stream().filter(entry -> !entry.isDirectory()).forEach(entry -> {
+                String name = entry.getName().trim();
+                if (name.endsWith(".class")) {
+                    classEntries.add(cleanupSpringBootClassName(name));
+                } else if (isSpringBootNestedJar(name)) {
+                    nestedJars.add(entry);
+                } else {
+                    resourceEntries.add(cleanupSpringBootClassName(name));
+                }
+            });
+
+            // the entries of a jar file can be read concurrently
+            List<JarEntries> nestedEntries = nestedJars.parallelStream()
+                    .map(entry -> buildNested(jarFile, entry))
+                    .collect(Collectors.toList());
+            for (JarEntries nested : nestedEntries) {
+                classEntries.addAll(nested.classEntries);
+                resourceEntries.addAll(nested.resourceEntries);
+            }
+        }
+
+        return new JarEntries(lastModified, length, classEntries, resourceEntries);
+    }
+
+    private static JarEntries buildNested(JarFile jarFile, JarEntry nestedJar) {
+        LOG.trace("Inspecting nested jar: {}!/{}", jarFile.getName(), nestedJar.getName());
+
+        List<String> classEntries = new ArrayList<>();
+        List<String> resourceEntries = new ArrayList<>();
+
+        try (JarInputStream jarStream = new JarInputStream(jarFile.getInputStream(nestedJar))) {
+            JarEntry entry;
+            while ((entry = jarStream.getNextJarEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    String name = entry.getName().trim();
+                    if (name.endsWith(".class")) {
+                        classEntries.add(cleanupSpringBootClassName(name));
+                    } else {
+                        resourceEntries.add(cleanupSpringBootClassName(name));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new JarEntries(0, 0, classEntries, resourceEntries);
+    }
+
+    /**
+     * The entries of a jar file and its nested jars.
+     */
+    static final class JarEntries {
+
+        private final long lastModified;
+        private final long length;
+        private final List<String> classEntries;
+        private final List<String> resourceEntries;
+
+        private JarEntries(long lastModified, long length, List<String> classEntries, List<String> resourceEntries) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.classEntries = Collections.unmodifiableList(classEntries);
+            this.resourceEntries = Collections.unmodifiableList(resourceEntries);
+        }
+
+        /**
+         * The names of the classes in the jar and its nested jars, as paths relative to the classpath root.
+         */
+        List<String> getClassEntries() {
+            return classEntries;
+        }
+
+        /**
+         * The names of the resources in the jar and its nested jars, as paths relative to the classpath root.
+         */
+        List<String> getResourceEntries() {
+            return resourceEntries;
+        }
+
+        private boolean isIndexOf(long lastModified, long length) {
+            return this.lastModified == lastModified && this.length == length;
+        }
+    }
+}
@@ -16,9 +16,17 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 import org.apache.camel.util.StringHelper;
 import org.slf4j.Logger;
@@ -29,30 +37,85 @@ import org.springframework.core.io.Resource;
 
 /**
  * To load properties from files, such as a secret mounted to the container.
+ * <p/>
+ * The loaded properties are kept in an immutable snapshot which is read without locking, and which is swapped
+ * atomically when the files are {@link #reload() reloaded}.
  */
 public class FilePropertySource extends PropertySource {
 
     private static final Logger LOG = LoggerFactory.getLogger(FilePropertySource.class);
 
-    // properties for all the loaded files
-    private final Properties properties;
+    private final ApplicationContext applicationContext;
+    private final String directory;
+    // the loaded files in resource order, only accessed when (re)loading
+    private final Map<String, LoadedFile> files = new LinkedHashMap<>();
+    // snapshot of the properties for all the loaded files
+    private volatile Map<String, String> properties;
 
     public FilePropertySource(String name, ApplicationContext applicationContext, String directory) {
         super(name);
         StringHelper.notEmpty(directory, "directory");
+        this.applicationContext = applicationContext;
+        this.directory = directory;
 
-        Properties loaded = new Properties();
+        reload();
+
+        // if we loaded any files then store as properties
+        if (properties == null) {
+            LOG.warn("No properties found while loading from: {}", directory);
+        } else {
+            LOG.info("Loaded {} properties from: {}", properties.size(), directory);
+        }
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        Map<String, String> snapshot = properties;
+        Object answer = snapshot != null ? snapshot.get(name) : null;
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("getProperty {} -> {}", name, answer);
+        }
+        return answer;
+    }
+
+    /**
+     * The location of the files, such as file:/var/app/secret/*.properties
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The directories on the file system holding the loaded files.
+     */
+    public synchronized Set<Path> getWatchDirectories() {
+        Set<Path> answer = new LinkedHashSet<>();
+        for (LoadedFile file : files.values()) {
+            if (file.file != null && file.file.getParentFile() != null) {
+                answer.add(file.file.getParentFile().toPath());
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Loads the files again, only reading the files which are new or have been changed since they were last read.
+     *
+     * @return <tt>true</tt> if the properties have changed
+     */
+    public synchronized boolean reload() {
+        Map<String, LoadedFile> loaded = new LinkedHashMap<>();
         try {
-            Resource[] files = applicationContext.getResources(directory);
-            for (Resource file : files) {
-                if (file.exists()) {
-                    try (FileInputStream fis = new FileInputStream(file.getFile())) {
-                        LOG.debug("Loading properties from file: {}", file);
-                        Properties extra = new Properties();
-                        extra.load(fis);
-                        if (!extra.isEmpty()) {
-                            loaded.putAll(extra);
+            Resource[] resources = applicationContext.getResources(directory);
+            for (Resource resource : resources) {
+                if (resource.exists()) {
+                    try {
+                        String key = resource.getURL().toString();
+                        LoadedFile file = files.get(key);
+                        if (file == null || file.isModified()) {
+                            file = load(resource);
                         }
+                        loaded.put(key, file);
                     } catch (IOException e) {
                         // ignore
                     }
@@ -61,21 +124,54 @@ public class FilePropertySource extends PropertySource {
         } catch (IOException e) {
             // ignore
         }
+        files.clear();
+        files.putAll(loaded);
 
-        // if we loaded any files then store as properties
-        if (loaded.isEmpty()) {
-            properties = null;
-            LOG.warn("No properties found while loading from: {}", directory);
-        } else {
-            properties = loaded;
-            LOG.info("Loaded {} properties from: {}", properties.size(), directory);
+        Map<String, String> merged = new HashMap<>();
+        for (LoadedFile file : loaded.values()) {
+            merged.putAll(file.properties);
+        }
+        Map<String, String> snapshot = merged.isEmpty() ? null : Collections.unmodifiableMap(merged);
+        if (snapshot == null ? properties == null : snapshot.equals(properties)) {
+            return false;
         }
+        properties = snapshot;
+        return true;
     }
 
-    @Override
-    public Object getProperty(String name) {
-        Object answer = properties != null ? properties.getProperty(name) : null;
-        LOG.trace("getProperty {} -> {}", name, answer);
-        return answer;
+    private static LoadedFile load(Resource resource) throws IOException {
+        File file = resource.getFile();
+        // read the timestamps before the content, so a concurrent change is detected on next reload
+        long lastModified = file.lastModified();
+        long length = file.length();
+
+        Properties extra = new Properties();
+        try (FileInputStream fis = new FileInputStream(file)) {
+            LOG.debug("Loading properties from file: {}", resource);
+            extra.load(fis);
+        }
+        Map<String, String> answer = new HashMap<>();
+        for (String key : extra.stringPropertyNames()) {
+            answer.put(key, extra.getProperty(key));
+        }
+        return new LoadedFile(file, lastModified, length, answer);
+    }
+
+    private static final class LoadedFile {
+        private final File file;
+        private final long lastModified;
+        private final long length;
+        private final Map<String, String> properties;
+
+        private LoadedFile(File file, long lastModified, long length, Map<String, String> properties) {
+            this.file = file;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.properties = properties;
+        }
+
+        private boolean isModified() {
+            return file.lastModified() != lastModified || file.length() != length;
+        }
     }
 }
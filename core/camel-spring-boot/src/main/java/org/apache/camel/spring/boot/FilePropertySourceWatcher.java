@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.spi.ContextReloadStrategy;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Watches the directories of the files loaded by a {@link FilePropertySource}, and reloads the properties when the
+ * files change.
+ * <p/>
+ * When the properties have changed a {@link FilePropertySourceReloadedEvent} is published, and if context reloading
+ * is enabled then Camel is reloaded to take the changes into effect. Route reloading is not involved, as it only
+ * watches the route files.
+ */
+public class FilePropertySourceWatcher extends ServiceSupport implements CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FilePropertySourceWatcher.class);
+
+    private final ApplicationContext applicationContext;
+    private final FilePropertySource propertySource;
+    private CamelContext camelContext;
+    private WatchService watchService;
+    private ExecutorService executorService;
+    private long debounceDelay = 500;
+
+    public FilePropertySourceWatcher(ApplicationContext applicationContext, FilePropertySource propertySource) {
+        this.applicationContext = applicationContext;
+        this.propertySource = propertySource;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public long getDebounceDelay() {
+        return debounceDelay;
+    }
+
+    /**
+     * Time in millis to wait for more changes before reloading, as editors and secret mounts often change several
+     * files in a row.
+     */
+    public void setDebounceDelay(long debounceDelay) {
+        this.debounceDelay = debounceDelay;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        Set<Path> directories = propertySource.getWatchDirectories();
+        if (directories.isEmpty()) {
+            LOG.debug("No directories to watch for: {}", propertySource.getDirectory());
+            return;
+        }
+
+        watchService = FileSystems.getDefault().newWatchService();
+        for (Path directory : directories) {
+            LOG.debug("Watching directory: {} for property file changes", directory);
+            directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+
+        executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this, "FilePropertySourceWatcher");
+        executorService.submit(this::watch);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        IOHelper.close(watchService);
+        watchService = null;
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+    }
+
+    private void watch() {
+        WatchService service = watchService;
+        try {
+            while (isRunAllowed()) {
+                WatchKey key = service.take();
+                boolean valid = drain(key);
+                // collect the other changes happening in a row so the files are only read once
+                WatchKey next;
+                while ((next = service.poll(debounceDelay, TimeUnit.MILLISECONDS)) != null) {
+                    drain(next);
+                }
+                try {
+                    onChange();
+                } catch (Exception e) {
+                    LOG.warn("Error reloading properties from: {} due to: {}. This exception is ignored.",
+                        propertySource.getDirectory(), e.getMessage(), e);
+                }
+                if (!valid) {
+                    LOG.debug("Directory for: {} is no longer watchable", propertySource.getDirectory());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // stopping
+        }
+    }
+
+    private static boolean drain(WatchKey key) {
+        key.pollEvents();
+        return key.reset();
+    }
+
+    void onChange() {
+        if (!propertySource.reload()) {
+            return;
+        }
+        LOG.info("Reloaded properties from: {}", propertySource.getDirectory());
+        applicationContext.publishEvent(new FilePropertySourceReloadedEvent(propertySource));
+
+        ContextReloadStrategy reload = camelContext.hasService(ContextReloadStrategy.class);
+        if (reload != null) {
+            reload.onReload(propertySource);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Route;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeSendingEvent;
+import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.PatternHelper;
+import org.apache.camel.support.RoutePolicySupport;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.apache.camel.util.URISupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link RoutePolicyFactory} which defers the start of the routes matching a pattern until the first exchange is
+ * sent to their input endpoint.
+ * <p/>
+ * The matching routes are added to {@link CamelContext} with auto startup disabled, so they are warmed up but their
+ * consumers are not started. The {@link #getEventNotifier() event notifier} must be added to the management strategy,
+ * as it starts a cold route on the sending thread when an exchange is about to be sent to its input endpoint. This
+ * is only meaningful for routes which are consumed by sending to them, such as <tt>direct</tt> and <tt>seda</tt>.
+ * The endpoints are matched without their options, as a consumer such as <tt>seda:foo?concurrentConsumers=5</tt>
+ * is sent to as <tt>seda:foo</tt>. All the cold routes consuming the same endpoint, such as <tt>seda</tt> with
+ * <tt>multipleConsumers</tt> or <tt>jms</tt> topics, are started together.
+ * The cold routes of different endpoints are started concurrently. The event notifier ignores the events once all the
+ * lazy routes are started.
+ */
+public class LazyStartRoutePolicyFactory implements RoutePolicyFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LazyStartRoutePolicyFactory.class);
+
+    private final String[] patterns;
+    // endpoint uri without options -> route ids of the routes not yet started
+    private final Map<String, Set<String>> coldRoutes = new ConcurrentHashMap<>();
+    // endpoint uri without options -> lock held while starting its cold routes, only ever created for lazy endpoints
+    private final Map<String, Object> startLocks = new ConcurrentHashMap<>();
+    // route id -> time taken to start the route on first use
+    private final Map<String, Long> firstUseStartupTimes = new ConcurrentHashMap<>();
+    private final EventNotifier eventNotifier = new FirstUseEventNotifier();
+
+    public LazyStartRoutePolicyFactory(String pattern) {
+        this.patterns = pattern.split(",");
+    }
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+        if (routeId != null && PatternHelper.matchPatterns(routeId, patterns)) {
+            return new LazyStartRoutePolicy();
+        }
+        return null;
+    }
+
+    /**
+     * The {@link EventNotifier} starting the cold routes on their first use.
+     */
+    public EventNotifier getEventNotifier() {
+        return eventNotifier;
+    }
+
+    /**
+     * The ids of the lazy routes which have not been started yet.
+     */
+    public Set<String> getColdRoutes() {
+        Set<String> answer = new TreeSet<>();
+        coldRoutes.values().forEach(answer::addAll);
+        return Collections.unmodifiableSet(answer);
+    }
+
+    /**
+     * The time in millis it took to start each lazy route on its first use, by route id.
+     */
+    public Map<String, Long> getFirstUseStartupTimes() {
+        return Collections.unmodifiableMap(new TreeMap<>(firstUseStartupTimes));
+    }
+
+    private static String coldRouteKey(Endpoint endpoint) {
+        // the options of the consumer and the producer endpoints differ, but they share the same queue or channel
+        return URISupport.stripQuery(endpoint.getEndpointUri());
+    }
+
+    private void addColdRoute(String key, String routeId) {
+        coldRoutes.compute(key, (k, routeIds) -> {
+            Set<String> answer = routeIds != null ? routeIds : ConcurrentHashMap.newKeySet();
+            answer.add(routeId);
+            return answer;
+        });
+    }
+
+    private void removeColdRoute(String key, String routeId) {
+        coldRoutes.computeIfPresent(key, (k, routeIds) -> {
+            routeIds.remove(routeId);
+            return routeIds.isEmpty() ? null : routeIds;
+        });
+    }
+
+    private void startOnFirstUse(CamelContext camelContext, String key) throws Exception {
+        // locked per endpoint, as starting the routes of one endpoint must not hold up the senders to the others. The
+        // routes are not started within coldRoutes.compute, as starting them removes them from coldRoutes
+        synchronized (startLocks.computeIfAbsent(key, k -> new Object())) {
+            // another thread may have started the routes in the meantime, and every route
+            // consuming the endpoint must be started as they may all receive the exchange
+            Set<String> routeIds = coldRoutes.getOrDefault(key, Collections.emptySet());
+            // copied as the routes are removed from the set once started
+            for (String routeId : new ArrayList<>(routeIds)) {
+                StopWatch watch = new StopWatch();
+                camelContext.getRouteController().startRoute(routeId);
+                long taken = watch.taken();
+                firstUseStartupTimes.put(routeId, taken);
+
+                LOG.info("Started lazy route: {} on first use (took {})", routeId, TimeUtils.printDuration(taken, true));
+            }
+        }
+    }
+
+    private final class LazyStartRoutePolicy extends RoutePolicySupport {
+
+        @Override
+        public void onInit(Route route) {
+            // routes explicitly configured to not auto startup must not be started on first use either
+            if (!Boolean.FALSE.equals(route.isAutoStartup())) {
+                route.setAutoStartup(false);
+                addColdRoute(coldRouteKey(route.getEndpoint()), route.getRouteId());
+            }
+        }
+
+        @Override
+        public void onStart(Route route) {
+            removeColdRoute(coldRouteKey(route.getEndpoint()), route.getRouteId());
+        }
+
+        @Override
+        public void onRemove(Route route) {
+            removeColdRoute(coldRouteKey(route.getEndpoint()), route.getRouteId());
+            firstUseStartupTimes.remove(route.getRouteId());
+        }
+    }
+
+    private final class FirstUseEventNotifier extends EventNotifierSupport {
+
+        FirstUseEventNotifier() {
+            setIgnoreCamelContextEvents(true);
+            setIgnoreRouteEvents(true);
+            setIgnoreServiceEvents(true);
+            setIgnoreExchangeCreatedEvent(true);
+            setIgnoreExchangeCompletedEvent(true);
+            setIgnoreExchangeFailedEvents(true);
+            setIgnoreExchangeRedeliveryEvents(true);
+            setIgnoreExchangeSentEvents(true);
+            setIgnoreStepEvents(true);
+        }
+
+        @Override
+        public boolean isEnabled(CamelEvent event) {
+            // not disabled through isDisabled, as Camel only checks it when the notifier is added, when no route is
+            // cold yet
+            return event instanceof ExchangeSendingEvent && !coldRoutes.isEmpty();
+        }
+
+        @Override
+        public void notify(CamelEvent event) throws Exception {
+            ExchangeSendingEvent sending = (ExchangeSendingEvent) event;
+            String key = coldRouteKey(sending.getEndpoint());
+            if (coldRoutes.containsKey(key)) {
+                startOnFirstUse(sending.getExchange().getContext(), key);
+            }
+        }
+    }
+}
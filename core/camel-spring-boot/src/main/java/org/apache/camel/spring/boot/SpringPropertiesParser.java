@@ -16,23 +16,161 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.apache.camel.component.properties.DefaultPropertiesParser;
 import org.apache.camel.component.properties.PropertiesLookup;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.env.Environment;
 
-class SpringPropertiesParser extends DefaultPropertiesParser {
+/**
+ * Resolves Camel property placeholders from the Spring {@link Environment}.
+ * <p/>
+ * The resolved placeholders can optionally be cached, which avoids walking all the property sources of the
+ * environment when placeholders are resolved per message. The cache is cleared when the environment is changed by
+ * Spring Cloud, when beans in refresh scope are refreshed, and when file configurations are reloaded. Until then the
+ * cached values are frozen, so values changing by other means, such as system properties set at runtime, are not
+ * noticed. The random values (random.*) are resolved from the environment each time, as caching them would make them
+ * constant.
+ * <p/>
+ * Every placeholder resolved from the environment is counted and timed, whether the cache is enabled or not, and the
+ * placeholders resolved from the cache are counted as hits.
+ */
+public class SpringPropertiesParser extends DefaultPropertiesParser implements ApplicationListener<ApplicationEvent> {
+
+    private static final int MAXIMUM_CACHE_SIZE = 1000;
+
+    // marker for keys which are not present in the environment
+    private static final Object NOT_FOUND = new Object();
+
+    // the values of the random property source of Spring Boot are different on each lookup
+    private static final String RANDOM_PREFIX = "random.";
+
+    // Spring Cloud is an optional dependency so the events are matched by name
+    private static final String ENVIRONMENT_CHANGE_EVENT = "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+    private static final String REFRESH_SCOPE_REFRESHED_EVENT = "org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent";
 
     // Members
 
     @Autowired
     private Environment env;
 
+    private final Map<String, Object> cache = new ConcurrentHashMap<>();
+    private final LongAdder hitCounter = new LongAdder();
+    private final LongAdder missCounter = new LongAdder();
+    private final LongAdder resolveTime = new LongAdder();
+    // incremented on every invalidation, so the lookups started before it do not cache stale values after it
+    private final AtomicLong generation = new AtomicLong();
+    private volatile boolean cacheEnabled;
+
     // Overridden
 
     @Override
     public String parseProperty(String key, String value, PropertiesLookup properties) {
-        return env.getProperty(key);
+        if (!cacheEnabled || key.startsWith(RANDOM_PREFIX)) {
+            return resolve(key);
+        }
+
+        Object answer = cache.get(key);
+        if (answer != null) {
+            hitCounter.increment();
+            return answer == NOT_FOUND ? null : (String) answer;
+        }
+
+        long before = generation.get();
+        String resolved = resolve(key);
+
+        if (cache.size() >= MAXIMUM_CACHE_SIZE) {
+            // the placeholders of an application are few, so the cache is simply cleared should it ever grow too much
+            cache.clear();
+        }
+        Object cached = resolved != null ? resolved : NOT_FOUND;
+        cache.put(key, cached);
+        if (generation.get() != before) {
+            // the cache was invalidated during the lookup, so the value may be stale. Any later invalidation clears
+            // the cache after this check, so only this one has to be undone
+            cache.remove(key, cached);
+        }
+        return resolved;
+    }
+
+    private String resolve(String key) {
+        missCounter.increment();
+        long start = System.nanoTime();
+        try {
+            return env.getProperty(key);
+        } finally {
+            resolveTime.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        String name = event.getClass().getName();
+        if (event instanceof ContextRefreshedEvent || event instanceof FilePropertySourceReloadedEvent
+                || ENVIRONMENT_CHANGE_EVENT.equals(name) || REFRESH_SCOPE_REFRESHED_EVENT.equals(name)) {
+            invalidate();
+        }
+    }
+
+    // Properties
+
+    /**
+     * Whether resolved placeholders are cached.
+     */
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+        if (!cacheEnabled) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Number of placeholders resolved from the cache.
+     */
+    public long getHitCounter() {
+        return hitCounter.sum();
+    }
+
+    /**
+     * Number of placeholders resolved from the environment.
+     */
+    public long getMissCounter() {
+        return missCounter.sum();
+    }
+
+    /**
+     * Total time in nanos spent resolving placeholders from the environment.
+     */
+    public long getResolveTime() {
+        return resolveTime.sum();
+    }
+
+    /**
+     * Resets the hit and miss counters and the resolve time.
+     */
+    public void resetStatistics() {
+        hitCounter.reset();
+        missCounter.reset();
+        resolveTime.reset();
+    }
+
+    /**
+     * Clears the cached placeholders, so they are resolved from the environment again.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
     }
 
 }
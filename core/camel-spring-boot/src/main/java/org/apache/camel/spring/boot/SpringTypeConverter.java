@@ -19,67 +19,256 @@ package org.apache.camel.spring.boot;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.TypeConversionException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.support.TypeConverterSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 
+@ManagedResource(description = "Spring Type Converter")
 public class SpringTypeConverter extends TypeConverterSupport {
 
+    private static final Logger LOG = LoggerFactory.getLogger(SpringTypeConverter.class);
+
+    // marker for source and target types no conversion service can convert between
+    private static final Object NOT_CONVERTIBLE = new Object();
+
     private final List<ConversionService> conversionServices;
-    private final ConcurrentHashMap<Class<?>, TypeDescriptor> types;
+    // the caches are softly referenced, as in GenericConversionService, so they survive garbage collections but
+    // do not pin the class loaders of redeployed or reloaded classes when memory runs short
+    private final Map<Class<?>, TypeDescriptor> types;
+    private final Map<ConversionKey, Object> conversions;
+    private final LongAdder hitCounter = new LongAdder();
+    private final LongAdder missCounter = new LongAdder();
+    private final UtilizationStatistics statistics = new UtilizationStatistics();
 
     @Autowired
     public SpringTypeConverter(List<ConversionService> conversionServices) {
         this.conversionServices = conversionServices;
-        this.types = new ConcurrentHashMap<>();
+        this.types = new ConcurrentReferenceHashMap<>(16, ReferenceType.SOFT);
+        this.conversions = new ConcurrentReferenceHashMap<>(16, ReferenceType.SOFT);
     }
 
     @Override
     public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
-        // do not attempt to convert Camel types
-        if (type.getCanonicalName().startsWith("org.apache")) {
-            return null;
-        }
-        
-        // do not attempt to convert List -> Map. Ognl expression may use this converter as a fallback expecting null
-        if (type.isAssignableFrom(Map.class) && isArrayOrCollection(value)) {
+        Object resolved = resolveConversionService(value.getClass(), type);
+        if (resolved == NOT_CONVERTIBLE) {
             return null;
         }
 
+        ConversionService conversionService = (ConversionService) resolved;
         TypeDescriptor sourceType = types.computeIfAbsent(value.getClass(), TypeDescriptor::valueOf);
         TypeDescriptor targetType = types.computeIfAbsent(type, TypeDescriptor::valueOf);
 
+        try {
+            return (T)conversionService.convert(value, sourceType, targetType);
+        } catch (ConversionFailedException e) {
+            // if value is a collection or an array the check ConversionService::canConvert
+            // may return true but then the conversion of specific objects may fail
+            //
+            // https://issues.apache.org/jira/browse/CAMEL-10548
+            // https://jira.spring.io/browse/SPR-14971
+            //
+            if (e.getCause() instanceof ConverterNotFoundException && isArrayOrCollection(value)) {
+                return null;
+            } else {
+                throw new TypeConversionException(value, type, e);
+            }
+        }
+    }
+
+    /**
+     * Statistics of the conversion cache, in the same form as the ones of the {@link TypeConverterRegistry}: the hits
+     * are the conversions resolved from the cache, including the ones known to be unsupported, and the misses are the
+     * conversions which had to look up the conversion services.
+     * <p>
+     * The statistics follow the {@code typeConverterStatisticsEnabled} option of the context, are exposed over JMX
+     * next to the ones of the type converter registry and are logged when the context is stopped.
+     */
+    public TypeConverterRegistry.Statistics getStatistics() {
+        return statistics;
+    }
+
+    @ManagedAttribute(description = "Number of conversions looked up in the cache")
+    public long getAttemptCounter() {
+        return statistics.getAttemptCounter();
+    }
+
+    @ManagedAttribute(description = "Number of conversions resolved from the cache")
+    public long getHitCounter() {
+        return statistics.getHitCounter();
+    }
+
+    @ManagedAttribute(description = "Number of conversions which looked up the conversion services")
+    public long getMissCounter() {
+        return statistics.getMissCounter();
+    }
+
+    @ManagedAttribute(description = "Utilization statistics enabled")
+    public boolean isStatisticsEnabled() {
+        return statistics.isStatisticsEnabled();
+    }
+
+    @ManagedAttribute(description = "Utilization statistics enabled")
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        statistics.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @ManagedOperation(description = "Resets the utilization statistics")
+    public void resetStatistics() {
+        statistics.reset();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (statistics.isStatisticsEnabled()) {
+            // same as the statistics of the type converter registry logged by the context
+            LOG.info(statistics.toString());
+        }
+        super.doStop();
+    }
+
+    private Object resolveConversionService(Class<?> sourceClass, Class<?> targetClass) {
+        ConversionKey key = new ConversionKey(sourceClass, targetClass);
+
+        Object answer = conversions.get(key);
+        if (answer != null) {
+            if (statistics.statisticsEnabled) {
+                hitCounter.increment();
+            }
+            return answer;
+        }
+
+        if (statistics.statisticsEnabled) {
+            missCounter.increment();
+        }
+
+        answer = doResolveConversionService(sourceClass, targetClass);
+        conversions.put(key, answer);
+
+        return answer;
+    }
+
+    private Object doResolveConversionService(Class<?> sourceClass, Class<?> targetClass) {
+        // do not attempt to convert Camel types
+        if (targetClass.getCanonicalName().startsWith("org.apache")) {
+            return NOT_CONVERTIBLE;
+        }
+
+        // do not attempt to convert List -> Map. Ognl expression may use this converter as a fallback expecting null
+        if (targetClass.isAssignableFrom(Map.class) && isArrayOrCollection(sourceClass)) {
+            return NOT_CONVERTIBLE;
+        }
+
+        TypeDescriptor sourceType = types.computeIfAbsent(sourceClass, TypeDescriptor::valueOf);
+        TypeDescriptor targetType = types.computeIfAbsent(targetClass, TypeDescriptor::valueOf);
+
         for (ConversionService conversionService : conversionServices) {
             if (conversionService.canConvert(sourceType, targetType)) {
-                try {
-                    return (T)conversionService.convert(value, sourceType, targetType);
-                } catch (ConversionFailedException e) {
-                    // if value is a collection or an array the check ConversionService::canConvert
-                    // may return true but then the conversion of specific objects may fail
-                    //
-                    // https://issues.apache.org/jira/browse/CAMEL-10548
-                    // https://jira.spring.io/browse/SPR-14971
-                    //
-                    if (e.getCause() instanceof ConverterNotFoundException && isArrayOrCollection(value)) {
-                        return null;
-                    } else {
-                        throw new TypeConversionException(value, type, e);
-                    }
-                }
+                return conversionService;
             }
         }
 
-        return null;
+        return NOT_CONVERTIBLE;
     }
 
     private boolean isArrayOrCollection(Object value) {
-        return value instanceof Collection || value.getClass().isArray();
+        return isArrayOrCollection(value.getClass());
+    }
+
+    private boolean isArrayOrCollection(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || type.isArray();
+    }
+
+    private static final class ConversionKey {
+        private final Class<?> sourceType;
+        private final Class<?> targetType;
+
+        ConversionKey(Class<?> sourceType, Class<?> targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConversionKey)) {
+                return false;
+            }
+            ConversionKey that = (ConversionKey) o;
+            return sourceType == that.sourceType && targetType == that.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sourceType.hashCode() + targetType.hashCode();
+        }
+    }
+
+    private final class UtilizationStatistics implements TypeConverterRegistry.Statistics {
+
+        private volatile boolean statisticsEnabled;
+
+        @Override
+        public long getAttemptCounter() {
+            return hitCounter.sum() + missCounter.sum();
+        }
+
+        @Override
+        public long getHitCounter() {
+            return hitCounter.sum();
+        }
+
+        @Override
+        public long getMissCounter() {
+            return missCounter.sum();
+        }
+
+        @Override
+        public long getFailedCounter() {
+            return 0;
+        }
+
+        @Override
+        public long getNoopCounter() {
+            return 0;
+        }
+
+        @Override
+        public void reset() {
+            hitCounter.reset();
+            missCounter.reset();
+        }
+
+        @Override
+        public boolean isStatisticsEnabled() {
+            return statisticsEnabled;
+        }
+
+        @Override
+        public void setStatisticsEnabled(boolean statisticsEnabled) {
+            this.statisticsEnabled = statisticsEnabled;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("SpringTypeConverter utilization[attempts=%s, hits=%s, misses=%s]",
+                    getAttemptCounter(), getHitCounter(), getMissCounter());
+        }
     }
 }
@@ -45,9 +45,13 @@ public class TypeConversionConfiguration {
     }
 
     @Bean
-    SpringTypeConverter springTypeConverter(CamelContext camelContext, ConversionService[] conversionServices) {
+    SpringTypeConverter springTypeConverter(CamelContext camelContext, ConversionService[] conversionServices) throws Exception {
         SpringTypeConverter springTypeConverter = new SpringTypeConverter(asList(conversionServices));
+        // the statistics of the registry are only enabled when the context starts, so follow the context option
+        springTypeConverter.getStatistics().setStatisticsEnabled(Boolean.TRUE.equals(camelContext.isTypeConverterStatisticsEnabled()));
         camelContext.getTypeConverterRegistry().addFallbackTypeConverter(springTypeConverter, true);
+        // managed as a service, so its statistics are exposed over JMX and logged on shutdown
+        camelContext.addService(springTypeConverter, true);
         return springTypeConverter;
     }
 
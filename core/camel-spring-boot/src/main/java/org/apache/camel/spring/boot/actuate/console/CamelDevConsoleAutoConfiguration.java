@@ -24,6 +24,7 @@ import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -34,15 +35,17 @@ import org.springframework.context.annotation.Configuration;
 @ConditionalOnClass(name = "org.apache.camel.impl.console.DefaultDevConsoleRegistry")
 @ConditionalOnBean(CamelAutoConfiguration.class)
 @AutoConfigureAfter(CamelAutoConfiguration.class)
+@EnableConfigurationProperties(CamelDevConsoleEndpointProperties.class)
 public class CamelDevConsoleAutoConfiguration {
 
     @Bean
     @ConditionalOnClass(CamelContext.class)
     @ConditionalOnMissingBean
-    public CamelDevConsoleEndpoint devConsoleEndpoint(CamelContext camelContext) {
+    public CamelDevConsoleEndpoint devConsoleEndpoint(CamelContext camelContext,
+                                                      CamelDevConsoleEndpointProperties properties) {
         // turn on dev console
         camelContext.setDevConsole(true);
-        return new CamelDevConsoleEndpoint(camelContext);
+        return new CamelDevConsoleEndpoint(camelContext, properties);
     }
 
 
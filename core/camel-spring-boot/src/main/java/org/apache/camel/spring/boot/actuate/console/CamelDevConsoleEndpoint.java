@@ -16,6 +16,10 @@
  */
 package org.apache.camel.spring.boot.actuate.console;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.console.DevConsole;
@@ -24,9 +28,21 @@ import org.apache.camel.util.json.JsonObject;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /*
  * Camel Developer Console
@@ -35,9 +51,20 @@ import java.util.Map;
 public class CamelDevConsoleEndpoint {
 
     private CamelContext camelContext;
+    private final int poolSize;
+    private final long defaultTimeout;
+    private final long maxTimeout;
+    private volatile ExecutorService executorService;
 
     public CamelDevConsoleEndpoint(CamelContext camelContext) {
+        this(camelContext, new CamelDevConsoleEndpointProperties());
+    }
+
+    public CamelDevConsoleEndpoint(CamelContext camelContext, CamelDevConsoleEndpointProperties properties) {
         this.camelContext = camelContext;
+        this.poolSize = Math.max(1, properties.getPoolSize());
+        this.maxTimeout = Math.max(1, properties.getMaxTimeout().toMillis());
+        this.defaultTimeout = Math.min(Math.max(1, properties.getTimeout().toMillis()), maxTimeout);
     }
 
     @ReadOperation
@@ -59,8 +86,60 @@ public class CamelDevConsoleEndpoint {
         return root;
     }
 
+    /**
+     * Calls the consoles with the given ids, or all of them when the id is <tt>all</tt>.
+     * <p/>
+     * The consoles are called in parallel, and their output is streamed in order as soon as it is available, so it does
+     * not have to be kept in memory all at once. A console which does not complete within the timeout, counted from
+     * when it starts running, is reported with an error instead of its output.
+     *
+     * @param id      the ids of the consoles, or <tt>all</tt>
+     * @param limit   the maximum number of entries returned by the consoles supporting it
+     * @param filter  the filter applied by the consoles supporting it
+     * @param timeout the maximum time in millis each console may take, defaults to
+     *                <tt>management.endpoint.camel.timeout</tt> and capped by
+     *                <tt>management.endpoint.camel.max-timeout</tt>
+     */
     @ReadOperation
-    public JsonObject getConsoleById(@Selector String id) {
+    public Object getConsoleById(@Selector String id, @Nullable Integer limit, @Nullable String filter,
+                                 @Nullable Long timeout) {
+        DevConsoleRegistry dcr = camelContext.getExtension(DevConsoleRegistry.class);
+        if (dcr == null || !dcr.isEnabled()) {
+            return null;
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put(Exchange.HTTP_PATH, id);
+        if (limit != null) {
+            params.put("limit", String.valueOf(limit));
+        }
+        if (filter != null) {
+            params.put("filter", filter);
+        }
+
+        List<DevConsole> consoles = dcr.stream().sorted((o1, o2) -> {
+            int p1 = id.indexOf(o1.getId());
+            int p2 = id.indexOf(o2.getId());
+            return Integer.compare(p1, p2);
+        }).filter(c -> ("all".equals(id) || id.contains(c.getId())) && c.supportMediaType(DevConsole.MediaType.JSON))
+                .collect(Collectors.toList());
+
+        Map<String, ConsoleCall> outputs = new LinkedHashMap<>();
+        ExecutorService executor = getExecutorService();
+        for (DevConsole console : consoles) {
+            ConsoleCall call = new ConsoleCall(() -> console.call(DevConsole.MediaType.JSON, params));
+            call.future = executor.submit(call);
+            outputs.put(console.getId(), call);
+        }
+
+        long answer = timeout != null && timeout > 0 ? Math.min(timeout, maxTimeout) : defaultTimeout;
+        return new ConsolesOutput(outputs, answer);
+    }
+
+    /**
+     * Calls the consoles with the given ids, or all of them when the id is <tt>all</tt>, one after the other.
+     */
+    public JsonObject getConsoleById(String id) {
         DevConsoleRegistry dcr = camelContext.getExtension(DevConsoleRegistry.class);
         if (dcr == null || !dcr.isEnabled()) {
             return null;
@@ -88,4 +167,109 @@ public class CamelDevConsoleEndpoint {
         return root;
     }
 
+    private ExecutorService getExecutorService() {
+        if (executorService == null) {
+            synchronized (this) {
+                if (executorService == null) {
+                    executorService = camelContext.getExecutorServiceManager()
+                            .newFixedThreadPool(this, "CamelDevConsole", poolSize);
+                }
+            }
+        }
+        return executorService;
+    }
+
+    /*
+     * The call of a console, recording when it starts running.
+     */
+    static final class ConsoleCall implements Callable<Object> {
+
+        private final Callable<Object> task;
+        private volatile long started;
+        private volatile Future<Object> future;
+
+        ConsoleCall(Callable<Object> task) {
+            this.task = task;
+        }
+
+        @Override
+        public Object call() throws Exception {
+            started = System.nanoTime();
+            return task.call();
+        }
+    }
+
+    /*
+     * The output of the consoles, written as a JSON object while the consoles complete.
+     */
+    static final class ConsolesOutput implements JsonSerializable {
+
+        private final Map<String, ConsoleCall> outputs;
+        private final long timeout;
+        private final long timeoutNanos;
+
+        ConsolesOutput(Map<String, ConsoleCall> outputs, long timeout) {
+            this.outputs = outputs;
+            this.timeout = timeout;
+            this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+        }
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            for (Map.Entry<String, ConsoleCall> entry : outputs.entrySet()) {
+                Object out = await(entry.getValue());
+                if (out != null) {
+                    gen.writeFieldName(entry.getKey());
+                    serializers.defaultSerializeValue(out, gen);
+                    // send the output of each console as soon as it is written
+                    gen.flush();
+                }
+            }
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+                throws IOException {
+            serialize(gen, serializers);
+        }
+
+        private Object await(ConsoleCall call) {
+            Future<Object> future = call.future;
+            try {
+                long started = call.started;
+                if (started == 0) {
+                    // the time a console waits for a thread of the pool does not count, but it is given up should it
+                    // still be waiting after a whole timeout, behind consoles which ignored being cancelled
+                    try {
+                        return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+                    } catch (TimeoutException e) {
+                        started = call.started;
+                        if (started == 0) {
+                            future.cancel(true);
+                            return error("Console did not start within " + timeout + " millis");
+                        }
+                    }
+                }
+                return future.get(Math.max(0, started + timeoutNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                return error("Console did not complete within " + timeout + " millis");
+            } catch (ExecutionException e) {
+                return error(String.valueOf(e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                return error("Interrupted");
+            }
+        }
+
+        private static JsonObject error(String message) {
+            JsonObject jo = new JsonObject();
+            jo.put("error", message);
+            return jo;
+        }
+    }
+
 }
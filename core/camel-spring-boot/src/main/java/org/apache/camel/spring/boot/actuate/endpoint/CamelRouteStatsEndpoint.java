@@ -0,0 +1,400 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Route;
+import org.apache.camel.StatefulService;
+import org.apache.camel.api.management.ManagedCamelContext;
+import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.RoutePolicySupport;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * {@link Endpoint} to expose the statistics of all the Camel routes, read in one pass.
+ * <p/>
+ * Every read is a snapshot with its own id. When the id of a recent snapshot is given as <tt>since</tt> then only the
+ * routes whose statistics have changed since that snapshot are included, together with the ids of the routes which
+ * have been removed. Otherwise, all the routes are included.
+ * <p/>
+ * The counters and processing times are those of the managed routes, so they are only available when Camel management
+ * is enabled. The percentiles of the processing times are only available when enabled with
+ * <tt>management.endpoint.camelroutestats.percentiles-enabled</tt>, and are recorded by a route policy added to the
+ * routes created afterwards, so every route is timed, including the routes called from other routes such as with
+ * <tt>direct</tt> or <tt>seda</tt>. Unlike the other statistics, which are counted since startup, the percentiles are
+ * those of the recent processing times, recorded over the last one to two <tt>percentiles-window</tt>, and they are
+ * the upper bounds of buckets at most 12.5% wide.
+ */
+@Endpoint(id = "camelroutestats")
+public class CamelRouteStatsEndpoint {
+
+    private static final int MAX_SNAPSHOTS = 16;
+
+    private final CamelContext camelContext;
+    private final ManagedCamelContext managedCamelContext;
+    // the most recent statistics snapshots by id, to compute deltas from
+    private final Map<Long, Map<String, RouteStats>> snapshots = new LinkedHashMap<Long, Map<String, RouteStats>>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Map<String, RouteStats>> eldest) {
+            return size() > MAX_SNAPSHOTS;
+        }
+    };
+    private long lastSnapshotId;
+    // the processing time histograms by route id, when the percentiles are enabled
+    private final Map<String, ProcessingTimeHistogram> histograms = new ConcurrentHashMap<>();
+    private final RoutePolicyFactory histogramRoutePolicyFactory;
+    private volatile boolean closed;
+
+    public CamelRouteStatsEndpoint(CamelContext camelContext, CamelRouteStatsEndpointProperties properties) {
+        this.camelContext = camelContext;
+        this.managedCamelContext = camelContext.getExtension(ManagedCamelContext.class);
+
+        if (properties.isPercentilesEnabled()) {
+            long window = properties.getPercentilesWindow().toMillis();
+            this.histogramRoutePolicyFactory = new RoutePolicyFactory() {
+                @Override
+                public RoutePolicy createRoutePolicy(CamelContext context, String routeId, NamedNode route) {
+                    return new ProcessingTimeRoutePolicy(routeId, new ProcessingTimeHistogram(window));
+                }
+            };
+            camelContext.addRoutePolicyFactory(histogramRoutePolicyFactory);
+        } else {
+            this.histogramRoutePolicyFactory = null;
+        }
+    }
+
+    /**
+     * Stops recording the processing times, when the endpoint is disposed.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        if (histogramRoutePolicyFactory != null) {
+            camelContext.getRoutePolicyFactories().remove(histogramRoutePolicyFactory);
+        }
+        histograms.clear();
+    }
+
+    /**
+     * Reads the statistics of all the routes.
+     *
+     * @param since the id of a previous snapshot
+     */
+    @ReadOperation
+    public RoutesStats readStats(@Nullable Long since) {
+        Map<String, RouteStats> current = new LinkedHashMap<>();
+        for (Route route : camelContext.getRoutes()) {
+            ManagedRouteMBean managedRoute = null;
+            if (managedCamelContext != null) {
+                try {
+                    managedRoute = managedCamelContext.getManagedRoute(route.getId(), ManagedRouteMBean.class);
+                } catch (Exception e) {
+                    // Ignore
+                }
+            }
+            ProcessingTimeHistogram histogram = histograms.get(route.getId());
+            current.put(route.getId(), new RouteStats(route, managedRoute, histogram != null ? histogram.snapshot() : null));
+        }
+
+        synchronized (snapshots) {
+            long id = ++lastSnapshotId;
+            Map<String, RouteStats> previous = since != null ? snapshots.get(since) : null;
+            snapshots.put(id, current);
+
+            if (previous == null) {
+                return new RoutesStats(id, null, new ArrayList<>(current.values()), Collections.emptyList());
+            }
+
+            List<RouteStats> changed = new ArrayList<>();
+            for (RouteStats stats : current.values()) {
+                if (!stats.equals(previous.get(stats.getId()))) {
+                    changed.add(stats);
+                }
+            }
+            List<String> removed = new ArrayList<>();
+            for (String routeId : previous.keySet()) {
+                if (!current.containsKey(routeId)) {
+                    removed.add(routeId);
+                }
+            }
+            return new RoutesStats(id, since, changed, removed);
+        }
+    }
+
+    /*
+     * Route policy recording the processing times of the exchanges in its route, from when they enter the route to
+     * when they are done with it.
+     */
+    private final class ProcessingTimeRoutePolicy extends RoutePolicySupport {
+
+        private final String routeId;
+        private final ProcessingTimeHistogram histogram;
+        // the exchange property holding the time the exchange entered the route, one per route as the exchanges can
+        // be routed through several routes
+        private final String startedProperty;
+
+        ProcessingTimeRoutePolicy(String routeId, ProcessingTimeHistogram histogram) {
+            this.routeId = routeId;
+            this.histogram = histogram;
+            this.startedProperty = "CamelRouteStatsStarted-" + routeId;
+        }
+
+        @Override
+        public void onInit(Route route) {
+            if (!closed) {
+                histograms.put(routeId, histogram);
+            }
+        }
+
+        @Override
+        public void onRemove(Route route) {
+            histograms.remove(routeId, histogram);
+        }
+
+        @Override
+        public void onExchangeBegin(Route route, Exchange exchange) {
+            if (!closed) {
+                exchange.setProperty(startedProperty, System.nanoTime());
+            }
+        }
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            Object started = exchange.removeProperty(startedProperty);
+            if (started instanceof Long && !closed) {
+                histogram.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) started));
+            }
+        }
+    }
+
+    /*
+     * Container for exposing a snapshot of the statistics of the routes as JSON.
+     */
+    @JsonPropertyOrder({"id", "since", "routes", "removed"})
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RoutesStats {
+
+        private final long id;
+        private final Long since;
+        private final List<RouteStats> routes;
+        private final List<String> removed;
+
+        RoutesStats(long id, Long since, List<RouteStats> routes, List<String> removed) {
+            this.id = id;
+            this.since = since;
+            this.routes = routes;
+            this.removed = removed;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public Long getSince() {
+            return since;
+        }
+
+        public List<RouteStats> getRoutes() {
+            return routes;
+        }
+
+        public List<String> getRemoved() {
+            return removed;
+        }
+    }
+
+    /*
+     * Container for exposing the statistics of a {@link org.apache.camel.Route} as JSON.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RouteStats {
+
+        private final String id;
+        private final String status;
+        private final Long exchangesTotal;
+        private final Long exchangesCompleted;
+        private final Long exchangesFailed;
+        private final Long exchangesInflight;
+        private final Long failuresHandled;
+        private final Long redeliveries;
+        private final Long externalRedeliveries;
+        private final Long minProcessingTime;
+        private final Long meanProcessingTime;
+        private final Long maxProcessingTime;
+        private final Long lastProcessingTime;
+        private final Long totalProcessingTime;
+        private final Long recentP50ProcessingTime;
+        private final Long recentP95ProcessingTime;
+        private final Long recentP99ProcessingTime;
+
+        RouteStats(Route route, ManagedRouteMBean managedRoute, long[] histogram) {
+            this.id = route.getId();
+            this.status = route instanceof StatefulService ? ((StatefulService) route).getStatus().name() : null;
+            if (managedRoute != null) {
+                this.exchangesTotal = managedRoute.getExchangesTotal();
+                this.exchangesCompleted = managedRoute.getExchangesCompleted();
+                this.exchangesFailed = managedRoute.getExchangesFailed();
+                this.exchangesInflight = (long) managedRoute.getExchangesInflight();
+                this.failuresHandled = managedRoute.getFailuresHandled();
+                this.redeliveries = managedRoute.getRedeliveries();
+                this.externalRedeliveries = managedRoute.getExternalRedeliveries();
+                this.minProcessingTime = managedRoute.getMinProcessingTime();
+                this.meanProcessingTime = managedRoute.getMeanProcessingTime();
+                this.maxProcessingTime = managedRoute.getMaxProcessingTime();
+                this.lastProcessingTime = managedRoute.getLastProcessingTime();
+                this.totalProcessingTime = managedRoute.getTotalProcessingTime();
+            } else {
+                this.exchangesTotal = null;
+                this.exchangesCompleted = null;
+                this.exchangesFailed = null;
+                this.exchangesInflight = null;
+                this.failuresHandled = null;
+                this.redeliveries = null;
+                this.externalRedeliveries = null;
+                this.minProcessingTime = null;
+                this.meanProcessingTime = null;
+                this.maxProcessingTime = null;
+                this.lastProcessingTime = null;
+                this.totalProcessingTime = null;
+            }
+            this.recentP50ProcessingTime = histogram != null ? ProcessingTimeHistogram.percentile(histogram, 0.5) : null;
+            this.recentP95ProcessingTime = histogram != null ? ProcessingTimeHistogram.percentile(histogram, 0.95) : null;
+            this.recentP99ProcessingTime = histogram != null ? ProcessingTimeHistogram.percentile(histogram, 0.99) : null;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public Long getExchangesTotal() {
+            return exchangesTotal;
+        }
+
+        public Long getExchangesCompleted() {
+            return exchangesCompleted;
+        }
+
+        public Long getExchangesFailed() {
+            return exchangesFailed;
+        }
+
+        public Long getExchangesInflight() {
+            return exchangesInflight;
+        }
+
+        public Long getFailuresHandled() {
+            return failuresHandled;
+        }
+
+        public Long getRedeliveries() {
+            return redeliveries;
+        }
+
+        public Long getExternalRedeliveries() {
+            return externalRedeliveries;
+        }
+
+        public Long getMinProcessingTime() {
+            return minProcessingTime;
+        }
+
+        public Long getMeanProcessingTime() {
+            return meanProcessingTime;
+        }
+
+        public Long getMaxProcessingTime() {
+            return maxProcessingTime;
+        }
+
+        public Long getLastProcessingTime() {
+            return lastProcessingTime;
+        }
+
+        public Long getTotalProcessingTime() {
+            return totalProcessingTime;
+        }
+
+        public Long getRecentP50ProcessingTime() {
+            return recentP50ProcessingTime;
+        }
+
+        public Long getRecentP95ProcessingTime() {
+            return recentP95ProcessingTime;
+        }
+
+        public Long getRecentP99ProcessingTime() {
+            return recentP99ProcessingTime;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RouteStats that = (RouteStats) o;
+            return Objects.equals(id, that.id) && Objects.equals(status, that.status)
+                    && Objects.equals(exchangesTotal, that.exchangesTotal)
+                    && Objects.equals(exchangesCompleted, that.exchangesCompleted)
+                    && Objects.equals(exchangesFailed, that.exchangesFailed)
+                    && Objects.equals(exchangesInflight, that.exchangesInflight)
+                    && Objects.equals(failuresHandled, that.failuresHandled)
+                    && Objects.equals(redeliveries, that.redeliveries)
+                    && Objects.equals(externalRedeliveries, that.externalRedeliveries)
+                    && Objects.equals(minProcessingTime, that.minProcessingTime)
+                    && Objects.equals(meanProcessingTime, that.meanProcessingTime)
+                    && Objects.equals(maxProcessingTime, that.maxProcessingTime)
+                    && Objects.equals(lastProcessingTime, that.lastProcessingTime)
+                    && Objects.equals(totalProcessingTime, that.totalProcessingTime)
+                    && Objects.equals(recentP50ProcessingTime, that.recentP50ProcessingTime)
+                    && Objects.equals(recentP95ProcessingTime, that.recentP95ProcessingTime)
+                    && Objects.equals(recentP99ProcessingTime, that.recentP99ProcessingTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, status, exchangesTotal, exchangesInflight, totalProcessingTime);
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("management.endpoint.camelroutestats")
+public class CamelRouteStatsEndpointProperties {
+
+    /**
+     * Whether to keep a histogram of the recent processing times of each route, to expose the 50th, 95th and 99th
+     * percentiles. The processing time of an exchange is counted from when it enters a route to when it is done with
+     * it, in millis, and accounted to every route it is routed through. The percentiles are the upper bounds of
+     * buckets at most 12.5% wide. This option is default false.
+     */
+    private boolean percentilesEnabled;
+
+    /**
+     * The length of the windows the processing times are recorded in. The percentiles are those of the processing
+     * times recorded in the current and the previous windows, so over the last one to two windows rather than since
+     * startup. This option is default 1 minute.
+     */
+    private Duration percentilesWindow = Duration.ofMinutes(1);
+
+    public boolean isPercentilesEnabled() {
+        return percentilesEnabled;
+    }
+
+    public void setPercentilesEnabled(boolean percentilesEnabled) {
+        this.percentilesEnabled = percentilesEnabled;
+    }
+
+    public Duration getPercentilesWindow() {
+        return percentilesWindow;
+    }
+
+    public void setPercentilesWindow(Duration percentilesWindow) {
+        this.percentilesWindow = percentilesWindow;
+    }
+
+}
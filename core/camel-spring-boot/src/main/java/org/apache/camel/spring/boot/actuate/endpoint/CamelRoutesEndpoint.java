@@ -16,21 +16,33 @@
  */
 package org.apache.camel.spring.boot.actuate.endpoint;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import javax.annotation.PreDestroy;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.Route;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StatefulService;
 import org.apache.camel.api.management.ManagedCamelContext;
 import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.PatternHelper;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
@@ -50,18 +62,82 @@ public class CamelRoutesEndpoint {
     private CamelContext camelContext;
     private ManagedCamelContext managedCamelContext;
     private CamelRoutesEndpointProperties properties;
+    private final AtomicLong version = new AtomicLong();
+    private final EventNotifier routeEventNotifier;
 
     public CamelRoutesEndpoint(CamelContext camelContext, CamelRoutesEndpointProperties properties) {
         this.camelContext = camelContext;
         this.managedCamelContext = camelContext.getExtension(ManagedCamelContext.class);
         this.properties = properties;
+
+        // bump the version of the route set on any route event
+        EventNotifierSupport notifier = new EventNotifierSupport() {
+            @Override
+            public void notify(CamelEvent event) {
+                version.incrementAndGet();
+            }
+
+            @Override
+            public boolean isEnabled(CamelEvent event) {
+                return event instanceof CamelEvent.RouteEvent;
+            }
+        };
+        notifier.setIgnoreCamelContextEvents(true);
+        notifier.setIgnoreExchangeEvents(true);
+        notifier.setIgnoreServiceEvents(true);
+        notifier.setIgnoreStepEvents(true);
+        camelContext.getManagementStrategy().addEventNotifier(notifier);
+        this.routeEventNotifier = notifier;
+    }
+
+    /**
+     * Stops tracking the version of the route set, when the endpoint is disposed.
+     */
+    @PreDestroy
+    public void close() {
+        camelContext.getManagementStrategy().removeEventNotifier(routeEventNotifier);
     }
 
-    @ReadOperation
     public List<RouteEndpointInfo> readRoutes() {
         return getRoutesInfo();
     }
 
+    /**
+     * Reads a page of the routes, optionally filtered and projected.
+     * <p/>
+     * The page holds the version of the route set, which changes whenever routes are added, removed, started,
+     * stopped, suspended or resumed. Over HTTP the version is also part of the <tt>ETag</tt> header, so an unchanged
+     * route set is answered with an empty not modified response when the caller sends it back as
+     * <tt>If-None-Match</tt>, see {@link CamelRoutesEndpointETagFilter}.
+     *
+     * @param offset index of the first route to return
+     * @param limit  maximum number of routes to return
+     * @param group  only routes in this group
+     * @param status only routes with this status, such as Started
+     * @param id     only routes with ids matching this pattern, supporting wildcards and regular expressions
+     * @param fields comma separated names of the fields to include, such as id,status
+     */
+    @ReadOperation
+    public RoutesPage readRoutes(@Nullable Integer offset, @Nullable Integer limit, @Nullable String group,
+                                 @Nullable String status, @Nullable String id, @Nullable String fields) {
+        long current = version.get();
+
+        List<Route> routes = filterRoutes(group, status, id);
+
+        int from = Math.min(offset != null ? Math.max(offset, 0) : 0, routes.size());
+        int to = limit != null ? Math.min(from + Math.max(limit, 0), routes.size()) : routes.size();
+        Set<String> projection = fields != null ? new HashSet<>(Arrays.asList(fields.split(","))) : null;
+
+        return new RoutesPage(current, routes.size(), from, routes.subList(from, to), projection);
+    }
+
+    /**
+     * The version of the route set, which changes whenever routes are added, removed or change status.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
     @ReadOperation
     public Object doReadAction(@Selector String id, @Selector ReadAction action) {
         switch (action) {
@@ -116,6 +192,23 @@ public class CamelRoutesEndpoint {
         return null;
     }
 
+    private List<Route> filterRoutes(String group, String status, String id) {
+        List<Route> routes = new ArrayList<>();
+        for (Route route : camelContext.getRoutes()) {
+            if (group != null && !group.equals(route.getGroup())) {
+                continue;
+            }
+            if (status != null && !status.equalsIgnoreCase(getRouteStatus(route))) {
+                continue;
+            }
+            if (id != null && !PatternHelper.matchPattern(route.getId(), id)) {
+                continue;
+            }
+            routes.add(route);
+        }
+        return routes;
+    }
+
     private List<RouteEndpointInfo> getRoutesInfo() {
         return camelContext.getRoutes().stream()
                 .map(RouteEndpointInfo::new)
@@ -182,6 +275,60 @@ public class CamelRoutesEndpoint {
         }
     }
 
+    private static String getRouteStatus(Route route) {
+        if (route instanceof StatefulService) {
+            return ((StatefulService) route).getStatus().name();
+        }
+        return null;
+    }
+
+    /*
+     * Container for exposing a page of {@link org.apache.camel.Route} information as JSON.
+     */
+    @JsonPropertyOrder({"version", "total", "offset", "routes"})
+    public static class RoutesPage {
+
+        private final long version;
+        private final int total;
+        private final int offset;
+        private final List<Object> routes;
+
+        RoutesPage(long version, int total, int offset, List<Route> routes, Set<String> fields) {
+            this.version = version;
+            this.total = total;
+            this.offset = offset;
+            // the route information is created while the page is written, so it does not build up
+            this.routes = new AbstractList<Object>() {
+                @Override
+                public Object get(int index) {
+                    RouteEndpointInfo info = new RouteEndpointInfo(routes.get(index));
+                    return fields != null ? info.project(fields) : info;
+                }
+
+                @Override
+                public int size() {
+                    return routes.size();
+                }
+            };
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+
+        public List<Object> getRoutes() {
+            return routes;
+        }
+    }
+
     /*
      * Container for exposing {@link org.apache.camel.Route} information as JSON.
      */
@@ -205,16 +352,13 @@ public class CamelRoutesEndpoint {
             this.uptimeMillis = route.getUptimeMillis();
 
             if (route.getProperties() != null) {
-                this.properties = new HashMap<>(route.getProperties());
+                // a read-only view, as the information only lives while it is written
+                this.properties = Collections.unmodifiableMap(route.getProperties());
             } else {
                 this.properties = Collections.emptyMap();
             }
 
-            if (route instanceof StatefulService) {
-                this.status = ((StatefulService) route).getStatus().name();
-            } else {
-                this.status = null;
-            }
+            this.status = getRouteStatus(route);
         }
 
         public String getId() {
@@ -244,6 +388,32 @@ public class CamelRoutesEndpoint {
         public String getStatus() {
             return status;
         }
+
+        Map<String, Object> project(Set<String> fields) {
+            Map<String, Object> answer = new LinkedHashMap<>();
+            if (fields.contains("id")) {
+                answer.put("id", id);
+            }
+            if (fields.contains("group") && group != null) {
+                answer.put("group", group);
+            }
+            if (fields.contains("description") && description != null) {
+                answer.put("description", description);
+            }
+            if (fields.contains("uptime") && uptime != null) {
+                answer.put("uptime", uptime);
+            }
+            if (fields.contains("uptimeMillis")) {
+                answer.put("uptimeMillis", uptimeMillis);
+            }
+            if (fields.contains("status") && status != null) {
+                answer.put("status", status);
+            }
+            if (fields.contains("properties") && !properties.isEmpty()) {
+                answer.put("properties", properties);
+            }
+            return answer;
+        }
     }
 
     /*
@@ -18,14 +18,21 @@ package org.apache.camel.spring.boot.actuate.endpoint;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.EndpointId;
+import org.springframework.boot.actuate.endpoint.web.PathMappedEndpoints;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletPath;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 /*
  * Auto configuration for the {@link CamelRoutesEndpoint}.
@@ -34,7 +41,8 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties({ CamelRoutesEndpointProperties.class })
 @ConditionalOnAvailableEndpoint(endpoint = CamelRoutesEndpoint.class)
 @ConditionalOnBean(CamelAutoConfiguration.class)
-@AutoConfigureAfter(CamelAutoConfiguration.class)
+@AutoConfigureAfter(value = CamelAutoConfiguration.class,
+        name = "org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointAutoConfiguration")
 public class CamelRoutesEndpointAutoConfiguration {
 
     @Bean
@@ -44,4 +52,34 @@ public class CamelRoutesEndpointAutoConfiguration {
         return new CamelRoutesEndpoint(camelContext, properties);
     }
 
+    /*
+     * The ETag support is web only, as the other exposures of the endpoint have no headers.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnAvailableEndpoint(endpoint = CamelRoutesEndpoint.class)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(OncePerRequestFilter.class)
+    static class ETagConfiguration {
+
+        @Bean
+        public FilterRegistrationBean<CamelRoutesEndpointETagFilter> camelRoutesEndpointETagFilter(
+                CamelRoutesEndpoint endpoint, ObjectProvider<PathMappedEndpoints> endpoints,
+                ObjectProvider<DispatcherServletPath> dispatcherServletPath) {
+            PathMappedEndpoints pathMappedEndpoints = endpoints.getIfAvailable();
+            String path = pathMappedEndpoints != null ? pathMappedEndpoints.getPath(EndpointId.of("camelroutes")) : null;
+            DispatcherServletPath servletPath = dispatcherServletPath.getIfAvailable();
+            if (servletPath != null && path != null) {
+                path = servletPath.getRelativePath(path);
+            }
+            FilterRegistrationBean<CamelRoutesEndpointETagFilter> registration
+                    = new FilterRegistrationBean<>(new CamelRoutesEndpointETagFilter(endpoint));
+            if (path != null) {
+                registration.addUrlPatterns(path);
+            } else {
+                registration.setEnabled(false);
+            }
+            return registration;
+        }
+    }
+
 }
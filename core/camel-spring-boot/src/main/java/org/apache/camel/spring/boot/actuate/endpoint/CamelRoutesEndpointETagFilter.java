@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Sends the version of the route set of the {@link CamelRoutesEndpoint} as the <tt>ETag</tt> header, and answers a
+ * read with an empty not modified response, without reading the routes, when the caller sends the current version
+ * back as <tt>If-None-Match</tt>.
+ * <p/>
+ * The tag is weak, as the uptime of the routes is not part of the version, and it includes the time the filter was
+ * created, so a tag from before a restart never matches. It also includes a digest of the query string, so reads of
+ * different pages, filters or projections of the same route set have different tags.
+ */
+public class CamelRoutesEndpointETagFilter extends OncePerRequestFilter {
+
+    private final CamelRoutesEndpoint endpoint;
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    public CamelRoutesEndpointETagFilter(CamelRoutesEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // the version is read before the routes, so a tag never claims a newer route set than the one returned
+        String tag = "W/\"" + epoch + "-" + endpoint.getVersion() + query(request) + "\"";
+        response.setHeader(HttpHeaders.ETAG, tag);
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), tag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String query(HttpServletRequest request) {
+        String query = request.getQueryString();
+        if (query == null || query.isEmpty()) {
+            return "";
+        }
+        return "-" + DigestUtils.md5DigestAsHex(query.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /*
+     * Weak comparison, as required for If-None-Match.
+     */
+    private static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = tag.substring(2);
+        for (String candidate : StringUtils.commaDelimitedListToStringArray(ifNoneMatch)) {
+            candidate = candidate.trim();
+            if ("*".equals(candidate) || opaque.equals(candidate.startsWith("W/") ? candidate.substring(2) : candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
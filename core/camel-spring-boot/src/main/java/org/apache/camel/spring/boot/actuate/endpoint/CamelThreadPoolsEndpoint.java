@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolTracker;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolTracker.TrackedThreadPool;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * {@link Endpoint} to expose the thread pools created by Camel and their utilization.
+ */
+@Endpoint(id = "camelthreadpools")
+public class CamelThreadPoolsEndpoint {
+
+    private final CamelThreadPoolTracker tracker;
+
+    public CamelThreadPoolsEndpoint(CamelThreadPoolTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public List<ThreadPoolInfo> readThreadPools() {
+        return tracker.getPools().stream()
+                .map(ThreadPoolInfo::new)
+                .sorted((o1, o2) -> o1.getId().compareTo(o2.getId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Container for exposing the state of a thread pool as JSON.
+     */
+    @JsonPropertyOrder({"id", "sourceId", "routeId", "profileId"})
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ThreadPoolInfo {
+
+        private final String id;
+        private final String sourceId;
+        private final String routeId;
+        private final String profileId;
+        private final int poolSize;
+        private final int corePoolSize;
+        private final int maxPoolSize;
+        private final int largestPoolSize;
+        private final int activeCount;
+        private final int queueSize;
+        private final int queueRemainingCapacity;
+        private final long taskCount;
+        private final long completedTaskCount;
+        private final long rejectedCount;
+        private final double utilization;
+
+        public ThreadPoolInfo(TrackedThreadPool pool) {
+            this.id = pool.getId();
+            this.sourceId = pool.getSourceId();
+            this.routeId = pool.getRouteId();
+            this.profileId = pool.getProfileId();
+            this.poolSize = pool.getExecutor().getPoolSize();
+            this.corePoolSize = pool.getExecutor().getCorePoolSize();
+            this.maxPoolSize = pool.getExecutor().getMaximumPoolSize();
+            this.largestPoolSize = pool.getExecutor().getLargestPoolSize();
+            this.activeCount = pool.getExecutor().getActiveCount();
+            this.queueSize = pool.getExecutor().getQueue().size();
+            this.queueRemainingCapacity = pool.getExecutor().getQueue().remainingCapacity();
+            this.taskCount = pool.getExecutor().getTaskCount();
+            this.completedTaskCount = pool.getExecutor().getCompletedTaskCount();
+            this.rejectedCount = pool.getRejectedCount();
+            this.utilization = pool.getUtilization();
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getSourceId() {
+            return sourceId;
+        }
+
+        public String getRouteId() {
+            return routeId;
+        }
+
+        public String getProfileId() {
+            return profileId;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public int getCorePoolSize() {
+            return corePoolSize;
+        }
+
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        public int getLargestPoolSize() {
+            return largestPoolSize;
+        }
+
+        public int getActiveCount() {
+            return activeCount;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public int getQueueRemainingCapacity() {
+            return queueRemainingCapacity;
+        }
+
+        public long getTaskCount() {
+            return taskCount;
+        }
+
+        public long getCompletedTaskCount() {
+            return completedTaskCount;
+        }
+
+        public long getRejectedCount() {
+            return rejectedCount;
+        }
+
+        public double getUtilization() {
+            return utilization;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Lock-free histogram of the recent processing times in millis.
+ *
+ * The buckets are logarithmic with linear sub-buckets, as HdrHistogram does: the times below 16 millis have a bucket
+ * each, and every further power of two range is split in 8 buckets, so a percentile is at most 12.5% above the actual
+ * time. All the positive times have a bucket, so none is clamped.
+ *
+ * The times are recorded in windows of a fixed length, and only the current and the previous windows are kept, so the
+ * percentiles are those of the times recorded over the last one to two windows rather than since startup.
+ */
+final class ProcessingTimeHistogram {
+
+    // the number of bits of the linear sub-buckets of each power of two range
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // the largest positive time, Long.MAX_VALUE, falls in the last bucket
+    static final int BUCKETS = bucket(Long.MAX_VALUE) + 1;
+
+    private final long windowMillis;
+    private final AtomicReference<Window> window;
+
+    ProcessingTimeHistogram(long windowMillis) {
+        this.windowMillis = windowMillis;
+        this.window = new AtomicReference<>(new Window(System.currentTimeMillis(), null));
+    }
+
+    void record(long millis) {
+        current(System.currentTimeMillis()).counts.incrementAndGet(bucket(millis));
+    }
+
+    /*
+     * The counts of the buckets over the current and previous windows, to compute the percentiles of a consistent
+     * snapshot from.
+     */
+    long[] snapshot() {
+        Window current = current(System.currentTimeMillis());
+        Window previous = current.previous;
+        long[] answer = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            answer[i] = current.counts.get(i) + (previous != null ? previous.counts.get(i) : 0);
+        }
+        return answer;
+    }
+
+    private Window current(long now) {
+        Window current = window.get();
+        while (now - current.start >= windowMillis) {
+            // the previous window is only kept when it is the one right before, otherwise no times were recorded
+            Window next = new Window(now, now - current.start < 2 * windowMillis ? current.detach() : null);
+            if (window.compareAndSet(current, next)) {
+                return next;
+            }
+            current = window.get();
+        }
+        return current;
+    }
+
+    /*
+     * The percentile of the given snapshot, as the upper bound of the bucket it falls in, or null without any times.
+     */
+    static Long percentile(long[] snapshot, double percentile) {
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        if (total == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(snapshot.length - 1);
+    }
+
+    static int bucket(long millis) {
+        if (millis < SUB_BUCKETS) {
+            return (int) Math.max(millis, 0);
+        }
+        // the shift keeps the top bits of the time, the highest one being the power of two range
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(millis) - 1 - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (millis >>> shift);
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long base = bucket - (long) shift * SUB_BUCKETS;
+        long bound = ((base + 1) << shift) - 1;
+        // the upper bound of the last bucket overflows
+        return bound < 0 ? Long.MAX_VALUE : bound;
+    }
+
+    private static final class Window {
+        private final long start;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private volatile Window previous;
+
+        Window(long start, Window previous) {
+            this.start = start;
+            this.previous = previous;
+        }
+
+        Window detach() {
+            // only the current and the previous windows are kept
+            previous = null;
+            return this;
+        }
+    }
+}
@@ -23,12 +23,14 @@ import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -124,7 +126,33 @@ public class CamelHealthCheckAutoConfiguration {
                 }
             }
 
-            return new CamelHealthCheckIndicator(applicationContext, camelContext);
+            return new CamelHealthCheckIndicator(applicationContext, camelContext, config);
+        }
+    }
+
+    @ConditionalOnClass({CamelContext.class})
+    @ConditionalOnProperty(prefix = "camel.health", name = "probes-enabled", havingValue = "true")
+    protected static class CamelHealthProbesInitializer {
+
+        @Bean(name = "camelLiveness")
+        public CamelProbeHealthIndicator camelLivenessHealthIndicator() {
+            return new CamelProbeHealthIndicator(HealthCheck.Kind.LIVENESS);
+        }
+
+        @Bean(name = "camelReadiness")
+        public CamelProbeHealthIndicator camelReadinessHealthIndicator() {
+            return new CamelProbeHealthIndicator(HealthCheck.Kind.READINESS);
+        }
+
+        @Bean
+        public CamelHealthProbesUpdater camelHealthProbesUpdater(ApplicationContext applicationContext,
+                                                                 CamelContext camelContext, CamelHealthCheckConfigurationProperties config,
+                                                                 @Qualifier("camelLiveness") CamelProbeHealthIndicator liveness,
+                                                                 @Qualifier("camelReadiness") CamelProbeHealthIndicator readiness) {
+            CamelHealthProbesUpdater updater = new CamelHealthProbesUpdater(camelContext, liveness, readiness,
+                    config.getProbesRefreshInterval(), config.isProbesAvailabilityEnabled() ? applicationContext : null);
+            camelContext.getManagementStrategy().addEventNotifier(updater);
+            return updater;
         }
     }
 
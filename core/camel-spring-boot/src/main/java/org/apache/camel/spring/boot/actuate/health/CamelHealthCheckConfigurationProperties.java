@@ -88,6 +88,48 @@ public class CamelHealthCheckConfigurationProperties {
     @Metadata(enums = "up,down,unknown", defaultValue = "down")
     private String initialState = "down";
 
+    /**
+     * The maximum time in millis each health check may take when invoked by the Spring Boot health indicator, after
+     * which the check is reported as DOWN. When set, the health checks are invoked in parallel on a dedicated thread
+     * pool.
+     */
+    private Long checkTimeout;
+
+    /**
+     * The time in millis the results of the health checks are cached by the Spring Boot health indicator. When set,
+     * the health checks are invoked in parallel on a dedicated thread pool, and the last known results are returned
+     * immediately while the expired results are refreshed in the background. Unless a check timeout is set, each
+     * health check may then take up to 10 seconds.
+     */
+    private Long cacheTimeToLive;
+
+    /**
+     * The number of threads used to invoke the health checks in parallel, when a check timeout or a cache time to
+     * live is set.
+     */
+    private int threadPoolSize = 4;
+
+    /**
+     * Whether to add the camelLiveness and camelReadiness health indicators, which hold the last known liveness and
+     * readiness of Camel, so they can be included in the liveness and readiness health groups without invoking the
+     * health checks on each probe. The health checks are invoked when the state of Camel or of a route changes, and
+     * periodically.
+     */
+    private boolean probesEnabled;
+
+    /**
+     * The interval in millis at which the liveness and readiness health checks are invoked to refresh the
+     * camelLiveness and camelReadiness health indicators. Use 0 to only refresh them on changes of state.
+     */
+    private long probesRefreshInterval = 10000;
+
+    /**
+     * Whether the changes of status of the camelLiveness and camelReadiness health indicators are published as Spring
+     * Boot availability change events, so they are reflected by the livenessState and readinessState health
+     * indicators.
+     */
+    private boolean probesAvailabilityEnabled;
+
     public Boolean getEnabled() {
         return enabled;
     }
@@ -143,7 +185,52 @@ public class CamelHealthCheckConfigurationProperties {
     public void setInitialState(String initialState) {
         this.initialState = initialState;
     }
-}
 
+    public Long getCheckTimeout() {
+        return checkTimeout;
+    }
 
+    public void setCheckTimeout(Long checkTimeout) {
+        this.checkTimeout = checkTimeout;
+    }
 
+    public Long getCacheTimeToLive() {
+        return cacheTimeToLive;
+    }
+
+    public void setCacheTimeToLive(Long cacheTimeToLive) {
+        this.cacheTimeToLive = cacheTimeToLive;
+    }
+
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public void setThreadPoolSize(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    public boolean isProbesEnabled() {
+        return probesEnabled;
+    }
+
+    public void setProbesEnabled(boolean probesEnabled) {
+        this.probesEnabled = probesEnabled;
+    }
+
+    public long getProbesRefreshInterval() {
+        return probesRefreshInterval;
+    }
+
+    public void setProbesRefreshInterval(long probesRefreshInterval) {
+        this.probesRefreshInterval = probesRefreshInterval;
+    }
+
+    public boolean isProbesAvailabilityEnabled() {
+        return probesAvailabilityEnabled;
+    }
+
+    public void setProbesAvailabilityEnabled(boolean probesAvailabilityEnabled) {
+        this.probesAvailabilityEnabled = probesAvailabilityEnabled;
+    }
+}
@@ -16,13 +16,31 @@
  */
 package org.apache.camel.spring.boot.actuate.health;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.health.HealthCheck;
 import org.apache.camel.health.HealthCheckHelper;
+import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.health.HealthCheckResultBuilder;
 import org.apache.camel.impl.health.AbstractHealthCheck;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.health.AbstractHealthIndicator;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
@@ -30,15 +48,44 @@ import org.springframework.context.ApplicationContext;
 
 /**
  * Camel {@link HealthIndicator}.
+ * <p/>
+ * By default, the health checks are invoked on each request. When a check timeout or a cache time to live is
+ * configured, the health checks are invoked in parallel on a dedicated thread pool instead, and each check taking
+ * longer than the timeout, 10 seconds unless configured, is reported as DOWN. A check still running from a previous invocation is not invoked again,
+ * so a check ignoring interrupts holds at most one thread of the pool. When the results are cached, the last known
+ * results are served immediately, while the expired results are refreshed in the background, on a thread of its own
+ * so the refresh never waits for the pool it submits the checks to.
  */
 public class CamelHealthCheckIndicator extends AbstractHealthIndicator {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CamelHealthCheckIndicator.class);
+    // the checks invoked in parallel are always waited for a bounded time, so a hung check cannot hang the refresh
+    private static final long DEFAULT_PARALLEL_CHECK_TIMEOUT = 10000;
+
     private final ApplicationContext applicationContext;
     private final CamelContext camelContext;
+    private final long checkTimeout;
+    private final long cacheTimeToLive;
+    private final int threadPoolSize;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    // the calls of the checks which have not returned yet, by check id
+    private final Map<String, Future<HealthCheck.Result>> runningChecks = new ConcurrentHashMap<>();
+    private volatile ExecutorService executorService;
+    private volatile ExecutorService refreshExecutorService;
+    private volatile CachedResults cachedResults;
 
     public CamelHealthCheckIndicator(ApplicationContext applicationContext, CamelContext camelContext) {
+        this(applicationContext, camelContext, new CamelHealthCheckConfigurationProperties());
+    }
+
+    public CamelHealthCheckIndicator(ApplicationContext applicationContext, CamelContext camelContext,
+                                     CamelHealthCheckConfigurationProperties config) {
         this.applicationContext = applicationContext;
         this.camelContext = camelContext;
+        this.cacheTimeToLive = config.getCacheTimeToLive() != null ? config.getCacheTimeToLive() : 0;
+        long timeout = config.getCheckTimeout() != null ? config.getCheckTimeout() : 0;
+        this.checkTimeout = timeout <= 0 && cacheTimeToLive > 0 ? DEFAULT_PARALLEL_CHECK_TIMEOUT : timeout;
+        this.threadPoolSize = config.getThreadPoolSize();
     }
 
     @Override
@@ -46,7 +93,12 @@ public class CamelHealthCheckIndicator extends AbstractHealthIndicator {
         builder.withDetail("name", "camel-health-check");
         builder.up();
 
-        Collection<HealthCheck.Result> results = HealthCheckHelper.invoke(camelContext);
+        Collection<HealthCheck.Result> results;
+        if (checkTimeout <= 0 && cacheTimeToLive <= 0) {
+            results = HealthCheckHelper.invoke(camelContext);
+        } else {
+            results = getResults();
+        }
 
         for (HealthCheck.Result result : results) {
             Map<String, Object> details = result.getDetails();
@@ -65,4 +117,153 @@ public class CamelHealthCheckIndicator extends AbstractHealthIndicator {
         }
     }
 
+    private Collection<HealthCheck.Result> getResults() {
+        CachedResults cached = cachedResults;
+        if (cached == null || cacheTimeToLive <= 0) {
+            return refresh();
+        }
+        if (System.currentTimeMillis() - cached.time > cacheTimeToLive && refreshing.compareAndSet(false, true)) {
+            try {
+                getRefreshExecutorService().execute(() -> {
+                    try {
+                        refresh();
+                    } catch (Exception e) {
+                        LOG.warn("Error refreshing the health checks. This exception is ignored.", e);
+                    } finally {
+                        refreshing.set(false);
+                    }
+                });
+            } catch (Exception e) {
+                // the thread pool may be shutting down
+                refreshing.set(false);
+                LOG.debug("Cannot refresh the health checks in the background", e);
+            }
+        }
+        return cached.results;
+    }
+
+    private Collection<HealthCheck.Result> refresh() {
+        Collection<HealthCheck.Result> results = invokeInParallel();
+        cachedResults = new CachedResults(results, System.currentTimeMillis());
+        return results;
+    }
+
+    private Collection<HealthCheck.Result> invokeInParallel() {
+        HealthCheckRegistry registry = HealthCheckRegistry.get(camelContext);
+        if (registry == null) {
+            return Collections.emptyList();
+        }
+
+        List<HealthCheck> checks = registry.stream()
+                .filter(check -> !registry.isExcluded(check))
+                .sorted(Comparator.comparingInt(HealthCheck::getOrder))
+                .distinct()
+                .collect(Collectors.toList());
+        if (checks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Object> options = Collections.singletonMap(HealthCheck.CHECK_KIND, HealthCheck.Kind.ALL);
+        ExecutorService executor = getExecutorService();
+        List<Future<HealthCheck.Result>> futures = new ArrayList<>(checks.size());
+        for (HealthCheck check : checks) {
+            futures.add(runningChecks.computeIfAbsent(check.getId(), id -> submit(executor, check, options)));
+        }
+
+        // the timeout applies to each check, counted from when they have all been submitted
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(checkTimeout);
+        List<HealthCheck.Result> results = new ArrayList<>(checks.size());
+        for (int i = 0; i < checks.size(); i++) {
+            HealthCheck check = checks.get(i);
+            Future<HealthCheck.Result> future = futures.get(i);
+            try {
+                results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                results.add(HealthCheckResultBuilder.on(check).down()
+                        .message("Health check did not complete within " + checkTimeout + " millis").build());
+            } catch (CancellationException e) {
+                // the call of a previous invocation timed out, but has not returned yet
+                results.add(HealthCheckResultBuilder.on(check).down()
+                        .message("Health check did not complete within " + checkTimeout + " millis").build());
+            } catch (ExecutionException e) {
+                results.add(HealthCheckResultBuilder.on(check).down().error(e.getCause()).build());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(HealthCheckResultBuilder.on(check).unknown().error(e).build());
+            }
+        }
+
+        return filterByExposureLevel(results, registry.getExposureLevel());
+    }
+
+    private Future<HealthCheck.Result> submit(ExecutorService executor, HealthCheck check, Map<String, Object> options) {
+        FutureTask<HealthCheck.Result> task = new FutureTask<HealthCheck.Result>(() -> check.call(options)) {
+            @Override
+            public void run() {
+                try {
+                    super.run();
+                } finally {
+                    // only when the call has actually returned, even if the task was cancelled before
+                    runningChecks.remove(check.getId(), this);
+                }
+            }
+        };
+        executor.execute(task);
+        return task;
+    }
+
+    /*
+     * Same filtering as done by HealthCheckHelper when invoking the checks, which cannot be reused as it invokes the
+     * checks itself, sequentially. The tests compare the two for each exposure level.
+     */
+    static Collection<HealthCheck.Result> filterByExposureLevel(
+            List<HealthCheck.Result> results, String exposureLevel) {
+        if ("full".equals(exposureLevel)) {
+            return results;
+        }
+        List<HealthCheck.Result> downs = results.stream()
+                .filter(r -> r.getState() == HealthCheck.State.DOWN)
+                .collect(Collectors.toList());
+        if (!downs.isEmpty()) {
+            return "oneline".equals(exposureLevel) ? Collections.singletonList(downs.get(0)) : downs;
+        }
+        return Collections.singletonList(results.get(0));
+    }
+
+    private ExecutorService getExecutorService() {
+        if (executorService == null) {
+            synchronized (this) {
+                if (executorService == null) {
+                    executorService = camelContext.getExecutorServiceManager()
+                            .newFixedThreadPool(this, "CamelHealthCheck", threadPoolSize);
+                }
+            }
+        }
+        return executorService;
+    }
+
+    private ExecutorService getRefreshExecutorService() {
+        if (refreshExecutorService == null) {
+            synchronized (this) {
+                if (refreshExecutorService == null) {
+                    refreshExecutorService = camelContext.getExecutorServiceManager()
+                            .newSingleThreadExecutor(this, "CamelHealthCheckRefresh");
+                }
+            }
+        }
+        return refreshExecutorService;
+    }
+
+    private static final class CachedResults {
+
+        private final Collection<HealthCheck.Result> results;
+        private final long time;
+
+        CachedResults(Collection<HealthCheck.Result> results, long time) {
+            this.results = results;
+            this.time = time;
+        }
+    }
+
 }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.health.HealthCheckHelper;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.CamelContextEvent;
+import org.apache.camel.spi.CamelEvent.RouteEvent;
+import org.apache.camel.support.EventNotifierSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Updates the {@link CamelProbeHealthIndicator liveness and readiness health indicators} off the probe threads.
+ * <p/>
+ * The health checks are invoked when the state of the {@link CamelContext} or of a route changes, which also covers
+ * the routes restarted by the supervising route controller, and periodically, to catch the changes of the checks,
+ * such as consumer checks, which are not signaled by any event. When enabled, a change of status is published as a
+ * Spring Boot {@link AvailabilityChangeEvent}.
+ */
+public class CamelHealthProbesUpdater extends EventNotifierSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelHealthProbesUpdater.class);
+
+    private final CamelContext camelContext;
+    private final CamelProbeHealthIndicator liveness;
+    private final CamelProbeHealthIndicator readiness;
+    private final long refreshInterval;
+    private final ApplicationEventPublisher publisher;
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private ScheduledExecutorService executorService;
+
+    /**
+     * @param publisher the publisher of the availability change events, or <tt>null</tt> to not publish them
+     */
+    public CamelHealthProbesUpdater(CamelContext camelContext, CamelProbeHealthIndicator liveness,
+                                    CamelProbeHealthIndicator readiness, long refreshInterval,
+                                    ApplicationEventPublisher publisher) {
+        this.camelContext = camelContext;
+        this.liveness = liveness;
+        this.readiness = readiness;
+        this.refreshInterval = refreshInterval;
+        this.publisher = publisher;
+        setIgnoreExchangeEvents(true);
+        setIgnoreStepEvents(true);
+    }
+
+    @Override
+    public boolean isEnabled(CamelEvent event) {
+        return event instanceof RouteEvent || event instanceof CamelContextEvent;
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        scheduleUpdate();
+    }
+
+    /**
+     * Schedules an update of the probes, unless one is already pending.
+     */
+    public void scheduleUpdate() {
+        ScheduledExecutorService executor = executorService;
+        if (executor != null && pending.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::update);
+            } catch (Exception e) {
+                // the executor may be shutting down
+                pending.set(false);
+                LOG.debug("Cannot schedule the update of the health probes", e);
+            }
+        }
+    }
+
+    /**
+     * Invokes the liveness and readiness checks, and updates the probes.
+     */
+    public void update() {
+        pending.set(false);
+        try {
+            if (liveness.update(HealthCheckHelper.invokeLiveness(camelContext)) && publisher != null) {
+                LivenessState state = isUp(liveness) ? LivenessState.CORRECT : LivenessState.BROKEN;
+                AvailabilityChangeEvent.publish(publisher, this, state);
+            }
+            if (readiness.update(HealthCheckHelper.invokeReadiness(camelContext)) && publisher != null) {
+                ReadinessState state = isUp(readiness) ? ReadinessState.ACCEPTING_TRAFFIC : ReadinessState.REFUSING_TRAFFIC;
+                AvailabilityChangeEvent.publish(publisher, this, state);
+            }
+        } catch (Exception e) {
+            LOG.warn("Error updating the health probes. This exception is ignored.", e);
+        }
+    }
+
+    private static boolean isUp(CamelProbeHealthIndicator indicator) {
+        return "UP".equals(indicator.health().getStatus().getCode());
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        executorService = camelContext.getExecutorServiceManager()
+                .newSingleThreadScheduledExecutor(this, "CamelHealthProbes");
+        if (refreshInterval > 0) {
+            executorService.scheduleWithFixedDelay(this::update, refreshInterval, refreshInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+    }
+}
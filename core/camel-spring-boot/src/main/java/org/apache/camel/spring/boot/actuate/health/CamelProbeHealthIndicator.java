@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.camel.health.HealthCheck;
+import org.apache.camel.health.HealthCheckHelper;
+import org.apache.camel.impl.health.AbstractHealthCheck;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * A {@link HealthIndicator} holding the last known liveness or readiness of Camel, as updated by
+ * {@link CamelHealthProbesUpdater}. Reading the health does not invoke any health check, so it is cheap enough to be
+ * used by frequent probes.
+ */
+public class CamelProbeHealthIndicator implements HealthIndicator {
+
+    private final HealthCheck.Kind kind;
+    private volatile Health health = Health.unknown().build();
+
+    public CamelProbeHealthIndicator(HealthCheck.Kind kind) {
+        this.kind = kind;
+    }
+
+    public HealthCheck.Kind getKind() {
+        return kind;
+    }
+
+    @Override
+    public Health health() {
+        return health;
+    }
+
+    /**
+     * Updates the health from the results of the liveness or readiness checks.
+     *
+     * @return whether the status has changed
+     */
+    boolean update(Collection<HealthCheck.Result> results) {
+        Health.Builder builder = HealthCheckHelper.isResultsUp(results, kind == HealthCheck.Kind.READINESS)
+                ? Health.up() : Health.down();
+        for (HealthCheck.Result result : results) {
+            Map<String, Object> details = result.getDetails();
+            if (!details.containsKey(AbstractHealthCheck.CHECK_ENABLED)
+                    || (boolean) details.get(AbstractHealthCheck.CHECK_ENABLED)) {
+                builder.withDetail(result.getCheck().getId(), result.getState().name());
+            }
+        }
+
+        Health previous = health;
+        health = builder.build();
+        return !previous.getStatus().equals(health.getStatus());
+    }
+}
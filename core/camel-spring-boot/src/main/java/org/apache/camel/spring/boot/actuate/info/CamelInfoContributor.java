@@ -17,6 +17,8 @@
 package org.apache.camel.spring.boot.actuate.info;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.spring.boot.LazyStartRoutePolicyFactory;
 import org.springframework.boot.actuate.info.Info;
 import org.springframework.boot.actuate.info.InfoContributor;
 
@@ -41,6 +43,13 @@ public class CamelInfoContributor implements InfoContributor {
                 builder.withDetail("camel.uptimeMillis", camelContext.getUptimeMillis());
             }
             builder.withDetail("camel.status", camelContext.getStatus().name());
+            for (RoutePolicyFactory factory : camelContext.getRoutePolicyFactories()) {
+                if (factory instanceof LazyStartRoutePolicyFactory) {
+                    LazyStartRoutePolicyFactory lazy = (LazyStartRoutePolicyFactory) factory;
+                    builder.withDetail("camel.lazyRoutes.cold", lazy.getColdRoutes());
+                    builder.withDetail("camel.lazyRoutes.firstUseStartupMillis", lazy.getFirstUseStartupTimes());
+                }
+            }
         }
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.cluster.WarmStandbyRoutePolicyFactory;
+
+/**
+ * A {@link MeterBinder} timing the failovers of the warm standby clustered routes, from the leadership acquisition to
+ * the first exchange consumed by the route.
+ */
+public class CamelClusterMeterBinder implements MeterBinder {
+
+    public static final String FAILOVER_TIMER_NAME = "camel.cluster.failover";
+
+    private final CamelContext camelContext;
+    private final WarmStandbyRoutePolicyFactory routePolicyFactory;
+    private final CamelMetricsConfigurationProperties config;
+    private final AtomicBoolean bound = new AtomicBoolean();
+
+    public CamelClusterMeterBinder(CamelContext camelContext, WarmStandbyRoutePolicyFactory routePolicyFactory,
+                                   CamelMetricsConfigurationProperties config) {
+        this.camelContext = camelContext;
+        this.routePolicyFactory = routePolicyFactory;
+        this.config = config;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // the timers are registered to the first registry, which is the composite one when there are several
+        if (!bound.compareAndSet(false, true)) {
+            return;
+        }
+
+        routePolicyFactory.addFailoverListener((route, failoverTime) -> Timer.builder(FAILOVER_TIMER_NAME)
+                .description("The time between the leadership acquisition and the first exchange consumed by the route")
+                .tags(Tags.of("camelContext", camelContext.getName(), "routeId", route.getId()))
+                .publishPercentileHistogram(config.isPercentileHistogram())
+                .register(registry)
+                .record(failoverTime));
+    }
+}
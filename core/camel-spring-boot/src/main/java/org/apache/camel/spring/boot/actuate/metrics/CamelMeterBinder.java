@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.model.OptionalIdentifiedDefinition;
+import org.apache.camel.model.ProcessorDefinitionHelper;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.RoutePolicySupport;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+
+/**
+ * A {@link MeterBinder} timing the processing of the exchanges by the routes, and optionally by the processors, of a
+ * {@link CamelContext}.
+ * <p/>
+ * The timings are recorded by a {@link RoutePolicy} and an {@link InterceptStrategy}, which are invoked by the Camel
+ * routing engine on each exchange, so they do not depend on JMX being enabled. The hooks are only installed once the
+ * binder is bound to a registry, which must happen before the routes are created, as it is the case when the meter
+ * registry is a bean of the application context.
+ * <p/>
+ * The binder is only bound to the first registry it is bound to, as the hooks are installed once per
+ * {@link CamelContext}. Spring Boot binds the meter binders to the composite registry when there are several
+ * registries, so the timers are published to all of them; a binder bound manually to several registries publishes to
+ * the first one only.
+ * <p/>
+ * The processor timers are tagged with the id of the processor, which is the id Camel assigns to the node when it is
+ * not set in the route, so processors of the same kind in a route have timers of their own.
+ */
+public class CamelMeterBinder implements MeterBinder {
+
+    public static final String ROUTE_TIMER_NAME = "camel.route.processing";
+    public static final String PROCESSOR_TIMER_NAME = "camel.processor.processing";
+
+    private final CamelContext camelContext;
+    private final CamelMetricsConfigurationProperties config;
+    private final AtomicBoolean bound = new AtomicBoolean();
+    private volatile MeterRegistry registry;
+
+    public CamelMeterBinder(CamelContext camelContext, CamelMetricsConfigurationProperties config) {
+        this.camelContext = camelContext;
+        this.config = config;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // the timers are registered to the first registry, which is the composite one when there are several
+        if (!bound.compareAndSet(false, true)) {
+            return;
+        }
+        this.registry = registry;
+
+        if (config.isRoutesEnabled()) {
+            camelContext.addRoutePolicyFactory(new TimingRoutePolicyFactory());
+        }
+        if (config.isProcessorsEnabled()) {
+            camelContext.adapt(ExtendedCamelContext.class).addInterceptStrategy(new TimingInterceptStrategy());
+        }
+    }
+
+    private Timer timer(String name, String description, Tags tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram(config.isPercentileHistogram())
+                .register(registry);
+    }
+
+    private Tags routeTags(String routeId, boolean failed) {
+        return Tags.of("camelContext", camelContext.getName(), "routeId", routeId, "failed", Boolean.toString(failed));
+    }
+
+    private final class TimingRoutePolicyFactory implements RoutePolicyFactory {
+
+        @Override
+        public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+            return new TimingRoutePolicy();
+        }
+    }
+
+    private final class TimingRoutePolicy extends RoutePolicySupport {
+
+        private String startTimeProperty;
+        private Timer succeeded;
+        private Timer failed;
+
+        @Override
+        public void onInit(Route route) {
+            // routes can call each other, so each one keeps its own start time on the exchange
+            startTimeProperty = "CamelMetricsStartTime-" + route.getId();
+            succeeded = timer(ROUTE_TIMER_NAME, "The processing time of the exchanges by the route",
+                    routeTags(route.getId(), false));
+            failed = timer(ROUTE_TIMER_NAME, "The processing time of the exchanges by the route",
+                    routeTags(route.getId(), true));
+        }
+
+        @Override
+        public void onRemove(Route route) {
+            registry.remove(succeeded);
+            registry.remove(failed);
+        }
+
+        @Override
+        public void onExchangeBegin(Route route, Exchange exchange) {
+            exchange.setProperty(startTimeProperty, System.nanoTime());
+        }
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            Long start = (Long) exchange.removeProperty(startTimeProperty);
+            if (start != null) {
+                Timer timer = exchange.isFailed() ? failed : succeeded;
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private final class TimingInterceptStrategy implements InterceptStrategy {
+
+        @Override
+        public Processor wrapProcessorInInterceptors(
+                CamelContext context, NamedNode definition, Processor target, Processor nextTarget) {
+            String routeId = ProcessorDefinitionHelper.getRouteId(definition);
+            // the ids Camel assigns are unique, unlike the short names of processors of the same kind in a route
+            String processorId = definition instanceof OptionalIdentifiedDefinition
+                    ? ((OptionalIdentifiedDefinition<?>) definition)
+                            .idOrCreate(context.adapt(ExtendedCamelContext.class).getNodeIdFactory())
+                    : definition.getShortName();
+            Tags tags = Tags.of("camelContext", camelContext.getName(), "routeId", routeId != null ? routeId : "",
+                    "processorId", processorId);
+            return new TimingProcessor(
+                    target, timer(PROCESSOR_TIMER_NAME, "The processing time of the exchanges by the processor", tags));
+        }
+    }
+
+    private static final class TimingProcessor extends DelegateAsyncProcessor {
+
+        private final Timer timer;
+
+        TimingProcessor(Processor processor, Timer timer) {
+            super(processor);
+            this.timer = timer;
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            final long start = System.nanoTime();
+            return processor.process(exchange, doneSync -> {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                callback.done(doneSync);
+            });
+        }
+    }
+}
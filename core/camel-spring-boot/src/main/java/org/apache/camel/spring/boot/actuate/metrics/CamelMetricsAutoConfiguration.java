@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.properties.PropertiesParser;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.cluster.WarmStandbyRoutePolicyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({MeterRegistry.class, MeterBinder.class})
+@ConditionalOnBean(CamelAutoConfiguration.class)
+@EnableConfigurationProperties(CamelMetricsConfigurationProperties.class)
+@AutoConfigureAfter(CamelAutoConfiguration.class)
+public class CamelMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(CamelMeterBinder.class)
+    @ConditionalOnProperty(prefix = "camel.metrics", name = "enabled", havingValue = "true")
+    public CamelMeterBinder camelMeterBinder(CamelContext camelContext, CamelMetricsConfigurationProperties config) {
+        return new CamelMeterBinder(camelContext, config);
+    }
+
+    @Bean
+    @ConditionalOnBean(WarmStandbyRoutePolicyFactory.class)
+    @ConditionalOnMissingBean(CamelClusterMeterBinder.class)
+    public CamelClusterMeterBinder camelClusterMeterBinder(CamelContext camelContext,
+            WarmStandbyRoutePolicyFactory routePolicyFactory, CamelMetricsConfigurationProperties config) {
+        return new CamelClusterMeterBinder(camelContext, routePolicyFactory, config);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(CamelPropertiesMeterBinder.class)
+    public CamelPropertiesMeterBinder camelPropertiesMeterBinder(CamelContext camelContext,
+            ObjectProvider<PropertiesParser> parser) {
+        return new CamelPropertiesMeterBinder(camelContext, parser.getIfUnique());
+    }
+
+}
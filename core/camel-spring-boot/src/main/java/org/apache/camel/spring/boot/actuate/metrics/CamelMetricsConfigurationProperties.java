@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "camel.metrics")
+public class CamelMetricsConfigurationProperties {
+
+    /**
+     * Whether the Camel route and processor timings are bound to the Micrometer meter registry. The timings have a
+     * cost per exchange, and overlap with the route policy of camel-micrometer, so they must be enabled explicitly.
+     * <p>
+     * Is default disabled
+     */
+    private boolean enabled;
+
+    /**
+     * Whether to time the processing of the exchanges by each route.
+     * <p>
+     * Is default enabled
+     */
+    private boolean routesEnabled = true;
+
+    /**
+     * Whether to time the processing of the exchanges by each processor of the routes. This adds a timer per processor,
+     * which has a cost per exchange and per processor.
+     * <p>
+     * Is default disabled
+     */
+    private boolean processorsEnabled;
+
+    /**
+     * Whether the timers publish a percentile histogram, which allows to compute the percentiles of the latencies in
+     * the monitoring system.
+     * <p>
+     * Is default disabled
+     */
+    private boolean percentileHistogram;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isRoutesEnabled() {
+        return routesEnabled;
+    }
+
+    public void setRoutesEnabled(boolean routesEnabled) {
+        this.routesEnabled = routesEnabled;
+    }
+
+    public boolean isProcessorsEnabled() {
+        return processorsEnabled;
+    }
+
+    public void setProcessorsEnabled(boolean processorsEnabled) {
+        this.processorsEnabled = processorsEnabled;
+    }
+
+    public boolean isPercentileHistogram() {
+        return percentileHistogram;
+    }
+
+    public void setPercentileHistogram(boolean percentileHistogram) {
+        this.percentileHistogram = percentileHistogram;
+    }
+}
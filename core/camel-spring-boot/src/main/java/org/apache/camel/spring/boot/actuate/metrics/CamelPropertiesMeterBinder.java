@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.properties.PropertiesParser;
+import org.apache.camel.spring.boot.SpringPropertiesParser;
+
+/**
+ * A {@link MeterBinder} exposing the statistics of the {@link SpringPropertiesParser}: the placeholders resolved from
+ * its cache, and the placeholders resolved from the Spring environment together with the time they took. Nothing is
+ * bound when the properties parser has been replaced by another implementation, such as the one of camel-jasypt.
+ */
+public class CamelPropertiesMeterBinder implements MeterBinder {
+
+    public static final String CACHE_HITS_COUNTER_NAME = "camel.placeholder.cache.hits";
+    public static final String RESOLVE_TIMER_NAME = "camel.placeholder.resolve";
+
+    private final CamelContext camelContext;
+    private final PropertiesParser propertiesParser;
+
+    public CamelPropertiesMeterBinder(CamelContext camelContext, PropertiesParser propertiesParser) {
+        this.camelContext = camelContext;
+        this.propertiesParser = propertiesParser;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(propertiesParser instanceof SpringPropertiesParser)) {
+            return;
+        }
+        SpringPropertiesParser parser = (SpringPropertiesParser) propertiesParser;
+        Tags tags = Tags.of("camelContext", camelContext.getName());
+        FunctionCounter.builder(CACHE_HITS_COUNTER_NAME, parser, SpringPropertiesParser::getHitCounter)
+                .description("The number of placeholders resolved from the cache")
+                .tags(tags).register(registry);
+        FunctionTimer.builder(RESOLVE_TIMER_NAME, parser,
+                SpringPropertiesParser::getMissCounter, SpringPropertiesParser::getResolveTime, TimeUnit.NANOSECONDS)
+                .description("The time taken to resolve the placeholders from the Spring environment")
+                .tags(tags).register(registry);
+    }
+}
@@ -16,15 +16,70 @@
  */
 package org.apache.camel.spring.boot.cloud;
 
+import org.apache.camel.cloud.ServiceLoadBalancer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnBean(CamelAutoConfiguration.class)
 @AutoConfigureAfter(CamelAutoConfiguration.class)
 @ConditionalOnProperty(value = "camel.cloud.enabled", matchIfMissing = true)
+@EnableConfigurationProperties(CamelCloudConfigurationProperties.class)
 public class CamelCloudAutoConfiguration {
+
+    @Bean(name = "service-load-tracker")
+    @Conditional(ServiceLoadTrackerCondition.class)
+    public ServiceLoadTracker serviceLoadTracker(CamelCloudConfigurationProperties configurationProperties) {
+        return new ServiceLoadTracker(configurationProperties.getServiceChooser().getDecayTime());
+    }
+
+    @Lazy
+    @Bean(name = "load-balancer")
+    @ConditionalOnMissingBean(ServiceLoadBalancer.class)
+    @Conditional(ServiceLoadTrackerCondition.class)
+    public ServiceLoadBalancer loadBalancer(ServiceLoadTracker tracker) {
+        // tracks the calls to the services chosen by the load balancer
+        return new CamelCloudServiceLoadBalancer(tracker);
+    }
+
+    // *******************************
+    // Condition
+    // *******************************
+
+    /**
+     * Matches when the calls to the services must be tracked, that is when a load aware service chooser or the
+     * outlier detection is used.
+     */
+    public static class ServiceLoadTrackerCondition extends SpringBootCondition {
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            final ConditionMessage.Builder message = ConditionMessage.forCondition("camel.cloud.service-load-tracker");
+            final Binder binder = Binder.get(context.getEnvironment());
+            final ServiceChooserType type = binder
+                .bind("camel.cloud.service-chooser.type", ServiceChooserType.class)
+                .orElse(null);
+
+            if (type != null && type.isLoadAware()) {
+                return ConditionOutcome.match(message.because(type + " service chooser is load aware"));
+            }
+            if (binder.bind("camel.cloud.service-filter.outlier-detection.enabled", Boolean.class).orElse(false)) {
+                return ConditionOutcome.match(message.because("outlier detection is enabled"));
+            }
+            return ConditionOutcome.noMatch(message.because("no load aware service chooser nor outlier detection"));
+        }
+    }
 }
@@ -245,6 +245,28 @@ public class CamelCloudConfigurationProperties {
          * Configure the service discovery rules.
          */
         private Map<String, ServiceDiscoveryConfiguration> configurations = new HashMap<>();
+        /**
+         * Time in millis the services returned by the service discovery are cached. Once expired, the cached
+         * services are still returned while they are refreshed in the background. By default, the services are
+         * not cached and the service discovery is invoked on each lookup.
+         */
+        private Long cacheTimeToLive;
+        /**
+         * Time in millis the services are cached, per service name. Overrides the cache-time-to-live option for
+         * the given services.
+         */
+        private Map<String, Long> serviceCacheTimeToLive = new HashMap<>();
+        /**
+         * Maximum time in millis to wait for each service discovery. When set, the service discoveries are
+         * invoked in parallel, and a service discovery not responding in time contributes the services it
+         * returned by its last lookup of the service, if any.
+         */
+        private Long timeout;
+        /**
+         * The number of threads used to invoke the service discoveries in parallel, when a timeout is set, and the
+         * number of threads used to refresh the cached services in the background.
+         */
+        private int threadPoolSize = 4;
 
         public boolean isEnabled() {
             return enabled;
@@ -257,6 +279,34 @@ public class CamelCloudConfigurationProperties {
         public Map<String, ServiceDiscoveryConfiguration> getConfigurations() {
             return configurations;
         }
+
+        public Long getCacheTimeToLive() {
+            return cacheTimeToLive;
+        }
+
+        public void setCacheTimeToLive(Long cacheTimeToLive) {
+            this.cacheTimeToLive = cacheTimeToLive;
+        }
+
+        public Map<String, Long> getServiceCacheTimeToLive() {
+            return serviceCacheTimeToLive;
+        }
+
+        public Long getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Long timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getThreadPoolSize() {
+            return threadPoolSize;
+        }
+
+        public void setThreadPoolSize(int threadPoolSize) {
+            this.threadPoolSize = threadPoolSize;
+        }
     }
 
     public static class ServiceDefinitionConfiguration {
@@ -337,6 +387,10 @@ public class CamelCloudConfigurationProperties {
          * Configure the service filtering rules.
          */
         private Map<String, ServiceFilterConfiguration> configurations = new HashMap<>();
+        /**
+         * Configure the ejection of the service instances with a high error rate or latency.
+         */
+        private OutlierDetection outlierDetection = new OutlierDetection();
 
         public boolean isEnabled() {
             return enabled;
@@ -349,6 +403,100 @@ public class CamelCloudConfigurationProperties {
         public Map<String, ServiceFilterConfiguration> getConfigurations() {
             return configurations;
         }
+
+        public OutlierDetection getOutlierDetection() {
+            return outlierDetection;
+        }
+    }
+
+    public static class OutlierDetection {
+        /**
+         * Whether the service instances whose recent calls have a high error rate or latency are filtered out,
+         * default is false.
+         */
+        private boolean enabled;
+        /**
+         * Number of the most recent calls to a service instance considered to compute its error rate and latency.
+         */
+        private int windowSize = 100;
+        /**
+         * Minimum number of recent calls to a service instance before it can be ejected.
+         */
+        private int minimumCalls = 10;
+        /**
+         * Rate of failed calls, between 0 and 1, above which a service instance is ejected.
+         */
+        private double errorRateThreshold = 0.5;
+        /**
+         * Average response time in millis above which a service instance is ejected. By default, the service
+         * instances are not ejected based on their response times.
+         */
+        private Long latencyThreshold;
+        /**
+         * Time in millis a service instance is ejected for the first time. The time doubles each time the instance
+         * is ejected again after being re-admitted.
+         */
+        private long baseEjectionTime = 30000;
+        /**
+         * Maximum time in millis a service instance is ejected.
+         */
+        private long maxEjectionTime = 300000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public double getErrorRateThreshold() {
+            return errorRateThreshold;
+        }
+
+        public void setErrorRateThreshold(double errorRateThreshold) {
+            this.errorRateThreshold = errorRateThreshold;
+        }
+
+        public Long getLatencyThreshold() {
+            return latencyThreshold;
+        }
+
+        public void setLatencyThreshold(Long latencyThreshold) {
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        public long getBaseEjectionTime() {
+            return baseEjectionTime;
+        }
+
+        public void setBaseEjectionTime(long baseEjectionTime) {
+            this.baseEjectionTime = baseEjectionTime;
+        }
+
+        public long getMaxEjectionTime() {
+            return maxEjectionTime;
+        }
+
+        public void setMaxEjectionTime(long maxEjectionTime) {
+            this.maxEjectionTime = maxEjectionTime;
+        }
     }
 
     // *****************************************
@@ -360,6 +508,17 @@ public class CamelCloudConfigurationProperties {
          * Global option to enable/disable Camel cloud service chooser, default is true.
          */
         private boolean enabled = true;
+        /**
+         * The strategy used to choose a service among the services returned by the service discovery. By default,
+         * the service call uses a round-robin service chooser. The peak-ewma and power-of-two-choices strategies
+         * track the in-flight calls and response times of each service instance.
+         */
+        private ServiceChooserType type;
+        /**
+         * Time in millis over which the response times of a service instance decay, when using the peak-ewma
+         * service chooser.
+         */
+        private long decayTime = 10000;
 
         public boolean isEnabled() {
             return enabled;
@@ -368,6 +527,22 @@ public class CamelCloudConfigurationProperties {
         public void setEnabled(boolean enabled) {
             this.enabled = enabled;
         }
+
+        public ServiceChooserType getType() {
+            return type;
+        }
+
+        public void setType(ServiceChooserType type) {
+            this.type = type;
+        }
+
+        public long getDecayTime() {
+            return decayTime;
+        }
+
+        public void setDecayTime(long decayTime) {
+            this.decayTime = decayTime;
+        }
     }
 
     // *****************************************
@@ -16,17 +16,43 @@
  */
 package org.apache.camel.spring.boot.cloud;
 
+import org.apache.camel.cloud.ServiceChooser;
+import org.apache.camel.impl.cloud.RandomServiceChooser;
+import org.apache.camel.impl.cloud.RoundRobinServiceChooser;
 import org.apache.camel.spring.boot.util.GroupCondition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnBean(CamelCloudAutoConfiguration.class)
 @EnableConfigurationProperties(CamelCloudConfigurationProperties.class)
 @Conditional(CamelCloudServiceChooserAutoConfiguration.ServiceChooserCondition.class)
 public class CamelCloudServiceChooserAutoConfiguration {
+    @Autowired
+    private CamelCloudConfigurationProperties configurationProperties;
+
+    @Lazy
+    @Bean(name = "service-chooser")
+    @ConditionalOnProperty(prefix = "camel.cloud.service-chooser", name = "type")
+    public ServiceChooser serviceChooser(ObjectProvider<ServiceLoadTracker> tracker) {
+        switch (configurationProperties.getServiceChooser().getType()) {
+            case RANDOM:
+                return new RandomServiceChooser();
+            case PEAK_EWMA:
+                return new PeakEwmaServiceChooser(tracker.getObject());
+            case POWER_OF_TWO_CHOICES:
+                return new PowerOfTwoChoicesServiceChooser(tracker.getObject());
+            default:
+                return new RoundRobinServiceChooser();
+        }
+    }
 
     // *******************************
     // Condition
@@ -16,24 +16,206 @@
  */
 package org.apache.camel.spring.boot.cloud;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.cloud.ServiceDefinition;
 import org.apache.camel.cloud.ServiceDiscovery;
 import org.apache.camel.impl.cloud.CombinedServiceDiscovery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * A {@link ServiceDiscovery} collecting the services from all the configured service discoveries.
+ * <p/>
+ * By default, the service discoveries are invoked sequentially on each lookup. When a cache time to live is
+ * configured, the services are cached per service name: the lookup then only reads the last snapshot of the
+ * services, while the expired snapshots are refreshed in the background. When a timeout is configured, the
+ * service discoveries are invoked in parallel on a bounded thread pool, and a service discovery not responding in
+ * time contributes the services returned by its last lookup of the service, if any. The background refreshes run on
+ * a thread pool of their own, so they never wait for the pool they submit the lookups to.
+ */
 public class CamelCloudServiceDiscovery implements ServiceDiscovery {
-    private ServiceDiscovery delegate;
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelCloudServiceDiscovery.class);
+
+    private final CamelContext camelContext;
+    private final List<ServiceDiscovery> delegates;
+    private final ServiceDiscovery delegate;
+    private final long cacheTimeToLive;
+    private final Map<String, Long> serviceCacheTimeToLive;
+    private final long timeout;
+    private final int threadPoolSize;
+    private final Map<String, CachedServices> cache = new ConcurrentHashMap<>();
+    private volatile ExecutorService executorService;
+    private volatile ExecutorService refreshExecutorService;
 
     public CamelCloudServiceDiscovery(List<ServiceDiscovery> serviceDiscoveryList) {
+        this(null, serviceDiscoveryList, new CamelCloudConfigurationProperties.ServiceDiscovery());
+    }
+
+    public CamelCloudServiceDiscovery(CamelContext camelContext, List<ServiceDiscovery> serviceDiscoveryList,
+                                      CamelCloudConfigurationProperties.ServiceDiscovery config) {
+        this.camelContext = camelContext;
+        this.delegates = new ArrayList<>(serviceDiscoveryList);
         // Created a chained service discovery that collects services from multiple
         // ServiceDiscovery
         this.delegate = new CombinedServiceDiscovery(serviceDiscoveryList);
+        this.cacheTimeToLive = config.getCacheTimeToLive() != null ? config.getCacheTimeToLive() : 0;
+        this.serviceCacheTimeToLive = new ConcurrentHashMap<>(config.getServiceCacheTimeToLive());
+        this.timeout = config.getTimeout() != null ? config.getTimeout() : 0;
+        this.threadPoolSize = config.getThreadPoolSize();
     }
 
     @Override
     public List<ServiceDefinition> getServices(String name) {
-        return delegate.getServices(name);
+        long timeToLive = getCacheTimeToLive(name);
+        if (timeToLive <= 0) {
+            if (timeout <= 0) {
+                return delegate.getServices(name);
+            }
+            // the last services are kept for the service discoveries not responding in time
+            CachedServices services = lookup(name, cache.get(name), 0);
+            cache.put(name, services);
+            return services.services;
+        }
+
+        CachedServices cached = cache.get(name);
+        if (cached == null) {
+            // first lookup of the service, there is nothing to serve until the services are known
+            cached = lookup(name, null, timeToLive);
+            cache.put(name, cached);
+        } else if (cached.isExpired() && cached.refreshing.compareAndSet(false, true)) {
+            refreshInBackground(name, cached, timeToLive);
+        }
+        return cached.services;
+    }
+
+    private long getCacheTimeToLive(String name) {
+        Long timeToLive = serviceCacheTimeToLive.get(name);
+        return timeToLive != null ? timeToLive : cacheTimeToLive;
+    }
+
+    private void refreshInBackground(String name, CachedServices cached, long timeToLive) {
+        try {
+            getRefreshExecutorService().execute(() -> {
+                try {
+                    cache.put(name, lookup(name, cached, timeToLive));
+                } catch (Exception e) {
+                    cached.refreshing.set(false);
+                    LOG.warn("Error refreshing the services of {}. This exception is ignored.", name, e);
+                }
+            });
+        } catch (Exception e) {
+            // the thread pool may be shutting down
+            cached.refreshing.set(false);
+            LOG.debug("Cannot refresh the services of {} in the background", name, e);
+        }
+    }
+
+    private CachedServices lookup(String name, CachedServices previous, long timeToLive) {
+        List<List<ServiceDefinition>> services = new ArrayList<>(delegates.size());
+        if (timeout <= 0) {
+            for (ServiceDiscovery discovery : delegates) {
+                services.add(discovery.getServices(name));
+            }
+            return new CachedServices(services, timeToLive);
+        }
+
+        ExecutorService executor = getExecutorService();
+        List<Future<List<ServiceDefinition>>> futures = new ArrayList<>(delegates.size());
+        for (ServiceDiscovery discovery : delegates) {
+            futures.add(executor.submit(() -> discovery.getServices(name)));
+        }
+
+        // the timeout applies to each service discovery, counted from when they have all been submitted
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        for (int i = 0; i < futures.size(); i++) {
+            Future<List<ServiceDefinition>> future = futures.get(i);
+            List<ServiceDefinition> result;
+            try {
+                result = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                LOG.debug("Service discovery {} did not return the services of {} within {} millis",
+                        delegates.get(i), name, timeout);
+                result = previous != null ? previous.delegateServices.get(i) : null;
+            } catch (ExecutionException e) {
+                LOG.warn("Error looking up the services of {} from {}. This exception is ignored.",
+                        name, delegates.get(i), e.getCause());
+                result = previous != null ? previous.delegateServices.get(i) : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result = previous != null ? previous.delegateServices.get(i) : null;
+            }
+            services.add(result);
+        }
+        return new CachedServices(services, timeToLive);
+    }
+
+    private ExecutorService getExecutorService() {
+        if (executorService == null) {
+            synchronized (this) {
+                if (executorService == null) {
+                    executorService = newFixedThreadPool("CamelCloudServiceDiscovery");
+                }
+            }
+        }
+        return executorService;
+    }
+
+    private ExecutorService getRefreshExecutorService() {
+        if (refreshExecutorService == null) {
+            synchronized (this) {
+                if (refreshExecutorService == null) {
+                    refreshExecutorService = newFixedThreadPool("CamelCloudServiceDiscoveryRefresh");
+                }
+            }
+        }
+        return refreshExecutorService;
+    }
+
+    private ExecutorService newFixedThreadPool(String name) {
+        if (camelContext == null) {
+            throw new IllegalStateException("CamelContext is required to look up services in the background");
+        }
+        return camelContext.getExecutorServiceManager().newFixedThreadPool(this, name, threadPoolSize);
+    }
+
+    /**
+     * An immutable snapshot of the services, as returned by each service discovery.
+     */
+    private static final class CachedServices {
+
+        private final List<List<ServiceDefinition>> delegateServices;
+        private final List<ServiceDefinition> services;
+        private final long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        CachedServices(List<List<ServiceDefinition>> delegateServices, long timeToLive) {
+            List<ServiceDefinition> all = new ArrayList<>();
+            for (List<ServiceDefinition> definitions : delegateServices) {
+                if (definitions != null) {
+                    all.addAll(definitions);
+                }
+            }
+            this.delegateServices = delegateServices;
+            this.services = Collections.unmodifiableList(all);
+            this.expiresAt = System.currentTimeMillis() + timeToLive;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
     }
 }
@@ -69,7 +69,7 @@ public class CamelCloudServiceDiscoveryAutoConfiguration implements BeanFactoryA
     @Lazy
     @Bean(name = "service-discovery")
     public CamelCloudServiceDiscovery serviceDiscovery(List<ServiceDiscovery> serviceDiscoveryList) throws NoTypeConversionAvailableException {
-        return new CamelCloudServiceDiscovery(serviceDiscoveryList);
+        return new CamelCloudServiceDiscovery(camelContext, serviceDiscoveryList, configurationProperties.getServiceDiscovery());
     }
 
     @PostConstruct
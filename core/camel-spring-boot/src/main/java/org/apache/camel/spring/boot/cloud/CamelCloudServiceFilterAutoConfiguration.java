@@ -16,6 +16,7 @@
  */
 package org.apache.camel.spring.boot.cloud;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +24,7 @@ import java.util.Map;
 import javax.annotation.PostConstruct;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.cloud.ServiceFilter;
 import org.apache.camel.impl.cloud.BlacklistServiceFilter;
 import org.apache.camel.impl.cloud.DefaultServiceDefinition;
 import org.apache.camel.impl.cloud.HealthyServiceFilter;
@@ -34,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -56,6 +59,10 @@ public class CamelCloudServiceFilterAutoConfiguration implements BeanFactoryAwar
     private CamelContext camelContext;
     @Autowired
     private CamelCloudConfigurationProperties configurationProperties;
+    @Autowired
+    private ObjectProvider<ServiceLoadTracker> serviceLoadTracker;
+
+    private OutlierDetectionServiceFilter outlierDetectionServiceFilter;
 
     @Override
     public void setBeanFactory(BeanFactory factory) throws BeansException {
@@ -126,6 +133,33 @@ public class CamelCloudServiceFilterAutoConfiguration implements BeanFactoryAwar
             }
         }
 
-        return new CamelCloudServiceFilter(Arrays.asList(new HealthyServiceFilter(), blacklist));
+        List<ServiceFilter> serviceFilters = new ArrayList<>(Arrays.asList(new HealthyServiceFilter(), blacklist));
+        OutlierDetectionServiceFilter outlierDetection = getOutlierDetectionServiceFilter();
+        if (outlierDetection != null) {
+            serviceFilters.add(outlierDetection);
+        }
+
+        return new CamelCloudServiceFilter(serviceFilters);
+    }
+
+    private synchronized OutlierDetectionServiceFilter getOutlierDetectionServiceFilter() {
+        final CamelCloudConfigurationProperties.OutlierDetection configuration = configurationProperties.getServiceFilter().getOutlierDetection();
+        if (!configuration.isEnabled()) {
+            return null;
+        }
+
+        if (outlierDetectionServiceFilter == null) {
+            final ServiceLoadTracker tracker = serviceLoadTracker.getIfAvailable();
+            if (tracker == null) {
+                LOGGER.warn("Outlier detection is enabled but the calls to the services are not tracked");
+                return null;
+            }
+
+            // the same outlier detection is shared by all the service filters
+            outlierDetectionServiceFilter = new OutlierDetectionServiceFilter(configuration);
+            tracker.addListener(outlierDetectionServiceFilter);
+        }
+
+        return outlierDetectionServiceFilter;
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.cloud.ServiceLoadBalancerFunction;
+import org.apache.camel.impl.cloud.DefaultServiceLoadBalancer;
+
+/**
+ * The default service load balancer, which also tracks the calls to the chosen service instances, so that the load
+ * aware service choosers and the outlier detection can use them.
+ */
+public class CamelCloudServiceLoadBalancer extends DefaultServiceLoadBalancer {
+
+    private final ServiceLoadTracker tracker;
+
+    public CamelCloudServiceLoadBalancer(ServiceLoadTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public <T> T process(Exchange exchange, String serviceName, ServiceLoadBalancerFunction<T> function) throws Exception {
+        return super.process(exchange, serviceName, service -> {
+            tracker.begin(exchange, service);
+            try {
+                return function.apply(service);
+            } catch (Exception e) {
+                tracker.abort(exchange);
+                throw e;
+            }
+        });
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ServiceFilter} ejecting the service instances whose recent calls have a high error rate or latency.
+ * <p/>
+ * The outcome of the calls is reported by the {@link ServiceLoadTracker}, and the most recent calls to each instance
+ * are kept in a fixed size ring buffer, updated without locking. An ejected instance is re-admitted after the
+ * ejection time, which doubles each time the instance is ejected again. The instances are never all ejected, as a
+ * degraded instance is better than none.
+ * <p/>
+ * The calls of the instances which are not ejected and have not been called for longer than the max ejection time,
+ * such as the instances which are no longer discovered, are discarded.
+ */
+public class OutlierDetectionServiceFilter implements ServiceFilter, ServiceLoadTracker.Listener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OutlierDetectionServiceFilter.class);
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double errorRateThreshold;
+    private final long latencyThresholdMicros;
+    private final long baseEjectionTime;
+    private final long maxEjectionTime;
+    private final Map<String, CallWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicLong nextEviction;
+
+    public OutlierDetectionServiceFilter(CamelCloudConfigurationProperties.OutlierDetection config) {
+        this.windowSize = Math.max(1, config.getWindowSize());
+        this.minimumCalls = Math.max(1, Math.min(config.getMinimumCalls(), windowSize));
+        this.errorRateThreshold = config.getErrorRateThreshold();
+        this.latencyThresholdMicros = config.getLatencyThreshold() != null
+            ? TimeUnit.MILLISECONDS.toMicros(config.getLatencyThreshold()) : 0;
+        this.baseEjectionTime = config.getBaseEjectionTime();
+        this.maxEjectionTime = config.getMaxEjectionTime();
+        this.nextEviction = new AtomicLong(System.currentTimeMillis() + baseEjectionTime);
+    }
+
+    @Override
+    public List<ServiceDefinition> apply(Exchange exchange, List<ServiceDefinition> services) {
+        if (windows.isEmpty()) {
+            return services;
+        }
+
+        long now = System.currentTimeMillis();
+        List<ServiceDefinition> answer = null;
+        for (int i = 0; i < services.size(); i++) {
+            ServiceDefinition service = services.get(i);
+            boolean ejected = isEjected(service, now);
+            if (ejected && answer == null) {
+                answer = new ArrayList<>(services.subList(0, i));
+            } else if (!ejected && answer != null) {
+                answer.add(service);
+            }
+        }
+
+        return answer == null || answer.isEmpty() ? services : answer;
+    }
+
+    /**
+     * Whether the given service instance is currently ejected.
+     */
+    public boolean isEjected(ServiceDefinition service) {
+        return isEjected(service, System.currentTimeMillis());
+    }
+
+    @Override
+    public void onCallCompleted(String id, long responseTimeNanos, boolean failed) {
+        long now = System.currentTimeMillis();
+        evictIdleWindows(now);
+        windows.computeIfAbsent(id, CallWindow::new).record(responseTimeNanos, failed, now);
+    }
+
+    /**
+     * Whether the calls to the given service instance are tracked.
+     */
+    boolean isTracked(ServiceDefinition service) {
+        return windows.containsKey(ServiceLoadTracker.idOf(service));
+    }
+
+    private void evictIdleWindows(long now) {
+        // at most once per base ejection time, by a single caller
+        long next = nextEviction.get();
+        if (now < next || !nextEviction.compareAndSet(next, now + baseEjectionTime)) {
+            return;
+        }
+        windows.values().removeIf(window -> window.isIdle(now, maxEjectionTime));
+    }
+
+    private boolean isEjected(ServiceDefinition service, long now) {
+        CallWindow window = windows.get(ServiceLoadTracker.idOf(service));
+        return window != null && window.isEjected(now);
+    }
+
+    private final class CallWindow {
+
+        private final String id;
+        // each call is encoded as (response time in micros + 1) << 1 | failed, 0 being an empty slot
+        private final AtomicLongArray calls = new AtomicLongArray(windowSize);
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicLong ejectedUntil = new AtomicLong();
+        private final AtomicInteger ejections = new AtomicInteger();
+        private volatile long lastCall = System.currentTimeMillis();
+
+        CallWindow(String id) {
+            this.id = id;
+        }
+
+        boolean isEjected(long now) {
+            return ejectedUntil.get() > now;
+        }
+
+        boolean isIdle(long now, long idleTime) {
+            return !isEjected(now) && now - lastCall > idleTime;
+        }
+
+        void record(long responseTimeNanos, boolean failed, long now) {
+            lastCall = now;
+            if (isEjected(now)) {
+                // the calls that were in progress when the instance was ejected do not count
+                return;
+            }
+
+            long micros = TimeUnit.NANOSECONDS.toMicros(responseTimeNanos);
+            calls.set((int) (cursor.getAndIncrement() % windowSize), (micros + 1) << 1 | (failed ? 1 : 0));
+            evaluate(now);
+        }
+
+        private void evaluate(long now) {
+            int count = 0;
+            int failures = 0;
+            long totalMicros = 0;
+            for (int i = 0; i < windowSize; i++) {
+                long call = calls.get(i);
+                if (call != 0) {
+                    count++;
+                    failures += (int) (call & 1);
+                    totalMicros += (call >>> 1) - 1;
+                }
+            }
+            if (count < minimumCalls) {
+                return;
+            }
+
+            boolean errors = failures > errorRateThreshold * count;
+            boolean slow = latencyThresholdMicros > 0 && totalMicros / count > latencyThresholdMicros;
+            if (errors || slow) {
+                eject(now, count, failures, totalMicros / count);
+            } else {
+                // the instance recovered, the next ejection starts again with the base ejection time
+                ejections.set(0);
+            }
+        }
+
+        private void eject(long now, int count, int failures, long averageMicros) {
+            long until = ejectedUntil.get();
+            if (until > now) {
+                return;
+            }
+
+            int shift = Math.min(ejections.get(), 20);
+            long time = Math.min(baseEjectionTime << shift, maxEjectionTime);
+            if (ejectedUntil.compareAndSet(until, now + time)) {
+                ejections.incrementAndGet();
+                for (int i = 0; i < windowSize; i++) {
+                    calls.set(i, 0);
+                }
+                LOG.info("Ejecting service instance {} for {} millis ({} failed calls out of {}, average response time {} micros)",
+                    id, time, failures, count, averageMicros);
+            }
+        }
+    }
+}
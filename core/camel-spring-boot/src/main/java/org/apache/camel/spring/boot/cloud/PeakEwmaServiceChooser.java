@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.cloud.ServiceChooser;
+import org.apache.camel.cloud.ServiceDefinition;
+
+/**
+ * A {@link ServiceChooser} choosing the service instance with the lowest {@link ServiceLoad#getLoad() load}, that
+ * is the peak EWMA of its response times weighted by its in-flight calls.
+ */
+public class PeakEwmaServiceChooser implements ServiceChooser {
+
+    private final ServiceLoadTracker tracker;
+
+    public PeakEwmaServiceChooser(ServiceLoadTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public ServiceDefinition choose(List<ServiceDefinition> definitions) {
+        int size = definitions.size();
+        if (size == 1) {
+            return definitions.get(0);
+        }
+
+        // start from a random instance so that the ties are not always won by the same one
+        int offset = ThreadLocalRandom.current().nextInt(size);
+        ServiceDefinition answer = null;
+        double lowest = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            ServiceDefinition definition = definitions.get((offset + i) % size);
+            double load = tracker.getLoad(definition).getLoad();
+            if (answer == null || load < lowest) {
+                answer = definition;
+                lowest = load;
+            }
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.cloud.ServiceChooser;
+import org.apache.camel.cloud.ServiceDefinition;
+
+/**
+ * A {@link ServiceChooser} picking two service instances at random, and choosing the one with the fewest in-flight
+ * calls.
+ */
+public class PowerOfTwoChoicesServiceChooser implements ServiceChooser {
+
+    private final ServiceLoadTracker tracker;
+
+    public PowerOfTwoChoicesServiceChooser(ServiceLoadTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public ServiceDefinition choose(List<ServiceDefinition> definitions) {
+        int size = definitions.size();
+        if (size == 1) {
+            return definitions.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        ServiceDefinition a = definitions.get(first);
+        ServiceDefinition b = definitions.get(second);
+        return tracker.getLoad(b).getInFlight() < tracker.getLoad(a).getInFlight() ? b : a;
+    }
+}
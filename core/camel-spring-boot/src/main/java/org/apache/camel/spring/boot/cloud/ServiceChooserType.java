@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+/**
+ * The strategies available to choose a service among the services returned by the service discovery.
+ */
+public enum ServiceChooserType {
+
+    /**
+     * Chooses the services in turn.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Chooses a service at random.
+     */
+    RANDOM,
+
+    /**
+     * Chooses the service with the lowest peak EWMA (exponentially weighted moving average) of its response times,
+     * weighted by its number of in-flight calls.
+     */
+    PEAK_EWMA,
+
+    /**
+     * Picks two services at random, and chooses the one with the fewest in-flight calls.
+     */
+    POWER_OF_TWO_CHOICES;
+
+    /**
+     * Whether the chooser uses the in-flight calls and response times of the services.
+     */
+    public boolean isLoadAware() {
+        return this == PEAK_EWMA || this == POWER_OF_TWO_CHOICES;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The load of a service instance, as observed by the service calls: the number of in-flight calls and the peak
+ * EWMA (exponentially weighted moving average) of the response times.
+ * <p/>
+ * The peak EWMA reacts immediately to a response time higher than the average, and decays towards lower response
+ * times over the decay time, so that a slow instance is avoided quickly and gets back to its share progressively.
+ */
+public final class ServiceLoad {
+
+    // the load of an instance with in-flight calls but no response time observed yet
+    private static final double PENALTY = Integer.MAX_VALUE;
+
+    private final String id;
+    private final double decayTimeNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double cost;
+    private long timestamp = System.nanoTime();
+    // the last time a call began or ended, which unlike the timestamp is not updated by reading the cost
+    private volatile long lastUsed = timestamp;
+
+    ServiceLoad(String id, long decayTime) {
+        this.id = id;
+        this.decayTimeNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, decayTime));
+    }
+
+    /**
+     * The service instance, as name@host:port.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The number of calls to the service instance in progress.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * The peak EWMA of the response times in nanos, decayed up to now.
+     */
+    public synchronized double getCost() {
+        observe(0, System.nanoTime());
+        return cost;
+    }
+
+    /**
+     * The load of the service instance, that is its cost weighted by the calls in progress. The lower, the better.
+     */
+    public double getLoad() {
+        int pending = inFlight.get();
+        double current = getCost();
+        if (current == 0 && pending != 0) {
+            return PENALTY + pending;
+        }
+        return current * (pending + 1);
+    }
+
+    void begin() {
+        inFlight.incrementAndGet();
+        lastUsed = System.nanoTime();
+    }
+
+    void end(long responseTimeNanos) {
+        inFlight.decrementAndGet();
+        long now = System.nanoTime();
+        lastUsed = now;
+        synchronized (this) {
+            observe(responseTimeNanos, now);
+        }
+    }
+
+    void abort() {
+        inFlight.decrementAndGet();
+        lastUsed = System.nanoTime();
+    }
+
+    /**
+     * Whether no call is in progress and none began or ended for longer than the given time.
+     */
+    boolean isIdle(long now, long idleTimeNanos) {
+        return inFlight.get() == 0 && now - lastUsed > idleTimeNanos;
+    }
+
+    private void observe(double responseTime, long now) {
+        long elapsed = Math.max(now - timestamp, 0);
+        timestamp = now;
+        if (responseTime > cost) {
+            cost = responseTime;
+        } else {
+            double weight = Math.exp(-elapsed / decayTimeNanos);
+            cost = cost * weight + responseTime * (1.0 - weight);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceLoad[" + id + ", inFlight=" + inFlight.get() + "]";
+    }
+}
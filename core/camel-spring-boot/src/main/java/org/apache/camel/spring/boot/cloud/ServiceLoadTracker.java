@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.model.cloud.ServiceCallDefinition;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+
+/**
+ * Tracks the {@link ServiceLoad} of the service instances called by the service call EIP.
+ * <p/>
+ * A call begins when {@link CamelCloudServiceLoadBalancer} chooses the service instance to call, and ends when the
+ * service call processor, wrapped by this {@link InterceptStrategy}, completes the exchange.
+ * <p/>
+ * The loads of the service instances which have not been called for longer than the decay time, such as the instances
+ * which are no longer discovered, are discarded, so an instance called again starts afresh as a new instance would.
+ */
+public class ServiceLoadTracker implements InterceptStrategy {
+
+    static final String SERVICE_LOAD_PROPERTY = "CamelServiceCallServiceLoad";
+
+    private final long decayTime;
+    private final long decayTimeNanos;
+    private final Map<String, ServiceLoad> loads = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong nextEviction;
+
+    public ServiceLoadTracker(long decayTime) {
+        this.decayTime = decayTime;
+        this.decayTimeNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, decayTime));
+        this.nextEviction = new AtomicLong(System.nanoTime() + decayTimeNanos);
+    }
+
+    /**
+     * Gets the load of the given service instance.
+     */
+    public ServiceLoad getLoad(ServiceDefinition service) {
+        evictIdleLoads();
+        return loads.computeIfAbsent(idOf(service), id -> new ServiceLoad(id, decayTime));
+    }
+
+    /**
+     * Gets the load of all the service instances called so far.
+     */
+    public Collection<ServiceLoad> getLoads() {
+        return Collections.unmodifiableCollection(loads.values());
+    }
+
+    /**
+     * Adds a listener notified each time a call to a service instance completes.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    private void evictIdleLoads() {
+        // at most once per decay time, by a single caller
+        long now = System.nanoTime();
+        long next = nextEviction.get();
+        if (now - next < 0 || !nextEviction.compareAndSet(next, now + decayTimeNanos)) {
+            return;
+        }
+        // a call may begin on a load being evicted, in which case its load is only tracked from the next call
+        loads.values().removeIf(load -> load.isIdle(now, decayTimeNanos));
+    }
+
+    void begin(Exchange exchange, ServiceDefinition service) {
+        ServiceLoad load = getLoad(service);
+        load.begin();
+        ServiceLoad previous = (ServiceLoad) exchange.getProperty(SERVICE_LOAD_PROPERTY);
+        if (previous != null) {
+            // the exchange did not reach the service call processor
+            previous.abort();
+        }
+        exchange.setProperty(SERVICE_LOAD_PROPERTY, load);
+    }
+
+    void abort(Exchange exchange) {
+        ServiceLoad load = (ServiceLoad) exchange.removeProperty(SERVICE_LOAD_PROPERTY);
+        if (load != null) {
+            load.abort();
+        }
+    }
+
+    @Override
+    public Processor wrapProcessorInInterceptors(
+            CamelContext context, NamedNode definition, Processor target, Processor nextTarget) {
+        if (definition instanceof ServiceCallDefinition) {
+            return new ServiceLoadProcessor(target);
+        }
+        return target;
+    }
+
+    void end(ServiceLoad load, long responseTimeNanos, boolean failed) {
+        load.end(responseTimeNanos);
+        for (Listener listener : listeners) {
+            listener.onCallCompleted(load.getId(), responseTimeNanos, failed);
+        }
+    }
+
+    static String idOf(ServiceDefinition service) {
+        return service.getName() + "@" + service.getHost() + ":" + service.getPort();
+    }
+
+    /**
+     * Listener notified when a call to a service instance completes.
+     */
+    public interface Listener {
+
+        /**
+         * A call to a service instance completed.
+         *
+         * @param id                the service instance, as name@host:port
+         * @param responseTimeNanos the response time of the service instance
+         * @param failed            whether the call failed
+         */
+        void onCallCompleted(String id, long responseTimeNanos, boolean failed);
+    }
+
+    private final class ServiceLoadProcessor extends DelegateAsyncProcessor {
+
+        ServiceLoadProcessor(Processor processor) {
+            super(processor);
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            final long start = System.nanoTime();
+            return processor.process(exchange, doneSync -> {
+                ServiceLoad load = (ServiceLoad) exchange.removeProperty(SERVICE_LOAD_PROPERTY);
+                if (load != null) {
+                    end(load, System.nanoTime() - start, exchange.isFailed());
+                }
+                callback.done(doneSync);
+            });
+        }
+    }
+}
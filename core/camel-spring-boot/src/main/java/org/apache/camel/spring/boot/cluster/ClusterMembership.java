@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.util.Set;
+
+/**
+ * Publishes the members of the namespaces of a cluster service whose views do not expose them, such as the file lock
+ * one, so that the {@link ShardedRoutePolicy} can still share the routes among the members.
+ */
+public interface ClusterMembership {
+
+    /**
+     * Publishes the member in the namespace, until it leaves it.
+     *
+     * @param namespace the namespace
+     * @param memberId  the id of the local member
+     * @param listener  notified whenever the members of the namespace change
+     */
+    void join(String namespace, String memberId, Runnable listener);
+
+    /**
+     * Stops notifying the listener, and withdraws the member from the namespace once it has no more listeners.
+     */
+    void leave(String namespace, String memberId, Runnable listener);
+
+    /**
+     * The ids of the live members of the namespace, including the local ones.
+     */
+    Set<String> getMembers(String namespace);
+}
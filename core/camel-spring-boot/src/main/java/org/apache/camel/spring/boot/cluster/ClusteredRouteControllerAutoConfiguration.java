@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.impl.cluster.ClusteredRouteConfiguration;
@@ -51,6 +52,9 @@ public class ClusteredRouteControllerAutoConfiguration {
     @Autowired(required = false)
     private List<ClusteredRouteFilter> filters = Collections.emptyList();
 
+    @Autowired(required = false)
+    private ClusterMembership membership;
+
     @Bean
     @Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
     @ConditionalOnMissingBean
@@ -75,7 +79,13 @@ public class ClusteredRouteControllerAutoConfiguration {
             final String routeId = entry.getKey();
             final ClusteredRouteControllerConfiguration.RouteConfiguration conf = entry.getValue();
 
-            if (conf.isClustered()) {
+            if (conf.isClustered() && conf.isSharded()) {
+                // sharded routes are managed by the ShardedRoutePolicyFactory
+                controller.addFilter(new ClusteredRouteFilters.BlackList(routeId));
+            } else if (conf.isClustered() && conf.isWarmStandby()) {
+                // warm standby routes are managed by the WarmStandbyRoutePolicyFactory
+                controller.addFilter(new ClusteredRouteFilters.BlackList(routeId));
+            } else if (conf.isClustered()) {
                 ClusteredRouteConfiguration routeConfiguration = new ClusteredRouteConfiguration();
 
                 routeConfiguration.setNamespace(
@@ -97,4 +107,61 @@ public class ClusteredRouteControllerAutoConfiguration {
 
         return controller;
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(CamelClusterService.class)
+    public ShardedRoutePolicyFactory shardedRoutePolicyFactory(ClusteredRouteControllerConfiguration configuration) {
+        ShardedRoutePolicyFactory factory = new ShardedRoutePolicyFactory();
+        factory.setVirtualNodes(configuration.getVirtualNodes());
+        factory.setMembership(membership);
+
+        configureRoutePolicyFactory(factory, configuration, conf -> conf.isClustered() && conf.isSharded());
+
+        return factory;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(CamelClusterService.class)
+    public WarmStandbyRoutePolicyFactory warmStandbyRoutePolicyFactory(ClusteredRouteControllerConfiguration configuration) {
+        WarmStandbyRoutePolicyFactory factory = new WarmStandbyRoutePolicyFactory();
+
+        configureRoutePolicyFactory(factory, configuration, conf -> conf.isClustered() && !conf.isSharded() && conf.isWarmStandby());
+
+        return factory;
+    }
+
+    private static void configureRoutePolicyFactory(
+            ClusteredRoutePolicyFactorySupport<?> factory,
+            ClusteredRouteControllerConfiguration configuration,
+            Predicate<ClusteredRouteControllerConfiguration.RouteConfiguration> filter) {
+
+        factory.setNamespace(configuration.getNamespace());
+
+        Optional.ofNullable(configuration.getInitialDelay())
+            .map(TimePatternConverter::toMilliSeconds)
+            .map(Duration::ofMillis)
+            .ifPresent(factory::setInitialDelay);
+
+        if (ObjectHelper.isNotEmpty(configuration.getClusterService())) {
+            factory.setClusterService(configuration.getClusterService());
+        }
+
+        for (Map.Entry<String, ClusteredRouteControllerConfiguration.RouteConfiguration> entry: configuration.getRoutes().entrySet()) {
+            final ClusteredRouteControllerConfiguration.RouteConfiguration conf = entry.getValue();
+
+            if (filter.test(conf)) {
+                ClusteredRouteConfiguration routeConfiguration = new ClusteredRouteConfiguration();
+                routeConfiguration.setNamespace(conf.getNamespace());
+
+                Optional.ofNullable(conf.getInitialDelay())
+                    .map(TimePatternConverter::toMilliSeconds)
+                    .map(Duration::ofMillis)
+                    .ifPresent(routeConfiguration::setInitialDelay);
+
+                factory.addRouteConfiguration(entry.getKey(), routeConfiguration);
+            }
+        }
+    }
 }
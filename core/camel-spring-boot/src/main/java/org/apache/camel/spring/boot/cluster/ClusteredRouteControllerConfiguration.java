@@ -56,6 +56,12 @@ public class ClusteredRouteControllerConfiguration {
      */
     private Map<String, RouteConfiguration> routes = new HashMap<>();
 
+    /**
+     * The number of virtual nodes per cluster member on the consistent hash ring used to assign the sharded
+     * routes to the members.
+     */
+    private int virtualNodes = 100;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -88,6 +94,14 @@ public class ClusteredRouteControllerConfiguration {
         this.routes = routes;
     }
 
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    public void setVirtualNodes(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
     public CamelClusterService getClusterService() {
         return clusterService;
     }
@@ -118,6 +132,20 @@ public class ClusteredRouteControllerConfiguration {
          */
         private String namespace;
 
+        /**
+         * Control if the route is shared among the members of the namespace instead of running on the leader only,
+         * default is false. Each sharded route runs on a single member, assigned by consistent hashing of the route
+         * id, and is reassigned when the members change.
+         */
+        private boolean sharded;
+
+        /**
+         * Control if the route is kept warm on the members which are not the leader, default is false. A warm standby
+         * route has its endpoints, processors and producers started on every member, and only its consumer is
+         * started on the leader, which shortens the failover. Not applicable to sharded routes.
+         */
+        private boolean warmStandby;
+
         public boolean isClustered() {
             return clustered;
         }
@@ -141,5 +169,21 @@ public class ClusteredRouteControllerConfiguration {
         public void setNamespace(String namespace) {
             this.namespace = namespace;
         }
+
+        public boolean isSharded() {
+            return sharded;
+        }
+
+        public void setSharded(boolean sharded) {
+            this.sharded = sharded;
+        }
+
+        public boolean isWarmStandby() {
+            return warmStandby;
+        }
+
+        public void setWarmStandby(boolean warmStandby) {
+            this.warmStandby = warmStandby;
+        }
     }
 }
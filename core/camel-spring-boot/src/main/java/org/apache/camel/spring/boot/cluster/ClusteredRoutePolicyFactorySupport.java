@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.NamedNode;
+import org.apache.camel.cluster.CamelClusterService;
+import org.apache.camel.impl.cluster.ClusteredRouteConfiguration;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * Base class for the factories attaching a {@link ClusteredRoutePolicySupport} to the routes they are configured for.
+ * The namespace and the initial delay of a route default to the ones of the factory.
+ */
+public abstract class ClusteredRoutePolicyFactorySupport<P extends ClusteredRoutePolicySupport> implements RoutePolicyFactory {
+
+    private final Map<String, ClusteredRouteConfiguration> configurations = new ConcurrentHashMap<>();
+    private final Map<String, P> policies = new ConcurrentHashMap<>();
+    private CamelClusterService clusterService;
+    private String namespace;
+    private Duration initialDelay = Duration.ZERO;
+
+    public void addRouteConfiguration(String routeId, ClusteredRouteConfiguration configuration) {
+        configurations.put(routeId, configuration);
+    }
+
+    public Map<String, ClusteredRouteConfiguration> getRoutesConfiguration() {
+        return configurations;
+    }
+
+    /**
+     * The policies created so far, by route id.
+     */
+    public Map<String, P> getRoutePolicies() {
+        return policies;
+    }
+
+    public CamelClusterService getClusterService() {
+        return clusterService;
+    }
+
+    public void setClusterService(CamelClusterService clusterService) {
+        this.clusterService = clusterService;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public void setNamespace(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public void setInitialDelay(Duration initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+        ClusteredRouteConfiguration configuration = configurations.get(routeId);
+        if (configuration == null) {
+            return null;
+        }
+
+        String ns = ObjectHelper.supplyIfEmpty(configuration.getNamespace(), this::getNamespace);
+        ObjectHelper.notNull(ns, "Namespace");
+        Duration delay = ObjectHelper.supplyIfEmpty(configuration.getInitialDelay(), this::getInitialDelay);
+
+        P policy = newRoutePolicy(clusterService, ns, delay);
+        policy.setCamelContext(camelContext);
+        policies.put(routeId, policy);
+        return policy;
+    }
+
+    /**
+     * Creates the policy of a route, with the namespace and the initial delay resolved for the route.
+     */
+    protected abstract P newRoutePolicy(CamelClusterService clusterService, String namespace, Duration initialDelay);
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.ExtendedStartupListener;
+import org.apache.camel.Route;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.cluster.CamelClusterEventListener;
+import org.apache.camel.cluster.CamelClusterMember;
+import org.apache.camel.cluster.CamelClusterService;
+import org.apache.camel.cluster.CamelClusterView;
+import org.apache.camel.support.RoutePolicySupport;
+import org.apache.camel.support.cluster.ClusterServiceHelper;
+import org.apache.camel.support.cluster.ClusterServiceSelectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class for the route policies gating a route on the view of a cluster namespace.
+ * <p/>
+ * The route is not started with the context. Once the context is started and the initial delay has elapsed, and then
+ * on each leadership or membership change of the namespace, the policy evaluates whether the route should run on the
+ * local member, on a single thread so the evaluations never overlap.
+ */
+public abstract class ClusteredRoutePolicySupport extends RoutePolicySupport implements CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClusteredRoutePolicySupport.class);
+
+    private final String namespace;
+    private final Duration initialDelay;
+    private final AtomicBoolean contextStarted = new AtomicBoolean();
+    private final Listener listener = new Listener();
+    private CamelClusterService clusterService;
+    private CamelContext camelContext;
+    private ScheduledExecutorService executorService;
+    private Route route;
+    private boolean autoStartup;
+    private CamelClusterView view;
+
+    protected ClusteredRoutePolicySupport(CamelClusterService clusterService, String namespace, Duration initialDelay) {
+        this.clusterService = clusterService;
+        this.namespace = namespace;
+        this.initialDelay = initialDelay != null ? initialDelay : Duration.ZERO;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        if (this.camelContext == camelContext) {
+            return;
+        }
+        this.camelContext = camelContext;
+        this.executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, getClass().getSimpleName());
+        try {
+            camelContext.addStartupListener(listener);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    public void onInit(Route route) {
+        super.onInit(route);
+
+        this.route = route;
+        this.autoStartup = route.isAutoStartup();
+        // the route is only started once the policy allows it to run on the local member
+        route.setAutoStartup(false);
+
+        try {
+            if (clusterService == null) {
+                clusterService = ClusterServiceHelper.mandatoryLookupService(camelContext, ClusterServiceSelectors.DEFAULT_SELECTOR);
+            }
+            synchronized (this) {
+                view = clusterService.getView(namespace);
+                view.addEventListener(listener);
+            }
+        } catch (Exception e) {
+            handleException(e);
+        }
+    }
+
+    @Override
+    public void onRemove(Route route) {
+        release();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        release();
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+        }
+    }
+
+    /**
+     * Releases the cluster views used by the policy.
+     */
+    protected synchronized void release() {
+        try {
+            if (view != null) {
+                view.removeEventListener(listener);
+                clusterService.releaseView(view);
+                view = null;
+            }
+        } catch (Exception e) {
+            LOG.debug("Error releasing the cluster view of route {}. This exception is ignored.", route.getId(), e);
+        }
+    }
+
+    /**
+     * Whether the route should run on the local member, according to the view of the namespace.
+     */
+    protected abstract boolean shouldRun(CamelClusterView view) throws Exception;
+
+    /**
+     * Starts the route, which should run on the local member and is stopped or suspended.
+     */
+    protected abstract void doStartRoute(Route route, ServiceStatus status) throws Exception;
+
+    /**
+     * Stops the route, which should not run on the local member and is started or suspended.
+     */
+    protected abstract void doStopRoute(Route route, ServiceStatus status) throws Exception;
+
+    protected CamelClusterService getClusterService() {
+        return clusterService;
+    }
+
+    protected Route getRoute() {
+        return route;
+    }
+
+    /**
+     * The view of the namespace, or null if the policy is not initialized or already released.
+     */
+    protected CamelClusterView getView() {
+        return view;
+    }
+
+    /**
+     * The listener scheduling an evaluation of the route on each leadership or membership change.
+     */
+    protected CamelClusterEventListener getClusterEventListener() {
+        return listener;
+    }
+
+    protected void scheduleEvaluate(long delay) {
+        if (contextStarted.get() && isRunAllowed()) {
+            executorService.schedule(this::evaluate, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void evaluate() {
+        if (view == null || route == null || !isRunAllowed()) {
+            return;
+        }
+
+        try {
+            ServiceStatus status = camelContext.getRouteController().getRouteStatus(route.getId());
+            if (status == null) {
+                return;
+            }
+            if (shouldRun(view)) {
+                if (autoStartup && status.isStartable()) {
+                    doStartRoute(route, status);
+                }
+            } else if (status.isStoppable()) {
+                doStopRoute(route, status);
+            }
+        } catch (Exception e) {
+            handleException(e);
+        }
+    }
+
+    private final class Listener
+            implements ExtendedStartupListener, CamelClusterEventListener.Leadership, CamelClusterEventListener.Membership {
+
+        @Override
+        public void onCamelContextStarted(CamelContext context, boolean alreadyStarted) {
+            if (alreadyStarted) {
+                onContextStarted();
+            }
+        }
+
+        @Override
+        public void onCamelContextFullyStarted(CamelContext context, boolean alreadyStarted) {
+            onContextStarted();
+        }
+
+        private void onContextStarted() {
+            if (contextStarted.compareAndSet(false, true)) {
+                scheduleEvaluate(initialDelay.toMillis());
+            }
+        }
+
+        @Override
+        public void leadershipChanged(CamelClusterView view, Optional<CamelClusterMember> leader) {
+            scheduleEvaluate(0);
+        }
+
+        @Override
+        public void memberAdded(CamelClusterView view, CamelClusterMember member) {
+            scheduleEvaluate(0);
+        }
+
+        @Override
+        public void memberRemoved(CamelClusterView view, CamelClusterMember member) {
+            scheduleEvaluate(0);
+        }
+    }
+}
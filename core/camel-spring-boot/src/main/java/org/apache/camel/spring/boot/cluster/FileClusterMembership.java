@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes the members of the namespaces as heartbeat files in a directory shared by the members, typically the root
+ * of the file lock cluster service, whose views do not expose the members.
+ * <p/>
+ * Each local member of a namespace writes a file named after its id in the <tt>namespace.members</tt> directory at
+ * every heartbeat interval. The members of the namespace are the ones whose file was written within the heartbeat
+ * timeout, so a member leaving is noticed at the next heartbeat, and a member that crashed once its file expires. The
+ * timeout should exceed the clock skew between the members when the directory is on a network file system.
+ */
+public class FileClusterMembership extends ServiceSupport implements ClusterMembership, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileClusterMembership.class);
+    private static final byte[] HEARTBEAT = new byte[0];
+
+    private final Map<String, Namespace> namespaces = new ConcurrentHashMap<>();
+    private CamelContext camelContext;
+    private String root;
+    private Duration heartbeatInterval = Duration.ofSeconds(1);
+    private Duration heartbeatTimeout;
+    private ScheduledExecutorService executorService;
+
+    public FileClusterMembership() {
+    }
+
+    public FileClusterMembership(String root) {
+        this.root = root;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public String getRoot() {
+        return root;
+    }
+
+    /**
+     * The directory holding the heartbeat files, shared by the members.
+     */
+    public void setRoot(String root) {
+        this.root = root;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    /**
+     * How often the local members write their heartbeat and the members are listed, 1 second by default.
+     */
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public Duration getHeartbeatTimeout() {
+        return heartbeatTimeout != null ? heartbeatTimeout : heartbeatInterval.multipliedBy(5);
+    }
+
+    /**
+     * How long a member is still considered live after its last heartbeat, 5 heartbeat intervals by default.
+     */
+    public void setHeartbeatTimeout(Duration heartbeatTimeout) {
+        this.heartbeatTimeout = heartbeatTimeout;
+    }
+
+    @Override
+    public void join(String namespace, String memberId, Runnable listener) {
+        namespaces.computeIfAbsent(namespace, Namespace::new).join(memberId, listener);
+    }
+
+    @Override
+    public void leave(String namespace, String memberId, Runnable listener) {
+        Namespace ns = namespaces.get(namespace);
+        if (ns != null) {
+            ns.leave(memberId, listener);
+        }
+    }
+
+    @Override
+    public Set<String> getMembers(String namespace) {
+        Namespace ns = namespaces.get(namespace);
+        return ns != null ? ns.members : Collections.emptySet();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "CamelContext");
+        ObjectHelper.notNull(root, "Root");
+
+        long interval = heartbeatInterval.toMillis();
+        executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "FileClusterMembership");
+        executorService.scheduleWithFixedDelay(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+        namespaces.values().forEach(Namespace::withdraw);
+        namespaces.clear();
+    }
+
+    private void heartbeat() {
+        for (Namespace namespace : namespaces.values()) {
+            try {
+                namespace.heartbeat();
+            } catch (Exception e) {
+                LOG.warn("Error writing the heartbeat of namespace {} due to: {}. This exception is ignored.",
+                    namespace.name, e.getMessage(), e);
+            }
+        }
+    }
+
+    private final class Namespace {
+
+        private final String name;
+        private final Path directory;
+        private final Map<String, Set<Runnable>> locals = new HashMap<>();
+        private volatile Set<String> members = Collections.emptySet();
+
+        Namespace(String name) {
+            this.name = name;
+            this.directory = Paths.get(root, name + ".members");
+        }
+
+        synchronized void join(String memberId, Runnable listener) {
+            if (locals.computeIfAbsent(memberId, id -> new HashSet<>()).add(listener)) {
+                try {
+                    heartbeat();
+                } catch (IOException e) {
+                    LOG.warn("Error writing the heartbeat of member {} in namespace {} due to: {}. This exception is ignored.",
+                        memberId, name, e.getMessage(), e);
+                }
+            }
+        }
+
+        synchronized void leave(String memberId, Runnable listener) {
+            Set<Runnable> listeners = locals.get(memberId);
+            if (listeners != null && listeners.remove(listener) && listeners.isEmpty()) {
+                locals.remove(memberId);
+                delete(memberId);
+            }
+        }
+
+        synchronized void withdraw() {
+            locals.keySet().forEach(this::delete);
+            locals.clear();
+        }
+
+        synchronized void heartbeat() throws IOException {
+            Files.createDirectories(directory);
+            for (String memberId : locals.keySet()) {
+                Files.write(directory.resolve(encode(memberId)), HEARTBEAT);
+            }
+
+            Set<String> live = new HashSet<>(locals.keySet());
+            long expired = System.currentTimeMillis() - getHeartbeatTimeout().toMillis();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    try {
+                        if (Files.getLastModifiedTime(file).toMillis() >= expired) {
+                            live.add(decode(file.getFileName().toString()));
+                        }
+                    } catch (NoSuchFileException e) {
+                        // the member left meanwhile
+                    }
+                }
+            }
+
+            if (!live.equals(members)) {
+                LOG.debug("Members of namespace {} changed to {}", name, live);
+                members = Collections.unmodifiableSet(live);
+                locals.values().forEach(listeners -> listeners.forEach(Runnable::run));
+            }
+        }
+
+        private void delete(String memberId) {
+            try {
+                Files.deleteIfExists(directory.resolve(encode(memberId)));
+            } catch (IOException e) {
+                LOG.debug("Error deleting the heartbeat of member {} in namespace {}. This exception is ignored.",
+                    memberId, name, e);
+            }
+        }
+    }
+
+    private static String encode(String memberId) {
+        return URLEncoder.encode(memberId, StandardCharsets.UTF_8);
+    }
+
+    private static String decode(String fileName) {
+        return URLDecoder.decode(fileName, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.camel.Route;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.cluster.CamelClusterMember;
+import org.apache.camel.cluster.CamelClusterService;
+import org.apache.camel.cluster.CamelClusterView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A route policy running the route on a single member of the cluster, chosen by consistent hashing of the route id
+ * over the members of the namespace, so that the routes of a namespace are shared among its members. The routes are
+ * reassigned when members join or leave the namespace, and a route may briefly run on two members while it moves.
+ * <p/>
+ * Some cluster services, such as the file lock one, do not expose the members of a namespace. The members are then
+ * taken from the {@link ClusterMembership}, such as the {@link FileClusterMembership} publishing them as heartbeat
+ * files next to the locks. Without one, the route runs on the leader of its own namespace, named after the namespace
+ * and the route id, so it still runs on a single member, but the routes are not shared: the first member to start
+ * usually becomes the leader of every route.
+ */
+public class ShardedRoutePolicy extends ClusteredRoutePolicySupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardedRoutePolicy.class);
+
+    private final int virtualNodes;
+    private final ClusterMembership membership;
+    private final Runnable membershipListener = () -> scheduleEvaluate(0);
+    private String joinedMemberId;
+    private CamelClusterView routeView;
+    private Set<String> members;
+    private ConsistentHashRing ring;
+
+    public ShardedRoutePolicy(CamelClusterService clusterService, String namespace, Duration initialDelay, int virtualNodes) {
+        this(clusterService, namespace, initialDelay, virtualNodes, null);
+    }
+
+    public ShardedRoutePolicy(CamelClusterService clusterService, String namespace, Duration initialDelay, int virtualNodes,
+                              ClusterMembership membership) {
+        super(clusterService, namespace, initialDelay);
+        this.virtualNodes = virtualNodes;
+        this.membership = membership;
+    }
+
+    /**
+     * Whether the route is currently assigned to the local member.
+     */
+    public synchronized boolean isOwner() {
+        CamelClusterView view = getView();
+        return view != null && shouldRun(view);
+    }
+
+    @Override
+    protected synchronized void release() {
+        releaseRouteView();
+        leaveMembership();
+        super.release();
+    }
+
+    @Override
+    protected boolean shouldRun(CamelClusterView view) {
+        Route route = getRoute();
+        String local = view.getLocalMember().getId();
+        Set<String> ids = new HashSet<>();
+        ids.add(local);
+
+        List<CamelClusterMember> viewMembers = view.getMembers();
+        if (!viewMembers.isEmpty()) {
+            viewMembers.forEach(member -> ids.add(member.getId()));
+        } else if (membership != null) {
+            // the cluster service does not expose the members, so they are published aside
+            if (joinedMemberId == null) {
+                membership.join(getNamespace(), local, membershipListener);
+                joinedMemberId = local;
+            }
+            ids.addAll(membership.getMembers(getNamespace()));
+        } else {
+            // the cluster service does not expose the members, so the route is elected on its own
+            try {
+                if (routeView == null) {
+                    routeView = getClusterService().getView(getNamespace() + "-" + route.getId());
+                    routeView.addEventListener(getClusterEventListener());
+                }
+            } catch (Exception e) {
+                handleException(e);
+                return false;
+            }
+            return routeView.getLocalMember().isLeader();
+        }
+
+        releaseRouteView();
+
+        if (!ids.equals(members)) {
+            members = ids;
+            ring = new ConsistentHashRing(ids, virtualNodes);
+        }
+        return local.equals(ring.get(route.getId()));
+    }
+
+    @Override
+    protected void doStartRoute(Route route, ServiceStatus status) throws Exception {
+        LOG.info("Route {} assigned to the local member of namespace {}, starting it", route.getId(), getNamespace());
+        getCamelContext().getRouteController().startRoute(route.getId());
+    }
+
+    @Override
+    protected void doStopRoute(Route route, ServiceStatus status) throws Exception {
+        LOG.info("Route {} assigned to another member of namespace {}, stopping it", route.getId(), getNamespace());
+        stopRoute(route);
+    }
+
+    private void releaseRouteView() {
+        if (routeView != null) {
+            try {
+                routeView.removeEventListener(getClusterEventListener());
+                getClusterService().releaseView(routeView);
+            } catch (Exception e) {
+                LOG.debug("Error releasing the cluster view of route {}. This exception is ignored.", getRoute().getId(), e);
+            }
+            routeView = null;
+        }
+    }
+
+    private void leaveMembership() {
+        if (joinedMemberId != null) {
+            membership.leave(getNamespace(), joinedMemberId, membershipListener);
+            joinedMemberId = null;
+        }
+    }
+}
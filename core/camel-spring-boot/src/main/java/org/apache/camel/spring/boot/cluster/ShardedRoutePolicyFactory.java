@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.time.Duration;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.NamedNode;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.cluster.CamelClusterService;
+import org.apache.camel.spi.RoutePolicy;
+
+/**
+ * Attaches a {@link ShardedRoutePolicy} to the routes configured to be sharded among the cluster members.
+ */
+public class ShardedRoutePolicyFactory extends ClusteredRoutePolicyFactorySupport<ShardedRoutePolicy> {
+
+    private int virtualNodes = 100;
+    private ClusterMembership membership;
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    public void setVirtualNodes(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    public ClusterMembership getMembership() {
+        return membership;
+    }
+
+    /**
+     * Publishes the members of the namespaces when the views of the cluster service do not expose them, such as the
+     * ones of the file lock cluster service. The membership is added to the context as a service.
+     */
+    public void setMembership(ClusterMembership membership) {
+        this.membership = membership;
+    }
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+        if (membership != null && !camelContext.hasService(membership)) {
+            try {
+                camelContext.addService(membership, true, true);
+            } catch (Exception e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+        return super.createRoutePolicy(camelContext, routeId, route);
+    }
+
+    @Override
+    protected ShardedRoutePolicy newRoutePolicy(CamelClusterService clusterService, String namespace, Duration initialDelay) {
+        return new ShardedRoutePolicy(clusterService, namespace, initialDelay, virtualNodes, membership);
+    }
+}
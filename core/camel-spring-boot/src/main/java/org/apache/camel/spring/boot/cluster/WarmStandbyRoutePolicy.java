@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Route;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.cluster.CamelClusterService;
+import org.apache.camel.cluster.CamelClusterView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A route policy running the route on the leader of a namespace, keeping it warm on the other members so that it
+ * can take over quickly.
+ * <p/>
+ * The route is not started with the context, but Camel still warms it up: its endpoints, processors and producers are
+ * started and only its consumer is not. The route is started when the local member becomes the leader, and suspended
+ * rather than stopped when it loses the leadership, so only the consumer is gated by the leadership. Routes whose
+ * consumer does not support suspension are stopped instead.
+ * <p/>
+ * The time between the leadership acquisition and the first exchange consumed by the route is recorded as the
+ * failover time, and notified to the {@link FailoverListener}s.
+ */
+public class WarmStandbyRoutePolicy extends ClusteredRoutePolicySupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WarmStandbyRoutePolicy.class);
+
+    private final AtomicLong leadershipAcquiredAt = new AtomicLong();
+    private final List<FailoverListener> failoverListeners = new CopyOnWriteArrayList<>();
+    private volatile Duration failoverTime;
+
+    public WarmStandbyRoutePolicy(CamelClusterService clusterService, String namespace, Duration initialDelay) {
+        super(clusterService, namespace, initialDelay);
+    }
+
+    public void addFailoverListener(FailoverListener failoverListener) {
+        failoverListeners.add(failoverListener);
+    }
+
+    /**
+     * Whether the local member is the leader of the namespace.
+     */
+    public synchronized boolean isLeader() {
+        CamelClusterView view = getView();
+        return view != null && view.getLocalMember().isLeader();
+    }
+
+    /**
+     * The time between the last leadership acquisition and the first exchange consumed by the route afterwards, or
+     * null if the route has not consumed any exchange since the local member became the leader.
+     */
+    public Duration getFailoverTime() {
+        return failoverTime;
+    }
+
+    @Override
+    public void onExchangeBegin(Route route, Exchange exchange) {
+        // read first, so the exchanges consumed after the failover is recorded do not write
+        if (leadershipAcquiredAt.get() == 0) {
+            return;
+        }
+        long acquiredAt = leadershipAcquiredAt.getAndSet(0);
+        if (acquiredAt != 0) {
+            Duration time = Duration.ofNanos(System.nanoTime() - acquiredAt);
+            failoverTime = time;
+            LOG.debug("Route {} consumed its first exchange {} ms after the leadership acquisition", route.getId(), time.toMillis());
+            for (FailoverListener failoverListener : failoverListeners) {
+                failoverListener.onFailover(route, time);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldRun(CamelClusterView view) {
+        return view.getLocalMember().isLeader();
+    }
+
+    @Override
+    protected void doStartRoute(Route route, ServiceStatus status) throws Exception {
+        LOG.info("Leadership taken for namespace {}, {} route {}", getNamespace(), status.isSuspended() ? "resuming" : "starting", route.getId());
+        leadershipAcquiredAt.set(System.nanoTime());
+        if (status.isSuspended()) {
+            resumeRoute(route);
+        } else {
+            startRoute(route);
+        }
+    }
+
+    @Override
+    protected void doStopRoute(Route route, ServiceStatus status) throws Exception {
+        if (status.isSuspended()) {
+            // already on standby
+            return;
+        }
+        LOG.info("Leadership lost for namespace {}, putting route {} on standby", getNamespace(), route.getId());
+        leadershipAcquiredAt.set(0);
+        if (route.supportsSuspension()) {
+            suspendRoute(route);
+        } else {
+            stopRoute(route);
+        }
+    }
+
+    /**
+     * Notified when a route consumes its first exchange after the local member became the leader.
+     */
+    public interface FailoverListener {
+
+        void onFailover(Route route, Duration failoverTime);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.cluster.CamelClusterService;
+
+/**
+ * Attaches a {@link WarmStandbyRoutePolicy} to the clustered routes configured to be kept warm on the members which
+ * are not the leader.
+ */
+public class WarmStandbyRoutePolicyFactory extends ClusteredRoutePolicyFactorySupport<WarmStandbyRoutePolicy> {
+
+    private final List<WarmStandbyRoutePolicy.FailoverListener> failoverListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Adds a listener notified of the failovers of all the routes, including the ones whose policy is already created.
+     */
+    public void addFailoverListener(WarmStandbyRoutePolicy.FailoverListener failoverListener) {
+        failoverListeners.add(failoverListener);
+        getRoutePolicies().values().forEach(policy -> policy.addFailoverListener(failoverListener));
+    }
+
+    @Override
+    protected WarmStandbyRoutePolicy newRoutePolicy(CamelClusterService clusterService, String namespace, Duration initialDelay) {
+        WarmStandbyRoutePolicy policy = new WarmStandbyRoutePolicy(clusterService, namespace, initialDelay);
+        failoverListeners.forEach(policy::addFailoverListener);
+        return policy;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.spring.boot.threadpool.TimedThreadPoolExecutor.TaskTimes;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resizes the core size of the adaptive thread pools periodically, between the pool size and the max pool size of
+ * their profile.
+ * <p/>
+ * On each interval, the throughput of a pool is measured from its completed tasks. The time a task waits in the queue
+ * and is executed is measured per task by the {@link TimedThreadPoolExecutor}s of the {@link CamelThreadPoolFactory},
+ * and averaged over the tasks of the interval. The required core size is then the number of threads needed to execute
+ * the tasks at the rate they arrive, plus the threads needed to drain the queued tasks within one interval, and at
+ * least one more thread while the tasks wait longer than they are executed. A pool grows to the required size at
+ * once, but only shrinks by half the gap per interval to avoid oscillating. The pools whose tasks are not timed fall
+ * back to Little's law, estimating the execution time as the number of active threads divided by the throughput, and
+ * the wait time as the queue size divided by the throughput.
+ * <p/>
+ * Only the core size is resized: the max pool size of the profile is the ceiling set by the user, and the executor
+ * only grows past its core size once its queue is full, so the core size is what controls the number of threads while
+ * tasks are queued.
+ */
+public class AdaptiveThreadPoolController extends ServiceSupport implements CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveThreadPoolController.class);
+
+    private final List<AdaptiveThreadPool> pools = new CopyOnWriteArrayList<>();
+    private final List<Consumer<AdaptiveThreadPool>> listeners = new CopyOnWriteArrayList<>();
+    private final long interval;
+    private CamelContext camelContext;
+    private ScheduledExecutorService executorService;
+
+    public AdaptiveThreadPoolController(long interval) {
+        this.interval = interval;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * The adaptive thread pools currently controlled.
+     */
+    public Collection<AdaptiveThreadPool> getPools() {
+        return Collections.unmodifiableList(pools);
+    }
+
+    /**
+     * Adds a listener notified of each adaptive thread pool added to the controller.
+     */
+    public void addListener(Consumer<AdaptiveThreadPool> listener) {
+        listeners.add(listener);
+        pools.forEach(listener);
+    }
+
+    /**
+     * Adds a thread pool to control, whose core size is kept between the given bounds.
+     */
+    public AdaptiveThreadPool addPool(String name, String profileId, ThreadPoolExecutor executor, int min, int max) {
+        AdaptiveThreadPool pool = new AdaptiveThreadPool(name, profileId, executor, min, max);
+        pools.add(pool);
+        listeners.forEach(l -> l.accept(pool));
+        return pool;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        executorService = camelContext.getExecutorServiceManager()
+                .newSingleThreadScheduledExecutor(this, "AdaptiveThreadPoolController");
+        executorService.scheduleWithFixedDelay(this::adapt, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+    }
+
+    void adapt() {
+        for (AdaptiveThreadPool pool : pools) {
+            if (pool.executor.isShutdown()) {
+                pools.remove(pool);
+                continue;
+            }
+            try {
+                pool.adapt(interval);
+            } catch (Exception e) {
+                LOG.warn("Error adapting thread pool {}. This exception is ignored.", pool.name, e);
+            }
+        }
+    }
+
+    /**
+     * A thread pool controlled by the {@link AdaptiveThreadPoolController}, with the last decision taken for it.
+     */
+    public static final class AdaptiveThreadPool {
+
+        private final String name;
+        private final String profileId;
+        private final ThreadPoolExecutor executor;
+        private final int min;
+        private final int max;
+        private long lastCompleted;
+        private int lastQueueSize;
+        private double[] lastExecuteTimes = new double[2];
+        private double[] lastWaitTimes = new double[2];
+        private volatile double throughput;
+        private volatile long queueWaitTime;
+        private volatile int requiredPoolSize;
+        private volatile long resizes;
+
+        AdaptiveThreadPool(String name, String profileId, ThreadPoolExecutor executor, int min, int max) {
+            this.name = name;
+            this.profileId = profileId;
+            this.executor = executor;
+            this.min = Math.max(1, min);
+            this.max = Math.max(this.min, max);
+            this.requiredPoolSize = executor.getCorePoolSize();
+        }
+
+        void adapt(long interval) {
+            long completed = executor.getCompletedTaskCount();
+            int queueSize = executor.getQueue().size();
+            int active = executor.getActiveCount();
+            double seconds = interval / 1000d;
+
+            // tasks per second completed, and arriving including the growth of the queue
+            double completionRate = (completed - lastCompleted) / seconds;
+            double arrivalRate = Math.max(0, completionRate + (queueSize - lastQueueSize) / seconds);
+            lastCompleted = completed;
+            lastQueueSize = queueSize;
+            throughput = completionRate;
+
+            // the average times in seconds of the tasks of the interval, measured or estimated from Little's law
+            double executionTime;
+            double waitTime;
+            if (executor instanceof TimedThreadPoolExecutor) {
+                TimedThreadPoolExecutor timed = (TimedThreadPoolExecutor) executor;
+                executionTime = average(timed.getExecuteTimes(), lastExecuteTimes);
+                waitTime = average(timed.getWaitTimes(), lastWaitTimes);
+                lastExecuteTimes = snapshot(timed.getExecuteTimes());
+                lastWaitTimes = snapshot(timed.getWaitTimes());
+            } else {
+                executionTime = completionRate > 0 ? active / completionRate : 0;
+                waitTime = completionRate > 0 ? queueSize / completionRate : 0;
+            }
+            queueWaitTime = (long) (waitTime * 1000);
+
+            int required;
+            if (completionRate > 0 && executionTime > 0) {
+                required = (int) Math.ceil(arrivalRate * executionTime + queueSize * executionTime / seconds);
+                if (waitTime > executionTime) {
+                    // the tasks wait longer than they run, so the threads are the bottleneck
+                    required = Math.max(required, executor.getCorePoolSize() + 1);
+                }
+            } else {
+                // nothing completed, so grow while tasks are waiting
+                required = queueSize > 0 ? executor.getCorePoolSize() + 1 : active;
+            }
+            required = Math.min(max, Math.max(min, required));
+            requiredPoolSize = required;
+
+            int core = executor.getCorePoolSize();
+            int target = required >= core ? required : core - Math.max(1, (core - required) / 2);
+            // the core size cannot exceed the maximum size of the executor
+            target = Math.min(target, executor.getMaximumPoolSize());
+            if (target != core) {
+                LOG.debug("Resizing thread pool {} from {} to {} core threads (throughput: {}/s, queue: {}, wait: {} ms)",
+                        name, core, target, completionRate, queueSize, queueWaitTime);
+                executor.setCorePoolSize(target);
+                resizes++;
+            }
+        }
+
+        private static double[] snapshot(TaskTimes times) {
+            return new double[] { times.getCount(), times.getTotalTime(TimeUnit.SECONDS) };
+        }
+
+        private static double average(TaskTimes times, double[] last) {
+            double count = times.getCount() - last[0];
+            return count > 0 ? (times.getTotalTime(TimeUnit.SECONDS) - last[1]) / count : 0;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getProfileId() {
+            return profileId;
+        }
+
+        public ThreadPoolExecutor getExecutor() {
+            return executor;
+        }
+
+        /**
+         * The tasks completed per second during the last interval.
+         */
+        public double getThroughput() {
+            return throughput;
+        }
+
+        /**
+         * The average time in millis the tasks started during the last interval waited in the queue, or the time the
+         * queued tasks are estimated to wait from the queue size and the throughput when the tasks are not timed.
+         */
+        public long getQueueWaitTime() {
+            return queueWaitTime;
+        }
+
+        /**
+         * The core size required by the last interval, within the bounds of the pool.
+         */
+        public int getRequiredPoolSize() {
+            return requiredPoolSize;
+        }
+
+        /**
+         * The number of times the core size has been changed.
+         */
+        public long getResizes() {
+            return resizes;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.threadpool.AdaptiveThreadPoolController.AdaptiveThreadPool;
+
+/**
+ * A {@link MeterBinder} exposing the decisions of the {@link AdaptiveThreadPoolController} for each adaptive thread
+ * pool.
+ */
+public class AdaptiveThreadPoolMetrics implements MeterBinder {
+
+    private final CamelContext camelContext;
+
+    public AdaptiveThreadPoolMetrics(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        AdaptiveThreadPoolController controller = camelContext.hasService(AdaptiveThreadPoolController.class);
+        if (controller != null) {
+            controller.addListener(pool -> bindTo(registry, pool));
+        }
+    }
+
+    private static void bindTo(MeterRegistry registry, AdaptiveThreadPool pool) {
+        Tags tags = Tags.of("name", pool.getName(), "profileId", pool.getProfileId() != null ? pool.getProfileId() : "");
+        Gauge.builder("camel.threadpool.adaptive.core.size", pool, p -> p.getExecutor().getCorePoolSize())
+                .description("The current core size of the adaptive thread pool")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("camel.threadpool.adaptive.required.size", pool, AdaptiveThreadPool::getRequiredPoolSize)
+                .description("The core size required by the adaptive thread pool on the last interval")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("camel.threadpool.adaptive.throughput", pool, AdaptiveThreadPool::getThroughput)
+                .description("The tasks completed per second by the adaptive thread pool on the last interval")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("camel.threadpool.adaptive.queue.wait", pool, AdaptiveThreadPool::getQueueWaitTime)
+                .description("The average time in millis the tasks of the adaptive thread pool waited in the queue on the last interval")
+                .tags(tags)
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("camel.threadpool.adaptive.resizes", pool, AdaptiveThreadPool::getResizes)
+                .description("The number of times the core size of the adaptive thread pool has been changed")
+                .tags(tags)
+                .register(registry);
+    }
+}
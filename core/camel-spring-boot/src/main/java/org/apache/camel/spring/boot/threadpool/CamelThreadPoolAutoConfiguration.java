@@ -16,15 +16,19 @@
  */
 package org.apache.camel.spring.boot.threadpool;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.apache.camel.CamelContext;
 import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnBean(CamelAutoConfiguration.class)
@@ -33,8 +37,11 @@ import org.springframework.context.annotation.Configuration;
 public class CamelThreadPoolAutoConfiguration {
 
     @Bean
-    public ThreadPoolProfile threadPool(CamelContext camelContext, CamelThreadPoolConfigurationProperties tp) {
+    public ThreadPoolProfile threadPool(CamelContext camelContext, CamelThreadPoolConfigurationProperties tp) throws Exception {
         if (tp.isEmpty()) {
+            if (tp.isTaskTiming()) {
+                setThreadPoolFactory(camelContext, tp, null);
+            }
             return null;
         }
 
@@ -56,11 +63,26 @@ public class CamelThreadPoolAutoConfiguration {
                     .maxQueueSize(v.getMaxQueueSize())
                     .allowCoreThreadTimeOut(v.getAllowCoreThreadTimeOut())
                     .rejectedPolicy(v.getRejectedPolicy()).build();
-            if (!tpp.isEmpty()) {
+            // the profile must be registered for the options only known by the thread pool factory to apply
+            if (!tpp.isEmpty() || v.getVirtualThreads() != null || v.getAdaptive() != null || v.getType() != null) {
                 camelContext.getExecutorServiceManager().registerThreadPoolProfile(tpp);
             }
         });
 
+        boolean virtualThreads = tp.getVirtualThreads() != null
+                || tp.getConfig().values().stream().anyMatch(v -> v.getVirtualThreads() != null);
+        boolean adaptive = Boolean.TRUE.equals(tp.getAdaptive())
+                || tp.getConfig().values().stream().anyMatch(v -> Boolean.TRUE.equals(v.getAdaptive()));
+        boolean typed = tp.getConfig().values().stream().anyMatch(v -> v.getType() != null);
+        if (virtualThreads || adaptive || typed || tp.isTaskTiming()) {
+            AdaptiveThreadPoolController controller = null;
+            if (adaptive) {
+                controller = new AdaptiveThreadPoolController(tp.getAdaptiveInterval());
+                camelContext.addService(controller);
+            }
+            setThreadPoolFactory(camelContext, tp, controller);
+        }
+
         if (!dp.isEmpty()) {
             dp.setDefaultProfile(true);
             camelContext.getExecutorServiceManager().setDefaultThreadPoolProfile(dp);
@@ -70,4 +92,34 @@ public class CamelThreadPoolAutoConfiguration {
         return dp;
     }
 
+    private static void setThreadPoolFactory(
+            CamelContext camelContext, CamelThreadPoolConfigurationProperties tp, AdaptiveThreadPoolController controller) {
+        ThreadPoolFactory factory = camelContext.getExecutorServiceManager().getThreadPoolFactory();
+        camelContext.getExecutorServiceManager().setThreadPoolFactory(
+                new CamelThreadPoolFactory(factory, tp, controller, camelContext.getExecutorServiceManager()));
+    }
+
+    @Bean
+    public CamelThreadPoolTracker camelThreadPoolTracker(CamelContext camelContext) {
+        CamelThreadPoolTracker tracker = new CamelThreadPoolTracker();
+        camelContext.addLifecycleStrategy(tracker);
+        return tracker;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    protected static class ThreadPoolMetricsConfiguration {
+
+        @Bean
+        @DependsOn("threadPool")
+        public AdaptiveThreadPoolMetrics adaptiveThreadPoolMetrics(CamelContext camelContext) {
+            return new AdaptiveThreadPoolMetrics(camelContext);
+        }
+
+        @Bean
+        public CamelThreadPoolMetrics camelThreadPoolMetrics(CamelContext camelContext, CamelThreadPoolTracker tracker) {
+            return new CamelThreadPoolMetrics(camelContext, tracker);
+        }
+    }
+
 }
@@ -63,6 +63,29 @@ public class CamelThreadPoolConfigurationProperties {
      */
     private ThreadPoolRejectedPolicy rejectedPolicy;
 
+    /**
+     * Sets whether the thread pools use virtual threads by default, one new virtual thread per task, which requires
+     * JDK 21. Regular thread pools are used on older JDKs.
+     */
+    private Boolean virtualThreads;
+
+    /**
+     * Sets whether the core size of the thread pools is adapted by default at runtime, between the pool size and the
+     * max pool size, according to their throughput and the number of queued tasks.
+     */
+    private Boolean adaptive;
+
+    /**
+     * Sets the interval in millis at which the core size of the adaptive thread pools is adapted.
+     */
+    private long adaptiveInterval = 1000;
+
+    /**
+     * Sets whether the tasks of the thread pools are timed, to measure how long they wait in the queue and how long
+     * they are executed.
+     */
+    private boolean taskTiming = true;
+
     /**
      * Adds a configuration for a specific thread pool profile (inherits default values)
      */
@@ -124,6 +147,38 @@ public class CamelThreadPoolConfigurationProperties {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public Boolean getAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(Boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public long getAdaptiveInterval() {
+        return adaptiveInterval;
+    }
+
+    public void setAdaptiveInterval(long adaptiveInterval) {
+        this.adaptiveInterval = adaptiveInterval;
+    }
+
+    public boolean isTaskTiming() {
+        return taskTiming;
+    }
+
+    public void setTaskTiming(boolean taskTiming) {
+        this.taskTiming = taskTiming;
+    }
+
     public Map<String, ThreadPoolProfileConfigurationProperties> getConfig() {
         return config;
     }
@@ -135,7 +190,7 @@ public class CamelThreadPoolConfigurationProperties {
     public boolean isEmpty() {
         return poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null
                 && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null
-                && config.isEmpty();
+                && virtualThreads == null && adaptive == null && config.isEmpty();
     }
 
     @ConfigurationProperties(prefix = "camel.threadpool.config")
@@ -183,6 +238,25 @@ public class CamelThreadPoolConfigurationProperties {
          */
         private ThreadPoolRejectedPolicy rejectedPolicy;
 
+        /**
+         * Sets whether the thread pools use virtual threads, one new virtual thread per task, which requires JDK 21.
+         * Regular thread pools are used on older JDKs.
+         */
+        private Boolean virtualThreads;
+
+        /**
+         * Sets whether the core size of the thread pools is adapted at runtime, between the pool size and the max pool
+         * size, according to their throughput and the number of queued tasks.
+         */
+        private Boolean adaptive;
+
+        /**
+         * Sets the type of the thread pools. The fork-join and work-stealing types create dedicated fork join pools
+         * whose parallelism is the pool size, executing the forked tasks in last-in-first-out and first-in-first-out
+         * order respectively. Both ignore the max pool size, queue size and rejected policy.
+         */
+        private ThreadPoolType type;
+
         public String getId() {
             return id;
         }
@@ -247,6 +321,30 @@ public class CamelThreadPoolConfigurationProperties {
             this.rejectedPolicy = rejectedPolicy;
         }
 
+        public Boolean getVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(Boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public Boolean getAdaptive() {
+            return adaptive;
+        }
+
+        public void setAdaptive(Boolean adaptive) {
+            this.adaptive = adaptive;
+        }
+
+        public ThreadPoolType getType() {
+            return type;
+        }
+
+        public void setType(ThreadPoolType type) {
+            this.type = type;
+        }
+
     }
 }
 
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolConfigurationProperties.ThreadPoolProfileConfigurationProperties;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ThreadPoolFactory} creating the thread pools according to the options of
+ * {@link CamelThreadPoolConfigurationProperties} which cannot be described by a {@link ThreadPoolProfile}, and
+ * delegating to the default factory otherwise.
+ * <p/>
+ * The thread pools of the profiles using virtual threads start a new virtual thread per task, so their pool and queue
+ * sizes do not apply. The virtual threads are named with the thread name pattern of Camel, as the regular threads
+ * are. Virtual threads require JDK 21, on older JDKs, including JDK 19 and 20 where they are a preview feature, the
+ * regular thread pools are created instead. Scheduled thread pools never use virtual threads.
+ * <p/>
+ * The thread pools of the profiles of type fork-join and work-stealing are dedicated {@link ForkJoinPool}s, whose
+ * parallelism is the pool size of the profile. The fork-join pools execute the tasks forked by a task in
+ * last-in-first-out order, as the common pool of the JVM does, while the work-stealing pools execute them in
+ * first-in-first-out order.
+ * <p/>
+ * The thread pools of the adaptive profiles are added to the {@link AdaptiveThreadPoolController}, which resizes them
+ * at runtime.
+ * <p/>
+ * Unless task timing is disabled, the regular thread pools created by the default factory are replaced by
+ * {@link TimedThreadPoolExecutor}s with the same settings, which time how long the tasks wait and are executed.
+ */
+public class CamelThreadPoolFactory implements ThreadPoolFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelThreadPoolFactory.class);
+
+    private static final Method OF_VIRTUAL;
+    private static final Method FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method factory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            factory = builder.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // on JDK 19 and 20 the methods exist, but throw UnsupportedOperationException without --enable-preview
+            factory.invoke(ofVirtual.invoke(null));
+        } catch (Exception | LinkageError e) {
+            // virtual threads are not supported by this JDK
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private final ThreadPoolFactory delegate;
+    private final CamelThreadPoolConfigurationProperties config;
+    private final AdaptiveThreadPoolController adaptiveController;
+    private final ExecutorServiceManager executorServiceManager;
+
+    public CamelThreadPoolFactory(ThreadPoolFactory delegate, CamelThreadPoolConfigurationProperties config) {
+        this(delegate, config, null, null);
+    }
+
+    public CamelThreadPoolFactory(ThreadPoolFactory delegate, CamelThreadPoolConfigurationProperties config,
+                                  AdaptiveThreadPoolController adaptiveController) {
+        this(delegate, config, adaptiveController, null);
+    }
+
+    /**
+     * @param executorServiceManager the manager resolving the names of the virtual threads with the thread name
+     *                               pattern, or null to name them after the thread pool only
+     */
+    public CamelThreadPoolFactory(ThreadPoolFactory delegate, CamelThreadPoolConfigurationProperties config,
+                                  AdaptiveThreadPoolController adaptiveController,
+                                  ExecutorServiceManager executorServiceManager) {
+        this.delegate = delegate;
+        this.config = config;
+        this.adaptiveController = adaptiveController;
+        this.executorServiceManager = executorServiceManager;
+        if (!isVirtualThreadsSupported() && isVirtualThreadsRequested()) {
+            LOG.warn("Virtual threads are not supported by JDK {}, regular thread pools are used instead",
+                    System.getProperty("java.version"));
+        }
+    }
+
+    /**
+     * Whether the JDK supports virtual threads, which is only the case when they can actually be created.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        if (isVirtualThreads(null)) {
+            return newVirtualThreadPerTaskExecutor(threadFactory);
+        }
+        return timed(delegate.newCachedThreadPool(threadFactory));
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        if (isVirtualThreads(profile.getId())) {
+            return newVirtualThreadPerTaskExecutor(threadFactory);
+        }
+        ThreadPoolType type = getType(profile.getId());
+        if (type == ThreadPoolType.FORK_JOIN || type == ThreadPoolType.WORK_STEALING) {
+            return newForkJoinPool(profile, threadFactory, type == ThreadPoolType.WORK_STEALING);
+        }
+        ExecutorService answer = timed(delegate.newThreadPool(profile, threadFactory));
+        if (adaptiveController != null && answer instanceof ThreadPoolExecutor && isAdaptive(profile.getId())) {
+            String name = threadFactory instanceof CamelThreadFactory
+                    ? ((CamelThreadFactory) threadFactory).getName() : profile.getId();
+            adaptiveController.addPool(name, profile.getId(), (ThreadPoolExecutor) answer,
+                    profile.getPoolSize(), profile.getMaxPoolSize());
+        }
+        return answer;
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        return delegate.newScheduledThreadPool(profile, threadFactory);
+    }
+
+    private ExecutorService timed(ExecutorService executor) {
+        if (!config.isTaskTiming()) {
+            return executor;
+        }
+        // only the executors of the default factory, so the ones of a custom factory keep their behavior
+        if (executor.getClass() != ThreadPoolExecutor.class && executor.getClass() != RejectableThreadPoolExecutor.class) {
+            return executor;
+        }
+        ThreadPoolExecutor threadPool = (ThreadPoolExecutor) executor;
+        if (threadPool.getPoolSize() > 0) {
+            // its threads already take tasks from the queue
+            return executor;
+        }
+        return TimedThreadPoolExecutor.of(threadPool);
+    }
+
+    private boolean isVirtualThreads(String profileId) {
+        if (!isVirtualThreadsSupported()) {
+            return false;
+        }
+        ThreadPoolProfileConfigurationProperties profile = profileId != null ? config.getConfig().get(profileId) : null;
+        if (profile != null && profile.getVirtualThreads() != null) {
+            return profile.getVirtualThreads();
+        }
+        return Boolean.TRUE.equals(config.getVirtualThreads());
+    }
+
+    private ThreadPoolType getType(String profileId) {
+        ThreadPoolProfileConfigurationProperties profile = profileId != null ? config.getConfig().get(profileId) : null;
+        return profile != null ? profile.getType() : null;
+    }
+
+    private boolean isAdaptive(String profileId) {
+        ThreadPoolProfileConfigurationProperties profile = profileId != null ? config.getConfig().get(profileId) : null;
+        if (profile != null && profile.getAdaptive() != null) {
+            return profile.getAdaptive();
+        }
+        return Boolean.TRUE.equals(config.getAdaptive());
+    }
+
+    private boolean isVirtualThreadsRequested() {
+        return Boolean.TRUE.equals(config.getVirtualThreads())
+                || config.getConfig().values().stream().anyMatch(p -> Boolean.TRUE.equals(p.getVirtualThreads()));
+    }
+
+    private ExecutorService newForkJoinPool(ThreadPoolProfile profile, ThreadFactory threadFactory, boolean asyncMode) {
+        int parallelism = profile.getPoolSize() != null && profile.getPoolSize() > 0
+                ? profile.getPoolSize() : Runtime.getRuntime().availableProcessors();
+        String name = threadFactory instanceof CamelThreadFactory
+                ? ((CamelThreadFactory) threadFactory).getName() : "Camel fork join thread";
+        AtomicLong counter = new AtomicLong();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            // same names as the regular threads, such as Camel (camel-1) thread #5 - name
+            thread.setName(executorServiceManager != null
+                    ? executorServiceManager.resolveThreadName(name) : name + " #" + counter.incrementAndGet());
+            return thread;
+        };
+        // the tasks are all submitted from outside the pool, so the async mode only matters to the tasks they fork,
+        // which are executed in first-in-first-out order as by Executors.newWorkStealingPool when it is set
+        return new ForkJoinPool(parallelism, factory, null, asyncMode);
+    }
+
+    private ExecutorService newVirtualThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        String name = threadFactory instanceof CamelThreadFactory
+                ? ((CamelThreadFactory) threadFactory).getName() : "Camel virtual thread";
+        try {
+            ThreadFactory virtualThreadFactory = (ThreadFactory) FACTORY.invoke(OF_VIRTUAL.invoke(null));
+            AtomicLong counter = new AtomicLong();
+            ThreadFactory namingThreadFactory = runnable -> {
+                Thread thread = virtualThreadFactory.newThread(runnable);
+                // same names as the regular threads, such as Camel (camel-1) thread #5 - name
+                thread.setName(executorServiceManager != null
+                        ? executorServiceManager.resolveThreadName(name) : name + " #" + counter.incrementAndGet());
+                return thread;
+            };
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, namingThreadFactory);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot create a virtual thread per task executor", e);
+        }
+    }
+}
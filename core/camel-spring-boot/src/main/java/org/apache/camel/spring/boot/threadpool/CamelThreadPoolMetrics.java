@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolTracker.TrackedThreadPool;
+import org.apache.camel.spring.boot.threadpool.TimedThreadPoolExecutor.TaskTimes;
+
+/**
+ * A {@link MeterBinder} exposing the saturation of the thread pools tracked by {@link CamelThreadPoolTracker}, tagged
+ * by thread pool id, profile id and route id. The time the tasks wait in the queue and are executed is only known for
+ * the {@link TimedThreadPoolExecutor}s.
+ */
+public class CamelThreadPoolMetrics implements MeterBinder {
+
+    private final CamelContext camelContext;
+    private final CamelThreadPoolTracker tracker;
+
+    public CamelThreadPoolMetrics(CamelContext camelContext, CamelThreadPoolTracker tracker) {
+        this.camelContext = camelContext;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<TrackedThreadPool, List<Meter>> meters = new ConcurrentHashMap<>();
+        tracker.addListener(new CamelThreadPoolTracker.Listener() {
+            @Override
+            public void onAdd(TrackedThreadPool pool) {
+                meters.put(pool, bindTo(registry, pool));
+            }
+
+            @Override
+            public void onRemove(TrackedThreadPool pool) {
+                List<Meter> removed = meters.remove(pool);
+                if (removed != null) {
+                    removed.forEach(registry::remove);
+                }
+            }
+        });
+    }
+
+    private List<Meter> bindTo(MeterRegistry registry, TrackedThreadPool pool) {
+        Tags tags = Tags.of("camelContext", camelContext.getName(), "name", pool.getId(),
+                "profileId", pool.getProfileId() != null ? pool.getProfileId() : "",
+                "routeId", pool.getRouteId() != null ? pool.getRouteId() : "");
+        ThreadPoolExecutor executor = pool.getExecutor();
+        List<Meter> meters = new ArrayList<>(List.of(
+                Gauge.builder("camel.threadpool.active", executor, ThreadPoolExecutor::getActiveCount)
+                        .description("The approximate number of threads actively executing tasks")
+                        .tags(tags).register(registry),
+                Gauge.builder("camel.threadpool.queued", executor, e -> e.getQueue().size())
+                        .description("The number of tasks queued for execution")
+                        .tags(tags).register(registry),
+                Gauge.builder("camel.threadpool.queue.remaining", executor, e -> e.getQueue().remainingCapacity())
+                        .description("The number of additional tasks the queue can accept")
+                        .tags(tags).register(registry),
+                Gauge.builder("camel.threadpool.pool.size", executor, ThreadPoolExecutor::getPoolSize)
+                        .description("The current number of threads in the pool")
+                        .tags(tags).register(registry),
+                Gauge.builder("camel.threadpool.pool.core", executor, ThreadPoolExecutor::getCorePoolSize)
+                        .description("The core number of threads of the pool")
+                        .tags(tags).register(registry),
+                Gauge.builder("camel.threadpool.pool.max", executor, ThreadPoolExecutor::getMaximumPoolSize)
+                        .description("The maximum allowed number of threads in the pool")
+                        .tags(tags).register(registry),
+                FunctionCounter.builder("camel.threadpool.completed", executor, ThreadPoolExecutor::getCompletedTaskCount)
+                        .description("The approximate total number of tasks that have completed execution")
+                        .tags(tags).register(registry),
+                FunctionCounter.builder("camel.threadpool.rejected", pool, TrackedThreadPool::getRejectedCount)
+                        .description("The number of tasks rejected by the thread pool")
+                        .tags(tags).register(registry)));
+        if (executor instanceof TimedThreadPoolExecutor) {
+            TimedThreadPoolExecutor timed = (TimedThreadPoolExecutor) executor;
+            meters.add(FunctionTimer.builder("camel.threadpool.task.wait", timed.getWaitTimes(),
+                    TaskTimes::getCount, t -> t.getTotalTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                    .description("The time the tasks waited in the queue before being executed")
+                    .tags(tags).register(registry));
+            meters.add(FunctionTimer.builder("camel.threadpool.task.execute", timed.getExecuteTimes(),
+                    TaskTimes::getCount, t -> t.getTotalTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                    .description("The time the tasks took to execute")
+                    .tags(tags).register(registry));
+        }
+        return meters;
+    }
+}
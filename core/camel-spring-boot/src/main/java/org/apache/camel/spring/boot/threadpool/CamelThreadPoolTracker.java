@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.support.LifecycleStrategySupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the thread pools created by the {@link org.apache.camel.spi.ExecutorServiceManager} while they are
+ * alive, and counts the tasks they reject.
+ */
+public class CamelThreadPoolTracker extends LifecycleStrategySupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelThreadPoolTracker.class);
+
+    private final Map<ThreadPoolExecutor, TrackedThreadPool> pools = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Notified of the thread pools added and removed.
+     */
+    public interface Listener {
+
+        void onAdd(TrackedThreadPool pool);
+
+        void onRemove(TrackedThreadPool pool);
+    }
+
+    /**
+     * The thread pools currently alive.
+     */
+    public Collection<TrackedThreadPool> getPools() {
+        return Collections.unmodifiableCollection(pools.values());
+    }
+
+    /**
+     * Adds a listener, which is notified of the thread pools already alive.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+        pools.values().forEach(listener::onAdd);
+    }
+
+    @Override
+    public void onThreadPoolAdd(
+            CamelContext camelContext, ThreadPoolExecutor threadPool, String id, String sourceId, String routeId,
+            String threadPoolProfileId) {
+        TrackedThreadPool pool = new TrackedThreadPool(threadPool, id, sourceId, routeId, threadPoolProfileId);
+        // count the rejected tasks, while keeping the rejection policy of the pool
+        RejectedExecutionHandler handler = threadPool.getRejectedExecutionHandler();
+        threadPool.setRejectedExecutionHandler((r, executor) -> {
+            pool.rejected.increment();
+            LOG.debug("Thread pool {} rejected task {}", id, r);
+            handler.rejectedExecution(r, executor);
+        });
+        pools.put(threadPool, pool);
+        listeners.forEach(l -> l.onAdd(pool));
+    }
+
+    @Override
+    public void onThreadPoolRemove(CamelContext camelContext, ThreadPoolExecutor threadPool) {
+        TrackedThreadPool pool = pools.remove(threadPool);
+        if (pool != null) {
+            listeners.forEach(l -> l.onRemove(pool));
+        }
+    }
+
+    /**
+     * A thread pool created by the {@link org.apache.camel.spi.ExecutorServiceManager}.
+     */
+    public static final class TrackedThreadPool {
+
+        private final ThreadPoolExecutor executor;
+        private final String id;
+        private final String sourceId;
+        private final String routeId;
+        private final String profileId;
+        private final LongAdder rejected = new LongAdder();
+
+        TrackedThreadPool(ThreadPoolExecutor executor, String id, String sourceId, String routeId, String profileId) {
+            this.executor = executor;
+            this.id = id;
+            this.sourceId = sourceId;
+            this.routeId = routeId;
+            this.profileId = profileId;
+        }
+
+        public ThreadPoolExecutor getExecutor() {
+            return executor;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getSourceId() {
+            return sourceId;
+        }
+
+        public String getRouteId() {
+            return routeId;
+        }
+
+        public String getProfileId() {
+            return profileId;
+        }
+
+        /**
+         * The number of tasks rejected by the thread pool.
+         */
+        public long getRejectedCount() {
+            return rejected.sum();
+        }
+
+        /**
+         * The ratio of the active threads to the maximum pool size.
+         */
+        public double getUtilization() {
+            int max = executor.getMaximumPoolSize();
+            return max > 0 ? (double) executor.getActiveCount() / max : 0;
+        }
+    }
+}
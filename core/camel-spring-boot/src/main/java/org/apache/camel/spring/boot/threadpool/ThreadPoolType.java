@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+/**
+ * The type of the thread pools created for a thread pool profile.
+ */
+public enum ThreadPoolType {
+
+    /**
+     * A thread pool executor with a work queue, as described by the thread pool profile.
+     */
+    THREAD_POOL,
+
+    /**
+     * A dedicated fork join pool, whose parallelism is the pool size, which executes the tasks forked by a task in
+     * last-in-first-out order, as the common fork join pool of the JVM does. Only suited to CPU-bound tasks.
+     */
+    FORK_JOIN,
+
+    /**
+     * A dedicated fork join pool, whose parallelism is the pool size, with a queue per worker thread from which idle
+     * workers steal tasks. The tasks are submitted from outside the pool, so they are spread over the submission
+     * queues and executed in first-in-first-out order.
+     */
+    WORK_STEALING
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.util.concurrent.Rejectable;
+import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
+
+/**
+ * A thread pool executor timing how long its tasks wait in the queue and how long they are executed.
+ * <p/>
+ * The tasks are wrapped when submitted, to record the time they were submitted at. The tasks run by the caller when
+ * rejected are not timed, as they are not executed by the pool.
+ */
+public class TimedThreadPoolExecutor extends RejectableThreadPoolExecutor {
+
+    private final TaskTimes waitTimes = new TaskTimes();
+    private final TaskTimes executeTimes = new TaskTimes();
+
+    public TimedThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                   BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory,
+                                   RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+    }
+
+    /**
+     * Creates a timed executor with the same settings and queue as the given one, which must not have started any
+     * thread yet, and is shut down as its queue is handed over.
+     */
+    public static TimedThreadPoolExecutor of(ThreadPoolExecutor executor) {
+        TimedThreadPoolExecutor answer = new TimedThreadPoolExecutor(
+                executor.getCorePoolSize(), executor.getMaximumPoolSize(),
+                executor.getKeepAliveTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS,
+                executor.getQueue(), executor.getThreadFactory(), executor.getRejectedExecutionHandler());
+        answer.allowCoreThreadTimeOut(executor.allowsCoreThreadTimeOut());
+        executor.shutdown();
+        return answer;
+    }
+
+    /**
+     * The times the tasks waited in the queue, from their submission to the start of their execution.
+     */
+    public TaskTimes getWaitTimes() {
+        return waitTimes;
+    }
+
+    /**
+     * The times the tasks were executed.
+     */
+    public TaskTimes getExecuteTimes() {
+        return executeTimes;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        super.execute(new TimedTask(Objects.requireNonNull(command)));
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        if (r instanceof TimedTask) {
+            TimedTask task = (TimedTask) r;
+            task.started = System.nanoTime();
+            waitTimes.record(task.started - task.submitted);
+        }
+        super.beforeExecute(t, r);
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
+        if (r instanceof TimedTask) {
+            executeTimes.record(System.nanoTime() - ((TimedTask) r).started);
+        }
+    }
+
+    /**
+     * The number and total duration of the tasks timed.
+     */
+    public static final class TaskTimes {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getTotalTime(TimeUnit unit) {
+            return (double) totalNanos.sum() / unit.toNanos(1);
+        }
+    }
+
+    private static final class TimedTask implements Runnable, Rejectable {
+
+        private final Runnable task;
+        private final long submitted = System.nanoTime();
+        private long started;
+
+        TimedTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public void reject() {
+            // the rejection policies of Camel notify the tasks they reject
+            if (task instanceof Rejectable) {
+                ((Rejectable) task).reject();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+}
@@ -42,11 +42,17 @@ public final class CamelPropertiesHelper {
         ObjectHelper.notNull(source, "source");
         ObjectHelper.notNull(target, "target");
 
-        CamelPropertiesHelper.setCamelProperties(
-            camelContext,
-            target,
-            source instanceof Map ? (Map)source : IntrospectionSupport.getNonNullProperties(source),
-            false);
+        Map<String, Object> properties;
+        if (source instanceof Map) {
+            properties = (Map) source;
+        } else if (source instanceof NonNullPropertiesProvider) {
+            // generated configurations provide their options without reflection
+            properties = ((NonNullPropertiesProvider) source).nonNullProperties();
+        } else {
+            properties = IntrospectionSupport.getNonNullProperties(source);
+        }
+
+        CamelPropertiesHelper.setCamelProperties(camelContext, target, properties, false);
     }
 
     /**
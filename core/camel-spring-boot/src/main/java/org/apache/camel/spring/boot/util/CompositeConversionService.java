@@ -17,67 +17,135 @@
 package org.apache.camel.spring.boot.util;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.core.convert.ConversionException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
+/**
+ * A {@link ConversionService} delegating to the first of a list of conversion services able to convert between the
+ * source and target types.
+ * <p>
+ * The delegate able to convert each pair of types is remembered, so it is not looked up again on every conversion.
+ * Pairs no delegate can convert are not remembered, so a converter added to a delegate later is found, but
+ * {@link #clearCache()} must be called when a converter added later to a delegate should take precedence over one of
+ * a following delegate already used. Like the converter cache of Spring's {@code GenericConversionService}, the
+ * remembered delegates are softly referenced so they are bounded by the available memory.
+ * <p>
+ * The Camel type converter does not use this class, as {@code SpringTypeConverter} already remembers the conversion
+ * service able to convert each pair of types itself.
+ */
 public class CompositeConversionService implements ConversionService {
+    // marker for source and target types no delegate can convert between
+    private static final int NO_DELEGATE = -1;
+
     private final List<ConversionService> delegates;
+    // index of the first delegate able to convert between the given source and target types
+    private final Map<RouteKey, Integer> routes;
 
     public CompositeConversionService(List<ConversionService> delegates) {
         this.delegates = delegates;
+        this.routes = new ConcurrentReferenceHashMap<>();
+    }
+
+    /**
+     * Discards the remembered delegates, so they are looked up again on next conversion.
+     */
+    public void clearCache() {
+        routes.clear();
     }
 
     @Override
     public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
-        for (ConversionService service : this.delegates) {
-            if (service.canConvert(sourceType, targetType)) {
-                return true;
-            }
-        }
-        return false;
+        // as GenericConversionService does, so both overloads share the same routes
+        return canConvert(sourceType != null ? TypeDescriptor.valueOf(sourceType) : null,
+                TypeDescriptor.valueOf(targetType));
     }
 
     @Override
     public boolean canConvert(TypeDescriptor sourceType, TypeDescriptor targetType) {
-        for (ConversionService service : this.delegates) {
-            if (service.canConvert(sourceType, targetType)) {
-                return true;
-            }
-        }
-        return false;
+        return route(sourceType, targetType) != NO_DELEGATE;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T convert(Object source, Class<T> targetType) {
-        for (int i = 0; i < this.delegates.size() - 1; i++) {
+        return (T) convert(source, TypeDescriptor.forObject(source), TypeDescriptor.valueOf(targetType));
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        final int last = this.delegates.size() - 1;
+        final int route = route(sourceType, targetType);
+
+        if (route != NO_DELEGATE && route < last) {
             try {
-                ConversionService delegate = this.delegates.get(i);
-                if (delegate.canConvert(source.getClass(), targetType)) {
-                    return delegate.convert(source, targetType);
-                }
+                return this.delegates.get(route).convert(source, sourceType, targetType);
             } catch (ConversionException e) {
                 // ignored
             }
+
+            // the conversion may fail for specific values, so fall back to the next delegates
+            for (int i = route + 1; i < last; i++) {
+                try {
+                    ConversionService delegate = this.delegates.get(i);
+                    if (delegate.canConvert(sourceType, targetType)) {
+                        return delegate.convert(source, sourceType, targetType);
+                    }
+                } catch (ConversionException e) {
+                    // ignored
+                }
+            }
         }
 
-        return this.delegates.get(this.delegates.size() - 1).convert(source, targetType);
+        return this.delegates.get(last).convert(source, sourceType, targetType);
     }
 
-    @Override
-    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
-        for (int i = 0; i < this.delegates.size() - 1; i++) {
-            try {
-                ConversionService delegate = this.delegates.get(i);
-                if (delegate.canConvert(sourceType, targetType)) {
-                    return delegate.convert(source, sourceType, targetType);
-                }
-            } catch (ConversionException e) {
-                // ignored
+    private int route(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        RouteKey key = new RouteKey(sourceType, targetType);
+        Integer answer = routes.get(key);
+        if (answer != null) {
+            return answer;
+        }
+
+        for (int i = 0; i < this.delegates.size(); i++) {
+            if (this.delegates.get(i).canConvert(sourceType, targetType)) {
+                routes.put(key, i);
+                return i;
             }
         }
 
-        return this.delegates.get(this.delegates.size() - 1).convert(source, sourceType, targetType);
+        // not remembered as a converter may be added to a delegate later
+        return NO_DELEGATE;
+    }
+
+    private static final class RouteKey {
+        private final TypeDescriptor sourceType;
+        private final TypeDescriptor targetType;
+
+        RouteKey(TypeDescriptor sourceType, TypeDescriptor targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RouteKey)) {
+                return false;
+            }
+            RouteKey that = (RouteKey) o;
+            return Objects.equals(sourceType, that.sourceType) && Objects.equals(targetType, that.targetType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(sourceType) + Objects.hashCode(targetType);
+        }
     }
 }
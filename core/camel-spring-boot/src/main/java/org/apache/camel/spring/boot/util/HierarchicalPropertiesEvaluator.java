@@ -16,15 +16,36 @@
  */
 package org.apache.camel.spring.boot.util;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
 
 public final class HierarchicalPropertiesEvaluator {
 
+    // The enabled flags are evaluated by every generated component, data format and language
+    // customizer and by every hierarchical condition, so the resolved flags are memoized
+    // per environment as binding them is costly. There are only a few environments, so they are
+    // kept in a copy-on-write array which is scanned without locking, and the environments are
+    // only weakly referenced, not even strongly through their property sources, so they can be
+    // collected.
+    //
+    // The flags are memoized by their full key rather than in a trie of their prefixes, as the
+    // hierarchies given by the callers are not nested by their keys, such as camel.component.customizer
+    // and camel.component.foo.customizer, so the levels of a trie would not share any binding and
+    // its leaves would be the same lookups by full key.
+    private static volatile Memo[] memos = new Memo[0];
+
     private HierarchicalPropertiesEvaluator() {
     }
 
@@ -83,9 +104,150 @@ public final class HierarchicalPropertiesEvaluator {
         return answer;
     }
 
+    /**
+     * Discards the memoized "enabled" flags of the given environment, so they are resolved again on next evaluation.
+     * <p>
+     * The flags are discarded automatically when property sources are added, removed or replaced, but this must be
+     * called when the content of an existing property source is changed.
+     *
+     * @param environment the environment
+     */
+    public static void invalidate(Environment environment) {
+        synchronized (HierarchicalPropertiesEvaluator.class) {
+            List<Memo> answer = new ArrayList<>(memos.length);
+            for (Memo memo : memos) {
+                Environment env = memo.environment.get();
+                if (env != null && env != environment) {
+                    answer.add(memo);
+                }
+            }
+            memos = answer.toArray(new Memo[0]);
+        }
+    }
+
+    /**
+     * Discards the memoized "enabled" flags of all environments.
+     */
+    public static void invalidateAll() {
+        synchronized (HierarchicalPropertiesEvaluator.class) {
+            memos = new Memo[0];
+        }
+    }
+
     private static boolean isEnabled(Environment environment, String prefix, boolean defaultValue) {
         String property = prefix.endsWith(".") ? prefix + "enabled" : prefix + ".enabled";
-        Binder binder = Binder.get(environment);
-        return binder.bind(property, Bindable.of(Boolean.class)).orElse(defaultValue);
+        if (!(environment instanceof ConfigurableEnvironment)) {
+            Binder binder = Binder.get(environment);
+            return binder.bind(property, Bindable.of(Boolean.class)).orElse(defaultValue);
+        }
+
+        Boolean answer = enabledFlags((ConfigurableEnvironment) environment).get(environment, property);
+        return answer != null ? answer : defaultValue;
+    }
+
+    private static EnabledFlags enabledFlags(ConfigurableEnvironment environment) {
+        MutablePropertySources sources = environment.getPropertySources();
+
+        // the flags are read without locking as long as they are resolved from the
+        // current property sources
+        Memo memo = memo(environment);
+        EnabledFlags flags = memo.flags;
+        if (flags != null && flags.isResolvedFrom(sources)) {
+            return flags;
+        }
+
+        // locked per environment, so concurrent misses do not resolve the flags
+        // again and overwrite each other
+        synchronized (memo) {
+            flags = memo.flags;
+            if (flags == null || !flags.isResolvedFrom(sources)) {
+                // property sources have been added, removed or replaced since the
+                // flags were resolved so they must be resolved again
+                flags = new EnabledFlags(sources);
+                memo.flags = flags;
+            }
+            return flags;
+        }
+    }
+
+    private static Memo memo(Environment environment) {
+        for (Memo memo : memos) {
+            if (memo.environment.get() == environment) {
+                return memo;
+            }
+        }
+
+        synchronized (HierarchicalPropertiesEvaluator.class) {
+            List<Memo> answer = new ArrayList<>(memos.length + 1);
+            for (Memo memo : memos) {
+                Environment env = memo.environment.get();
+                if (env == environment) {
+                    return memo;
+                }
+                // the collected environments are discarded
+                if (env != null) {
+                    answer.add(memo);
+                }
+            }
+            Memo memo = new Memo(environment);
+            answer.add(memo);
+            memos = answer.toArray(new Memo[0]);
+            return memo;
+        }
+    }
+
+    static boolean isCached(Environment environment) {
+        for (Memo memo : memos) {
+            if (memo.environment.get() == environment) {
+                return memo.flags != null;
+            }
+        }
+        return false;
+    }
+
+    private static final class Memo {
+        private final WeakReference<Environment> environment;
+        private volatile EnabledFlags flags;
+
+        Memo(Environment environment) {
+            this.environment = new WeakReference<>(environment);
+        }
+    }
+
+    private static final class EnabledFlags {
+        // sentinel for keys which are not set as ConcurrentHashMap does not accept null values
+        private static final Object NOT_SET = new Object();
+
+        // the property sources may reference the environment, so they are only weakly referenced
+        private final WeakReference<MutablePropertySources> propertySources;
+        private final List<WeakReference<PropertySource<?>>> sources = new ArrayList<>();
+        private final Map<String, Object> flags = new ConcurrentHashMap<>();
+
+        EnabledFlags(MutablePropertySources sources) {
+            this.propertySources = new WeakReference<>(sources);
+            sources.forEach(source -> this.sources.add(new WeakReference<>(source)));
+        }
+
+        boolean isResolvedFrom(MutablePropertySources sources) {
+            // property sources are equal by name, so compare instances to detect replaced sources
+            if (this.propertySources.get() != sources || this.sources.size() != sources.size()) {
+                return false;
+            }
+            int i = 0;
+            for (PropertySource<?> source : sources) {
+                if (this.sources.get(i++).get() != source) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Boolean get(Environment environment, String property) {
+            Object answer = flags.computeIfAbsent(
+                property,
+                key -> Binder.get(environment).bind(key, Bindable.of(Boolean.class)).map(Object.class::cast).orElse(NOT_SET));
+
+            return answer != NOT_SET ? (Boolean) answer : null;
+        }
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import org.apache.camel.spring.boot.FilePropertySourceReloadedEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+/**
+ * Discards the "enabled" flags memoized by {@link HierarchicalPropertiesEvaluator} when the application context is
+ * refreshed or closed, or when the environment is changed by Spring Cloud or reloaded from files.
+ */
+public class HierarchicalPropertiesInvalidationListener implements ApplicationListener<ApplicationEvent> {
+
+    // Spring Cloud is an optional dependency so the event is matched by name
+    private static final String ENVIRONMENT_CHANGE_EVENT = "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ContextRefreshedEvent || event instanceof ContextClosedEvent) {
+            HierarchicalPropertiesEvaluator.invalidate(((ApplicationContext) event.getSource()).getEnvironment());
+        } else if (ENVIRONMENT_CHANGE_EVENT.equals(event.getClass().getName())) {
+            if (event.getSource() instanceof ApplicationContext) {
+                HierarchicalPropertiesEvaluator.invalidate(((ApplicationContext) event.getSource()).getEnvironment());
+            } else {
+                HierarchicalPropertiesEvaluator.invalidateAll();
+            }
+        } else if (event instanceof FilePropertySourceReloadedEvent) {
+            HierarchicalPropertiesEvaluator.invalidateAll();
+        }
+    }
+}
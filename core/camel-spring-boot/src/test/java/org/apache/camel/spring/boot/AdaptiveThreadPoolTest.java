@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.threadpool.AdaptiveThreadPoolController;
+import org.apache.camel.spring.boot.threadpool.AdaptiveThreadPoolController.AdaptiveThreadPool;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolAutoConfiguration;
+import org.apache.camel.spring.boot.threadpool.TimedThreadPoolExecutor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import static org.awaitility.Awaitility.await;
+
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelThreadPoolAutoConfiguration.class
+    },
+    properties = {
+        "camel.threadpool.adaptive-interval = 100",
+        "camel.threadpool.config[adaptivePool].pool-size = 1",
+        "camel.threadpool.config[adaptivePool].max-pool-size = 8",
+        "camel.threadpool.config[adaptivePool].max-queue-size = 1000",
+        "camel.threadpool.config[adaptivePool].adaptive = true"
+    }
+)
+public class AdaptiveThreadPoolTest {
+    @Autowired
+    private CamelContext context;
+
+    @Test
+    public void testAdaptiveThreadPool() throws Exception {
+        AdaptiveThreadPoolController controller = context.hasService(AdaptiveThreadPoolController.class);
+        Assertions.assertNotNull(controller);
+
+        ExecutorService executor = context.getExecutorServiceManager().newThreadPool(this, "adaptive", "adaptivePool");
+        try {
+            Assertions.assertEquals(1, controller.getPools().size());
+            AdaptiveThreadPool pool = controller.getPools().iterator().next();
+            Assertions.assertEquals("adaptivePool", pool.getProfileId());
+            // the wait time is measured per task
+            Assertions.assertTrue(pool.getExecutor() instanceof TimedThreadPoolExecutor);
+
+            for (int i = 0; i < 200; i++) {
+                executor.execute(() -> {
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            // grows while tasks are queued
+            await().atMost(5, TimeUnit.SECONDS)
+                    .until(() -> ((ThreadPoolExecutor) executor).getCorePoolSize() > 1);
+            Assertions.assertTrue(((ThreadPoolExecutor) executor).getCorePoolSize() <= 8);
+            Assertions.assertTrue(pool.getResizes() > 0);
+            await().atMost(5, TimeUnit.SECONDS).until(() -> pool.getQueueWaitTime() > 0);
+
+            // and shrinks back once idle
+            await().atMost(10, TimeUnit.SECONDS)
+                    .until(() -> ((ThreadPoolExecutor) executor).getCorePoolSize() == 1);
+            Assertions.assertEquals(0, pool.getQueueWaitTime());
+        } finally {
+            context.getExecutorServiceManager().shutdown(executor);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BeanInjectionIndexProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldIndexAnnotatedClasses() throws IOException {
+        Path sources = Files.createDirectories(tempDir.resolve("src/org/foo"));
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+
+        Files.writeString(sources.resolve("Annotated.java"),
+            "package org.foo;\n"
+            + "public class Annotated {\n"
+            + "    @org.apache.camel.EndpointInject(\"mock:foo\")\n"
+            + "    org.apache.camel.Endpoint endpoint;\n"
+            + "    public static class Nested {\n"
+            + "        @org.apache.camel.PropertyInject(\"foo\")\n"
+            + "        public void setFoo(String foo) {\n"
+            + "        }\n"
+            + "    }\n"
+            + "}\n");
+        Files.writeString(sources.resolve("NotAnnotated.java"),
+            "package org.foo;\n"
+            + "public class NotAnnotated {\n"
+            + "}\n");
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null,
+            "-d", classes.toString(),
+            "-classpath", System.getProperty("java.class.path"),
+            "-processor", BeanInjectionIndexProcessor.class.getName(),
+            sources.resolve("Annotated.java").toString(),
+            sources.resolve("NotAnnotated.java").toString());
+        Assertions.assertEquals(0, result);
+
+        List<String> lines = Files.readAllLines(classes.resolve(BeanInjectionIndex.LOCATION));
+        Assertions.assertEquals(Arrays.asList("org.foo.Annotated", "org.foo.Annotated$Nested"), lines.subList(1, lines.size()));
+
+        // an incremental compilation of another class keeps the classes listed by the previous index
+        Files.writeString(sources.resolve("Other.java"),
+            "package org.foo;\n"
+            + "public class Other {\n"
+            + "    @org.apache.camel.Produce(\"direct:foo\")\n"
+            + "    org.apache.camel.ProducerTemplate producer;\n"
+            + "}\n");
+
+        result = compiler.run(null, null, null,
+            "-d", classes.toString(),
+            "-classpath", System.getProperty("java.class.path") + File.pathSeparator + classes,
+            "-processor", BeanInjectionIndexProcessor.class.getName(),
+            sources.resolve("Other.java").toString());
+        Assertions.assertEquals(0, result);
+
+        lines = Files.readAllLines(classes.resolve(BeanInjectionIndex.LOCATION));
+        Assertions.assertEquals(Arrays.asList("org.foo.Annotated", "org.foo.Annotated$Nested", "org.foo.Other"), lines.subList(1, lines.size()));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Consumer;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        BeanInjectionIndexTest.TestConfig.class
+    },
+    properties = {
+        "camel.springboot.bean-injection-index-enabled = true"
+    }
+)
+public class BeanInjectionIndexTest {
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    IndexedBean indexedBean;
+
+    @Autowired
+    NotIndexedBean notIndexedBean;
+
+    @Autowired
+    AwareBean awareBean;
+
+    @Autowired
+    TestEndpoint testEndpoint;
+
+    @Test
+    public void shouldOnlyIntrospectIndexedBeans() {
+        Assertions.assertNotNull(indexedBean.endpoint);
+        Assertions.assertEquals("mock://indexed", indexedBean.endpoint.getEndpointUri());
+
+        // not listed in the index so not introspected
+        Assertions.assertNull(notIndexedBean.endpoint);
+
+        // the CamelContext is injected regardless of the index
+        Assertions.assertSame(camelContext, awareBean.getCamelContext());
+
+        // endpoints get their uri from the bean name regardless of the index
+        Assertions.assertEquals("testEndpoint", testEndpoint.getEndpointUri());
+    }
+
+    @Configuration
+    public static class TestConfig {
+
+        @Bean
+        IndexedBean indexedBean() {
+            return new IndexedBean();
+        }
+
+        @Bean
+        NotIndexedBean notIndexedBean() {
+            return new NotIndexedBean();
+        }
+
+        @Bean
+        AwareBean awareBean() {
+            return new AwareBean();
+        }
+
+        @Bean
+        TestEndpoint testEndpoint() {
+            return new TestEndpoint();
+        }
+    }
+
+    public static class IndexedBean {
+        @EndpointInject("mock:indexed")
+        MockEndpoint endpoint;
+    }
+
+    public static class NotIndexedBean {
+        @EndpointInject("mock:not-indexed")
+        MockEndpoint endpoint;
+    }
+
+    public static class AwareBean implements CamelContextAware {
+        private CamelContext camelContext;
+
+        @Override
+        public CamelContext getCamelContext() {
+            return camelContext;
+        }
+
+        @Override
+        public void setCamelContext(CamelContext camelContext) {
+            this.camelContext = camelContext;
+        }
+    }
+
+    public static class TestEndpoint extends DefaultEndpoint {
+
+        @Override
+        public Producer createProducer() {
+            return null;
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) {
+            return null;
+        }
+    }
+}
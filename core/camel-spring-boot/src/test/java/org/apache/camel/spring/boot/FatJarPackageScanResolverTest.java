@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FatJarPackageScanResolverTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path fatJar;
+
+    @BeforeEach
+    public void createFatJar() throws IOException {
+        ByteArrayOutputStream nested = new ByteArrayOutputStream();
+        try (JarOutputStream out = new JarOutputStream(nested)) {
+            addEntry(out, "org/foo/Nested.class", new byte[0]);
+            addEntry(out, "org/foo/nested.xml", new byte[0]);
+        }
+
+        fatJar = tempDir.resolve("app.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(fatJar))) {
+            addEntry(out, "BOOT-INF/classes/org/foo/Outer.class", new byte[0]);
+            addEntry(out, "BOOT-INF/classes/org/foo/outer.xml", new byte[0]);
+            addEntry(out, "BOOT-INF/classes/org/bar/other.xml", new byte[0]);
+            addStoredEntry(out, "BOOT-INF/lib/nested.jar", nested.toByteArray());
+        }
+    }
+
+    @Test
+    public void testClassEntries() throws IOException {
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver();
+        List<String> entries = resolver.doLoadJarClassEntries(new FileInputStream(fatJar.toFile()), fatJar.toString());
+
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertTrue(entries.contains("org/foo/Outer.class"));
+        Assertions.assertTrue(entries.contains("org/foo/Nested.class"));
+
+        // the stream based scanning finds the same entries
+        Assertions.assertEquals(entries, resolver.doLoadJarClassEntries(new FileInputStream(fatJar.toFile()), fatJar.toString(), true, true));
+    }
+
+    @Test
+    public void testResourceEntries() throws IOException {
+        FatJarPackageScanResourceResolver resolver = new FatJarPackageScanResourceResolver();
+        List<String> entries = resolver.doLoadImplementationsInJar("org/foo/", new FileInputStream(fatJar.toFile()), fatJar.toString());
+
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertTrue(entries.contains("org/foo/outer.xml"));
+        Assertions.assertTrue(entries.contains("org/foo/nested.xml"));
+
+        // the stream based scanning finds the same entries
+        Assertions.assertEquals(entries, resolver.doLoadImplementationsInJar("org/foo/", new FileInputStream(fatJar.toFile()), fatJar.toString(), true, true));
+    }
+
+    @Test
+    public void testIndexRebuiltWhenJarChanges() throws IOException {
+        FatJarScanIndex index = new FatJarScanIndex();
+        FatJarScanIndex.JarEntries entries = index.get(fatJar.toString());
+        Assertions.assertSame(entries, index.get(fatJar.toString()));
+
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(fatJar))) {
+            addEntry(out, "BOOT-INF/classes/org/foo/Changed.class", new byte[0]);
+        }
+
+        FatJarScanIndex.JarEntries changed = index.get(fatJar.toString());
+        Assertions.assertNotSame(entries, changed);
+        Assertions.assertEquals(List.of("org/foo/Changed.class"), changed.getClassEntries());
+    }
+
+    @Test
+    public void testConcurrentScansShareIndex() {
+        FatJarScanIndex index = new FatJarScanIndex();
+
+        List<CompletableFuture<FatJarScanIndex.JarEntries>> futures = IntStream.range(0, 16)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> index.get(fatJar.toString())))
+            .collect(Collectors.toList());
+
+        FatJarScanIndex.JarEntries entries = index.get(fatJar.toString());
+        Assertions.assertNotNull(entries);
+        futures.forEach(future -> Assertions.assertSame(entries, future.join()));
+
+        // the indexes of other contexts are not affected
+        FatJarScanIndex other = new FatJarScanIndex();
+        FatJarScanIndex.JarEntries otherEntries = other.get(fatJar.toString());
+        index.clear();
+        Assertions.assertNotSame(entries, index.get(fatJar.toString()));
+        Assertions.assertSame(otherEntries, other.get(fatJar.toString()));
+    }
+
+    private static void addEntry(JarOutputStream out, String name, byte[] content) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        out.write(content);
+        out.closeEntry();
+    }
+
+    private static void addStoredEntry(JarOutputStream out, String name, byte[] content) throws IOException {
+        // spring-boot stores nested jars uncompressed
+        CRC32 crc = new CRC32();
+        crc.update(content);
+
+        JarEntry entry = new JarEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCrc(crc.getValue());
+
+        out.putNextEntry(entry);
+        out.write(content);
+        out.closeEntry();
+    }
+}
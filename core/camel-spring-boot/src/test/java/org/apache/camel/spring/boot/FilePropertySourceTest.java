@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+
+public class FilePropertySourceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testReload() throws Exception {
+        Files.writeString(directory.resolve("a.properties"), "foo=1\nbar=2\n");
+
+        GenericApplicationContext applicationContext = new GenericApplicationContext();
+        FilePropertySource source = new FilePropertySource("test", applicationContext, location());
+        Assertions.assertEquals("1", source.getProperty("foo"));
+        Assertions.assertEquals("2", source.getProperty("bar"));
+        Assertions.assertNull(source.getProperty("baz"));
+
+        // unchanged files are not read again
+        Assertions.assertFalse(source.reload());
+
+        Files.writeString(directory.resolve("a.properties"), "foo=11\n");
+        Files.writeString(directory.resolve("b.properties"), "baz=3\n");
+        Assertions.assertTrue(source.reload());
+        Assertions.assertEquals("11", source.getProperty("foo"));
+        Assertions.assertNull(source.getProperty("bar"));
+        Assertions.assertEquals("3", source.getProperty("baz"));
+
+        Files.delete(directory.resolve("b.properties"));
+        Assertions.assertTrue(source.reload());
+        Assertions.assertNull(source.getProperty("baz"));
+        Assertions.assertEquals(1, source.getWatchDirectories().size());
+    }
+
+    @Test
+    public void testWatcher() throws Exception {
+        Files.writeString(directory.resolve("a.properties"), "foo=1\n");
+
+        List<FilePropertySourceReloadedEvent> events = new CopyOnWriteArrayList<>();
+        GenericApplicationContext applicationContext = new GenericApplicationContext();
+        applicationContext.addApplicationListener((ApplicationListener<FilePropertySourceReloadedEvent>) events::add);
+        applicationContext.refresh();
+
+        FilePropertySource source = new FilePropertySource("test", applicationContext, location());
+        FilePropertySourceWatcher watcher = new FilePropertySourceWatcher(applicationContext, source);
+        watcher.setDebounceDelay(50);
+
+        DefaultCamelContext camelContext = new DefaultCamelContext();
+        camelContext.addService(watcher);
+        camelContext.start();
+        try {
+            Files.writeString(directory.resolve("a.properties"), "foo=2\n");
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+            while (events.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            Assertions.assertFalse(events.isEmpty(), "Should publish reloaded event");
+            Assertions.assertSame(source, events.get(0).getPropertySource());
+            Assertions.assertEquals("2", source.getProperty("foo"));
+        } finally {
+            camelContext.stop();
+            applicationContext.close();
+        }
+    }
+
+    private String location() {
+        return "file:" + directory.toAbsolutePath() + "/*.properties";
+    }
+}
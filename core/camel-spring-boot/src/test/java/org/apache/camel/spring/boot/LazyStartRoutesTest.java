@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(classes = { LazyStartRoutesTest.class, LazyStartRoutesTest.Routes.class },
+    properties = "camel.springboot.lazy-start-routes-pattern=lazy*")
+public class LazyStartRoutesTest {
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ProducerTemplate producerTemplate;
+
+    @Test
+    public void shouldStartRouteOnFirstUse() throws Exception {
+        LazyStartRoutePolicyFactory factory = null;
+        for (RoutePolicyFactory f : camelContext.getRoutePolicyFactories()) {
+            if (f instanceof LazyStartRoutePolicyFactory) {
+                factory = (LazyStartRoutePolicyFactory) f;
+            }
+        }
+        assertNotNull(factory);
+
+        assertTrue(camelContext.getRouteController().getRouteStatus("eager").isStarted());
+        assertTrue(camelContext.getRouteController().getRouteStatus("lazy-a").isStopped());
+        assertTrue(camelContext.getRouteController().getRouteStatus("lazy-b").isStopped());
+        assertTrue(camelContext.getRouteController().getRouteStatus("lazy-disabled").isStopped());
+        assertEquals("[lazy-a, lazy-b, lazy-c, lazy-d1, lazy-d2]", factory.getColdRoutes().toString());
+
+        MockEndpoint mock = camelContext.getEndpoint("mock:result", MockEndpoint.class);
+        mock.expectedBodiesReceived("Hello A", "Hello again A");
+
+        producerTemplate.sendBody("direct:a", "Hello A");
+        producerTemplate.sendBody("direct:a", "Hello again A");
+
+        mock.assertIsSatisfied();
+
+        assertTrue(camelContext.getRouteController().getRouteStatus("lazy-a").isStarted());
+        assertTrue(camelContext.getRouteController().getRouteStatus("lazy-b").isStopped());
+        assertEquals("[lazy-b, lazy-c, lazy-d1, lazy-d2]", factory.getColdRoutes().toString());
+        assertEquals(1, factory.getFirstUseStartupTimes().size());
+        assertTrue(factory.getFirstUseStartupTimes().containsKey("lazy-a"));
+        assertFalse(factory.getEventNotifier().isDisabled());
+        assertTrue(factory.getEventNotifier().isEnabled(newSendingEvent("direct:b")));
+
+        producerTemplate.sendBody("direct:b", "Hello B");
+        assertTrue(camelContext.getRouteController().getRouteStatus("lazy-b").isStarted());
+
+        // the consumer options are not part of the uri sent to
+        MockEndpoint seda = camelContext.getEndpoint("mock:seda", MockEndpoint.class);
+        seda.expectedBodiesReceived("Hello C");
+        producerTemplate.sendBody("seda:c", "Hello C");
+        seda.assertIsSatisfied();
+        assertTrue(camelContext.getRouteController().getRouteStatus("lazy-c").isStarted());
+
+        // all the routes consuming the same endpoint are started
+        MockEndpoint multiple = camelContext.getEndpoint("mock:multiple", MockEndpoint.class);
+        multiple.expectedBodiesReceivedInAnyOrder("Hello D", "Hello D");
+        producerTemplate.sendBody("seda:d?multipleConsumers=true", "Hello D");
+        multiple.assertIsSatisfied();
+        assertTrue(camelContext.getRouteController().getRouteStatus("lazy-d1").isStarted());
+        assertTrue(camelContext.getRouteController().getRouteStatus("lazy-d2").isStarted());
+
+        // the events are ignored once all the lazy routes are started
+        assertTrue(factory.getColdRoutes().isEmpty());
+        assertFalse(factory.getEventNotifier().isEnabled(newSendingEvent("direct:b")));
+    }
+
+    private CamelEvent newSendingEvent(String uri) throws Exception {
+        return camelContext.getManagementStrategy().getEventFactory()
+                .createExchangeSendingEvent(new DefaultExchange(camelContext), camelContext.getEndpoint(uri));
+    }
+
+    @Configuration
+    public static class Routes {
+
+        @Bean
+        RouteBuilder routes() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:eager").routeId("eager").to("mock:eager");
+                    from("direct:a").routeId("lazy-a").to("mock:result");
+                    from("direct:b").routeId("lazy-b").to("mock:result");
+                    from("seda:c?concurrentConsumers=5").routeId("lazy-c").to("mock:seda");
+                    from("seda:d?multipleConsumers=true").routeId("lazy-d1").to("mock:multiple");
+                    from("seda:d?multipleConsumers=true").routeId("lazy-d2").to("mock:multiple");
+                    from("direct:disabled").routeId("lazy-disabled").autoStartup(false).to("mock:result");
+                }
+            };
+        }
+    }
+}
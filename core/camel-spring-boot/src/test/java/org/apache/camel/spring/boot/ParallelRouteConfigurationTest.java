@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(classes = { ParallelRouteConfigurationTest.class, ParallelRouteConfigurationTest.Routes.class },
+    properties = "camel.springboot.parallel-route-configuration=true")
+public class ParallelRouteConfigurationTest {
+
+    static final Set<String> CONFIGURED = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ProducerTemplate producerTemplate;
+
+    @Test
+    public void shouldConfigureAllRoutes() throws Exception {
+        // the XML routes from the classpath are configured as well
+        assertEquals(5, camelContext.getRoutes().size());
+        assertEquals(4, CONFIGURED.size());
+        for (int i = 1; i <= 4; i++) {
+            assertNotNull(camelContext.getRoute("route" + i));
+        }
+
+        MockEndpoint mock = camelContext.getEndpoint("mock:result", MockEndpoint.class);
+        mock.expectedBodiesReceived("Hello 1", "Hello 4");
+
+        producerTemplate.sendBody("direct:route1", "Hello 1");
+        producerTemplate.sendBody("direct:route4", "Hello 4");
+
+        mock.assertIsSatisfied();
+    }
+
+    @Configuration
+    public static class Routes {
+
+        @Bean
+        RouteBuilder route1() {
+            return new TestRoute(1);
+        }
+
+        @Bean
+        RouteBuilder route2() {
+            return new TestRoute(2);
+        }
+
+        @Bean
+        RouteBuilder route3() {
+            return new TestRoute(3);
+        }
+
+        @Bean
+        RouteBuilder route4() {
+            return new TestRoute(4);
+        }
+    }
+
+    static class TestRoute extends RouteBuilder {
+
+        private final int number;
+
+        @EndpointInject("mock:result")
+        private MockEndpoint result;
+
+        TestRoute(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public void configure() {
+            // the bean post processor must have run before the route is configured
+            CONFIGURED.add(Thread.currentThread().getName() + "-" + number);
+            from("direct:route" + number).routeId("route" + number).to(result);
+        }
+    }
+}
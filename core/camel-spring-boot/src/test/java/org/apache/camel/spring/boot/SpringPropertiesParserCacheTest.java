@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.properties.PropertiesParser;
+import org.apache.camel.spring.boot.actuate.metrics.CamelPropertiesMeterBinder;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(classes = SpringPropertiesParserCacheTest.class, properties = {
+    "camel.springboot.placeholder-cache-enabled=true",
+    "greeting=Hello"
+})
+public class SpringPropertiesParserCacheTest {
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ConfigurableEnvironment environment;
+
+    @Autowired
+    PropertiesParser propertiesParser;
+
+    @Test
+    public void testCache() throws Exception {
+        SpringPropertiesParser parser = (SpringPropertiesParser) propertiesParser;
+        Assertions.assertTrue(parser.isCacheEnabled());
+        parser.invalidate();
+        parser.resetStatistics();
+
+        Assertions.assertEquals("Hello World", camelContext.resolvePropertyPlaceholders("{{greeting}} World"));
+        Assertions.assertEquals("Hello World", camelContext.resolvePropertyPlaceholders("{{greeting}} World"));
+        Assertions.assertEquals("none", camelContext.resolvePropertyPlaceholders("{{unknown:none}}"));
+        Assertions.assertEquals("none", camelContext.resolvePropertyPlaceholders("{{unknown:none}}"));
+        Assertions.assertEquals(2, parser.getMissCounter());
+        Assertions.assertEquals(2, parser.getHitCounter());
+        Assertions.assertTrue(parser.getResolveTime() > 0);
+
+        // changes are only seen once the cache is invalidated
+        environment.getPropertySources().addFirst(
+            new MapPropertySource("test", Collections.singletonMap("greeting", "Bye")));
+        Assertions.assertEquals("Hello World", camelContext.resolvePropertyPlaceholders("{{greeting}} World"));
+        parser.invalidate();
+        Assertions.assertEquals("Bye World", camelContext.resolvePropertyPlaceholders("{{greeting}} World"));
+    }
+
+    @Test
+    public void testRandomValuesAreNotCached() {
+        SpringPropertiesParser parser = (SpringPropertiesParser) propertiesParser;
+        parser.resetStatistics();
+
+        String first = camelContext.resolvePropertyPlaceholders("{{random.uuid}}");
+        String second = camelContext.resolvePropertyPlaceholders("{{random.uuid}}");
+        Assertions.assertNotEquals(first, second);
+        Assertions.assertEquals(0, parser.getHitCounter());
+        // the random values are still counted and timed
+        Assertions.assertEquals(2, parser.getMissCounter());
+        Assertions.assertTrue(parser.getResolveTime() > 0);
+    }
+
+    @Test
+    public void testStatisticsWithoutCache() {
+        SpringPropertiesParser parser = (SpringPropertiesParser) propertiesParser;
+        parser.setCacheEnabled(false);
+        try {
+            parser.resetStatistics();
+            Assertions.assertEquals("Hello World", camelContext.resolvePropertyPlaceholders("{{greeting}} World"));
+            Assertions.assertEquals("Hello World", camelContext.resolvePropertyPlaceholders("{{greeting}} World"));
+            Assertions.assertEquals(0, parser.getHitCounter());
+            Assertions.assertEquals(2, parser.getMissCounter());
+            Assertions.assertTrue(parser.getResolveTime() > 0);
+        } finally {
+            parser.setCacheEnabled(true);
+        }
+    }
+
+    @Test
+    public void testMeters() {
+        SpringPropertiesParser parser = (SpringPropertiesParser) propertiesParser;
+        parser.invalidate();
+        parser.resetStatistics();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new CamelPropertiesMeterBinder(camelContext, parser).bindTo(registry);
+
+        camelContext.resolvePropertyPlaceholders("{{greeting}}");
+        camelContext.resolvePropertyPlaceholders("{{greeting}}");
+
+        FunctionCounter hits = registry.get(CamelPropertiesMeterBinder.CACHE_HITS_COUNTER_NAME).functionCounter();
+        Assertions.assertEquals(1.0, hits.count());
+        FunctionTimer resolve = registry.get(CamelPropertiesMeterBinder.RESOLVE_TIMER_NAME).functionTimer();
+        Assertions.assertEquals(1.0, resolve.count());
+        Assertions.assertTrue(resolve.totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    public void testConcurrentLookups() {
+        SpringPropertiesParser parser = (SpringPropertiesParser) propertiesParser;
+
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 8)
+            .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < 5000; j++) {
+                    Assertions.assertEquals("v" + (j % 50), camelContext.resolvePropertyPlaceholders("{{key" + (j % 50) + ":v" + (j % 50) + "}}"));
+                    if (j % 1000 == 0) {
+                        parser.invalidate();
+                    }
+                }
+            }))
+            .collect(Collectors.toList());
+
+        futures.forEach(CompletableFuture::join);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Locale;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = CamelAutoConfiguration.class,
+    properties = "camel.springboot.type-converter-statistics-enabled=true")
+public class SpringTypeConverterStatisticsTest {
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    SpringTypeConverter converter;
+
+    @Test
+    public void testStatisticsEnabledByProperty() {
+        Assertions.assertTrue(converter.getStatistics().isStatisticsEnabled());
+        converter.getStatistics().reset();
+
+        // converted by the spring conversion service, as a fallback of the camel type converters
+        Assertions.assertEquals(Locale.FRANCE, camelContext.getTypeConverter().convertTo(Locale.class, "fr_FR"));
+        Assertions.assertEquals(Locale.ITALY, camelContext.getTypeConverter().convertTo(Locale.class, "it_IT"));
+
+        Assertions.assertEquals(2, converter.getStatistics().getAttemptCounter());
+        Assertions.assertEquals(1, converter.getStatistics().getMissCounter());
+        Assertions.assertEquals(1, converter.getStatistics().getHitCounter());
+    }
+
+    @Test
+    public void testStatisticsManagedAsService() {
+        // the converter is a service of the context, so its statistics are exposed over JMX
+        Assertions.assertTrue(camelContext.hasService(converter));
+
+        converter.resetStatistics();
+        Assertions.assertEquals(Locale.GERMANY, camelContext.getTypeConverter().convertTo(Locale.class, "de_DE"));
+        Assertions.assertEquals(1, converter.getAttemptCounter());
+    }
+}
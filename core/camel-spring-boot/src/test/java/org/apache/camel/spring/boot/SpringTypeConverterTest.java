@@ -16,9 +16,16 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -71,6 +78,53 @@ public class SpringTypeConverterTest {
         Assertions.assertNull(converter.convertTo(String.class, source));
     }
 
+    @Test
+    public void testConversionCache() {
+        converter.getStatistics().setStatisticsEnabled(true);
+        converter.getStatistics().reset();
+
+        try {
+            Person person = new Person("Name", 30);
+            Assertions.assertNull(converter.convertTo(String.class, person));
+            Assertions.assertNull(converter.convertTo(String.class, person));
+            Assertions.assertEquals(Integer.valueOf(30), converter.convertTo(Integer.class, "30"));
+            Assertions.assertEquals(Integer.valueOf(31), converter.convertTo(Integer.class, "31"));
+
+            Assertions.assertEquals(2, converter.getStatistics().getMissCounter());
+            Assertions.assertEquals(2, converter.getStatistics().getHitCounter());
+        } finally {
+            converter.getStatistics().setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    public void testConcurrentConversions() throws Exception {
+        List<Class<?>> types = Arrays.asList(
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final int offset = i;
+                tasks.add(() -> {
+                    for (int j = 0; j < 10000; j++) {
+                        Class<?> source = types.get((offset + j) % types.size());
+                        Class<?> target = types.get((offset + j / types.size()) % types.size());
+                        Object value = converter.convertTo(source, "42");
+                        Assertions.assertEquals("42", converter.convertTo(target, value).toString().replace(".0", ""));
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public static class Person {
         private String name;
         private int age;
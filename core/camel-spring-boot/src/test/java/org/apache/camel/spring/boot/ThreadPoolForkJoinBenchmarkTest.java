@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolAutoConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+/*
+ * Throughput benchmark of a CPU-bound split().parallelProcessing() on a regular thread pool, a fork-join pool and a
+ * work-stealing pool of 4 threads each. The throughput of the last rounds is printed.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelThreadPoolAutoConfiguration.class,
+        ThreadPoolForkJoinBenchmarkTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.springboot.routes-include-pattern = false",
+        "camel.threadpool.config[threadPool].pool-size = 4",
+        "camel.threadpool.config[threadPool].max-pool-size = 4",
+        "camel.threadpool.config[threadPool].max-queue-size = -1",
+        "camel.threadpool.config[forkJoinPool].type = fork-join",
+        "camel.threadpool.config[forkJoinPool].pool-size = 4",
+        "camel.threadpool.config[workStealingPool].type = work-stealing",
+        "camel.threadpool.config[workStealingPool].pool-size = 4"
+    }
+)
+public class ThreadPoolForkJoinBenchmarkTest {
+
+    private static final int ROUNDS = 6;
+    private static final int MEASURED_ROUNDS = 3;
+    private static final int SPLITS = 5_000;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Test
+    public void testParallelSplit() {
+        List<Integer> body = IntStream.range(0, SPLITS).boxed().collect(Collectors.toList());
+
+        System.out.printf("Parallel split of %d CPU-bound exchanges: thread pool %.0f ops/ms, fork-join %.0f ops/ms, work-stealing %.0f ops/ms%n",
+            SPLITS, measure("direct:threadPool", body), measure("direct:forkJoinPool", body), measure("direct:workStealingPool", body));
+    }
+
+    private double measure(String uri, List<Integer> body) {
+        long total = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            Object answer = template.requestBody(uri, body);
+            long time = System.nanoTime() - start;
+            Assertions.assertEquals(SPLITS, ((List<?>) answer).size());
+            if (round >= ROUNDS - MEASURED_ROUNDS) {
+                total += time;
+            }
+        }
+        return (double) SPLITS * MEASURED_ROUNDS / (total / 1e6);
+    }
+
+    // some CPU-bound work per split exchange
+    private static long work(int value) {
+        long hash = value;
+        for (int i = 0; i < 10_000; i++) {
+            hash = hash * 31 + i;
+        }
+        return hash;
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    for (String pool : new String[] { "threadPool", "forkJoinPool", "workStealingPool" }) {
+                        from("direct:" + pool)
+                            .split(body(), new GroupedBodyAggregationStrategy()).parallelProcessing().executorService(pool)
+                                .process(exchange -> exchange.getMessage().setBody(work(exchange.getMessage().getBody(Integer.class))))
+                            .end();
+                    }
+                }
+            };
+        }
+    }
+}
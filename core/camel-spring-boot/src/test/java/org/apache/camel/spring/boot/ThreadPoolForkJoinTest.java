@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolAutoConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelThreadPoolAutoConfiguration.class,
+        ThreadPoolForkJoinTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.springboot.routes-include-pattern = false",
+        "camel.threadpool.config[forkJoinPool].type = fork-join",
+        "camel.threadpool.config[forkJoinPool].pool-size = 2",
+        "camel.threadpool.config[workStealingPool].type = work-stealing",
+        "camel.threadpool.config[workStealingPool].pool-size = 4"
+    }
+)
+public class ThreadPoolForkJoinTest {
+    @Autowired
+    private CamelContext context;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint mock;
+
+    @Test
+    public void testForkJoinPools() throws Exception {
+        ExecutorService forkJoin = context.getExecutorServiceManager().newThreadPool(this, "forkJoin", "forkJoinPool");
+        try {
+            Assertions.assertTrue(forkJoin instanceof ForkJoinPool);
+            Assertions.assertNotSame(ForkJoinPool.commonPool(), forkJoin);
+            Assertions.assertEquals(2, ((ForkJoinPool) forkJoin).getParallelism());
+            Assertions.assertFalse(((ForkJoinPool) forkJoin).getAsyncMode());
+            String name = forkJoin.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+            Assertions.assertTrue(name.matches("Camel \\(.+\\) thread #\\d+ - forkJoin"), name);
+        } finally {
+            context.getExecutorServiceManager().shutdownGraceful(forkJoin);
+        }
+        Assertions.assertTrue(forkJoin.isTerminated());
+        Assertions.assertFalse(ForkJoinPool.commonPool().isShutdown());
+
+        ExecutorService workStealing = context.getExecutorServiceManager().newThreadPool(this, "workStealing", "workStealingPool");
+        try {
+            Assertions.assertTrue(workStealing instanceof ForkJoinPool);
+            Assertions.assertEquals(4, ((ForkJoinPool) workStealing).getParallelism());
+            Assertions.assertTrue(((ForkJoinPool) workStealing).getAsyncMode());
+            String name = workStealing.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+            Assertions.assertTrue(name.matches("Camel \\(.+\\) thread #\\d+ - workStealing"), name);
+        } finally {
+            context.getExecutorServiceManager().shutdown(workStealing);
+        }
+    }
+
+    @Test
+    public void testParallelSplit() throws Exception {
+        mock.expectedMessageCount(10);
+        template.sendBody("direct:start", Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        mock.assertIsSatisfied();
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start")
+                        .split(body()).parallelProcessing().executorService("workStealingPool")
+                            .to("mock:result");
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolAutoConfiguration;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+/*
+ * Throughput and memory benchmark of 10k concurrent blocking exchanges split in parallel on virtual threads and on a
+ * pool of 200 platform threads. The elapsed time, the peak number of live threads and the heap used by each run are
+ * printed. On JDKs without virtual threads the virtual threads profile falls back to the same platform thread pool.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelThreadPoolAutoConfiguration.class,
+        ThreadPoolVirtualThreadsBenchmarkTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.springboot.routes-include-pattern = false",
+        "camel.threadpool.config[virtualPool].virtual-threads = true",
+        "camel.threadpool.config[virtualPool].pool-size = 200",
+        "camel.threadpool.config[virtualPool].max-pool-size = 200",
+        "camel.threadpool.config[virtualPool].max-queue-size = -1",
+        "camel.threadpool.config[platformPool].pool-size = 200",
+        "camel.threadpool.config[platformPool].max-pool-size = 200",
+        "camel.threadpool.config[platformPool].max-queue-size = -1"
+    }
+)
+public class ThreadPoolVirtualThreadsBenchmarkTest {
+
+    private static final int EXCHANGES = 10_000;
+    private static final long BLOCKING_MILLIS = 5;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Test
+    public void testBlockingExchanges() {
+        List<Integer> body = IntStream.range(0, EXCHANGES).boxed().collect(Collectors.toList());
+
+        // warm up the routes and the pools
+        template.requestBody("direct:platform", body.subList(0, 1000));
+        template.requestBody("direct:virtual", body.subList(0, 1000));
+
+        String platform = run("direct:platform", body);
+        String virtual = run("direct:virtual", body);
+
+        String threads = CamelThreadPoolFactory.isVirtualThreadsSupported()
+            ? "virtual threads" : "virtual threads (not supported, platform threads)";
+        System.out.printf("%d concurrent blocking exchanges: platform threads %s, %s %s%n",
+            EXCHANGES, platform, threads, virtual);
+    }
+
+    private String run(String uri, List<Integer> body) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        threads.resetPeakThreadCount();
+
+        long start = System.nanoTime();
+        Object answer = template.requestBody(uri, body);
+        long elapsed = System.nanoTime() - start;
+
+        long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+        Assertions.assertEquals(EXCHANGES, ((List<?>) answer).size());
+
+        return String.format("%d ms, %d peak threads, %d KB heap",
+            elapsed / 1_000_000, threads.getPeakThreadCount(), Math.max(0, usedAfter - usedBefore) / 1024);
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:platform")
+                        .split(body(), new GroupedBodyAggregationStrategy()).parallelProcessing().executorService("platformPool")
+                            .process(exchange -> Thread.sleep(BLOCKING_MILLIS))
+                        .end();
+                    from("direct:virtual")
+                        .split(body(), new GroupedBodyAggregationStrategy()).parallelProcessing().executorService("virtualPool")
+                            .process(exchange -> Thread.sleep(BLOCKING_MILLIS))
+                        .end();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolAutoConfiguration;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelThreadPoolAutoConfiguration.class
+    },
+    properties = {
+        "camel.threadpool.config[blockingPool].virtual-threads = true",
+        "camel.threadpool.config[smallPool].pool-size = 2"
+    }
+)
+public class ThreadPoolVirtualThreadsTest {
+    @Autowired
+    private CamelContext context;
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        Assertions.assertTrue(context.getExecutorServiceManager().getThreadPoolFactory() instanceof CamelThreadPoolFactory);
+        Assertions.assertNotNull(context.getExecutorServiceManager().getThreadPoolProfile("blockingPool"));
+
+        ExecutorService blocking = context.getExecutorServiceManager().newThreadPool(this, "blocking", "blockingPool");
+        try {
+            // falls back to a regular thread pool when virtual threads are not supported
+            Assertions.assertEquals(!CamelThreadPoolFactory.isVirtualThreadsSupported(), blocking instanceof ThreadPoolExecutor);
+            Assertions.assertEquals("done", blocking.submit(() -> "done").get(5, TimeUnit.SECONDS));
+            // named with the thread name pattern of Camel, whether the threads are virtual or not
+            String name = blocking.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+            Assertions.assertTrue(name.matches("Camel \\(.+\\) thread #\\d+ - blocking"), name);
+        } finally {
+            context.getExecutorServiceManager().shutdown(blocking);
+        }
+
+        ExecutorService small = context.getExecutorServiceManager().newThreadPool(this, "small", "smallPool");
+        try {
+            Assertions.assertTrue(small instanceof ThreadPoolExecutor);
+        } finally {
+            context.getExecutorServiceManager().shutdown(small);
+        }
+    }
+}
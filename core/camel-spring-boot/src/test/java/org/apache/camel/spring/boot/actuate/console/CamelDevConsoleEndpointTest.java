@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.console;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.camel.CamelContext;
+import org.apache.camel.console.DevConsole;
+import org.apache.camel.console.DevConsoleRegistry;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.util.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/*
+ * Test for the parallel, time-boxed and streamed calls of the consoles by the {@link CamelDevConsoleEndpoint}.
+ */
+public class CamelDevConsoleEndpointTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private TestDevConsoleRegistry registry;
+    private CamelContext camelContext;
+    private CamelDevConsoleEndpoint endpoint;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        registry = new TestDevConsoleRegistry();
+        registry.register(new EchoConsole("echo"));
+        registry.register(new EchoConsole("other"));
+        registry.register(new SlowConsole());
+        registry.register(new TextConsole());
+
+        camelContext = new DefaultCamelContext();
+        camelContext.setExtension(DevConsoleRegistry.class, registry);
+        camelContext.start();
+        endpoint = new CamelDevConsoleEndpoint(camelContext);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        camelContext.stop();
+    }
+
+    @Test
+    public void testLimitAndFilter() throws Exception {
+        String json = write(endpoint.getConsoleById("echo", 10, "foo", null));
+        Assertions.assertEquals("{\"echo\":{\"id\":\"echo\",\"limit\":\"10\",\"filter\":\"foo\"}}", json);
+
+        json = write(endpoint.getConsoleById("echo", null, null, null));
+        Assertions.assertEquals("{\"echo\":{\"id\":\"echo\"}}", json);
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        long start = System.currentTimeMillis();
+        Map<?, ?> out = mapper.readValue(write(endpoint.getConsoleById("echo,slow", null, null, 200L)), Map.class);
+        Assertions.assertTrue(System.currentTimeMillis() - start < 5000);
+
+        Assertions.assertEquals(2, out.size());
+        Assertions.assertEquals("echo", ((Map<?, ?>) out.get("echo")).get("id"));
+        Assertions.assertEquals("Console did not complete within 200 millis",
+                ((Map<?, ?>) out.get("slow")).get("error"));
+    }
+
+    @Test
+    public void testStreamedOutput() throws Exception {
+        // in the order of the given ids, without the consoles not supporting json
+        String json = write(endpoint.getConsoleById("other,text,echo", null, null, null));
+        Assertions.assertEquals("{\"other\":{\"id\":\"other\"},\"echo\":{\"id\":\"echo\"}}", json);
+
+        Map<?, ?> out = mapper.readValue(write(endpoint.getConsoleById("all", null, null, 200L)), Map.class);
+        Assertions.assertEquals(Arrays.asList("echo", "other", "slow"), new ArrayList<>(out.keySet()));
+    }
+
+    @Test
+    public void testTimeoutStartsWhenConsoleRuns() throws Exception {
+        registry.register(new PausingConsole("pause1"));
+        registry.register(new PausingConsole("pause2"));
+        CamelDevConsoleEndpointProperties properties = new CamelDevConsoleEndpointProperties();
+        properties.setPoolSize(1);
+        endpoint = new CamelDevConsoleEndpoint(camelContext, properties);
+
+        // the second console waits for the first one, which does not count towards its timeout
+        Map<?, ?> out = mapper.readValue(write(endpoint.getConsoleById("pause1,pause2", null, null, 300L)), Map.class);
+        Assertions.assertEquals("pause1", ((Map<?, ?>) out.get("pause1")).get("id"));
+        Assertions.assertEquals("pause2", ((Map<?, ?>) out.get("pause2")).get("id"));
+    }
+
+    @Test
+    public void testMaxTimeout() throws Exception {
+        CamelDevConsoleEndpointProperties properties = new CamelDevConsoleEndpointProperties();
+        properties.setMaxTimeout(Duration.ofMillis(200));
+        endpoint = new CamelDevConsoleEndpoint(camelContext, properties);
+
+        Map<?, ?> out = mapper.readValue(write(endpoint.getConsoleById("slow", null, null, 60000L)), Map.class);
+        Assertions.assertEquals("Console did not complete within 200 millis",
+                ((Map<?, ?>) out.get("slow")).get("error"));
+    }
+
+    private String write(Object output) throws Exception {
+        Assertions.assertTrue(output instanceof CamelDevConsoleEndpoint.ConsolesOutput);
+        return mapper.writeValueAsString(output);
+    }
+
+    private static class EchoConsole extends TestDevConsole {
+
+        EchoConsole(String id) {
+            super(id);
+        }
+
+        @Override
+        public Object call(MediaType mediaType, Map<String, Object> options) {
+            JsonObject jo = new JsonObject();
+            jo.put("id", getId());
+            if (options.containsKey("limit")) {
+                jo.put("limit", options.get("limit"));
+            }
+            if (options.containsKey("filter")) {
+                jo.put("filter", options.get("filter"));
+            }
+            return jo;
+        }
+    }
+
+    private static class SlowConsole extends TestDevConsole {
+
+        SlowConsole() {
+            super("slow");
+        }
+
+        @Override
+        public Object call(MediaType mediaType, Map<String, Object> options) {
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new JsonObject();
+        }
+    }
+
+    private static class PausingConsole extends EchoConsole {
+
+        PausingConsole(String id) {
+            super(id);
+        }
+
+        @Override
+        public Object call(MediaType mediaType, Map<String, Object> options) {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.call(mediaType, options);
+        }
+    }
+
+    private static class TextConsole extends TestDevConsole {
+
+        TextConsole() {
+            super("text");
+        }
+
+        @Override
+        public boolean supportMediaType(MediaType mediaType) {
+            return mediaType == MediaType.TEXT;
+        }
+
+        @Override
+        public Object call(MediaType mediaType, Map<String, Object> options) {
+            return "text";
+        }
+    }
+
+    private abstract static class TestDevConsole implements DevConsole {
+
+        private final String id;
+
+        TestDevConsole(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getGroup() {
+            return "test";
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return id;
+        }
+
+        @Override
+        public String getDescription() {
+            return id;
+        }
+
+        @Override
+        public boolean supportMediaType(MediaType mediaType) {
+            return mediaType == MediaType.JSON;
+        }
+    }
+
+    private static class TestDevConsoleRegistry implements DevConsoleRegistry {
+
+        private final List<DevConsole> consoles = new ArrayList<>();
+        private CamelContext camelContext;
+        private String id = "test";
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+        }
+
+        @Override
+        public DevConsole resolveById(String id) {
+            return consoles.stream().filter(c -> c.getId().equals(id)).findFirst().orElse(null);
+        }
+
+        @Override
+        public boolean register(DevConsole console) {
+            return consoles.add(console);
+        }
+
+        @Override
+        public boolean unregister(DevConsole console) {
+            return consoles.remove(console);
+        }
+
+        @Override
+        public Stream<DevConsole> stream() {
+            return consoles.stream();
+        }
+
+        @Override
+        public void loadDevConsoles() {
+        }
+
+        @Override
+        public void loadDevConsoles(boolean force) {
+        }
+
+        @Override
+        public CamelContext getCamelContext() {
+            return camelContext;
+        }
+
+        @Override
+        public void setCamelContext(CamelContext camelContext) {
+            this.camelContext = camelContext;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRouteStatsEndpoint.RouteStats;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRouteStatsEndpoint.RoutesStats;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.apache.camel.test.spring.junit5.DisableJmx;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+/*
+ * Test for the {@link CamelRouteStatsEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@DisableJmx(false)
+@EnableAutoConfiguration
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelRouteStatsEndpointAutoConfiguration.class,
+                           CamelRouteStatsEndpointTest.Routes.class},
+                properties = {"management.endpoints.web.exposure.include=*",
+                              "management.endpoint.camelroutestats.percentiles-enabled=true",
+                              "camel.springboot.routes-include-pattern=false"})
+public class CamelRouteStatsEndpointTest {
+
+    @Autowired
+    CamelRouteStatsEndpoint endpoint;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Test
+    public void testStats() throws Exception {
+        RoutesStats stats = endpoint.readStats(null);
+        Assertions.assertNull(stats.getSince());
+        Assertions.assertEquals(4, stats.getRoutes().size());
+        Assertions.assertTrue(stats.getRemoved().isEmpty());
+
+        template.sendBody("direct:a", "Hello");
+
+        RouteStats route = endpoint.readStats(null).getRoutes().get(0);
+        Assertions.assertEquals("a", route.getId());
+        Assertions.assertEquals("Started", route.getStatus());
+        Assertions.assertEquals(1L, route.getExchangesTotal());
+        Assertions.assertEquals(1L, route.getExchangesCompleted());
+        Assertions.assertEquals(0L, route.getExchangesFailed());
+        Assertions.assertEquals(0L, route.getExchangesInflight());
+        Assertions.assertEquals(0L, route.getRedeliveries());
+        Assertions.assertNotNull(route.getFailuresHandled());
+        Assertions.assertNotNull(route.getExternalRedeliveries());
+        Assertions.assertNotNull(route.getMinProcessingTime());
+        Assertions.assertNotNull(route.getMeanProcessingTime());
+        Assertions.assertNotNull(route.getMaxProcessingTime());
+        Assertions.assertNotNull(route.getLastProcessingTime());
+        Assertions.assertNotNull(route.getTotalProcessingTime());
+        Assertions.assertNotNull(route.getRecentP50ProcessingTime());
+        Assertions.assertNotNull(route.getRecentP95ProcessingTime());
+        Assertions.assertNotNull(route.getRecentP99ProcessingTime());
+        Assertions.assertTrue(route.getRecentP50ProcessingTime() <= route.getRecentP99ProcessingTime());
+    }
+
+    @Test
+    public void testPercentilesOfCalledRoutes() throws Exception {
+        template.sendBody("direct:c", "Hello");
+
+        // the route called by another route records its own processing times
+        RouteStats called = endpoint.readStats(null).getRoutes().stream()
+                .filter(r -> "d".equals(r.getId())).findFirst().orElseThrow();
+        Assertions.assertEquals(1L, called.getExchangesTotal());
+        Assertions.assertNotNull(called.getRecentP50ProcessingTime());
+        Assertions.assertNotNull(called.getRecentP99ProcessingTime());
+    }
+
+    @Test
+    public void testPercentiles() throws Exception {
+        long[] histogram = new long[ProcessingTimeHistogram.BUCKETS];
+        histogram[ProcessingTimeHistogram.bucket(0)] = 50;
+        histogram[ProcessingTimeHistogram.bucket(3)] = 45;
+        histogram[ProcessingTimeHistogram.bucket(520)] = 5;
+        Assertions.assertEquals(0L, ProcessingTimeHistogram.percentile(histogram, 0.5));
+        Assertions.assertEquals(3L, ProcessingTimeHistogram.percentile(histogram, 0.95));
+        // the upper bound of the bucket is at most 12.5% above the actual time
+        Assertions.assertEquals(575L, ProcessingTimeHistogram.percentile(histogram, 0.99));
+        Assertions.assertNull(ProcessingTimeHistogram.percentile(new long[ProcessingTimeHistogram.BUCKETS], 0.5));
+
+        // no time is clamped
+        histogram[ProcessingTimeHistogram.bucket(Long.MAX_VALUE)] = 100;
+        Assertions.assertEquals(Long.MAX_VALUE, ProcessingTimeHistogram.percentile(histogram, 0.99));
+        for (long millis = 1; millis > 0 && millis < Long.MAX_VALUE / 3; millis = millis * 3 + 1) {
+            long bound = ProcessingTimeHistogram.upperBound(ProcessingTimeHistogram.bucket(millis));
+            Assertions.assertTrue(bound >= millis && bound <= millis + millis / 8, "bound of " + millis);
+        }
+    }
+
+    @Test
+    public void testPercentilesWindow() throws Exception {
+        ProcessingTimeHistogram histogram = new ProcessingTimeHistogram(50);
+        histogram.record(500);
+        Assertions.assertNotNull(ProcessingTimeHistogram.percentile(histogram.snapshot(), 0.5));
+
+        // the times recorded before the previous window are discarded
+        Thread.sleep(150);
+        Assertions.assertNull(ProcessingTimeHistogram.percentile(histogram.snapshot(), 0.5));
+        histogram.record(5);
+        Assertions.assertEquals(5L, ProcessingTimeHistogram.percentile(histogram.snapshot(), 0.99));
+    }
+
+    @Test
+    public void testDelta() throws Exception {
+        RoutesStats stats = endpoint.readStats(null);
+
+        RoutesStats delta = endpoint.readStats(stats.getId());
+        Assertions.assertEquals(stats.getId(), delta.getSince());
+        Assertions.assertTrue(delta.getId() > stats.getId());
+        Assertions.assertTrue(delta.getRoutes().isEmpty());
+
+        template.sendBody("direct:b", "Hello");
+
+        delta = endpoint.readStats(delta.getId());
+        Assertions.assertEquals(1, delta.getRoutes().size());
+        Assertions.assertEquals("b", delta.getRoutes().get(0).getId());
+    }
+
+    @Test
+    public void testUnknownSnapshot() throws Exception {
+        RoutesStats stats = endpoint.readStats(-1L);
+        Assertions.assertNull(stats.getSince());
+        Assertions.assertEquals(4, stats.getRoutes().size());
+    }
+
+    @Configuration
+    static class Routes {
+
+        @Bean
+        RouteBuilder routes() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:a").routeId("a").to("log:a");
+                    from("direct:b").routeId("b").to("log:b");
+                    from("direct:c").routeId("c").to("direct:d");
+                    from("direct:d").routeId("d").to("log:d");
+                }
+            };
+        }
+    }
+}
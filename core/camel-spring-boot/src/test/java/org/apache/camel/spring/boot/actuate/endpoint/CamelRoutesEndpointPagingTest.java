@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteEndpointInfo;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RoutesPage;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * Test for the paging, filtering and projection of the {@link CamelRoutesEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@AutoConfigureMockMvc
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelRoutesEndpointAutoConfiguration.class,
+                           CamelRoutesEndpointPagingTest.Routes.class},
+                properties = {"management.endpoints.web.exposure.include=*",
+                              "camel.springboot.routes-include-pattern=false"})
+public class CamelRoutesEndpointPagingTest {
+
+    @Autowired
+    CamelRoutesEndpoint endpoint;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    public void testPaging() throws Exception {
+        RoutesPage page = endpoint.readRoutes(1, 2, null, null, null, null);
+        Assertions.assertEquals(4, page.getTotal());
+        Assertions.assertEquals(1, page.getOffset());
+        Assertions.assertEquals(2, page.getRoutes().size());
+        Assertions.assertEquals("b", ((RouteEndpointInfo) page.getRoutes().get(0)).getId());
+        Assertions.assertEquals("c", ((RouteEndpointInfo) page.getRoutes().get(1)).getId());
+
+        page = endpoint.readRoutes(10, null, null, null, null, null);
+        Assertions.assertTrue(page.getRoutes().isEmpty());
+    }
+
+    @Test
+    public void testFilter() throws Exception {
+        RoutesPage page = endpoint.readRoutes(null, null, "odd", null, null, null);
+        Assertions.assertEquals(2, page.getTotal());
+
+        page = endpoint.readRoutes(null, null, null, "stopped", null, null);
+        Assertions.assertEquals(1, page.getTotal());
+        Assertions.assertEquals("d", ((RouteEndpointInfo) page.getRoutes().get(0)).getId());
+
+        page = endpoint.readRoutes(null, null, "odd", "started", "[a-b]", null);
+        Assertions.assertEquals(1, page.getTotal());
+        Assertions.assertEquals("a", ((RouteEndpointInfo) page.getRoutes().get(0)).getId());
+    }
+
+    @Test
+    public void testProjection() throws Exception {
+        RoutesPage page = endpoint.readRoutes(null, 1, null, null, null, "id,status");
+        Map<?, ?> route = (Map<?, ?>) page.getRoutes().get(0);
+        Assertions.assertEquals(2, route.size());
+        Assertions.assertEquals("a", route.get("id"));
+        Assertions.assertEquals("Started", route.get("status"));
+    }
+
+    @Test
+    public void testIfNoneMatch() throws Exception {
+        long version = endpoint.readRoutes(null, null, null, null, null, null).getVersion();
+        String tag = mockMvc.perform(get("/actuator/camelroutes").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(version))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Assertions.assertNotNull(tag);
+
+        mockMvc.perform(get("/actuator/camelroutes").param("limit", "10").header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        // another query of the same route set has another tag
+        mockMvc.perform(get("/actuator/camelroutes").param("limit", "1").header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(tag)));
+        mockMvc.perform(get("/actuator/camelroutes").header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(tag)));
+        // the details of a route are not covered by the version
+        mockMvc.perform(get("/actuator/camelroutes/a/info").header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk());
+
+        camelContext.getRouteController().startRoute("d");
+        try {
+            mockMvc.perform(get("/actuator/camelroutes").param("limit", "10").header(HttpHeaders.IF_NONE_MATCH, tag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(tag)))
+                    .andExpect(jsonPath("$.total").value(4));
+        } finally {
+            camelContext.getRouteController().stopRoute("d");
+        }
+    }
+
+    @Test
+    public void testWithoutParameters() throws Exception {
+        RoutesPage page = endpoint.readRoutes(null, null, null, null, null, null);
+        Assertions.assertEquals(4, page.getTotal());
+        Assertions.assertEquals(0, page.getOffset());
+        Assertions.assertEquals(4, page.getRoutes().size());
+
+        // the response has the same shape whatever the query
+        mockMvc.perform(get("/actuator/camelroutes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(4))
+                .andExpect(jsonPath("$.routes.length()").value(4))
+                .andExpect(jsonPath("$.routes[0].id").value("a"));
+        mockMvc.perform(get("/actuator/camelroutes").param("group", "odd"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.routes.length()").value(2));
+    }
+
+    @Test
+    public void testPropertiesView() throws Exception {
+        RouteEndpointInfo info = new RouteEndpointInfo(camelContext.getRoute("a"));
+        Map<String, Object> properties = info.getProperties();
+
+        // the properties are not copied, only wrapped
+        camelContext.getRoute("a").getProperties().put("view-test", "changed");
+        try {
+            Assertions.assertEquals("changed", properties.get("view-test"));
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> properties.put("view-test", "other"));
+        } finally {
+            camelContext.getRoute("a").getProperties().remove("view-test");
+        }
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        int notifiers = camelContext.getManagementStrategy().getEventNotifiers().size();
+
+        CamelRoutesEndpoint other = new CamelRoutesEndpoint(camelContext, new CamelRoutesEndpointProperties());
+        Assertions.assertEquals(notifiers + 1, camelContext.getManagementStrategy().getEventNotifiers().size());
+
+        other.close();
+        Assertions.assertEquals(notifiers, camelContext.getManagementStrategy().getEventNotifiers().size());
+    }
+
+    @Configuration
+    static class Routes {
+
+        @Bean
+        RouteBuilder routes() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:a").routeId("a").routeGroup("odd").to("log:a");
+                    from("direct:b").routeId("b").routeGroup("even").to("log:b");
+                    from("direct:c").routeId("c").routeGroup("odd").to("log:c");
+                    from("direct:d").routeId("d").routeGroup("even").autoStartup(false).to("log:d");
+                }
+            };
+        }
+    }
+}
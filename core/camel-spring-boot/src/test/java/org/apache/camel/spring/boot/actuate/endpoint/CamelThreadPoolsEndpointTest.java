@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelThreadPoolsEndpoint.ThreadPoolInfo;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolAutoConfiguration;
+import org.apache.camel.spring.boot.threadpool.TimedThreadPoolExecutor;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.awaitility.Awaitility.await;
+
+/*
+ * Test for the {@link CamelThreadPoolsEndpoint} actuator endpoint and the thread pool metrics.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelThreadPoolAutoConfiguration.class,
+                           CamelThreadPoolsEndpointAutoConfiguration.class, CamelThreadPoolsEndpointTest.Routes.class},
+                properties = {"management.endpoints.web.exposure.include=*",
+                              "camel.springboot.routes-include-pattern=false",
+                              "camel.threadpool.config[tinyPool].pool-size = 1",
+                              "camel.threadpool.config[tinyPool].max-pool-size = 1",
+                              "camel.threadpool.config[tinyPool].max-queue-size = 1",
+                              "camel.threadpool.config[tinyPool].rejected-policy = Abort",
+                              "camel.threadpool.config[timedPool].pool-size = 1",
+                              "camel.threadpool.config[timedPool].max-pool-size = 1",
+                              "camel.threadpool.config[timedPool].max-queue-size = 10"})
+public class CamelThreadPoolsEndpointTest {
+
+    @Autowired
+    CamelThreadPoolsEndpoint endpoint;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    MeterRegistry registry;
+
+    @Test
+    public void testRoutePool() throws Exception {
+        ThreadPoolInfo info = endpoint.readThreadPools().stream()
+                .filter(p -> "threads".equals(p.getRouteId())).findFirst().orElse(null);
+        Assertions.assertNotNull(info);
+        Assertions.assertEquals(2, info.getCorePoolSize());
+
+        Assertions.assertNotNull(registry.find("camel.threadpool.active").tag("routeId", "threads").gauge());
+    }
+
+    @Test
+    public void testTaskTimers() throws Exception {
+        ExecutorService executor = camelContext.getExecutorServiceManager().newThreadPool(this, "timed", "timedPool");
+        try {
+            Assertions.assertTrue(executor instanceof TimedThreadPoolExecutor);
+            CountDownLatch latch = new CountDownLatch(2);
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    latch.countDown();
+                });
+            }
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+            // the second task waited for the single thread to execute the first one
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+                FunctionTimer execute = registry.find("camel.threadpool.task.execute").tag("profileId", "timedPool").functionTimer();
+                Assertions.assertNotNull(execute);
+                Assertions.assertEquals(2.0, execute.count());
+                Assertions.assertTrue(execute.totalTime(TimeUnit.MILLISECONDS) >= 100);
+            });
+            FunctionTimer wait = registry.find("camel.threadpool.task.wait").tag("profileId", "timedPool").functionTimer();
+            Assertions.assertNotNull(wait);
+            Assertions.assertEquals(2.0, wait.count());
+            Assertions.assertTrue(wait.totalTime(TimeUnit.MILLISECONDS) >= 40);
+        } finally {
+            camelContext.getExecutorServiceManager().shutdown(executor);
+        }
+    }
+
+    @Test
+    public void testRejected() throws Exception {
+        ExecutorService executor = camelContext.getExecutorServiceManager().newThreadPool(this, "tiny", "tinyPool");
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            Runnable blocked = () -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            executor.execute(blocked);
+            executor.execute(blocked);
+            Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(blocked));
+
+            List<ThreadPoolInfo> pools = endpoint.readThreadPools();
+            ThreadPoolInfo info = pools.stream().filter(p -> "tinyPool".equals(p.getProfileId())).findFirst().orElse(null);
+            Assertions.assertNotNull(info);
+            Assertions.assertEquals(1, info.getRejectedCount());
+            Assertions.assertEquals(1, info.getQueueSize());
+            Assertions.assertEquals(1.0, info.getUtilization());
+
+            Assertions.assertEquals(1.0, registry.find("camel.threadpool.rejected")
+                    .tag("profileId", "tinyPool").functionCounter().count());
+        } finally {
+            latch.countDown();
+            camelContext.getExecutorServiceManager().shutdown(executor);
+        }
+
+        Assertions.assertTrue(endpoint.readThreadPools().stream().noneMatch(p -> "tinyPool".equals(p.getProfileId())));
+        Assertions.assertNull(registry.find("camel.threadpool.rejected").tag("profileId", "tinyPool").functionCounter());
+    }
+
+    @Configuration
+    static class Routes {
+
+        @Bean
+        RouteBuilder routes() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:threads").routeId("threads").threads(2).to("log:threads");
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.health.HealthCheck;
+import org.apache.camel.health.HealthCheckHelper;
+import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.apache.camel.impl.health.AbstractHealthCheck;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.awaitility.Awaitility.await;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {CamelAutoConfiguration.class, CamelHealthCheckAutoConfiguration.class, MyCamelRoute.class},
+    properties = {"camel.springboot.java-routes-include-pattern=**/MyCamelRoute*",
+                  "camel.health.exposure-level=full",
+                  "camel.health.check-timeout=500",
+                  "camel.health.cache-time-to-live=60000"})
+public class CamelHealthCachedTest {
+
+    @Autowired
+    CamelHealthCheckIndicator indicator;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @AfterEach
+    public void unregisterChecks() {
+        HealthCheckRegistry registry = HealthCheckRegistry.get(camelContext);
+        List<HealthCheck> checks = registry.stream()
+                .filter(check -> "test".equals(check.getGroup()))
+                .collect(Collectors.toList());
+        checks.forEach(registry::unregister);
+    }
+
+    @Test
+    public void shouldTimeBoxAndCacheHealth() throws Exception {
+        CountingHealthCheck counting = new CountingHealthCheck();
+        HealthCheckRegistry registry = HealthCheckRegistry.get(camelContext);
+        registry.register(counting);
+        registry.register(new SlowHealthCheck());
+
+        long start = System.currentTimeMillis();
+        Health health = indicator.health();
+        Assertions.assertTrue(System.currentTimeMillis() - start < 5000);
+        Assertions.assertEquals("DOWN", health.getStatus().getCode());
+        Assertions.assertEquals("DOWN", health.getDetails().get("slow"));
+        Assertions.assertEquals("UP", health.getDetails().get("counting"));
+        Assertions.assertEquals(1, counting.invocations.get());
+
+        // served from the cache
+        health = indicator.health();
+        Assertions.assertEquals("DOWN", health.getStatus().getCode());
+        Assertions.assertEquals(1, counting.invocations.get());
+    }
+
+    @Test
+    public void shouldRefreshInBackgroundWithSingleThread() throws Exception {
+        CamelHealthCheckConfigurationProperties config = new CamelHealthCheckConfigurationProperties();
+        config.setThreadPoolSize(1);
+        config.setCacheTimeToLive(100L);
+        CamelHealthCheckIndicator indicator = new CamelHealthCheckIndicator(applicationContext, camelContext, config);
+
+        CountingHealthCheck counting = new CountingHealthCheck();
+        HealthCheckRegistry.get(camelContext).register(counting);
+
+        Health health = indicator.health();
+        Assertions.assertEquals("UP", health.getDetails().get("counting"));
+        Assertions.assertEquals(1, counting.invocations.get());
+
+        // the refresh does not take the only thread of the pool the checks are invoked on
+        Thread.sleep(200);
+        indicator.health();
+        await().atMost(Duration.ofSeconds(5)).until(() -> counting.invocations.get() == 2);
+
+        // and is triggered again once the refreshed results have expired
+        Thread.sleep(200);
+        indicator.health();
+        await().atMost(Duration.ofSeconds(5)).until(() -> counting.invocations.get() == 3);
+    }
+
+    @Test
+    public void shouldNotInvokeStuckCheckAgain() throws Exception {
+        CamelHealthCheckConfigurationProperties config = new CamelHealthCheckConfigurationProperties();
+        config.setThreadPoolSize(1);
+        config.setCheckTimeout(200L);
+        CamelHealthCheckIndicator indicator = new CamelHealthCheckIndicator(applicationContext, camelContext, config);
+
+        StuckHealthCheck stuck = new StuckHealthCheck();
+        HealthCheckRegistry.get(camelContext).register(stuck);
+        try {
+            Assertions.assertEquals("DOWN", indicator.health().getDetails().get("stuck"));
+            Assertions.assertEquals("DOWN", indicator.health().getDetails().get("stuck"));
+            Assertions.assertEquals(1, stuck.invocations.get());
+        } finally {
+            stuck.latch.countDown();
+        }
+
+        // invoked again once the previous call has returned
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> "UP".equals(indicator.health().getDetails().get("stuck")));
+        Assertions.assertEquals(2, stuck.invocations.get());
+    }
+
+    @Test
+    public void shouldInterruptTimedOutCheck() throws Exception {
+        CamelHealthCheckConfigurationProperties config = new CamelHealthCheckConfigurationProperties();
+        config.setCheckTimeout(200L);
+        CamelHealthCheckIndicator indicator = new CamelHealthCheckIndicator(applicationContext, camelContext, config);
+
+        SlowHealthCheck slow = new SlowHealthCheck();
+        HealthCheckRegistry.get(camelContext).register(slow);
+
+        Assertions.assertEquals("DOWN", indicator.health().getDetails().get("slow"));
+        // the pool thread is released as the check is cancelled with an interrupt
+        await().atMost(Duration.ofSeconds(5)).until(slow.interrupted::get);
+    }
+
+    @Test
+    public void shouldFilterByExposureLevelAsHealthCheckHelper() throws Exception {
+        HealthCheckRegistry registry = HealthCheckRegistry.get(camelContext);
+        registry.register(new CountingHealthCheck());
+        registry.register(new DownHealthCheck());
+
+        List<HealthCheck.Result> all = new ArrayList<>(HealthCheckHelper.invoke(camelContext));
+        try {
+            for (String level : Arrays.asList("full", "default", "oneline")) {
+                registry.setExposureLevel(level);
+                Assertions.assertEquals(
+                        ids(HealthCheckHelper.invoke(camelContext)),
+                        ids(CamelHealthCheckIndicator.filterByExposureLevel(all, level)),
+                        "exposure level " + level);
+            }
+        } finally {
+            registry.setExposureLevel("full");
+        }
+    }
+
+    private static List<String> ids(Collection<HealthCheck.Result> results) {
+        return results.stream()
+                .map(result -> result.getCheck().getId() + "=" + result.getState())
+                .collect(Collectors.toList());
+    }
+
+    private static class CountingHealthCheck extends AbstractHealthCheck {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        CountingHealthCheck() {
+            super("test", "counting");
+        }
+
+        @Override
+        protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+            invocations.incrementAndGet();
+            builder.up();
+        }
+    }
+
+    private static class SlowHealthCheck extends AbstractHealthCheck {
+
+        private final AtomicBoolean interrupted = new AtomicBoolean();
+
+        SlowHealthCheck() {
+            super("test", "slow");
+        }
+
+        @Override
+        protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                Thread.currentThread().interrupt();
+            }
+            builder.up();
+        }
+    }
+
+    private static class DownHealthCheck extends AbstractHealthCheck {
+
+        DownHealthCheck() {
+            super("test", "down");
+        }
+
+        @Override
+        protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+            builder.down();
+        }
+    }
+
+    private static class StuckHealthCheck extends AbstractHealthCheck {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        StuckHealthCheck() {
+            super("test", "stuck");
+        }
+
+        @Override
+        protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+            invocations.incrementAndGet();
+            // ignores interrupts
+            while (latch.getCount() > 0) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    // keep waiting
+                }
+            }
+            builder.up();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.awaitility.Awaitility.await;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {CamelAutoConfiguration.class, CamelHealthCheckAutoConfiguration.class, MyCamelRoute.class},
+    properties = {"camel.springboot.java-routes-include-pattern=**/MyCamelRoute*",
+                  "camel.health.probes-enabled=true",
+                  "camel.health.probes-availability-enabled=true"})
+public class CamelHealthProbesTest {
+
+    @Autowired
+    @Qualifier("camelLiveness")
+    CamelProbeHealthIndicator liveness;
+
+    @Autowired
+    @Qualifier("camelReadiness")
+    CamelProbeHealthIndicator readiness;
+
+    @Autowired
+    ApplicationAvailability availability;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void shouldUpdateProbesOnRouteChanges() throws Exception {
+        await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertEquals("UP", readiness.health().getStatus().getCode()));
+        Assertions.assertEquals("UP", liveness.health().getStatus().getCode());
+        Assertions.assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+
+        camelContext.getRouteController().stopRoute("foo-route");
+        try {
+            await().atMost(5, TimeUnit.SECONDS)
+                    .untilAsserted(() -> Assertions.assertEquals("DOWN", readiness.health().getStatus().getCode()));
+            Assertions.assertEquals(ReadinessState.REFUSING_TRAFFIC, availability.getReadinessState());
+        } finally {
+            camelContext.getRouteController().startRoute("foo-route");
+        }
+
+        await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertEquals("UP", readiness.health().getStatus().getCode()));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/*
+ * Per-exchange overhead benchmark of the {@link CamelMeterBinder}: the same route is run without any statistics, with
+ * the route timings, with the route and processor timings and with the JMX statistics instead, and the mean time per
+ * exchange of the last rounds is printed.
+ */
+public class CamelMeterBinderBenchmarkTest {
+
+    private static final int ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int EXCHANGES = 20_000;
+
+    @Test
+    public void testOverhead() throws Exception {
+        double none = measure("none", false, false, false);
+        double routes = measure("routes", false, true, false);
+        double processors = measure("processors", false, true, true);
+        double jmx = measure("jmx", true, false, false);
+
+        System.out.printf("Time per exchange: no statistics %.0f ns, route timers %.0f ns, route and processor timers %.0f ns, JMX %.0f ns%n",
+            none, routes, processors, jmx);
+    }
+
+    private static double measure(String name, boolean jmx, boolean routes, boolean processors) throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        context.setName("benchmark-" + name);
+        if (!jmx) {
+            context.disableJMX();
+        }
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        if (routes || processors) {
+            CamelMetricsConfigurationProperties config = new CamelMetricsConfigurationProperties();
+            config.setRoutesEnabled(routes);
+            config.setProcessorsEnabled(processors);
+            new CamelMeterBinder(context, config).bindTo(registry);
+        }
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").routeId("benchmark")
+                    .setHeader("foo", constant("bar"))
+                    .transform(body().append("!"))
+                    .to("direct:end");
+                from("direct:end").routeId("end")
+                    .setHeader("baz", header("foo"));
+            }
+        });
+        context.start();
+
+        try (ProducerTemplate template = context.createProducerTemplate()) {
+            long total = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < EXCHANGES; i++) {
+                    template.requestBody("direct:start", "Hello");
+                }
+                long time = System.nanoTime() - start;
+                if (round >= ROUNDS - MEASURED_ROUNDS) {
+                    total += time;
+                }
+            }
+
+            if (routes) {
+                Assertions.assertEquals((long) ROUNDS * EXCHANGES,
+                    registry.get(CamelMeterBinder.ROUTE_TIMER_NAME).tag("routeId", "benchmark").tag("failed", "false").timer().count());
+            }
+            return (double) total / MEASURED_ROUNDS / EXCHANGES;
+        } finally {
+            context.stop();
+        }
+    }
+}
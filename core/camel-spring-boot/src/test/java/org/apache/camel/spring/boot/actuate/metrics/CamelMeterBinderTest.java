@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.metrics;
+
+import java.util.Collection;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+/*
+ * Test for the route and processor timings of the {@link CamelMeterBinder}, with JMX disabled.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelMetricsAutoConfiguration.class,
+                           CamelMeterBinderTest.Routes.class},
+                properties = {"camel.springboot.routes-include-pattern=false",
+                              "camel.springboot.jmx-enabled=false",
+                              "camel.metrics.enabled=true",
+                              "camel.metrics.processors-enabled=true"})
+public class CamelMeterBinderTest {
+
+    @Autowired
+    MeterRegistry registry;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Test
+    public void testTimings() throws Exception {
+        template.sendBody("direct:a", "Hello");
+        template.sendBody("direct:a", "World");
+        try {
+            template.sendBody("direct:b", "Boom");
+        } catch (Exception e) {
+            // expected
+        }
+
+        Timer route = registry.find(CamelMeterBinder.ROUTE_TIMER_NAME)
+                .tag("routeId", "a").tag("failed", "false").timer();
+        Assertions.assertNotNull(route);
+        Assertions.assertEquals(2, route.count());
+
+        Timer failed = registry.find(CamelMeterBinder.ROUTE_TIMER_NAME)
+                .tag("routeId", "b").tag("failed", "true").timer();
+        Assertions.assertNotNull(failed);
+        Assertions.assertEquals(1, failed.count());
+
+        Timer processor = registry.find(CamelMeterBinder.PROCESSOR_TIMER_NAME)
+                .tag("routeId", "a").tag("processorId", "log-a").timer();
+        Assertions.assertNotNull(processor);
+        Assertions.assertEquals(2, processor.count());
+    }
+
+    @Test
+    public void testProcessorsOfTheSameKind() throws Exception {
+        template.sendBody("direct:c", "Hello");
+
+        // the processors without custom ids have a timer each
+        Collection<Timer> timers = registry.find(CamelMeterBinder.PROCESSOR_TIMER_NAME).tag("routeId", "c").timers();
+        Assertions.assertEquals(2, timers.size());
+        Assertions.assertEquals(2, timers.stream().map(timer -> timer.getId().getTag("processorId")).distinct().count());
+        timers.forEach(timer -> Assertions.assertEquals(1, timer.count()));
+    }
+
+    @Configuration
+    static class Routes {
+
+        @Bean
+        RouteBuilder routes() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:a").routeId("a").to("log:a").id("log-a");
+                    from("direct:b").routeId("b").throwException(new IllegalStateException("Forced"));
+                    from("direct:c").routeId("c").to("log:c1").to("log:c2");
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.cloud.ServiceChooser;
+import org.apache.camel.cloud.ServiceLoadBalancer;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelCloudServiceChooserTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.springboot.routes-include-pattern=false",
+        "camel.cloud.service-discovery.service-definitions.my-service[0].host=fast",
+        "camel.cloud.service-discovery.service-definitions.my-service[0].metadata.zone=a",
+        "camel.cloud.service-discovery.service-definitions.my-service[1].host=slow",
+        "camel.cloud.service-discovery.service-definitions.my-service[1].metadata.zone=b",
+        "camel.cloud.service-filter.enabled=false",
+        "camel.cloud.service-chooser.type=peak-ewma"
+    }
+)
+public class CamelCloudServiceChooserTest {
+
+    @Autowired
+    private CamelContext camelContext;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Autowired
+    @Qualifier("service-chooser")
+    private ServiceChooser serviceChooser;
+
+    @Autowired
+    @Qualifier("load-balancer")
+    private ServiceLoadBalancer loadBalancer;
+
+    @Autowired
+    private ServiceLoadTracker tracker;
+
+    @Test
+    public void testBeans() {
+        Assertions.assertTrue(serviceChooser instanceof PeakEwmaServiceChooser);
+        Assertions.assertTrue(loadBalancer instanceof CamelCloudServiceLoadBalancer);
+        Assertions.assertTrue(
+            camelContext.adapt(ExtendedCamelContext.class).getInterceptStrategies().contains(tracker));
+    }
+
+    @Test
+    public void testSlowServiceAvoided() {
+        int slow = 0;
+        for (int i = 0; i < 20; i++) {
+            if ("slow".equals(template.requestBody("direct:start", null, String.class))) {
+                slow++;
+            }
+        }
+
+        // the slow service is only called until its response time is known
+        Assertions.assertTrue(slow <= 2, "slow service called " + slow + " times");
+        Assertions.assertEquals(2, tracker.getLoads().size());
+        tracker.getLoads().forEach(load -> {
+            Assertions.assertEquals(0, load.getInFlight());
+            Assertions.assertTrue(load.getCost() > 0);
+        });
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public RouteBuilder myRouteBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start")
+                        .serviceCall().name("my-service").component("direct").uri("direct:my-service").end();
+
+                    from("direct:fast")
+                        .transform().constant("fast");
+                    from("direct:slow")
+                        .delay(50)
+                        .transform().constant("slow");
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceDiscovery;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class CamelCloudServiceDiscoveryCacheTest {
+
+    @Test
+    public void testNotCachedByDefault() {
+        newRunner()
+            .run(context -> {
+                CountingServiceDiscovery counting = context.getBean(CountingServiceDiscovery.class);
+                ServiceDiscovery discovery = context.getBean("service-discovery", CamelCloudServiceDiscovery.class);
+
+                assertEquals(2, discovery.getServices("my-service").size());
+                assertEquals(2, discovery.getServices("my-service").size());
+                assertEquals(2, counting.count.get());
+            });
+    }
+
+    @Test
+    public void testCached() {
+        newRunner()
+            .withPropertyValues(
+                "camel.cloud.service-discovery.cache-time-to-live=60000")
+            .run(context -> {
+                CountingServiceDiscovery counting = context.getBean(CountingServiceDiscovery.class);
+                ServiceDiscovery discovery = context.getBean("service-discovery", CamelCloudServiceDiscovery.class);
+
+                List<ServiceDefinition> services = discovery.getServices("my-service");
+                assertEquals(2, services.size());
+                assertSame(services, discovery.getServices("my-service"));
+                assertEquals(1, counting.count.get());
+
+                // each service is cached on its own
+                discovery.getServices("other-service");
+                assertEquals(2, counting.count.get());
+            });
+    }
+
+    @Test
+    public void testStaleWhileRefreshing() {
+        newRunner()
+            .withPropertyValues(
+                "camel.cloud.service-discovery.cache-time-to-live=60000",
+                "camel.cloud.service-discovery.service-cache-time-to-live[my-service]=1")
+            .run(context -> {
+                CountingServiceDiscovery counting = context.getBean(CountingServiceDiscovery.class);
+                ServiceDiscovery discovery = context.getBean("service-discovery", CamelCloudServiceDiscovery.class);
+
+                List<ServiceDefinition> services = discovery.getServices("my-service");
+                assertEquals(1, counting.count.get());
+                Thread.sleep(10);
+
+                // the expired services are served while they are refreshed in the background
+                assertSame(services, discovery.getServices("my-service"));
+                await().atMost(5, TimeUnit.SECONDS).until(() -> counting.count.get() == 2);
+            });
+    }
+
+    @Test
+    public void testTimeout() {
+        newRunner()
+            .withUserConfiguration(SlowServiceDiscoveryConfiguration.class)
+            .withPropertyValues(
+                "camel.cloud.service-discovery.timeout=200")
+            .run(context -> {
+                SlowServiceDiscovery slow = context.getBean(SlowServiceDiscovery.class);
+                ServiceDiscovery discovery = context.getBean("service-discovery", CamelCloudServiceDiscovery.class);
+
+                try {
+                    long start = System.currentTimeMillis();
+                    // the slow service discovery is skipped
+                    assertEquals(2, discovery.getServices("my-service").size());
+                    assertEquals(true, System.currentTimeMillis() - start < 5000);
+                } finally {
+                    slow.latch.countDown();
+                }
+            });
+    }
+
+    @Test
+    public void testTimeoutWithPreviousServices() {
+        newRunner()
+            .withUserConfiguration(SlowServiceDiscoveryConfiguration.class)
+            .withPropertyValues(
+                "camel.cloud.service-discovery.timeout=200",
+                "camel.cloud.service-discovery.thread-pool-size=1")
+            .run(context -> {
+                SlowServiceDiscovery slow = context.getBean(SlowServiceDiscovery.class);
+                ServiceDiscovery discovery = context.getBean("service-discovery", CamelCloudServiceDiscovery.class);
+
+                slow.latch.countDown();
+                assertEquals(3, discovery.getServices("my-service").size());
+
+                // the slow service discovery contributes the services of its last lookup
+                slow.slow = true;
+                assertEquals(3, discovery.getServices("my-service").size());
+            });
+    }
+
+    private static ApplicationContextRunner newRunner() {
+        return new ApplicationContextRunner()
+            .withConfiguration(
+                AutoConfigurations.of(
+                    CamelAutoConfiguration.class,
+                    CamelCloudAutoConfiguration.class,
+                    CamelCloudServiceDiscoveryAutoConfiguration.class
+                )
+            )
+            .withUserConfiguration(TestConfiguration.class)
+            .withPropertyValues(
+                "camel.cloud.enabled=true",
+                "camel.cloud.service-discovery.enabled=true",
+                "camel.cloud.service-filter.enabled=false",
+                "camel.cloud.service-chooser.enabled=false",
+                "camel.cloud.load-balancer.enabled=false",
+                "debug=false"
+            );
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public CountingServiceDiscovery countingServiceDiscovery() {
+            return new CountingServiceDiscovery();
+        }
+    }
+
+    @Configuration
+    public static class SlowServiceDiscoveryConfiguration {
+        @Bean
+        public SlowServiceDiscovery slowServiceDiscovery() {
+            return new SlowServiceDiscovery();
+        }
+    }
+
+    public static class CountingServiceDiscovery implements ServiceDiscovery {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public List<ServiceDefinition> getServices(String name) {
+            count.incrementAndGet();
+            return List.of(
+                new DefaultServiceDefinition(name, "host1", 8080),
+                new DefaultServiceDefinition(name, "host2", 8080));
+        }
+    }
+
+    public static class SlowServiceDiscovery implements ServiceDiscovery {
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private volatile boolean slow;
+
+        @Override
+        public List<ServiceDefinition> getServices(String name) {
+            try {
+                if (slow) {
+                    Thread.sleep(1000);
+                }
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.singletonList(new DefaultServiceDefinition(name, "slow", 8080));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.cloud.ServiceLoadBalancer;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelCloudServiceFilterOutlierDetectionTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.springboot.routes-include-pattern=false",
+        "camel.cloud.service-discovery.service-definitions.my-service[0].host=good",
+        "camel.cloud.service-discovery.service-definitions.my-service[0].metadata.zone=a",
+        "camel.cloud.service-discovery.service-definitions.my-service[1].host=bad",
+        "camel.cloud.service-discovery.service-definitions.my-service[1].metadata.zone=b",
+        "camel.cloud.service-filter.outlier-detection.enabled=true",
+        "camel.cloud.service-filter.outlier-detection.window-size=4",
+        "camel.cloud.service-filter.outlier-detection.minimum-calls=4",
+        "camel.cloud.service-filter.outlier-detection.base-ejection-time=60000"
+    }
+)
+public class CamelCloudServiceFilterOutlierDetectionTest {
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Autowired
+    @Qualifier("load-balancer")
+    private ServiceLoadBalancer loadBalancer;
+
+    @Test
+    public void testFailingServiceEjected() {
+        Assertions.assertTrue(loadBalancer instanceof CamelCloudServiceLoadBalancer);
+
+        int failures = 0;
+        for (int i = 0; i < 20; i++) {
+            String body = template.requestBody("direct:start", null, String.class);
+            if (!"good".equals(body)) {
+                failures++;
+            }
+        }
+
+        // the failing service is only called until it is ejected
+        Assertions.assertEquals(4, failures);
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public RouteBuilder myRouteBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start")
+                        .doTry()
+                            .to("direct:service-call")
+                        .doCatch(IllegalStateException.class)
+                            .transform(constant("failed"))
+                        .end();
+
+                    from("direct:service-call")
+                        .serviceCall().name("my-service").component("direct").uri("direct:my-service").end();
+
+                    from("direct:good")
+                        .transform().constant("good");
+                    from("direct:bad")
+                        .throwException(new IllegalStateException("bad"));
+                }
+            };
+        }
+    }
+}
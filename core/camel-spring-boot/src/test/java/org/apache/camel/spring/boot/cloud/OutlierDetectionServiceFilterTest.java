@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+
+public class OutlierDetectionServiceFilterTest {
+
+    private final ServiceDefinition good = new DefaultServiceDefinition("my-service", "good", 8080);
+    private final ServiceDefinition bad = new DefaultServiceDefinition("my-service", "bad", 8080);
+    private final List<ServiceDefinition> services = Arrays.asList(good, bad);
+
+    @Test
+    public void testErrorRate() {
+        OutlierDetectionServiceFilter filter = newFilter(null);
+
+        for (int i = 0; i < 4; i++) {
+            record(filter, good, 1, false);
+            record(filter, bad, 1, i > 0);
+        }
+        // 3 failed calls out of 4 are above the threshold, but not 2 out of 3
+        Assertions.assertTrue(filter.isEjected(bad));
+        Assertions.assertFalse(filter.isEjected(good));
+        Assertions.assertEquals(Collections.singletonList(good), filter.apply(null, services));
+    }
+
+    @Test
+    public void testLatency() {
+        OutlierDetectionServiceFilter filter = newFilter(10L);
+
+        for (int i = 0; i < 4; i++) {
+            record(filter, good, 1, false);
+            record(filter, bad, 50, false);
+        }
+        Assertions.assertTrue(filter.isEjected(bad));
+        Assertions.assertFalse(filter.isEjected(good));
+    }
+
+    @Test
+    public void testReadmission() {
+        OutlierDetectionServiceFilter filter = newFilter(null);
+
+        for (int i = 0; i < 4; i++) {
+            record(filter, bad, 1, true);
+        }
+        Assertions.assertTrue(filter.isEjected(bad));
+
+        // the calls in progress when the instance was ejected are ignored
+        record(filter, bad, 1, true);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !filter.isEjected(bad));
+        Assertions.assertEquals(services, filter.apply(null, services));
+
+        // ejected again, for twice as long
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 4; i++) {
+            record(filter, bad, 1, true);
+        }
+        Assertions.assertTrue(filter.isEjected(bad));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !filter.isEjected(bad));
+        Assertions.assertTrue(System.currentTimeMillis() - start >= 200);
+    }
+
+    @Test
+    public void testNeverEjectAll() {
+        OutlierDetectionServiceFilter filter = newFilter(null);
+
+        for (int i = 0; i < 4; i++) {
+            record(filter, good, 1, true);
+            record(filter, bad, 1, true);
+        }
+        Assertions.assertTrue(filter.isEjected(good));
+        Assertions.assertTrue(filter.isEjected(bad));
+        Assertions.assertEquals(services, filter.apply(null, services));
+    }
+
+    @Test
+    public void testIdleInstancesAreEvicted() throws Exception {
+        CamelCloudConfigurationProperties.OutlierDetection config = new CamelCloudConfigurationProperties.OutlierDetection();
+        config.setBaseEjectionTime(50);
+        config.setMaxEjectionTime(100);
+        OutlierDetectionServiceFilter filter = new OutlierDetectionServiceFilter(config);
+
+        record(filter, good, 1, false);
+        Assertions.assertTrue(filter.isTracked(good));
+
+        // the instance no longer called is discarded on a later call
+        Thread.sleep(250);
+        record(filter, bad, 1, false);
+        Assertions.assertFalse(filter.isTracked(good));
+        Assertions.assertTrue(filter.isTracked(bad));
+    }
+
+    private static OutlierDetectionServiceFilter newFilter(Long latencyThreshold) {
+        CamelCloudConfigurationProperties.OutlierDetection config = new CamelCloudConfigurationProperties.OutlierDetection();
+        config.setEnabled(true);
+        config.setWindowSize(4);
+        config.setMinimumCalls(4);
+        config.setErrorRateThreshold(0.5);
+        config.setLatencyThreshold(latencyThreshold);
+        config.setBaseEjectionTime(100);
+        return new OutlierDetectionServiceFilter(config);
+    }
+
+    private static void record(OutlierDetectionServiceFilter filter, ServiceDefinition service, long millis, boolean failed) {
+        filter.onCallCompleted(ServiceLoadTracker.idOf(service), TimeUnit.MILLISECONDS.toNanos(millis), failed);
+    }
+}
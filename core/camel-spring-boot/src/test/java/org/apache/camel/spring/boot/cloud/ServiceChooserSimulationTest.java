@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.camel.cloud.ServiceChooser;
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.apache.camel.impl.cloud.RoundRobinServiceChooser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/*
+ * Simulation of concurrent clients calling three fast synthetic backends and a slow one through each service chooser.
+ * The median and 99th percentile response times, and the share of the calls sent to the slow backend, are printed.
+ */
+public class ServiceChooserSimulationTest {
+
+    private static final int CLIENTS = 16;
+    private static final int CALLS = 100;
+    private static final long FAST_MILLIS = 1;
+    private static final long SLOW_MILLIS = 25;
+
+    private final ServiceDefinition slow = new DefaultServiceDefinition("my-service", "slow", 8080);
+    private final List<ServiceDefinition> services = Arrays.asList(
+        new DefaultServiceDefinition("my-service", "fast1", 8080),
+        new DefaultServiceDefinition("my-service", "fast2", 8080),
+        new DefaultServiceDefinition("my-service", "fast3", 8080),
+        slow);
+
+    @Test
+    public void testTailLatency() throws Exception {
+        long roundRobin = simulate("round-robin", tracker -> new RoundRobinServiceChooser());
+        simulate("power-of-two-choices", PowerOfTwoChoicesServiceChooser::new);
+        long peakEwma = simulate("peak-ewma", PeakEwmaServiceChooser::new);
+
+        // the slow backend takes a quarter of the calls with round robin, so it sets the 99th percentile
+        Assertions.assertTrue(peakEwma < roundRobin,
+            "peak-ewma p99 " + peakEwma + " us, round-robin p99 " + roundRobin + " us");
+    }
+
+    private long simulate(String name, Function<ServiceLoadTracker, ServiceChooser> chooserFactory) throws Exception {
+        ServiceLoadTracker tracker = new ServiceLoadTracker(10000);
+        ServiceChooser chooser = chooserFactory.apply(tracker);
+        AtomicInteger slowCalls = new AtomicInteger();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Long> responseTimes = new ArrayList<>();
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    List<Long> times = new ArrayList<>(CALLS);
+                    for (int call = 0; call < CALLS; call++) {
+                        ServiceDefinition service = chooser.choose(services);
+                        if (service == slow) {
+                            slowCalls.incrementAndGet();
+                        }
+                        ServiceLoad load = tracker.getLoad(service);
+                        long start = System.nanoTime();
+                        load.begin();
+                        Thread.sleep(service == slow ? SLOW_MILLIS : FAST_MILLIS);
+                        long time = System.nanoTime() - start;
+                        tracker.end(load, time, false);
+                        times.add(time);
+                    }
+                    return times;
+                }));
+            }
+            for (Future<List<Long>> future : futures) {
+                responseTimes.addAll(future.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        Collections.sort(responseTimes);
+        long p50 = TimeUnit.NANOSECONDS.toMicros(percentile(responseTimes, 0.50));
+        long p99 = TimeUnit.NANOSECONDS.toMicros(percentile(responseTimes, 0.99));
+        System.out.printf("%s: p50 %d us, p99 %d us, %.1f%% of the calls to the slow backend%n",
+            name, p50, p99, 100.0 * slowCalls.get() / responseTimes.size());
+        return p99;
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+    }
+}
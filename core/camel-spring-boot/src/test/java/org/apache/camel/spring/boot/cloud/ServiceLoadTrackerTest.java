@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.camel.cloud.ServiceChooser;
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ServiceLoadTrackerTest {
+
+    private final ServiceDefinition busy = new DefaultServiceDefinition("my-service", "busy", 8080);
+    private final ServiceDefinition idle = new DefaultServiceDefinition("my-service", "idle", 8080);
+    private final List<ServiceDefinition> services = Arrays.asList(busy, idle);
+
+    @Test
+    public void testPowerOfTwoChoicesAvoidsBusyService() {
+        ServiceLoadTracker tracker = new ServiceLoadTracker(10000);
+        for (int i = 0; i < 3; i++) {
+            tracker.begin(new DefaultExchange(new DefaultCamelContext()), busy);
+        }
+
+        ServiceChooser chooser = new PowerOfTwoChoicesServiceChooser(tracker);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertSame(idle, chooser.choose(services));
+        }
+        Assertions.assertEquals(3, tracker.getLoad(busy).getInFlight());
+    }
+
+    @Test
+    public void testPeakEwma() {
+        ServiceLoadTracker tracker = new ServiceLoadTracker(10000);
+        ServiceLoad load = tracker.getLoad(busy);
+
+        // the peak is taken immediately into account
+        load.begin();
+        load.end(1000000);
+        Assertions.assertTrue(load.getCost() > 900000);
+
+        // while the lower response times are averaged
+        load.begin();
+        load.end(1000);
+        Assertions.assertTrue(load.getCost() > 900000);
+
+        // the untried service is preferred, until it has calls in progress
+        ServiceChooser chooser = new PeakEwmaServiceChooser(tracker);
+        Assertions.assertSame(idle, chooser.choose(services));
+        tracker.getLoad(idle).begin();
+        Assertions.assertSame(busy, chooser.choose(services));
+    }
+
+    @Test
+    public void testAbort() {
+        ServiceLoadTracker tracker = new ServiceLoadTracker(10000);
+        DefaultExchange exchange = new DefaultExchange(new DefaultCamelContext());
+
+        tracker.begin(exchange, busy);
+        Assertions.assertEquals(1, tracker.getLoad(busy).getInFlight());
+        tracker.abort(exchange);
+        Assertions.assertEquals(0, tracker.getLoad(busy).getInFlight());
+        Assertions.assertNull(exchange.getProperty(ServiceLoadTracker.SERVICE_LOAD_PROPERTY));
+    }
+
+    @Test
+    public void testIdleLoadsAreEvicted() throws Exception {
+        ServiceLoadTracker tracker = new ServiceLoadTracker(50);
+        tracker.begin(new DefaultExchange(new DefaultCamelContext()), busy);
+        ServiceLoad load = tracker.getLoad(idle);
+        load.begin();
+        load.end(1000);
+        Assertions.assertEquals(2, tracker.getLoads().size());
+
+        // the load of the instance with a call in progress is kept
+        Thread.sleep(150);
+        tracker.getLoad(busy);
+        Assertions.assertEquals(1, tracker.getLoads().size());
+        Assertions.assertEquals(ServiceLoadTracker.idOf(busy), tracker.getLoads().iterator().next().getId());
+        Assertions.assertNotSame(load, tracker.getLoad(idle));
+    }
+}
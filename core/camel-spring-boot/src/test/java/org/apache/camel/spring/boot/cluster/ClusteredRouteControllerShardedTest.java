@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.file.cluster.FileLockClusterService;
+import org.apache.camel.impl.cluster.ClusteredRoutePolicy;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.awaitility.Awaitility.await;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        ClusteredRouteControllerShardedTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.springboot.routes-include-pattern=false",
+        "camel.clustered.controller.enabled=true",
+        "camel.clustered.controller.namespace=my-ns",
+        "camel.clustered.controller.routes.sharded-route.sharded=true"
+    }
+)
+public class ClusteredRouteControllerShardedTest {
+
+    @Autowired
+    private CamelContext camelContext;
+
+    @Test
+    public void testShardedRoute() {
+        Assertions.assertTrue(
+            camelContext.getRoute("sharded-route").getRoutePolicyList().stream().anyMatch(ShardedRoutePolicy.class::isInstance));
+        Assertions.assertTrue(
+            camelContext.getRoute("sharded-route").getRoutePolicyList().stream().noneMatch(ClusteredRoutePolicy.class::isInstance));
+        Assertions.assertTrue(
+            camelContext.getRoute("clustered-route").getRoutePolicyList().stream().anyMatch(ClusteredRoutePolicy.class::isInstance));
+
+        // the single member of the cluster runs all the routes
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            Assertions.assertEquals(ServiceStatus.Started, camelContext.getRouteController().getRouteStatus("sharded-route"));
+            Assertions.assertEquals(ServiceStatus.Started, camelContext.getRouteController().getRouteStatus("clustered-route"));
+        });
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public FileLockClusterService fileLockClusterService() throws Exception {
+            FileLockClusterService service = new FileLockClusterService();
+            service.setId("node-a");
+            service.setRoot(Files.createTempDirectory("camel-cluster").toString());
+            service.setAcquireLockDelay(10, TimeUnit.MILLISECONDS);
+            service.setAcquireLockInterval(100, TimeUnit.MILLISECONDS);
+            return service;
+        }
+
+        @Bean
+        public RouteBuilder myRouteBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("timer:sharded?period=60000").routeId("sharded-route")
+                        .setBody(constant("sharded"));
+                    from("timer:clustered?period=60000").routeId("clustered-route")
+                        .setBody(constant("clustered"));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConsistentHashRingTest {
+
+    @Test
+    public void testKeysSpreadAmongMembers() {
+        ConsistentHashRing ring = new ConsistentHashRing(Arrays.asList("node-a", "node-b", "node-c"), 100);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            counts.merge(ring.get("route-" + i), 1, Integer::sum);
+        }
+
+        Assertions.assertEquals(3, counts.size());
+        counts.values().forEach(count -> Assertions.assertTrue(count > 50 && count < 150, "unbalanced: " + counts));
+    }
+
+    @Test
+    public void testOnlyKeysOfRemovedMemberMove() {
+        ConsistentHashRing before = new ConsistentHashRing(Arrays.asList("node-a", "node-b", "node-c"), 100);
+        ConsistentHashRing after = new ConsistentHashRing(Arrays.asList("node-a", "node-b"), 100);
+
+        for (int i = 0; i < 300; i++) {
+            String key = "route-" + i;
+            if (!"node-c".equals(before.get(key))) {
+                Assertions.assertEquals(before.get(key), after.get(key));
+            }
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        Assertions.assertNull(new ConsistentHashRing(Arrays.asList(), 100).get("route"));
+    }
+}
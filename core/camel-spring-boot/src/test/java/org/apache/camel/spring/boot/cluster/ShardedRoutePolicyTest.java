@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.cluster.CamelClusterMember;
+import org.apache.camel.cluster.CamelClusterService;
+import org.apache.camel.component.file.cluster.FileLockClusterService;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.cluster.ClusteredRouteConfiguration;
+import org.apache.camel.support.cluster.AbstractCamelClusterService;
+import org.apache.camel.support.cluster.AbstractCamelClusterView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.awaitility.Awaitility.await;
+
+public class ShardedRoutePolicyTest {
+
+    private static final List<String> ROUTES = Arrays.asList("route-1", "route-2", "route-3", "route-4");
+    private static final List<String> SHARDED_ROUTES = IntStream.rangeClosed(1, 16)
+            .mapToObj(i -> "sharded-" + i).collect(Collectors.toList());
+    private static final int VIRTUAL_NODES = 100;
+
+    @TempDir
+    Path root;
+
+    @Test
+    public void testRoutesAssignedByConsistentHashing() throws Exception {
+        Map<String, List<StubClusterView>> cluster = new ConcurrentHashMap<>();
+        CamelContext first = newContext(new StubClusterService("node-a", cluster), SHARDED_ROUTES, null);
+        CamelContext second = newContext(new StubClusterService("node-b", cluster), SHARDED_ROUTES, null);
+        CamelContext third = newContext(new StubClusterService("node-c", cluster), SHARDED_ROUTES, null);
+        try {
+            Map<String, CamelContext> members = new LinkedHashMap<>();
+            first.start();
+            second.start();
+            members.put("node-a", first);
+            members.put("node-b", second);
+            awaitAssignment(members);
+
+            // a member joining takes over the routes hashed to it
+            third.start();
+            members.put("node-c", third);
+            Assertions.assertTrue(SHARDED_ROUTES.stream().anyMatch(route -> "node-c".equals(ring(members).get(route))));
+            awaitAssignment(members);
+
+            // the routes of a member leaving are reassigned to the remaining members
+            first.stop();
+            members.remove("node-a");
+            awaitAssignment(members);
+        } finally {
+            first.stop();
+            second.stop();
+            third.stop();
+        }
+    }
+
+    @Test
+    public void testRoutesSharedWithFileMembership() throws Exception {
+        // the members of the file lock cluster service are published as heartbeat files next to the locks
+        CamelContext first = newContext(newFileLockClusterService("node-a"), SHARDED_ROUTES, newFileMembership());
+        CamelContext second = newContext(newFileLockClusterService("node-b"), SHARDED_ROUTES, newFileMembership());
+        try {
+            Map<String, CamelContext> members = new LinkedHashMap<>();
+            first.start();
+            second.start();
+            members.put("node-a", first);
+            members.put("node-b", second);
+
+            // the routes are split across both members
+            Assertions.assertTrue(SHARDED_ROUTES.stream().anyMatch(route -> "node-a".equals(ring(members).get(route))));
+            Assertions.assertTrue(SHARDED_ROUTES.stream().anyMatch(route -> "node-b".equals(ring(members).get(route))));
+            awaitAssignment(members);
+
+            // the routes of a member leaving are taken over by the other
+            first.stop();
+            members.remove("node-a");
+            awaitAssignment(members);
+        } finally {
+            first.stop();
+            second.stop();
+        }
+    }
+
+    @Test
+    public void testRoutesRunOnSingleMemberWithoutMembers() throws Exception {
+        // the file lock cluster service does not expose the members, so each route is elected on its own namespace,
+        // and the first member to start usually takes every route
+        CamelContext first = newContext(newFileLockClusterService("node-a"), ROUTES, null);
+        CamelContext second = newContext(newFileLockClusterService("node-b"), ROUTES, null);
+        try {
+            first.start();
+            second.start();
+
+            // each route runs on exactly one member
+            await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+                for (String route : ROUTES) {
+                    Assertions.assertTrue(isStarted(first, route) ^ isStarted(second, route), route);
+                }
+            });
+
+            // the routes of a member leaving the cluster are taken over by the others
+            first.stop();
+            await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+                for (String route : ROUTES) {
+                    Assertions.assertTrue(isStarted(second, route), route);
+                }
+            });
+        } finally {
+            first.stop();
+            second.stop();
+        }
+    }
+
+    private static ConsistentHashRing ring(Map<String, CamelContext> members) {
+        return new ConsistentHashRing(members.keySet(), VIRTUAL_NODES);
+    }
+
+    private static void awaitAssignment(Map<String, CamelContext> members) {
+        ConsistentHashRing ring = ring(members);
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            for (String route : SHARDED_ROUTES) {
+                for (Map.Entry<String, CamelContext> member : members.entrySet()) {
+                    Assertions.assertEquals(member.getKey().equals(ring.get(route)), isStarted(member.getValue(), route),
+                            route + " on " + member.getKey());
+                }
+            }
+        });
+    }
+
+    private FileLockClusterService newFileLockClusterService(String id) {
+        FileLockClusterService service = new FileLockClusterService();
+        service.setId(id);
+        service.setRoot(root.toString());
+        service.setAcquireLockDelay(10, TimeUnit.MILLISECONDS);
+        service.setAcquireLockInterval(100, TimeUnit.MILLISECONDS);
+        return service;
+    }
+
+    private FileClusterMembership newFileMembership() {
+        FileClusterMembership membership = new FileClusterMembership(root.toString());
+        membership.setHeartbeatInterval(Duration.ofMillis(100));
+        membership.setHeartbeatTimeout(Duration.ofSeconds(2));
+        return membership;
+    }
+
+    private static CamelContext newContext(CamelClusterService service, List<String> routes, ClusterMembership membership)
+            throws Exception {
+        ShardedRoutePolicyFactory factory = new ShardedRoutePolicyFactory();
+        factory.setNamespace("my-ns");
+        factory.setVirtualNodes(VIRTUAL_NODES);
+        factory.setMembership(membership);
+        routes.forEach(route -> factory.addRouteConfiguration(route, new ClusteredRouteConfiguration()));
+
+        CamelContext context = new DefaultCamelContext();
+        context.addService(service);
+        context.addRoutePolicyFactory(factory);
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                for (String route : routes) {
+                    from("timer:" + route + "?period=60000").routeId(route)
+                        .setBody(constant(route));
+                }
+            }
+        });
+        return context;
+    }
+
+    private static boolean isStarted(CamelContext context, String routeId) {
+        return context.getRouteController().getRouteStatus(routeId) == ServiceStatus.Started;
+    }
+
+    /*
+     * A cluster service exposing the members of its namespaces, unlike the file lock one. The members of a namespace
+     * are the started views of the services sharing the same cluster map.
+     */
+    private static final class StubClusterService extends AbstractCamelClusterService<StubClusterView> {
+
+        private final Map<String, List<StubClusterView>> cluster;
+
+        StubClusterService(String id, Map<String, List<StubClusterView>> cluster) {
+            this.cluster = cluster;
+            setId(id);
+        }
+
+        @Override
+        protected StubClusterView createView(String namespace) {
+            return new StubClusterView(this, namespace, cluster.computeIfAbsent(namespace, ns -> new CopyOnWriteArrayList<>()));
+        }
+    }
+
+    private static final class StubClusterView extends AbstractCamelClusterView {
+
+        private final List<StubClusterView> views;
+        private final StubClusterMember localMember;
+
+        StubClusterView(StubClusterService service, String namespace, List<StubClusterView> views) {
+            super(service, namespace);
+            this.views = views;
+            this.localMember = new StubClusterMember(service.getId(), true);
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            views.add(this);
+            for (StubClusterView view : views) {
+                if (view != this) {
+                    view.fireMemberAddedEvent(new StubClusterMember(localMember.getId(), false));
+                }
+            }
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+            views.remove(this);
+            for (StubClusterView view : views) {
+                view.fireMemberRemovedEvent(new StubClusterMember(localMember.getId(), false));
+            }
+        }
+
+        @Override
+        public Optional<CamelClusterMember> getLeader() {
+            return Optional.empty();
+        }
+
+        @Override
+        public CamelClusterMember getLocalMember() {
+            return localMember;
+        }
+
+        @Override
+        public List<CamelClusterMember> getMembers() {
+            return views.stream()
+                    .filter(view -> view != this)
+                    .map(view -> new StubClusterMember(view.localMember.getId(), false))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static final class StubClusterMember implements CamelClusterMember {
+
+        private final String id;
+        private final boolean local;
+
+        StubClusterMember(String id, boolean local) {
+            this.id = id;
+            this.local = local;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public boolean isLeader() {
+            return false;
+        }
+
+        @Override
+        public boolean isLocal() {
+            return local;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cluster;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.file.cluster.FileLockClusterService;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.cluster.ClusteredRouteConfiguration;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.awaitility.Awaitility.await;
+
+public class WarmStandbyRoutePolicyTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    public void testFailover() throws Exception {
+        WarmStandbyRoutePolicyFactory firstFactory = newFactory();
+        WarmStandbyRoutePolicyFactory secondFactory = newFactory();
+        WarmProcessor secondProcessor = new WarmProcessor();
+        CamelContext first = newContext("node-a", firstFactory, new WarmProcessor());
+        CamelContext second = newContext("node-b", secondFactory, secondProcessor);
+        try {
+            first.start();
+            await().atMost(10, TimeUnit.SECONDS).until(() -> isStarted(first));
+            second.start();
+
+            // the standby route is warmed up, but it does not consume
+            Assertions.assertTrue(secondProcessor.isStarted());
+            Assertions.assertNotEquals(ServiceStatus.Started, second.getRouteController().getRouteStatus("my-route"));
+            Assertions.assertEquals(0, secondProcessor.count.get());
+            Assertions.assertNull(secondFactory.getRoutePolicies().get("my-route").getFailoverTime());
+
+            // the standby member takes over when the leader leaves
+            first.stop();
+            await().atMost(10, TimeUnit.SECONDS).until(() -> secondProcessor.count.get() > 0);
+
+            Duration failoverTime = secondFactory.getRoutePolicies().get("my-route").getFailoverTime();
+            Assertions.assertNotNull(failoverTime);
+            // the consumer of the warm route fires within a few millis once started
+            Assertions.assertTrue(failoverTime.toMillis() < 5000, failoverTime.toString());
+        } finally {
+            first.stop();
+            second.stop();
+        }
+    }
+
+    private WarmStandbyRoutePolicyFactory newFactory() {
+        WarmStandbyRoutePolicyFactory factory = new WarmStandbyRoutePolicyFactory();
+        factory.setNamespace("my-ns");
+        factory.addRouteConfiguration("my-route", new ClusteredRouteConfiguration());
+        return factory;
+    }
+
+    private CamelContext newContext(String id, WarmStandbyRoutePolicyFactory factory, WarmProcessor processor) throws Exception {
+        FileLockClusterService service = new FileLockClusterService();
+        service.setId(id);
+        service.setRoot(root.toString());
+        service.setAcquireLockDelay(10, TimeUnit.MILLISECONDS);
+        service.setAcquireLockInterval(100, TimeUnit.MILLISECONDS);
+
+        CamelContext context = new DefaultCamelContext();
+        context.addService(service);
+        context.addRoutePolicyFactory(factory);
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("timer:my-route?delay=10&period=50").routeId("my-route")
+                    .process(processor);
+            }
+        });
+        return context;
+    }
+
+    private static boolean isStarted(CamelContext context) {
+        return context.getRouteController().getRouteStatus("my-route") == ServiceStatus.Started;
+    }
+
+    private static final class WarmProcessor extends ServiceSupport implements Processor {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void process(Exchange exchange) {
+            count.incrementAndGet();
+        }
+    }
+}
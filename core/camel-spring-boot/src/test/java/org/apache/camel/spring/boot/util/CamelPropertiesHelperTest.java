@@ -249,4 +249,30 @@ public class CamelPropertiesHelperTest {
         Assertions.assertSame(context.getBean("myCoolOption"), target.getOption());
     }
 
+    @Test
+    public void testCopyPropertiesFromProvider() throws Exception {
+        MyClass target = new MyClass();
+
+        CamelPropertiesHelper.copyProperties(camelContext, new MyProvider(), target);
+
+        Assertions.assertEquals(123, target.getId());
+        Assertions.assertEquals("Donald Duck", target.getName());
+        // only the provided options are copied, the getters of the source are not introspected
+        Assertions.assertNull(target.getOption());
+    }
+
+    public static class MyProvider implements NonNullPropertiesProvider {
+
+        public MyOption getOption() {
+            return new MyOption();
+        }
+
+        @Override
+        public Map<String, Object> nonNullProperties() {
+            Map<String, Object> answer = new LinkedHashMap<>();
+            answer.put("id", 123);
+            answer.put("name", "Donald Duck");
+            return answer;
+        }
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+
+/*
+ * Throughput benchmark of the conversions through a composite of a few delegates not able to convert the values and a
+ * last default conversion service, comparing the remembered delegates to the scan of the delegates on every
+ * conversion. The throughput of the last rounds is printed.
+ */
+public class CompositeConversionServiceBenchmarkTest {
+
+    private static final int ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int CONVERSIONS = 100_000;
+
+    private static final TypeDescriptor STRING = TypeDescriptor.valueOf(String.class);
+    private static final TypeDescriptor INTEGER = TypeDescriptor.valueOf(Integer.class);
+    private static final TypeDescriptor LONG = TypeDescriptor.valueOf(Long.class);
+
+    @Test
+    public void testThroughput() {
+        List<ConversionService> delegates = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            GenericConversionService delegate = new GenericConversionService();
+            delegate.addConverter(MyFooClass.class, String.class, Object::toString);
+            delegates.add(delegate);
+        }
+        delegates.add(new DefaultConversionService());
+
+        ConversionService scanning = new ScanningConversionService(delegates);
+        ConversionService composite = new CompositeConversionService(delegates);
+
+        long scanningTime = 0;
+        long compositeTime = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long scanningSum = convert(scanning);
+            long time = System.nanoTime() - start;
+            if (round >= ROUNDS - MEASURED_ROUNDS) {
+                scanningTime += time;
+            }
+
+            start = System.nanoTime();
+            long compositeSum = convert(composite);
+            time = System.nanoTime() - start;
+            if (round >= ROUNDS - MEASURED_ROUNDS) {
+                compositeTime += time;
+            }
+
+            Assertions.assertEquals(scanningSum, compositeSum);
+        }
+
+        long operations = 3L * CONVERSIONS * MEASURED_ROUNDS;
+        System.out.printf("Conversions through %d delegates: scanning %.0f ops/ms, remembered delegate %.0f ops/ms%n",
+            delegates.size(), operations / (scanningTime / 1e6), operations / (compositeTime / 1e6));
+    }
+
+    private static long convert(ConversionService service) {
+        long sum = 0;
+        for (int i = 0; i < CONVERSIONS; i++) {
+            String value = Integer.toString(i);
+            sum += (Integer) service.convert(value, STRING, INTEGER);
+            sum += (Long) service.convert(value, STRING, LONG);
+            sum += ((String) service.convert(i, INTEGER, STRING)).length();
+        }
+        return sum;
+    }
+
+    // the delegation asking the delegates whether they can convert on every conversion
+    private static final class ScanningConversionService implements ConversionService {
+        private final List<ConversionService> delegates;
+
+        ScanningConversionService(List<ConversionService> delegates) {
+            this.delegates = delegates;
+        }
+
+        @Override
+        public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+            return delegates.stream().anyMatch(delegate -> delegate.canConvert(sourceType, targetType));
+        }
+
+        @Override
+        public boolean canConvert(TypeDescriptor sourceType, TypeDescriptor targetType) {
+            return delegates.stream().anyMatch(delegate -> delegate.canConvert(sourceType, targetType));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T convert(Object source, Class<T> targetType) {
+            return (T) convert(source, TypeDescriptor.forObject(source), TypeDescriptor.valueOf(targetType));
+        }
+
+        @Override
+        public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+            for (int i = 0; i < this.delegates.size() - 1; i++) {
+                try {
+                    ConversionService delegate = this.delegates.get(i);
+                    if (delegate.canConvert(sourceType, targetType)) {
+                        return delegate.convert(source, sourceType, targetType);
+                    }
+                } catch (ConversionException e) {
+                    // ignored
+                }
+            }
+
+            return this.delegates.get(this.delegates.size() - 1).convert(source, sourceType, targetType);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+
+public class CompositeConversionServiceTest {
+
+    @Test
+    public void testRouting() {
+        CountingConversionService first = new CountingConversionService();
+        first.addConverter(String.class, Integer.class, source -> Integer.valueOf(source) * 10);
+        CountingConversionService last = new CountingConversionService();
+        DefaultConversionService.addDefaultConverters(last);
+
+        ConversionService service = new CompositeConversionService(Arrays.asList(first, last));
+
+        Assertions.assertTrue(service.canConvert(String.class, Integer.class));
+        Assertions.assertTrue(service.canConvert(String.class, Long.class));
+        Assertions.assertFalse(service.canConvert(Integer.class, CompositeConversionServiceTest.class));
+
+        Assertions.assertEquals(10, service.convert("1", Integer.class));
+        Assertions.assertEquals(20, service.convert("2", Integer.class));
+        Assertions.assertEquals(3L, service.convert("3", Long.class));
+        Assertions.assertEquals(
+            40, service.convert("4", TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Integer.class)));
+
+        // the delegates are only asked once per source and target type, whichever overload is used
+        Assertions.assertEquals(3, first.canConvertCounter.get());
+        Assertions.assertEquals(2, last.canConvertCounter.get());
+    }
+
+    @Test
+    public void testFallbackOnFailure() {
+        GenericConversionService first = new GenericConversionService();
+        first.addConverter(String.class, Integer.class, source -> {
+            if (source.startsWith("#")) {
+                throw new IllegalArgumentException(source);
+            }
+            return Integer.valueOf(source) * 10;
+        });
+        ConversionService service = new CompositeConversionService(Arrays.asList(first, new DefaultConversionService()));
+
+        Assertions.assertEquals(10, service.convert("1", Integer.class));
+        // falls back to the default converters, which read the value as hexadecimal
+        Assertions.assertEquals(2, service.convert("#2", Integer.class));
+        Assertions.assertEquals(30, service.convert("3", Integer.class));
+    }
+
+    @Test
+    public void testConverterAddedLater() {
+        GenericConversionService first = new GenericConversionService();
+        GenericConversionService last = new GenericConversionService();
+        last.addConverter(String.class, Integer.class, Integer::valueOf);
+        CompositeConversionService service = new CompositeConversionService(Arrays.asList(first, last));
+
+        // pairs no delegate can convert are not remembered
+        Assertions.assertFalse(service.canConvert(String.class, CompositeConversionServiceTest.class));
+        last.addConverter(String.class, CompositeConversionServiceTest.class, source -> this);
+        Assertions.assertTrue(service.canConvert(String.class, CompositeConversionServiceTest.class));
+
+        // a converter added to a preceding delegate is used once the cache is cleared
+        Assertions.assertEquals(1, service.convert("1", Integer.class));
+        first.addConverter(String.class, Integer.class, source -> Integer.valueOf(source) * 10);
+        Assertions.assertEquals(1, service.convert("1", Integer.class));
+        service.clearCache();
+        Assertions.assertEquals(10, service.convert("1", Integer.class));
+    }
+
+    private static final class CountingConversionService extends GenericConversionService {
+        private final AtomicInteger canConvertCounter = new AtomicInteger();
+
+        @Override
+        public boolean canConvert(TypeDescriptor sourceType, TypeDescriptor targetType) {
+            canConvertCounter.incrementAndGet();
+            return super.canConvert(sourceType, targetType);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+/*
+ * Startup benchmark of the enabled flags: every round boots a new environment and evaluates the flags of 150 starters
+ * the way their conditions and component, data format and language customizers do, once by binding every prefix and
+ * once through the memoizing evaluator. The timings of the last rounds are printed.
+ */
+public class HierarchicalPropertiesEvaluatorBenchmarkTest {
+
+    private static final int STARTERS = 150;
+    private static final int ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Test
+    public void testStartupCost() {
+        long bound = 0;
+        long memoized = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            StandardEnvironment environment = newEnvironment();
+
+            long start = System.nanoTime();
+            int boundEnabled = evaluateStarters(environment, false);
+            long boundTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int memoizedEnabled = evaluateStarters(environment, true);
+            long memoizedTime = System.nanoTime() - start;
+
+            Assertions.assertEquals(boundEnabled, memoizedEnabled);
+            HierarchicalPropertiesEvaluator.invalidate(environment);
+
+            if (round >= ROUNDS - MEASURED_ROUNDS) {
+                bound += boundTime;
+                memoized += memoizedTime;
+            }
+        }
+
+        System.out.printf("Enabled flags of %d starters per startup: bound %.2f ms, memoized %.2f ms%n",
+            STARTERS, bound / MEASURED_ROUNDS / 1e6, memoized / MEASURED_ROUNDS / 1e6);
+    }
+
+    private static StandardEnvironment newEnvironment() {
+        Map<String, Object> properties = new HashMap<>();
+        for (int i = 0; i < STARTERS; i++) {
+            properties.put("camel.component.c" + i + ".some-option", "value-" + i);
+            if (i % 10 == 0) {
+                properties.put("camel.component.c" + i + ".customizer.enabled", "false");
+            }
+        }
+        properties.put("camel.dataformat.customizer.enabled", "false");
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("application", properties));
+        return environment;
+    }
+
+    private static int evaluateStarters(Environment environment, boolean memoized) {
+        int enabled = 0;
+        for (int i = 0; i < STARTERS; i++) {
+            String[][] hierarchies = {
+                { "camel.component", "camel.component.c" + i },
+                { "camel.component.customizer", "camel.component.c" + i + ".customizer" },
+                { "camel.dataformat", "camel.dataformat.d" + i },
+                { "camel.dataformat.customizer", "camel.dataformat.d" + i + ".customizer" },
+                { "camel.language", "camel.language.l" + i },
+                { "camel.language.customizer", "camel.language.l" + i + ".customizer" }
+            };
+            for (String[] prefixes : hierarchies) {
+                boolean answer = memoized
+                    ? HierarchicalPropertiesEvaluator.evaluate(environment, prefixes)
+                    : bind(environment, prefixes);
+                if (answer) {
+                    enabled++;
+                }
+            }
+        }
+        return enabled;
+    }
+
+    // the evaluation without memoization, binding every prefix
+    private static boolean bind(Environment environment, String... prefixes) {
+        boolean answer = true;
+        for (String prefix : prefixes) {
+            answer = Binder.get(environment).bind(prefix + ".enabled", Bindable.of(Boolean.class)).orElse(answer);
+        }
+        return answer;
+    }
+}
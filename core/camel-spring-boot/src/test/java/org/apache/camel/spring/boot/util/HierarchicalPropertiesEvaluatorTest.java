@@ -16,13 +16,23 @@
  */
 package org.apache.camel.spring.boot.util;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.StandardEnvironment;
 import org.springframework.test.annotation.DirtiesContext;
 import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
 
@@ -56,6 +66,65 @@ public class HierarchicalPropertiesEvaluatorTest {
         Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group2", "test.group2.subgroup3"));
     }
 
+    @Test
+    public void testEvaluatorInvalidation() {
+        MutablePropertySources sources = ((ConfigurableEnvironment) environment).getPropertySources();
+        Map<String, Object> values = new HashMap<>();
+        values.put("test.group3.enabled", "false");
+
+        try {
+            sources.addFirst(new MapPropertySource("test-group3", values));
+            Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group3"));
+
+            // changing the content of a property source requires explicit invalidation
+            values.put("test.group3.enabled", "true");
+            Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group3"));
+            HierarchicalPropertiesEvaluator.invalidate(environment);
+            Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group3"));
+
+            // replacing a property source is detected
+            sources.replace("test-group3", new MapPropertySource("test-group3", Map.of("test.group3.enabled", "false")));
+            Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group3"));
+        } finally {
+            sources.remove("test-group3");
+        }
+
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group3"));
+    }
+
+    @Test
+    public void testEvaluatorInvalidatedOnContextClosed() {
+        StandardEnvironment env = new StandardEnvironment();
+        env.getPropertySources().addFirst(new MapPropertySource("test-group4", Map.of("test.group4.enabled", "false")));
+        Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(env, "test.group4"));
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.isCached(env));
+
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.setEnvironment(env);
+        new HierarchicalPropertiesInvalidationListener().onApplicationEvent(new ContextClosedEvent(context));
+
+        Assertions.assertFalse(HierarchicalPropertiesEvaluator.isCached(env));
+    }
+
+    @Test
+    public void testEvaluatorPerEnvironment() {
+        StandardEnvironment enabled = new StandardEnvironment();
+        enabled.getPropertySources().addFirst(new MapPropertySource("test-group5", Map.of("test.group5.enabled", "true")));
+        StandardEnvironment disabled = new StandardEnvironment();
+        disabled.getPropertySources().addFirst(new MapPropertySource("test-group5", Map.of("test.group5.enabled", "false")));
+
+        IntStream.range(0, 1000).parallel().forEach(i -> {
+            Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(enabled, "test", "test.group5"));
+            Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(disabled, "test", "test.group5"));
+        });
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.isCached(enabled));
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.isCached(disabled));
+
+        HierarchicalPropertiesEvaluator.invalidate(enabled);
+        Assertions.assertFalse(HierarchicalPropertiesEvaluator.isCached(enabled));
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.isCached(disabled));
+    }
+
     @Configuration
     static class TestConfiguration {
     }
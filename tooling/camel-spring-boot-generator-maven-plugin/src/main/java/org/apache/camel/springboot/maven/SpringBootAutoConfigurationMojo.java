@@ -660,6 +660,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addAnnotation(Generated.class.getName()).setStringValue("value", SpringBootAutoConfigurationMojo.class.getName());
         javaClass.addAnnotation("org.springframework.boot.context.properties.ConfigurationProperties").setStringValue("prefix", prefix);
 
+        List<String> optionNames = new ArrayList<>();
         for (ComponentOptionModel option : model.getComponentOptions()) {
 
             if (skipComponentOption(model, option)) {
@@ -673,6 +674,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             type = getSimpleJavaType(type);
 
             Property prop = javaClass.addProperty(type, option.getName());
+            optionNames.add(option.getName());
             if (option.isDeprecated()) {
                 prop.getField().addAnnotation(Deprecated.class);
                 prop.getAccessor().addAnnotation(Deprecated.class);
@@ -716,10 +718,35 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             }
         }
 
+        addNonNullPropertiesMethod(javaClass, optionNames);
+
         String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
         writeSourceIfChanged(javaClass, fileName, true);
     }
 
+    private static void addNonNullPropertiesMethod(JavaClass javaClass, List<String> optionNames) {
+        // copy the options with direct field access so no reflection is needed when configuring the target
+        javaClass.addImport("java.util.LinkedHashMap");
+        javaClass.addImport("java.util.Map");
+        javaClass.addImport("org.apache.camel.spring.boot.util.NonNullPropertiesProvider");
+        javaClass.implementInterface("NonNullPropertiesProvider");
+
+        StringBuilder body = new StringBuilder("Map<String, Object> answer = new LinkedHashMap<>();\n");
+        for (String optionName : optionNames) {
+            body.append("if (this.").append(optionName).append(" != null) {\n")
+                    .append("    answer.put(\"").append(optionName).append("\", this.").append(optionName).append(");\n")
+                    .append("}\n");
+        }
+        body.append("return answer;\n");
+
+        Method method = javaClass.addMethod()
+                .setName("nonNullProperties")
+                .setPublic()
+                .setBody(body.toString())
+                .setReturnType("Map<String, Object>");
+        method.addAnnotation(Override.class);
+    }
+
     private String convertDurationToMills(String pattern) {
         String value;
         pattern = pattern.toLowerCase();
@@ -1036,6 +1063,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addAnnotation(Generated.class).setStringValue("value", SpringBootAutoConfigurationMojo.class.getName());
         javaClass.addAnnotation("org.springframework.boot.context.properties.ConfigurationProperties").setStringValue("prefix", prefix);
 
+        List<String> optionNames = new ArrayList<>();
         for (DataFormatOptionModel option : model.getOptions()) {
             // skip option with name id in data format as we do not need that
             if ("id".equals(option.getName())) {
@@ -1071,6 +1099,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             }
 
             Property prop = javaClass.addProperty(type, option.getName());
+            optionNames.add(option.getName());
             if (option.isDeprecated()) {
                 prop.getField().addAnnotation(Deprecated.class);
                 prop.getAccessor().addAnnotation(Deprecated.class);
@@ -1107,6 +1136,8 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             }
         }
 
+        addNonNullPropertiesMethod(javaClass, optionNames);
+
         String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
         writeSourceIfChanged(javaClass, fileName, true);
     }
@@ -1140,6 +1171,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addAnnotation(Generated.class).setStringValue("value", SpringBootAutoConfigurationMojo.class.getName());
         javaClass.addAnnotation("org.springframework.boot.context.properties.ConfigurationProperties").setStringValue("prefix", prefix);
 
+        List<String> optionNames = new ArrayList<>();
         for (LanguageOptionModel option : model.getOptions()) {
             // skip option with name id, or expression in language as we do not
             // need that and skip resultType as they are not global options
@@ -1195,6 +1227,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             }
 
             Property prop = javaClass.addProperty(type, option.getName());
+            optionNames.add(option.getName());
             if (option.isDeprecated()) {
                 prop.getField().addAnnotation(Deprecated.class);
                 prop.getAccessor().addAnnotation(Deprecated.class);
@@ -1231,6 +1264,8 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             }
         }
 
+        addNonNullPropertiesMethod(javaClass, optionNames);
+
         String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
         writeSourceIfChanged(javaClass, fileName, true);
     }